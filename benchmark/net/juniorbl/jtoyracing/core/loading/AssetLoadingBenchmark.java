@@ -0,0 +1,97 @@
+package net.juniorbl.jtoyracing.core.loading;
+
+import java.util.Arrays;
+import java.util.logging.Level;
+
+import net.juniorbl.jtoyracing.enums.ResourcesPath;
+import net.juniorbl.jtoyracing.util.ModelUtil;
+import net.juniorbl.jtoyracing.util.TextureUtil;
+
+import com.jme.image.Texture;
+import com.jme.system.DisplaySystem;
+import com.jme.system.dummy.DummyDisplaySystem;
+import com.jme.util.LoggingSystem;
+import com.jme.util.TextureManager;
+
+/**
+ * Compares the sequential load of the race assets (what the render thread did alone) with the load
+ * through the asset loader.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class AssetLoadingBenchmark {
+	private static final int ROUNDS = 5;
+	private static final double NANOS_PER_MILLI = 1000000d;
+	private static final String[] MODELS = {"raceTrack", "bendThreeCheckpoint", "startCheckPoint", "bed", "desk",
+		"computer", "chair", "legoDoll", "TV", "table", "shelf", "redTruck", "blueTruck", "whell"};
+	private static final String[] TEXTURES = {"room-floor", "front-wall-texture", "back-wall-texture",
+		"right-wall-texture", "left-wall-texture"};
+
+	private AssetLoadingBenchmark() { }
+
+	public static void main(String[] args) {
+		LoggingSystem.getLogger().setLevel(Level.WARNING);
+		DisplaySystem display = new DummyDisplaySystem();
+
+		// warm up, fills the model cache as well
+		loadSequentially();
+		loadInParallel(display);
+
+		long[] sequential = new long[ROUNDS];
+		long[] parallel = new long[ROUNDS];
+		for (int round = 0; round < ROUNDS; round++) {
+			sequential[round] = loadSequentially();
+			parallel[round] = loadInParallel(display);
+		}
+		System.out.println("Race assets, median of " + ROUNDS + " rounds:");
+		System.out.println("  sequential: " + median(sequential) + " ms");
+		System.out.println("  parallel:   " + median(parallel) + " ms ("
+				+ new AssetLoader(display.getRenderer()).getParallelism() + " threads)");
+	}
+
+	private static long loadSequentially() {
+		TextureManager.clearCache();
+		long start = System.nanoTime();
+		consumeAssets();
+		return System.nanoTime() - start;
+	}
+
+	private static long loadInParallel(DisplaySystem display) {
+		TextureManager.clearCache();
+		long start = System.nanoTime();
+		AssetLoader assetLoader = new AssetLoader(display.getRenderer());
+		for (String model : MODELS) {
+			assetLoader.preloadModel(modelPath(model));
+		}
+		for (String texture : TEXTURES) {
+			assetLoader.preloadImage(texturePath(texture));
+		}
+		assetLoader.awaitPreloading();
+		consumeAssets();
+		return System.nanoTime() - start;
+	}
+
+	private static void consumeAssets() {
+		for (String model : MODELS) {
+			ModelUtil.convertOBJToStatial(modelPath(model));
+		}
+		for (String texture : TEXTURES) {
+			TextureUtil.loadTexture(texturePath(texture), Texture.MM_LINEAR_LINEAR, Texture.FM_LINEAR);
+		}
+	}
+
+	private static String modelPath(String model) {
+		return ResourcesPath.MODELS_PATH + "obj/" + model + ".obj";
+	}
+
+	private static String texturePath(String texture) {
+		return ResourcesPath.TEXTURE_PATH + texture + ".jpg";
+	}
+
+	private static double median(long[] durations) {
+		long[] sorted = durations.clone();
+		Arrays.sort(sorted);
+		return Math.round(sorted[sorted.length / 2] / NANOS_PER_MILLI * 10) / 10d;
+	}
+}
@@ -0,0 +1,158 @@
+package net.juniorbl.jtoyracing.core.network;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.logging.Level;
+
+import net.juniorbl.jtoyracing.core.profiling.LatencyHistogram;
+import net.juniorbl.jtoyracing.core.replay.ReplayFormat;
+
+import com.jme.math.FastMath;
+import com.jme.math.Quaternion;
+import com.jme.math.Vector3f;
+import com.jme.util.LoggingSystem;
+
+/**
+ * Measures a race server and its clients over loopback for 8 and 16 players, with and without the delta
+ * compression of the snapshots: the bytes each client receives per second and the cost of the network
+ * part of a server step (reading the inputs and writing the snapshots). The physics isn't stepped, the
+ * vehicles go around circles of their own and their wheels turn, so every body changes in every snapshot.
+ * The steps aren't paced, the seconds are those of the race.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class NetworkBenchmark {
+	private static final int[] PLAYERS = {8, 16};
+	private static final int STEPS_PER_SECOND = 60;
+	private static final int STEPS_PER_SNAPSHOT = 3;
+	private static final int SECONDS = 60;
+	private static final int WARM_UP_SECONDS = 10;
+	private static final long CONNECT_TIMEOUT_MILLIS = 5000;
+	private static final float TRACK_RADIUS = 40;
+	private static final float LANE_WIDTH = 3;
+	private static final float VEHICLE_SPEED = 15;
+	private static final float WHEEL_RADIUS = 0.5f;
+	private static final float WHEEL_OFFSET = 1;
+	private static final float THROTTLE = 50;
+	private static final int HEALTH = 100;
+	private static final double NANOS_PER_MICRO = 1000d;
+	private static final double MEDIAN = 50;
+	private static final double PERCENTILE = 99;
+	private Vector3f position = new Vector3f();
+	private Vector3f wheelPosition = new Vector3f();
+	private Quaternion rotation = new Quaternion();
+	private Quaternion wheelRotation = new Quaternion();
+	private Quaternion spin = new Quaternion();
+
+	private NetworkBenchmark() { }
+
+	public static void main(String[] args) throws IOException {
+		LoggingSystem.getLogger().setLevel(Level.WARNING);
+		NetworkBenchmark benchmark = new NetworkBenchmark();
+		for (int players : PLAYERS) {
+			benchmark.measure(players, true, WARM_UP_SECONDS);
+			benchmark.measure(players, false, WARM_UP_SECONDS);
+		}
+		System.out.println("Race server over loopback, " + STEPS_PER_SECOND + " steps and " + STEPS_PER_SECOND / STEPS_PER_SNAPSHOT
+				+ " snapshots per second, " + SECONDS + " seconds of race:");
+		for (int players : PLAYERS) {
+			System.out.println("  " + benchmark.measure(players, true, SECONDS));
+			System.out.println("  " + benchmark.measure(players, false, SECONDS));
+		}
+	}
+
+	/**
+	 * Runs a server and its clients for some seconds of race and describes the bandwidth and the cost of
+	 * the steps.
+	 */
+	private String measure(int players, boolean deltaCompression, int seconds) throws IOException {
+		NetworkServer server = new NetworkServer(0, players, STEPS_PER_SECOND / STEPS_PER_SNAPSHOT);
+		server.setDeltaCompression(deltaCompression);
+		NetworkClient[] clients = connect(server, players);
+		LatencyHistogram stepCost = new LatencyHistogram();
+		int steps = seconds * STEPS_PER_SECOND;
+		long snapshotsReceived = 0;
+		for (int step = 1; step <= steps; step++) {
+			for (NetworkClient client : clients) {
+				client.sendInput(THROTTLE, 0);
+			}
+			long start = System.nanoTime();
+			server.receive();
+			List<RemoteClient> remoteClients = server.getClients();
+			for (int client = 0; client < remoteClients.size(); client++) {
+				remoteClients.get(client).nextInput();
+			}
+			if (step % STEPS_PER_SNAPSHOT == 0) {
+				moveVehicles(server.nextSnapshot(), (float) step / STEPS_PER_SECOND);
+				server.sendSnapshot();
+			}
+			stepCost.record(System.nanoTime() - start);
+			for (NetworkClient client : clients) {
+				client.receive();
+			}
+		}
+		long bytesSent = 0;
+		long packetsSent = 0;
+		for (RemoteClient client : server.getClients()) {
+			bytesSent += client.getBytesSent();
+			packetsSent += client.getPacketsSent();
+		}
+		for (NetworkClient client : clients) {
+			// the welcome is the first packet of each client
+			snapshotsReceived += client.getPacketsReceived() - 1;
+			client.close();
+		}
+		server.close();
+		return String.format("%2d players, delta %-5s: %6.0f bytes per second per client, %4.0f bytes per snapshot, "
+				+ "%d of %d snapshots received, network step %.1f us p50, %.1f us p99", players, deltaCompression,
+				(double) bytesSent / players / seconds, (double) bytesSent / packetsSent, snapshotsReceived, packetsSent,
+				stepCost.getValueAtPercentile(MEDIAN) / NANOS_PER_MICRO, stepCost.getValueAtPercentile(PERCENTILE) / NANOS_PER_MICRO);
+	}
+
+	private static NetworkClient[] connect(NetworkServer server, int players) throws IOException {
+		NetworkClient[] clients = new NetworkClient[players];
+		for (int player = 0; player < players; player++) {
+			clients[player] = new NetworkClient(new InetSocketAddress("127.0.0.1", server.getPort()));
+			clients[player].connect();
+		}
+		long deadline = System.currentTimeMillis() + CONNECT_TIMEOUT_MILLIS;
+		boolean connected = false;
+		while (!connected) {
+			if (System.currentTimeMillis() > deadline) {
+				throw new IOException("The clients didn't connect in time");
+			}
+			server.receive();
+			connected = true;
+			for (NetworkClient client : clients) {
+				client.receive();
+				connected &= client.isConnected();
+			}
+		}
+		return clients;
+	}
+
+	/**
+	 * Places each vehicle on its circle at a time of the race: the chassis faces where it goes and the
+	 * wheels turn around their axles.
+	 */
+	private void moveVehicles(Snapshot snapshot, float seconds) {
+		for (int vehicle = 0; vehicle < snapshot.getVehicles(); vehicle++) {
+			float radius = TRACK_RADIUS + vehicle * LANE_WIDTH;
+			float angle = seconds * VEHICLE_SPEED / radius;
+			position.set(radius * FastMath.cos(angle), WHEEL_RADIUS, radius * FastMath.sin(angle));
+			rotation.fromAngleAxis(-angle, Vector3f.UNIT_Y);
+			snapshot.setBody(Snapshot.getBody(vehicle, 0), position, rotation);
+			spin.fromAngleAxis(seconds * VEHICLE_SPEED / WHEEL_RADIUS, Vector3f.UNIT_X);
+			rotation.mult(spin, wheelRotation);
+			for (int wheel = 1; wheel < ReplayFormat.BODIES_PER_VEHICLE; wheel++) {
+				wheelPosition.set((wheel % 2) * 2 - 1, 0, ((wheel - 1) / 2) * 2 - 1).multLocal(WHEEL_OFFSET);
+				rotation.multLocal(wheelPosition).addLocal(position);
+				snapshot.setBody(Snapshot.getBody(vehicle, wheel), wheelPosition, wheelRotation);
+			}
+			snapshot.setInputs(vehicle, THROTTLE, 0);
+			snapshot.setHealth(vehicle, HEALTH - (int) seconds);
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package net.juniorbl.jtoyracing.util;
+
+import java.util.Arrays;
+import java.util.logging.Level;
+
+import net.juniorbl.jtoyracing.entity.environment.RaceTrack;
+
+import com.jme.bounding.BoundingBox;
+import com.jme.math.Vector3f;
+import com.jme.system.dummy.DummyDisplaySystem;
+import com.jme.util.LoggingSystem;
+import com.jmex.physics.DynamicPhysicsNode;
+import com.jmex.physics.PhysicsSpace;
+
+/**
+ * Measures the creation of the race track and the physics steps with bodies falling and sliding on it,
+ * with the baked collision boxes and with the triangle meshes made from the model. Needs the ODE
+ * natives of the platform, as the game.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class CollisionShapesBenchmark {
+	private static final int ROUNDS = 5;
+	private static final int BODIES = 32;
+	private static final int STEPS = 600;
+	private static final float TIME_STEP = 1 / 60f;
+	private static final float DROP_HEIGHT = 5;
+	private static final double NANOS_PER_MILLI = 1000000d;
+
+	private CollisionShapesBenchmark() { }
+
+	public static void main(String[] args) {
+		LoggingSystem.getLogger().setLevel(Level.WARNING);
+		new DummyDisplaySystem();
+
+		// warm up the model cache, the baked shapes and the physics
+		measure(true);
+		measure(false);
+
+		long[] bakedCreation = new long[ROUNDS];
+		long[] bakedSteps = new long[ROUNDS];
+		long[] meshCreation = new long[ROUNDS];
+		long[] meshSteps = new long[ROUNDS];
+		for (int round = 0; round < ROUNDS; round++) {
+			long[] baked = measure(true);
+			bakedCreation[round] = baked[0];
+			bakedSteps[round] = baked[1];
+			long[] meshes = measure(false);
+			meshCreation[round] = meshes[0];
+			meshSteps[round] = meshes[1];
+		}
+		System.out.println("Race track, median of " + ROUNDS + " rounds:");
+		System.out.println("  creation with baked boxes:     " + median(bakedCreation) + " ms");
+		System.out.println("  creation with triangle meshes: " + median(meshCreation) + " ms");
+		System.out.println("  " + STEPS + " steps, " + BODIES + " bodies, baked boxes:     " + median(bakedSteps) + " ms");
+		System.out.println("  " + STEPS + " steps, " + BODIES + " bodies, triangle meshes: " + median(meshSteps) + " ms");
+	}
+
+	/**
+	 * Creates the track in a new physics space and steps it, returns the durations of both.
+	 */
+	private static long[] measure(boolean bakedShapes) {
+		System.setProperty(CollisionShapes.BAKED_SHAPES_PROPERTY, String.valueOf(bakedShapes));
+		PhysicsSpace physicsSpace = PhysicsSpace.create();
+		long start = System.nanoTime();
+		RaceTrack raceTrack = new RaceTrack(physicsSpace, 0f);
+		long creation = System.nanoTime() - start;
+		raceTrack.updateGeometricState(0, true);
+		dropBodies(physicsSpace, (BoundingBox) raceTrack.getWorldBound());
+		start = System.nanoTime();
+		for (int step = 0; step < STEPS; step++) {
+			physicsSpace.update(TIME_STEP);
+		}
+		long steps = System.nanoTime() - start;
+		physicsSpace.delete();
+		return new long[] {creation, steps};
+	}
+
+	/**
+	 * Drops boxes of the size of a wheel along the diagonal of the track, they fall on the road and the
+	 * borders and slide on them.
+	 */
+	private static void dropBodies(PhysicsSpace physicsSpace, BoundingBox trackBounds) {
+		Vector3f corner = trackBounds.getCenter().subtract(trackBounds.xExtent, 0, trackBounds.zExtent);
+		for (int body = 0; body < BODIES; body++) {
+			DynamicPhysicsNode node = physicsSpace.createDynamicNode();
+			node.createBox("body");
+			float along = (body + 0.5f) / BODIES;
+			node.setLocalTranslation(corner.add(2 * trackBounds.xExtent * along, trackBounds.yExtent + DROP_HEIGHT,
+					2 * trackBounds.zExtent * along));
+			node.setLinearVelocity(new Vector3f(DROP_HEIGHT, 0, 0));
+			node.updateGeometricState(0, true);
+		}
+	}
+
+	private static double median(long[] durations) {
+		long[] sorted = durations.clone();
+		Arrays.sort(sorted);
+		return Math.round(sorted[sorted.length / 2] / NANOS_PER_MILLI * 10) / 10d;
+	}
+}
@@ -0,0 +1,77 @@
+package net.juniorbl.jtoyracing.util;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.logging.Level;
+
+import net.juniorbl.jtoyracing.enums.ResourcesPath;
+
+import com.jme.system.dummy.DummyDisplaySystem;
+import com.jme.util.LoggingSystem;
+
+/**
+ * Measures the time to load every model of a race, the way the game does at startup, with an empty
+ * model cache (conversion of the OBJ files) and with a filled one (load of the cached binaries).
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class ModelCacheBenchmark {
+	private static final int ROUNDS = 5;
+	private static final int WHEELS = 8;
+	private static final double NANOS_PER_MILLI = 1000000d;
+	private static final String[] MODELS = {"raceTrack", "bendThreeCheckpoint", "startCheckPoint", "bed", "desk",
+		"computer", "chair", "legoDoll", "TV", "table", "shelf", "redTruck", "blueTruck"};
+
+	private ModelCacheBenchmark() { }
+
+	public static void main(String[] args) {
+		File cacheDirectory = new File(System.getProperty("java.io.tmpdir"), "jtoyracing-benchmark-cache");
+		System.setProperty(ModelCache.CACHE_DIRECTORY_PROPERTY, cacheDirectory.getPath());
+		LoggingSystem.getLogger().setLevel(Level.WARNING);
+		new DummyDisplaySystem();
+
+		// warm up the converter and the importer
+		clear(cacheDirectory);
+		loadRaceModels();
+		loadRaceModels();
+
+		long[] uncached = new long[ROUNDS];
+		long[] cached = new long[ROUNDS];
+		for (int round = 0; round < ROUNDS; round++) {
+			clear(cacheDirectory);
+			uncached[round] = loadRaceModels();
+			cached[round] = loadRaceModels();
+		}
+		clear(cacheDirectory);
+		System.out.println("Race models, median of " + ROUNDS + " rounds:");
+		System.out.println("  without cache: " + median(uncached) + " ms");
+		System.out.println("  with cache:    " + median(cached) + " ms");
+	}
+
+	private static long loadRaceModels() {
+		long start = System.nanoTime();
+		for (String model : MODELS) {
+			ModelUtil.convertOBJToStatial(ResourcesPath.MODELS_PATH + "obj/" + model + ".obj");
+		}
+		for (int wheel = 0; wheel < WHEELS; wheel++) {
+			ModelUtil.convertOBJToStatial(ResourcesPath.MODELS_PATH + "obj/whell.obj");
+		}
+		return System.nanoTime() - start;
+	}
+
+	private static double median(long[] durations) {
+		long[] sorted = durations.clone();
+		Arrays.sort(sorted);
+		return Math.round(sorted[sorted.length / 2] / NANOS_PER_MILLI * 10) / 10d;
+	}
+
+	private static void clear(File cacheDirectory) {
+		File[] models = new File(cacheDirectory, "models").listFiles();
+		if (models != null) {
+			for (File model : models) {
+				model.delete();
+			}
+		}
+	}
+}
@@ -0,0 +1,58 @@
+package net.juniorbl.jtoyracing.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a full step of the headless race: physics, scheduler, computer vehicles and scene update,
+ * with one computer vehicle and with a full grid of them.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PhysicsStepBenchmark {
+	private static final int STEPS_PER_SECOND = 60;
+	@Param({"1", "32"})
+	private int opponents;
+	private HeadlessRace headlessRace;
+
+	@Setup(Level.Trial)
+	public void createRace() {
+		headlessRace = new HeadlessRace(STEPS_PER_SECOND, opponents);
+		headlessRace.start();
+		// skips the start countdown, so the computer vehicles are driving during the measurement
+		while (!headlessRace.getRace().isStarted()) {
+			headlessRace.step();
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void deletePhysicsSpace() {
+		headlessRace.getPhysicsSpace().delete();
+	}
+
+	@Benchmark
+	public HeadlessRace step() {
+		headlessRace.step();
+		return headlessRace;
+	}
+}
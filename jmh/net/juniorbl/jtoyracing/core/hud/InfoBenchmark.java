@@ -0,0 +1,61 @@
+package net.juniorbl.jtoyracing.core.hud;
+
+import java.util.concurrent.TimeUnit;
+
+import net.juniorbl.jtoyracing.entity.vehicle.Vehicle;
+
+import com.jme.system.DisplaySystem;
+import com.jme.system.dummy.DummyDisplaySystem;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the update of the health bar, done on every health change of the player, and of the lap
+ * timer, done on every frame.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InfoBenchmark {
+	private static final int HEALTH_STEP = 25;
+	private static final double FRAME_TIME = 1d / 60;
+	private Info info;
+	private int health;
+	private double lapTime;
+
+	@Setup(Level.Trial)
+	public void createInfo() {
+		DisplaySystem display = new DummyDisplaySystem();
+		info = new Info(display.getRenderer(), Vehicle.MAX_HEALTH_VALUE);
+	}
+
+	@Benchmark
+	public Info setHealthBarValue() {
+		health = (health + HEALTH_STEP) % Vehicle.MAX_HEALTH_VALUE;
+		info.setHealthBarValue(health);
+		return info;
+	}
+
+	@Benchmark
+	public Info showLapTime() {
+		lapTime += FRAME_TIME;
+		info.showLapTime(lapTime);
+		return info;
+	}
+}
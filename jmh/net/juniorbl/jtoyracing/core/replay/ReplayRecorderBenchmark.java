@@ -0,0 +1,73 @@
+package net.juniorbl.jtoyracing.core.replay;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import net.juniorbl.jtoyracing.core.HeadlessRace;
+import net.juniorbl.jtoyracing.core.Race;
+import net.juniorbl.jtoyracing.entity.vehicle.Vehicle;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the recording of one replay frame, to compare with {@link ReplayRecorder#RECORD_BUDGET_NANOS}.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReplayRecorderBenchmark {
+	private static final int STEPS_PER_SECOND = 60;
+	@Param({"1", "32"})
+	private int opponents;
+	private HeadlessRace headlessRace;
+	private File replayFile;
+	private ReplayRecorder replayRecorder;
+	private double time;
+
+	@Setup(Level.Trial)
+	public void createRecorder() throws IOException {
+		headlessRace = new HeadlessRace(STEPS_PER_SECOND, opponents);
+		headlessRace.step();
+		Race race = headlessRace.getRace();
+		List<Vehicle> vehicles = new ArrayList<Vehicle>();
+		vehicles.add(race.getPlayerVehicle());
+		vehicles.addAll(race.getComputerVehicles());
+		replayFile = File.createTempFile("replay", ".jtr");
+		replayRecorder = new ReplayRecorder(replayFile, vehicles, ReplayRecorder.DEFAULT_CAPACITY);
+	}
+
+	@TearDown(Level.Trial)
+	public void closeRecorder() throws IOException {
+		replayRecorder.close();
+		replayFile.delete();
+		headlessRace.getPhysicsSpace().delete();
+	}
+
+	@Benchmark
+	public ReplayRecorder record() {
+		time += 1d / STEPS_PER_SECOND;
+		replayRecorder.record(time);
+		return replayRecorder;
+	}
+}
@@ -0,0 +1,81 @@
+package net.juniorbl.jtoyracing.entity.environment;
+
+import java.util.concurrent.TimeUnit;
+
+import net.juniorbl.jtoyracing.core.lap.LapEngine;
+import net.juniorbl.jtoyracing.enums.GridPosition;
+
+import com.jme.bounding.BoundingBox;
+import com.jme.math.Vector3f;
+import com.jme.scene.shape.Box;
+import com.jme.system.dummy.DummyDisplaySystem;
+import com.jmex.physics.PhysicsSpace;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the queries the race makes to the track: the lap engine test of the next checkpoint, done
+ * for each vehicle every tick, and the grid positions, read when the vehicles are created.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RaceTrackBenchmark {
+	private static final float FLOOR_HEIGHT = -20;
+	private static final float VEHICLE_EXTENT = 3;
+	private PhysicsSpace physicsSpace;
+	private RaceTrack raceTrack;
+	private LapEngine lapEngine;
+	private double time;
+
+	@Setup(Level.Trial)
+	public void createRaceTrack() {
+		new DummyDisplaySystem();
+		physicsSpace = PhysicsSpace.create();
+		raceTrack = new RaceTrack(physicsSpace, FLOOR_HEIGHT);
+		raceTrack.updateGeometricState(0, true);
+		// a vehicle on the grid, it never reaches its next checkpoint: the cost of every tick but a few
+		Box vehicle = new Box("vehicle", Vector3f.ZERO, VEHICLE_EXTENT, VEHICLE_EXTENT, VEHICLE_EXTENT);
+		vehicle.setModelBound(new BoundingBox());
+		vehicle.updateModelBound();
+		vehicle.setLocalTranslation(raceTrack.getGridPosition(GridPosition.FIRST, FLOOR_HEIGHT));
+		vehicle.updateGeometricState(0, true);
+		lapEngine = new LapEngine(raceTrack.getCheckpoints());
+		lapEngine.addVehicle(vehicle);
+		lapEngine.start(time);
+	}
+
+	@TearDown(Level.Trial)
+	public void deletePhysicsSpace() {
+		physicsSpace.delete();
+	}
+
+	@Benchmark
+	public LapEngine updateLapEngine() {
+		time += 1;
+		lapEngine.update(time);
+		return lapEngine;
+	}
+
+	@Benchmark
+	public Vector3f getGridPosition() {
+		return raceTrack.getGridPosition(GridPosition.SECOND, FLOOR_HEIGHT);
+	}
+}
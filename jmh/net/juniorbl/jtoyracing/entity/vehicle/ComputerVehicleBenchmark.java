@@ -0,0 +1,75 @@
+package net.juniorbl.jtoyracing.entity.vehicle;
+
+import java.util.concurrent.TimeUnit;
+
+import net.juniorbl.jtoyracing.core.audio.AudioConfig;
+
+import com.jme.math.FastMath;
+import com.jme.math.Vector2f;
+import com.jme.renderer.ColorRGBA;
+import com.jme.system.dummy.DummyDisplaySystem;
+import com.jmex.physics.PhysicsSpace;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the steering of the computer vehicle, called once per frame for each opponent. The target
+ * goes around the vehicle, a little further each call, so the vehicle never arrives: a vehicle on its
+ * target only seeks a null direction, which isn't the steering of a race.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComputerVehicleBenchmark {
+	private static final Vector2f INITIAL_POSITION = new Vector2f(-40, 120);
+	private static final float TARGET_DISTANCE = 50;
+	private static final int TARGETS = 64;
+	private static final int TARGET_MASK = TARGETS - 1;
+	private PhysicsSpace physicsSpace;
+	private ComputerVehicle computerVehicle;
+	private Vector2f[] targetOffsets = new Vector2f[TARGETS];
+	private Vector2f target = new Vector2f();
+	private int call;
+
+	@Setup(Level.Trial)
+	public void createVehicle() {
+		new DummyDisplaySystem();
+		AudioConfig.disableSoundEffects();
+		physicsSpace = PhysicsSpace.create();
+		computerVehicle = new ComputerVehicle(physicsSpace, new Vector2f(INITIAL_POSITION), ColorRGBA.blue);
+		for (int offset = 0; offset < TARGETS; offset++) {
+			float angle = offset * FastMath.TWO_PI / TARGETS;
+			targetOffsets[offset] = new Vector2f(FastMath.cos(angle), FastMath.sin(angle)).multLocal(TARGET_DISTANCE);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void deletePhysicsSpace() {
+		physicsSpace.delete();
+	}
+
+	@Benchmark
+	public Vector2f goTo() {
+		call++;
+		target.set(computerVehicle.getCurrentPosition()).addLocal(targetOffsets[call & TARGET_MASK]);
+		computerVehicle.goTo(target);
+		return computerVehicle.getCurrentPosition();
+	}
+}
@@ -0,0 +1,73 @@
+package net.juniorbl.jtoyracing.core;
+
+import net.juniorbl.jtoyracing.core.lap.LapProgress;
+import net.juniorbl.jtoyracing.core.monitor.Health;
+import net.juniorbl.jtoyracing.core.physics.Command;
+import net.juniorbl.jtoyracing.core.physics.CommandQueue;
+
+/**
+ * Passes the events of a race run by the physics thread to an observer on the render thread, which
+ * drains the queue of commands once a frame. The messages and the input of the game are only changed by
+ * the render thread. The progress of a lap is copied, the race goes on changing it.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class DeferredRaceObserver implements RaceObserver {
+	private RaceObserver raceObserver;
+	private CommandQueue commands;
+
+	public DeferredRaceObserver(RaceObserver raceObserver, CommandQueue commands) {
+		this.raceObserver = raceObserver;
+		this.commands = commands;
+	}
+
+	public void raceCountdown(final int seconds) {
+		commands.submit(new Command() {
+			public void execute() {
+				raceObserver.raceCountdown(seconds);
+			}
+		});
+	}
+
+	public void raceStarted() {
+		commands.submit(new Command() {
+			public void execute() {
+				raceObserver.raceStarted();
+			}
+		});
+	}
+
+	public void healthChanged(final Health health, final int healthValue) {
+		commands.submit(new Command() {
+			public void execute() {
+				raceObserver.healthChanged(health, healthValue);
+			}
+		});
+	}
+
+	public void healthWait(final Health health, final int seconds) {
+		commands.submit(new Command() {
+			public void execute() {
+				raceObserver.healthWait(health, seconds);
+			}
+		});
+	}
+
+	public void healthWaitEnded(final Health health) {
+		commands.submit(new Command() {
+			public void execute() {
+				raceObserver.healthWaitEnded(health);
+			}
+		});
+	}
+
+	public void lapCompleted(LapProgress lapProgress) {
+		final LapProgress lapProgressCopy = new LapProgress(lapProgress);
+		commands.submit(new Command() {
+			public void execute() {
+				raceObserver.lapCompleted(lapProgressCopy);
+			}
+		});
+	}
+}
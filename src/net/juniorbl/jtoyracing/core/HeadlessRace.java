@@ -0,0 +1,116 @@
+package net.juniorbl.jtoyracing.core;
+
+import net.juniorbl.jtoyracing.core.audio.AudioConfig;
+import net.juniorbl.jtoyracing.core.physics.FixedStepObserver;
+import net.juniorbl.jtoyracing.core.physics.FixedStepPhysics;
+import net.juniorbl.jtoyracing.core.physics.PhysicsBudget;
+import net.juniorbl.jtoyracing.util.StateUtil;
+
+import com.jme.system.DisplaySystem;
+import com.jme.system.dummy.DummyDisplaySystem;
+import com.jmex.physics.PhysicsSpace;
+
+/**
+ * Runs a race without display, audio or input. The simulation is stepped at a fixed time step as fast
+ * as the CPU allows, for batch runs of the AI, regression runs and benchmarks on machines without a
+ * graphics card.
+ *
+ * Arguments: the seconds to simulate (default 60), the steps per second (default 60) and the number of
+ * computer vehicles (default 1). The race is recorded when the "jtoyracing.replay.file" system property
+ * is set.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class HeadlessRace implements FixedStepObserver {
+	private static final float DEFAULT_SIMULATED_SECONDS = 60;
+	private static final int DEFAULT_STEPS_PER_SECOND = 60;
+	private static final int DEFAULT_OPPONENTS = 1;
+	private static final double NANOS_PER_SECOND = 1000000000d;
+	private PhysicsSpace physicsSpace;
+	private Race race;
+	private FixedStepPhysics fixedStepPhysics;
+
+	/**
+	 * Creates the race on a dummy display, which creates the render states without OpenGL, so the
+	 * textures are never uploaded. The sound effects are disabled.
+	 */
+	public HeadlessRace(int stepsPerSecond) {
+		this(stepsPerSecond, DEFAULT_OPPONENTS);
+	}
+
+	public HeadlessRace(int stepsPerSecond, int opponents) {
+		DisplaySystem display = new DummyDisplaySystem();
+		AudioConfig.disableSoundEffects();
+		StateUtil.setRenderer(display.getRenderer());
+		physicsSpace = PhysicsSpace.create();
+		race = new Race(physicsSpace, display.getRenderer(), opponents);
+		race.getScene().updateGeometricState(0, true);
+		fixedStepPhysics = new FixedStepPhysics(physicsSpace, stepsPerSecond, 1);
+		fixedStepPhysics.setPhysicsBudget(PhysicsBudget.createDefault());
+		fixedStepPhysics.addObserver(this);
+	}
+
+	public static void main(String[] args) {
+		float simulatedSeconds = DEFAULT_SIMULATED_SECONDS;
+		int stepsPerSecond = DEFAULT_STEPS_PER_SECOND;
+		if (args.length > 0) {
+			simulatedSeconds = Float.parseFloat(args[0]);
+		}
+		if (args.length > 1) {
+			stepsPerSecond = Integer.parseInt(args[1]);
+		}
+		int opponents = DEFAULT_OPPONENTS;
+		if (args.length > 2) {
+			opponents = Integer.parseInt(args[2]);
+		}
+		HeadlessRace headlessRace = new HeadlessRace(stepsPerSecond, opponents);
+		headlessRace.start();
+		double wallSeconds = headlessRace.run(simulatedSeconds) / NANOS_PER_SECOND;
+		System.out.println(String.format("Simulated %.1f s with %d computer vehicles at %d steps per second in %.2f s "
+				+ "of wall time: %.1f simulated seconds per second", simulatedSeconds, opponents, stepsPerSecond,
+				wallSeconds, simulatedSeconds / wallSeconds));
+		headlessRace.race.stopRecording();
+		headlessRace.physicsSpace.delete();
+	}
+
+	public void start() {
+		race.start();
+	}
+
+	/**
+	 * Advances the physics and the race by one time step.
+	 */
+	public void step() {
+		fixedStepPhysics.update(getTimeStep());
+		race.getScene().updateGeometricState(getTimeStep(), true);
+	}
+
+	public void physicsStepped(float timeStep) {
+		race.update(timeStep);
+	}
+
+	/**
+	 * Runs the race for some seconds of simulated time. Returns the wall time spent, in nanoseconds.
+	 */
+	public long run(float simulatedSeconds) {
+		int steps = Math.round(simulatedSeconds / getTimeStep());
+		long start = System.nanoTime();
+		for (int step = 0; step < steps; step++) {
+			step();
+		}
+		return System.nanoTime() - start;
+	}
+
+	public Race getRace() {
+		return race;
+	}
+
+	public PhysicsSpace getPhysicsSpace() {
+		return physicsSpace;
+	}
+
+	public float getTimeStep() {
+		return fixedStepPhysics.getTimeStep();
+	}
+}
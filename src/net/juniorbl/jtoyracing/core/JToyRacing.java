@@ -1,29 +1,58 @@
 package net.juniorbl.jtoyracing.core;
 
-import static net.juniorbl.jtoyracing.entity.vehicle.Vehicle.MAX_HEALTH_VALUE;
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
 import net.juniorbl.jtoyracing.core.audio.AudioConfig;
+import net.juniorbl.jtoyracing.core.audio.SoundEmitter;
+import net.juniorbl.jtoyracing.core.audio.VoiceManager;
 import net.juniorbl.jtoyracing.core.camera.CameraPositionHandler;
 import net.juniorbl.jtoyracing.core.camera.VehicleChaseCamera;
+import net.juniorbl.jtoyracing.core.hud.FrameProfileOverlay;
+import net.juniorbl.jtoyracing.core.hud.FrameProfileToggle;
 import net.juniorbl.jtoyracing.core.hud.Info;
-import net.juniorbl.jtoyracing.core.monitor.ChronometerObserver;
-import net.juniorbl.jtoyracing.core.monitor.HealthChronometer;
-import net.juniorbl.jtoyracing.core.monitor.HealthMonitor;
-import net.juniorbl.jtoyracing.core.monitor.HealthObserver;
+import net.juniorbl.jtoyracing.core.lap.LapEngine;
+import net.juniorbl.jtoyracing.core.lap.LapProgress;
+import net.juniorbl.jtoyracing.core.loading.AssetLoader;
+import net.juniorbl.jtoyracing.core.loading.StartupTimer;
+import net.juniorbl.jtoyracing.core.monitor.Health;
+import net.juniorbl.jtoyracing.core.network.NetworkClient;
+import net.juniorbl.jtoyracing.core.network.NetworkRace;
+import net.juniorbl.jtoyracing.core.physics.CommandQueue;
+import net.juniorbl.jtoyracing.core.physics.FixedStepObserver;
+import net.juniorbl.jtoyracing.core.physics.FixedStepPhysics;
+import net.juniorbl.jtoyracing.core.physics.PhysicsThread;
+import net.juniorbl.jtoyracing.core.physics.RenderedBody;
+import net.juniorbl.jtoyracing.core.profiling.FlightRecording;
+import net.juniorbl.jtoyracing.core.profiling.FlightRecordingToggle;
+import net.juniorbl.jtoyracing.core.profiling.FrameProfileDump;
+import net.juniorbl.jtoyracing.core.profiling.FrameProfiler;
+import net.juniorbl.jtoyracing.core.replay.ReplayFile;
+import net.juniorbl.jtoyracing.core.replay.ReplayPlayer;
+import net.juniorbl.jtoyracing.core.replay.ReplaySeek;
 import net.juniorbl.jtoyracing.entity.environment.KidsRoom;
-import net.juniorbl.jtoyracing.entity.vehicle.ComputerVehicle;
 import net.juniorbl.jtoyracing.entity.vehicle.Steer;
 import net.juniorbl.jtoyracing.entity.vehicle.Traction;
+import net.juniorbl.jtoyracing.entity.vehicle.ComputerVehicle;
+import net.juniorbl.jtoyracing.entity.vehicle.RenderedVehicleSound;
 import net.juniorbl.jtoyracing.entity.vehicle.Vehicle;
-import net.juniorbl.jtoyracing.enums.GridPosition;
+import net.juniorbl.jtoyracing.enums.FramePhase;
+import net.juniorbl.jtoyracing.util.FrozenNode;
+import net.juniorbl.jtoyracing.util.LodNode;
 import net.juniorbl.jtoyracing.util.StateUtil;
 
 import com.jme.input.InputHandler;
 import com.jme.input.KeyInput;
 import com.jme.light.PointLight;
-import com.jme.math.Vector2f;
 import com.jme.math.Vector3f;
+import com.jme.scene.Node;
+import com.jme.scene.Spatial;
 import com.jme.renderer.ColorRGBA;
 import com.jme.scene.state.CullState;
+import com.jme.util.LoggingSystem;
+import com.jmex.physics.PhysicsSpace;
 import com.jmex.physics.util.SimplePhysicsGame;
 
 /**
@@ -32,24 +61,37 @@ import com.jmex.physics.util.SimplePhysicsGame;
  * @version 1.0 Aug 11, 2007
  * @author Carlos Luz Junior
  */
-public final class JToyRacing extends SimplePhysicsGame implements ChronometerObserver, HealthObserver {
+public final class JToyRacing extends SimplePhysicsGame implements RaceObserver, FixedStepObserver {
 	private static final int LEFT_STEER_DIRECTION = -100;
 	private static final int RIGHT_STEER_DIRECTION = 100;
 	private static final int FORWARD_TRACTION_VELOCITY = 50;
 	private static final int BACKWARD_TRACTION_VELOCITY = -50;
-	private static final int WAIT_SECONDS = 3;
 	private static final Vector3f LIGHT_LOCATION = new Vector3f(0, 40, 0);
 	private static final Vector3f CAMERA_LOCATION = new Vector3f(-40, 0, 163);
-	private static final Vector3f NORMAL_GRAVITY = new Vector3f(0, -45, 0);
-	private static final int RECHARGE_HEALTH = 250;
+	private static final String PARALLEL_LOADING_PROPERTY = "jtoyracing.loading.parallel";
+	private static final String OPPONENTS_PROPERTY = "jtoyracing.opponents";
+	private static final float REPLAY_SEEK_SECONDS = 5;
+	private static final int PLAYER_SOUND_PRIORITY = 1;
+	private static final int COMPUTER_SOUND_PRIORITY = 0;
+	private static final int REMOTE_SOUND_PRIORITY = 0;
+	private static final int RACE_EVENTS = 64;
 	private VehicleChaseCamera vehicleChaseCamera;
 	private Vehicle playerVehicle;
-	private ComputerVehicle computerVehicle;
-	private KidsRoom kidsRoom;
+	private Spatial playerChassis;
+	private Race race;
+	private FixedStepPhysics fixedStepPhysics;
+	private PhysicsThread physicsThread;
+	private CommandQueue raceEvents;
+	private RaceInfoBuffer raceInfoBuffer;
 	private Info info;
-	private HealthMonitor healthMonitor;
-	private HealthChronometer healthChronometer;
+	private FrameProfiler frameProfiler = new FrameProfiler();
+	private FrameProfileOverlay frameProfileOverlay;
+	private FlightRecording flightRecording = new FlightRecording();
 	private AudioConfig audio;
+	private VoiceManager engineVoices;
+	private Map<Health, RenderedVehicleSound> renderedSounds = new HashMap<Health, RenderedVehicleSound>();
+	private ReplayPlayer replayPlayer;
+	private NetworkRace networkRace;
 
 	public static void main(String[] args) {
 		JToyRacing game = new JToyRacing();
@@ -59,90 +101,274 @@ public final class JToyRacing extends SimplePhysicsGame implements ChronometerOb
 
 	@Override
 	protected void simpleInitGame() {
+		StartupTimer startupTimer = new StartupTimer();
+		startupTimer.startPhase("utilities");
 		loadUtil();
 		loadOptimization();
-		loadEnvironment();
-		loadVehicles();
-		loadGravitation();
+		startupTimer.startPhase("assets preloading");
+		preloadAssets();
+		startupTimer.startPhase("race");
+		ReplayFile replayFile = openReplay();
+		loadRace(replayFile);
+		loadFixedStepPhysics();
+		loadLight();
+		startupTimer.startPhase("camera and controllers");
 		loadCamera();
-		loadKeyboardControllers();
+		loadCameraController();
+		startupTimer.startPhase("info");
 		loadInfo();
+		loadFrameProfile();
+		startupTimer.startPhase("audio");
 		loadAudio();
-		loadHealthMonitor();
+		if (replayFile == null) {
+			race.start();
+		} else {
+			startPlayback(replayFile);
+		}
+		if (physicsThread != null) {
+			physicsThread.start();
+		}
+		LoggingSystem.getLogger().info(startupTimer.report());
 	}
 
 	@Override
 	protected void simpleUpdate() {
+		frameProfiler.start(FramePhase.FRAME);
 		super.simpleUpdate();
+		if (physicsThread != null) {
+			raceEvents.drain();
+			raceInfoBuffer.show(info);
+			physicsThread.update();
+		} else if (replayPlayer == null) {
+			fixedStepPhysics.update(tpf);
+			if (networkRace != null) {
+				networkRace.update(tpf);
+			}
+			updateRaceInfo();
+		} else {
+			replayPlayer.update(tpf);
+		}
+		frameProfiler.start(FramePhase.CAMERA);
 		vehicleChaseCamera.update(tpf);
+		frameProfiler.stop(FramePhase.CAMERA);
+		frameProfiler.start(FramePhase.AUDIO);
 		audio.update();
+		frameProfiler.stop(FramePhase.AUDIO);
+		frameProfiler.start(FramePhase.ENGINE_SOUNDS);
 		updateEngineSounds();
-		updateComputerVehiclePosition();
+		frameProfiler.stop(FramePhase.ENGINE_SOUNDS);
+		frameProfileOverlay.update(tpf);
+		frameProfiler.stop(FramePhase.FRAME);
+	}
+
+	/**
+	 * Called after the scene is drawn, closes the count of the triangles of the frame.
+	 */
+	@Override
+	protected void simpleRender() {
+		frameProfiler.getTriangleCounter().endFrame();
+	}
+
+	@Override
+	protected void cleanup() {
+		if (physicsThread != null) {
+			physicsThread.stop();
+		}
+		race.stopRecording();
+		if (networkRace != null) {
+			networkRace.close();
+		}
+		if (flightRecording.isRecording()) {
+			try {
+				LoggingSystem.getLogger().info("Flight recording written to " + flightRecording.stop());
+			} catch (IOException e) {
+				LoggingSystem.getLogger().warning("Unable to write the flight recording: " + e.getMessage());
+			}
+		}
+		if (replayPlayer != null) {
+			try {
+				replayPlayer.close();
+			} catch (IOException e) {
+				LoggingSystem.getLogger().warning("Unable to close the replay: " + e.getMessage());
+			}
+		}
+		super.cleanup();
+	}
+
+	/**
+	 * Loads the models and images in parallel, unless disabled by the "jtoyracing.loading.parallel"
+	 * system property. The entities created afterwards take the preloaded assets.
+	 */
+	private void preloadAssets() {
+		if (Boolean.valueOf(System.getProperty(PARALLEL_LOADING_PROPERTY, "true"))) {
+			AssetLoader assetLoader = new AssetLoader(display.getRenderer());
+			KidsRoom.preloadAssets(assetLoader);
+			Vehicle.preloadAssets(assetLoader);
+			assetLoader.awaitPreloading();
+		}
 	}
 
 	private void loadUtil() {
 		StateUtil.setRenderer(display.getRenderer());
 	}
 
-	private void loadHealthMonitor() {
-		healthMonitor = new HealthMonitor(this);
-		healthMonitor.start();
+	/**
+	 * Opens the replay given by the "jtoyracing.replay.play" system property, if any.
+	 */
+	private ReplayFile openReplay() {
+		String playbackFile = System.getProperty(ReplayPlayer.PLAYBACK_FILE_PROPERTY);
+		if (playbackFile == null) {
+			return null;
+		}
+		try {
+			return new ReplayFile(new File(playbackFile));
+		} catch (IOException e) {
+			throw new Error(e);
+		}
 	}
 
-	private void loadAudio() {
-		this.audio = new AudioConfig(cam);
+	/**
+	 * Loads the race. A replay is played back on a race with the vehicles it has recorded. A race joined to
+	 * the server of the "jtoyracing.network.server" system property has a remote vehicle for each other
+	 * player and no computer vehicles. A race stepped by the physics thread has a physics space of its own,
+	 * the game still updates its space every frame, and its events reach the game through a queue.
+	 */
+	private void loadRace(ReplayFile replayFile) {
+		int opponents = Integer.getInteger(OPPONENTS_PROPERTY, 1);
+		NetworkClient networkClient = null;
+		if (replayFile != null) {
+			opponents = replayFile.getVehicleCount() - 1;
+		} else {
+			networkClient = connectToServer();
+		}
+		if (networkClient != null) {
+			opponents = 0;
+		}
+		boolean threadedPhysics = replayFile == null && networkClient == null && PhysicsThread.isEnabled();
+		PhysicsSpace physicsSpace = getPhysicsSpace();
+		if (threadedPhysics) {
+			physicsSpace = PhysicsSpace.create();
+		}
+		race = new Race(physicsSpace, display.getRenderer(), opponents);
+		if (networkClient != null) {
+			race.placePlayerVehicle(networkClient.getVehicle());
+			for (int vehicle = 0; vehicle < networkClient.getVehicles(); vehicle++) {
+				if (vehicle != networkClient.getVehicle()) {
+					race.addRemoteVehicle(vehicle);
+				}
+			}
+			networkRace = new NetworkRace(networkClient, race);
+		}
+		playerVehicle = race.getPlayerVehicle();
+		playerChassis = playerVehicle.getChassis();
+		fixedStepPhysics = FixedStepPhysics.createDefault(physicsSpace);
+		if (threadedPhysics) {
+			raceEvents = new CommandQueue(RACE_EVENTS);
+			raceInfoBuffer = new RaceInfoBuffer();
+			race.addObserver(new DeferredRaceObserver(this, raceEvents));
+		} else {
+			race.addObserver(this);
+			rootNode.attachChild(race.getScene());
+		}
 	}
 
-	private void updateComputerVehiclePosition() {
-		// test target: -40f, -28.2f, 70f (just a few meters in front of the starting line)
-		Vector2f testTarget = new Vector2f(-40, 70);
-		computerVehicle.goTo(testTarget);
-		Vector3f newPosition = new Vector3f(computerVehicle.getCurrentPosition().x,
-				kidsRoom.getGridPosition(GridPosition.SECOND).getY(), computerVehicle.getCurrentPosition().y);
-		computerVehicle.setLocalTranslation(newPosition);
+	private NetworkClient connectToServer() {
+		try {
+			return NetworkRace.connect();
+		} catch (IOException e) {
+			//TODO throw a business checked exception
+			throw new Error(e);
+		}
 	}
 
-	private void updateEngineSounds() {
-		playerVehicle.updateEngineSound();
-		computerVehicle.updateEngineSound();
+	/**
+	 * Steps the physics at the fixed rate of the "jtoyracing.physics.rate" system property instead of once
+	 * per frame, the game only gives it no time. The race advances with the steps and the vehicles are
+	 * rendered between them. The vehicles of a network race are placed by the snapshots of the server.
+	 */
+	private void loadFixedStepPhysics() {
+		setPhysicsSpeed(0);
+		fixedStepPhysics.addObserver(this);
+		if (networkRace != null) {
+			fixedStepPhysics.addObserver(networkRace);
+		}
+		if (raceEvents != null) {
+			loadPhysicsThread();
+		} else {
+			fixedStepPhysics.setFrameProfiler(frameProfiler);
+			race.setFrameProfiler(frameProfiler);
+			for (Spatial body : race.getMovingBodies()) {
+				if (networkRace == null || !networkRace.isRemoteBody(body)) {
+					fixedStepPhysics.addBody(body);
+				}
+			}
+		}
 	}
 
-	public void updateVehiclesHealth() {
-		// When a vehicle reach a checkpoint, its health is recharged
-		if (kidsRoom.isVehicleReachedCheckpoint(playerVehicle.getWorldBound())) {
-			info.setHealthBarValue(playerVehicle.rechargeHealth(MAX_HEALTH_VALUE));
+	/**
+	 * Steps the physics on its own thread, enabled by the "jtoyracing.physics.thread" system property. The
+	 * room is frozen and drawn as it is, the vehicles are stepped and updated by the physics thread and
+	 * their models are drawn by the nodes it places. The engines are heard from those nodes too. The
+	 * profiler isn't thread safe, it doesn't measure the physics and the race.
+	 */
+	private void loadPhysicsThread() {
+		FrozenNode room = new FrozenNode("room");
+		room.attachChild(race.getKidsRoom());
+		room.freeze();
+		rootNode.attachChild(room);
+		race.getScene().updateGeometricState(0, true);
+		physicsThread = new PhysicsThread(fixedStepPhysics, race.getScene());
+		Node renderedBodies = new Node("renderedBodies");
+		Map<Spatial, RenderedBody> renderedByBody = new HashMap<Spatial, RenderedBody>();
+		for (Spatial body : race.getDrawnBodies()) {
+			RenderedBody renderedBody = physicsThread.addBody(body);
+			renderedBodies.attachChild(renderedBody.getNode());
+			renderedByBody.put(body, renderedBody);
+		}
+		rootNode.attachChild(renderedBodies);
+		playerChassis = renderedByBody.get(playerVehicle.getChassis()).getNode();
+		for (Vehicle vehicle : race.getVehicles()) {
+			renderedSounds.put(vehicle, new RenderedVehicleSound(vehicle, renderedByBody.get(vehicle.getChassis())));
 		}
-		info.setHealthBarValue(playerVehicle.decreaseHealth());
 	}
 
-	private void loadVehicles() {
-		loadPlayerVehicle();
-		loadComputerVehicle();
+	public void physicsStepped(float timeStep) {
+		race.update(timeStep);
+		if (raceInfoBuffer != null && race.isStarted()) {
+			raceInfoBuffer.publish(race);
+		}
 	}
 
-	private void loadComputerVehicle() {
-		// The initial position uses the Z axis instead of the Y because in a 3D space the X and Z axes
-		// are in the plane of the ground, the Y axis is the "up" and it's used for gravity
-		// (from "Artificial Intelligence for Games" by Ian Millington).
-		Vector2f initialPosition = new Vector2f(
-				kidsRoom.getGridPosition(GridPosition.SECOND).getX(), kidsRoom.getGridPosition(GridPosition.SECOND).getZ());
-		computerVehicle = new ComputerVehicle(getPhysicsSpace(), initialPosition, ColorRGBA.blue);
-		computerVehicle.setLocalTranslation(kidsRoom.getGridPosition(GridPosition.SECOND));
-		computerVehicle.rotateUponItself(-1.6f);
-		computerVehicle.addObserver(this);
-		rootNode.attachChild(computerVehicle);
+	/**
+	 * Loads the audio system and the voices of the engines. The engine of the player always has a voice,
+	 * the computer and the remote vehicles take the others by distance to the camera.
+	 */
+	private void loadAudio() {
+		this.audio = new AudioConfig(cam);
+		engineVoices = VoiceManager.createDefault(Vehicle.ENGINE_SOUND);
+		engineVoices.addEmitter(getEngineSound(playerVehicle), PLAYER_SOUND_PRIORITY);
+		for (ComputerVehicle computerVehicle : race.getComputerVehicles()) {
+			engineVoices.addEmitter(getEngineSound(computerVehicle), COMPUTER_SOUND_PRIORITY);
+		}
+		for (Vehicle remoteVehicle : race.getRemoteVehicles()) {
+			engineVoices.addEmitter(remoteVehicle, REMOTE_SOUND_PRIORITY);
+		}
 	}
 
-	private void loadPlayerVehicle() {
-		playerVehicle = new Vehicle(getPhysicsSpace(), ColorRGBA.red);
-		playerVehicle.setLocalTranslation(kidsRoom.getGridPosition(GridPosition.FIRST));
-	    playerVehicle.rotateUponItself(-1.6f);
-		playerVehicle.addObserver(this);
-		rootNode.attachChild(playerVehicle);
+	/**
+	 * Returns the engine of a vehicle as the render thread hears it: the vehicle itself, or its rendered
+	 * chassis when the physics thread steps it.
+	 */
+	private SoundEmitter getEngineSound(Vehicle vehicle) {
+		RenderedVehicleSound renderedSound = renderedSounds.get(vehicle);
+		if (renderedSound == null) {
+			return vehicle;
+		}
+		return renderedSound;
 	}
 
-	private void loadGravitation() {
-		getPhysicsSpace().setDirectionalGravity(NORMAL_GRAVITY);
+	private void updateEngineSounds() {
+		engineVoices.update(cam.getLocation(), tpf);
 	}
 
 	private void loadOptimization() {
@@ -153,16 +379,37 @@ public final class JToyRacing extends SimplePhysicsGame implements ChronometerOb
 		rootNode.setRenderState(cullState);
 	}
 
-	private void loadKeyboardControllers() {
-		input.addAction(new Traction(playerVehicle, FORWARD_TRACTION_VELOCITY), InputHandler.DEVICE_KEYBOARD,
+	/**
+	 * The vehicle stepped by the physics thread is driven through its commands.
+	 */
+	private void loadVehicleControllers() {
+		CommandQueue physicsCommands = null;
+		if (physicsThread != null) {
+			physicsCommands = physicsThread.getCommands();
+		}
+		input.addAction(new Traction(playerVehicle, FORWARD_TRACTION_VELOCITY, physicsCommands), InputHandler.DEVICE_KEYBOARD,
 				KeyInput.KEY_UP, InputHandler.AXIS_NONE, false);
-		input.addAction(new Traction(playerVehicle, BACKWARD_TRACTION_VELOCITY), InputHandler.DEVICE_KEYBOARD,
+		input.addAction(new Traction(playerVehicle, BACKWARD_TRACTION_VELOCITY, physicsCommands), InputHandler.DEVICE_KEYBOARD,
 				KeyInput.KEY_DOWN, InputHandler.AXIS_NONE, false);
-		input.addAction(new Steer(playerVehicle, LEFT_STEER_DIRECTION), InputHandler.DEVICE_KEYBOARD,
+		input.addAction(new Steer(playerVehicle, LEFT_STEER_DIRECTION, physicsCommands), InputHandler.DEVICE_KEYBOARD,
 				KeyInput.KEY_LEFT, InputHandler.AXIS_NONE, false);
-		input.addAction(new Steer(playerVehicle, RIGHT_STEER_DIRECTION), InputHandler.DEVICE_KEYBOARD,
+		input.addAction(new Steer(playerVehicle, RIGHT_STEER_DIRECTION, physicsCommands), InputHandler.DEVICE_KEYBOARD,
 				KeyInput.KEY_RIGHT, InputHandler.AXIS_NONE, false);
+	}
+
+	/**
+	 * Plays a replay back instead of racing: the physics isn't stepped and the arrow keys move the playback
+	 * backward and forward.
+	 */
+	private void startPlayback(ReplayFile replayFile) {
+		replayPlayer = new ReplayPlayer(replayFile, race.getVehicles(), true);
+		input.addAction(new ReplaySeek(replayPlayer, -REPLAY_SEEK_SECONDS), InputHandler.DEVICE_KEYBOARD,
+				KeyInput.KEY_LEFT, InputHandler.AXIS_NONE, false);
+		input.addAction(new ReplaySeek(replayPlayer, REPLAY_SEEK_SECONDS), InputHandler.DEVICE_KEYBOARD,
+				KeyInput.KEY_RIGHT, InputHandler.AXIS_NONE, false);
+	}
 
+	private void loadCameraController() {
 		CameraPositionHandler cameraPositionHandler = new CameraPositionHandler(vehicleChaseCamera);
 		input.addAction(cameraPositionHandler, InputHandler.DEVICE_KEYBOARD, KeyInput.KEY_V, InputHandler.AXIS_NONE, false);
 	}
@@ -173,14 +420,39 @@ public final class JToyRacing extends SimplePhysicsGame implements ChronometerOb
 		fpsNode.attachChild(info);
 	}
 
-	private void loadCamera() {
-		vehicleChaseCamera = (VehicleChaseCamera) VehicleChaseCamera.getInstance(cam, playerVehicle.getChassis());
-		cam.setLocation(CAMERA_LOCATION);
+	/**
+	 * Shows the lap, the position and the lap time of the player once the race has started, when the race
+	 * runs on the render thread. Info only rewrites the texts that change.
+	 */
+	private void updateRaceInfo() {
+		if (race.isStarted()) {
+			LapProgress lapProgress = race.getPlayerLapProgress();
+			info.showLap(lapProgress.getLaps() + 1);
+			LapEngine lapEngine = race.getLapEngine();
+			info.showPosition(lapEngine.getPosition(lapProgress), lapEngine.getLapProgresses().size());
+			info.showLapTime(race.getTime() - lapProgress.getLapStartTime());
+		}
 	}
 
-	private void loadEnvironment() {
-		loadRoom();
-		loadLight();
+	/**
+	 * Loads the frame profile overlay, shown and hidden by F5. F6 writes the profile to a file and F7
+	 * starts or stops a flight recording. The models with levels of detail count their triangles in the profile.
+	 */
+	private void loadFrameProfile() {
+		LodNode.setTriangleCounter(frameProfiler.getTriangleCounter());
+		frameProfileOverlay = new FrameProfileOverlay(frameProfiler, display.getHeight());
+		fpsNode.attachChild(frameProfileOverlay);
+		input.addAction(new FrameProfileToggle(frameProfileOverlay), InputHandler.DEVICE_KEYBOARD, KeyInput.KEY_F5,
+				InputHandler.AXIS_NONE, false);
+		input.addAction(new FrameProfileDump(frameProfiler), InputHandler.DEVICE_KEYBOARD, KeyInput.KEY_F6,
+				InputHandler.AXIS_NONE, false);
+		input.addAction(new FlightRecordingToggle(flightRecording), InputHandler.DEVICE_KEYBOARD, KeyInput.KEY_F7,
+				InputHandler.AXIS_NONE, false);
+	}
+
+	private void loadCamera() {
+		vehicleChaseCamera = (VehicleChaseCamera) VehicleChaseCamera.getInstance(cam, playerChassis);
+		cam.setLocation(CAMERA_LOCATION);
 	}
 
 	private void loadLight() {
@@ -196,30 +468,44 @@ public final class JToyRacing extends SimplePhysicsGame implements ChronometerOb
 		rootNode.setRenderState(lightState);
 	}
 
-	private void loadRoom() {
-		kidsRoom = new KidsRoom(getPhysicsSpace(), display.getRenderer());
-		kidsRoom.attachChild(playerVehicle);
-		rootNode.attachChild(kidsRoom);
-	}
-
-	public void updateTime(int seconds) {
+	public void raceCountdown(int seconds) {
 		// TODO use internalization
-		info.printMessage("Time left: " + String.valueOf(seconds) + " seconds");
+		info.printMessage("Race starts in: ", seconds, " seconds");
 	}
 
-	public void timeUP() {
+	public void raceStarted() {
 		info.printMessage(String.valueOf(""));
-		info.setHealthBarValue(playerVehicle.rechargeHealth(RECHARGE_HEALTH));
-		healthChronometer.stopChronometer();
+		loadVehicleControllers();
+	}
+
+	public void healthChanged(Health health, int healthValue) {
+		if (health == playerVehicle) {
+			info.setHealthBarValue(healthValue);
+		}
+		RenderedVehicleSound renderedSound = renderedSounds.get(health);
+		if (renderedSound != null) {
+			renderedSound.healthChanged(healthValue);
+		}
+	}
+
+	public void healthWait(Health health, int seconds) {
+		if (health == playerVehicle) {
+			// TODO use internalization
+			info.printMessage("Time left: ", seconds, " seconds");
+		}
 	}
 
-	public void updateHealth() {
-		updateVehiclesHealth();
+	public void healthWaitEnded(Health health) {
+		if (health == playerVehicle) {
+			info.printMessage(String.valueOf(""));
+		}
 	}
 
-	public void healthEnded() {
-		healthChronometer = new HealthChronometer(WAIT_SECONDS);
-		healthChronometer.addObserver(this);
-		healthChronometer.start();
+	public void lapCompleted(LapProgress lapProgress) {
+		if (lapProgress.getVehicle() == playerVehicle) {
+			// TODO use internalization
+			info.printMessage(String.format("Lap %d: %.2f seconds (best %.2f)", lapProgress.getLaps(),
+					lapProgress.getLastLapTime(), lapProgress.getBestLapTime()));
+		}
 	}
 }
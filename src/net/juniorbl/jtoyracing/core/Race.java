@@ -0,0 +1,486 @@
+package net.juniorbl.jtoyracing.core;
+
+import static net.juniorbl.jtoyracing.entity.vehicle.Vehicle.MAX_HEALTH_VALUE;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.juniorbl.jtoyracing.core.lap.LapEngine;
+import net.juniorbl.jtoyracing.core.lap.LapObserver;
+import net.juniorbl.jtoyracing.core.lap.LapProgress;
+import net.juniorbl.jtoyracing.core.monitor.Chronometer;
+import net.juniorbl.jtoyracing.core.monitor.ChronometerObserver;
+import net.juniorbl.jtoyracing.core.monitor.Countdown;
+import net.juniorbl.jtoyracing.core.monitor.Health;
+import net.juniorbl.jtoyracing.core.monitor.HealthChronometer;
+import net.juniorbl.jtoyracing.core.monitor.HealthMonitor;
+import net.juniorbl.jtoyracing.core.monitor.HealthObserver;
+import net.juniorbl.jtoyracing.core.profiling.CheckpointEvent;
+import net.juniorbl.jtoyracing.core.profiling.FrameProfiler;
+import net.juniorbl.jtoyracing.core.profiling.HealthChronometerEvent;
+import net.juniorbl.jtoyracing.core.profiling.HealthEvent;
+import net.juniorbl.jtoyracing.core.replay.GhostLap;
+import net.juniorbl.jtoyracing.core.replay.ReplayRecorder;
+import net.juniorbl.jtoyracing.core.scheduler.GameScheduler;
+import net.juniorbl.jtoyracing.entity.environment.KidsRoom;
+import net.juniorbl.jtoyracing.entity.environment.RaceTrack;
+import net.juniorbl.jtoyracing.entity.vehicle.ComputerVehicle;
+import net.juniorbl.jtoyracing.entity.vehicle.GhostCar;
+import net.juniorbl.jtoyracing.entity.vehicle.Traffic;
+import net.juniorbl.jtoyracing.entity.vehicle.Vehicle;
+import net.juniorbl.jtoyracing.entity.vehicle.Wheel;
+import net.juniorbl.jtoyracing.enums.FramePhase;
+import net.juniorbl.jtoyracing.enums.GridPosition;
+
+import com.jme.math.Vector2f;
+import com.jme.math.Vector3f;
+import com.jme.renderer.ColorRGBA;
+import com.jme.renderer.Renderer;
+import com.jme.scene.Node;
+import com.jme.scene.Spatial;
+import com.jme.util.LoggingSystem;
+import com.jmex.physics.PhysicsSpace;
+
+/**
+ * The race: the room, the vehicles and the rules (start, health and checkpoints). It doesn't depend
+ * on a display, audio or input, so the same race runs in the game and in the headless simulation.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class Race implements ChronometerObserver, HealthObserver, LapObserver {
+	private static final int WAIT_SECONDS = 3;
+	private static final int RACE_START_SECONDS = 3;
+	private static final int RECHARGE_HEALTH = 250;
+	private static final float GRID_ROTATION = -1.6f;
+	private static final Vector3f NORMAL_GRAVITY = new Vector3f(0, -45, 0);
+	private static final String HEALTH_DRAIN = "drain";
+	private static final String HEALTH_RECHARGE = "recharge";
+	/**
+	 * Test target: just a few meters in front of the starting line, each computer vehicle goes straight
+	 * ahead from its grid position.
+	 */
+	private static final float COMPUTER_VEHICLE_TARGET_Z = 70;
+	private PhysicsSpace physicsSpace;
+	private Renderer renderer;
+	private Node scene = new Node("race");
+	private KidsRoom kidsRoom;
+	private Vehicle playerVehicle;
+	private LapProgress playerLapProgress;
+	private GhostCar ghostCar;
+	private List<ComputerVehicle> computerVehicles = new ArrayList<ComputerVehicle>();
+	private List<Vehicle> remoteVehicles = new ArrayList<Vehicle>();
+	private Traffic traffic;
+	private LapEngine lapEngine;
+	private ReplayRecorder replayRecorder;
+	private FrameProfiler frameProfiler;
+	private float computerVehicleHeight;
+	private GameScheduler scheduler = new GameScheduler();
+	private Map<Health, HealthChronometer> healthChronometers = new HashMap<Health, HealthChronometer>();
+	private Countdown raceStartCountdown;
+	private boolean started;
+	private List<RaceObserver> raceObservers = new ArrayList<RaceObserver>();
+
+	public Race(PhysicsSpace physicsSpace, Renderer renderer) {
+		this(physicsSpace, renderer, 1);
+	}
+
+	/**
+	 * Creates a race of the player against some computer vehicles, placed on the grid behind the player.
+	 */
+	public Race(PhysicsSpace physicsSpace, Renderer renderer, int opponents) {
+		this.physicsSpace = physicsSpace;
+		this.renderer = renderer;
+		loadRoom();
+		loadLapEngine();
+		loadVehicles(opponents);
+		loadGravitation();
+	}
+
+	/**
+	 * Starts the countdown to the start of the race. The vehicles only move, and lose health, after it ends.
+	 */
+	public void start() {
+		raceStartCountdown = new Countdown(scheduler, RACE_START_SECONDS);
+		raceStartCountdown.addObserver(this);
+		raceStartCountdown.start();
+	}
+
+	/**
+	 * Advances the race by some seconds of game time. The physics space is stepped by the caller, at a
+	 * fixed time step so the race runs the same at any frame rate.
+	 */
+	public void update(float timePerFrame) {
+		scheduler.update(timePerFrame);
+		keepVehiclesAwake();
+		if (started) {
+			if (frameProfiler != null) {
+				frameProfiler.start(FramePhase.COMPUTER_VEHICLES);
+				updateComputerVehiclesPosition();
+				frameProfiler.stop(FramePhase.COMPUTER_VEHICLES);
+			} else {
+				updateComputerVehiclesPosition();
+			}
+			lapEngine.update(scheduler.getTime());
+			ghostCar.update((float) (scheduler.getTime() - playerLapProgress.getLapStartTime()));
+			if (replayRecorder != null) {
+				replayRecorder.record(scheduler.getTime());
+			}
+		}
+	}
+
+	/**
+	 * Keeps the vehicles whose throttle is held out of the sleep of the physics.
+	 */
+	private void keepVehiclesAwake() {
+		playerVehicle.keepAwake();
+		for (int vehicle = 0; vehicle < computerVehicles.size(); vehicle++) {
+			computerVehicles.get(vehicle).keepAwake();
+		}
+		for (int vehicle = 0; vehicle < remoteVehicles.size(); vehicle++) {
+			remoteVehicles.get(vehicle).keepAwake();
+		}
+	}
+
+	private void loadRoom() {
+		kidsRoom = new KidsRoom(physicsSpace, renderer);
+		scene.attachChild(kidsRoom);
+	}
+
+	private void loadLapEngine() {
+		lapEngine = new LapEngine(kidsRoom.getRaceTrack().getCheckpoints());
+		lapEngine.addObserver(this);
+	}
+
+	private void loadVehicles(int opponents) {
+		loadPlayerVehicle();
+		traffic = new Traffic(opponents);
+		for (int opponent = 1; opponent <= opponents; opponent++) {
+			loadComputerVehicle(opponent);
+		}
+	}
+
+	private void loadPlayerVehicle() {
+		playerVehicle = new Vehicle(physicsSpace, ColorRGBA.red);
+		playerVehicle.setName("playerVehicle");
+		playerVehicle.setLocalTranslation(kidsRoom.getGridPosition(GridPosition.FIRST));
+		playerVehicle.rotateUponItself(GRID_ROTATION);
+		playerVehicle.addObserver(this);
+		scene.attachChild(playerVehicle);
+		playerLapProgress = lapEngine.addVehicle(playerVehicle);
+		ghostCar = new GhostCar(playerVehicle.getChassis(), GhostLap.getBestLapFile(RaceTrack.TRACK_NAME));
+		scene.attachChild(ghostCar);
+	}
+
+	private void loadComputerVehicle(int gridSlot) {
+		// The initial position uses the Z axis instead of the Y because in a 3D space the X and Z axes
+		// are in the plane of the ground, the Y axis is the "up" and it's used for gravity
+		// (from "Artificial Intelligence for Games" by Ian Millington).
+		Vector3f gridPosition = kidsRoom.getGridPosition(gridSlot);
+		Vector2f initialPosition = new Vector2f(gridPosition.getX(), gridPosition.getZ());
+		computerVehicleHeight = gridPosition.getY();
+		ComputerVehicle computerVehicle = new ComputerVehicle(physicsSpace, initialPosition, ColorRGBA.blue);
+		computerVehicle.setName("computerVehicle" + gridSlot);
+		computerVehicle.setLocalTranslation(gridPosition);
+		computerVehicle.rotateUponItself(GRID_ROTATION);
+		computerVehicle.addObserver(this);
+		scene.attachChild(computerVehicle);
+		computerVehicles.add(computerVehicle);
+		lapEngine.addVehicle(computerVehicle);
+		traffic.add(computerVehicle.getSteering(), new Vector2f(gridPosition.getX(), COMPUTER_VEHICLE_TARGET_Z));
+	}
+
+	/**
+	 * Moves the player vehicle to another slot of the grid, as the slot the race server gave to it.
+	 */
+	public void placePlayerVehicle(int gridSlot) {
+		playerVehicle.setLocalTranslation(kidsRoom.getGridPosition(gridSlot));
+	}
+
+	/**
+	 * Adds a vehicle driven by another player through the network, on a slot of the grid.
+	 */
+	public Vehicle addRemoteVehicle(int gridSlot) {
+		Vehicle remoteVehicle = new Vehicle(physicsSpace, ColorRGBA.blue);
+		remoteVehicle.setName("remoteVehicle" + gridSlot);
+		remoteVehicle.setLocalTranslation(kidsRoom.getGridPosition(gridSlot));
+		remoteVehicle.rotateUponItself(GRID_ROTATION);
+		remoteVehicle.addObserver(this);
+		scene.attachChild(remoteVehicle);
+		remoteVehicles.add(remoteVehicle);
+		lapEngine.addVehicle(remoteVehicle);
+		return remoteVehicle;
+	}
+
+	private void loadGravitation() {
+		physicsSpace.setDirectionalGravity(NORMAL_GRAVITY);
+	}
+
+	/**
+	 * Runs every frame, so the translations of the vehicles are updated in place.
+	 */
+	private void updateComputerVehiclesPosition() {
+		traffic.update();
+		for (int vehicle = 0; vehicle < computerVehicles.size(); vehicle++) {
+			ComputerVehicle computerVehicle = computerVehicles.get(vehicle);
+			Vector2f position = computerVehicle.getCurrentPosition();
+			computerVehicle.getLocalTranslation().set(position.x, computerVehicleHeight, position.y);
+		}
+	}
+
+	/**
+	 * Drains the health of the vehicles driven by players: the player's and the remote ones.
+	 */
+	public void updateVehiclesHealth() {
+		drainHealth(playerVehicle);
+		for (int vehicle = 0; vehicle < remoteVehicles.size(); vehicle++) {
+			drainHealth(remoteVehicles.get(vehicle));
+		}
+	}
+
+	private void drainHealth(Vehicle vehicle) {
+		int health = vehicle.decreaseHealth();
+		commitHealthEvent(vehicle, HEALTH_DRAIN, health);
+		notifyObserversHealthChanged(vehicle, health);
+	}
+
+	/**
+	 * When a vehicle reaches its next checkpoint, its health is recharged.
+	 */
+	public void checkpointReached(LapProgress lapProgress, int checkpoint) {
+		Vehicle vehicle = (Vehicle) lapProgress.getVehicle();
+		CheckpointEvent checkpointEvent = new CheckpointEvent();
+		if (checkpointEvent.shouldCommit()) {
+			checkpointEvent.setVehicle(vehicle.getName());
+			checkpointEvent.setCheckpoint(checkpoint);
+			checkpointEvent.setLaps(lapProgress.getLaps());
+			checkpointEvent.setSplitTime(lapProgress.getSplitTime(checkpoint));
+			checkpointEvent.commit();
+		}
+		int health = vehicle.rechargeHealth(MAX_HEALTH_VALUE);
+		commitHealthEvent(vehicle, HEALTH_RECHARGE, health);
+		notifyObserversHealthChanged(vehicle, health);
+	}
+
+	/**
+	 * The laps of the player are also given to the ghost, which keeps the best one.
+	 */
+	public void lapCompleted(LapProgress lapProgress) {
+		if (lapProgress == playerLapProgress) {
+			ghostCar.lapCompleted((float) lapProgress.getLastLapTime());
+		}
+		for (RaceObserver raceObserver : raceObservers) {
+			raceObserver.lapCompleted(lapProgress);
+		}
+	}
+
+	public void updateTime(Chronometer chronometer, int seconds) {
+		if (chronometer == raceStartCountdown) {
+			for (RaceObserver raceObserver : raceObservers) {
+				raceObserver.raceCountdown(seconds);
+			}
+		} else if (chronometer instanceof HealthChronometer) {
+			for (RaceObserver raceObserver : raceObservers) {
+				raceObserver.healthWait(((HealthChronometer) chronometer).getHealth(), seconds);
+			}
+		}
+	}
+
+	public void timeUP(Chronometer chronometer) {
+		if (chronometer == raceStartCountdown) {
+			startRace();
+		} else if (chronometer instanceof HealthChronometer) {
+			Health health = ((HealthChronometer) chronometer).getHealth();
+			HealthChronometerEvent healthChronometerEvent = new HealthChronometerEvent();
+			if (healthChronometerEvent.shouldCommit()) {
+				healthChronometerEvent.setVehicle(((Vehicle) health).getName());
+				healthChronometerEvent.commit();
+			}
+			for (RaceObserver raceObserver : raceObservers) {
+				raceObserver.healthWaitEnded(health);
+			}
+			int healthValue = health.rechargeHealth(RECHARGE_HEALTH);
+			commitHealthEvent((Vehicle) health, HEALTH_RECHARGE, healthValue);
+			notifyObserversHealthChanged(health, healthValue);
+		}
+	}
+
+	private void startRace() {
+		started = true;
+		lapEngine.start(scheduler.getTime());
+		String replayFile = System.getProperty(ReplayRecorder.REPLAY_FILE_PROPERTY);
+		if (replayFile != null) {
+			startRecording(new File(replayFile));
+		}
+		scheduler.scheduleAtFixedRate(new HealthMonitor(this), HealthMonitor.MONITOR_PERIOD, HealthMonitor.MONITOR_PERIOD);
+		for (RaceObserver raceObserver : raceObservers) {
+			raceObserver.raceStarted();
+		}
+	}
+
+	/**
+	 * Records the race in a replay file from now on. The recording is optional, a failure is only logged.
+	 */
+	public void startRecording(File replayFile) {
+		try {
+			replayRecorder = new ReplayRecorder(replayFile, getVehicles(), ReplayRecorder.DEFAULT_CAPACITY);
+		} catch (IOException e) {
+			LoggingSystem.getLogger().warning("Unable to record the replay " + replayFile + ": " + e.getMessage());
+		}
+	}
+
+	public void stopRecording() {
+		if (replayRecorder != null) {
+			try {
+				replayRecorder.close();
+			} catch (IOException e) {
+				LoggingSystem.getLogger().warning("Unable to close the replay: " + e.getMessage());
+			}
+			replayRecorder = null;
+		}
+	}
+
+	/**
+	 * Starts the wait of a vehicle without health. Each vehicle has its own chronometer, created the
+	 * first time its health ends and restarted afterwards.
+	 */
+	public void healthEnded(Health health) {
+		HealthChronometer healthChronometer = healthChronometers.get(health);
+		if (healthChronometer == null) {
+			healthChronometer = new HealthChronometer(scheduler, WAIT_SECONDS, health);
+			healthChronometer.addObserver(this);
+			healthChronometers.put(health, healthChronometer);
+		}
+		healthChronometer.start();
+	}
+
+	private static void commitHealthEvent(Vehicle vehicle, String change, int health) {
+		HealthEvent healthEvent = new HealthEvent();
+		if (healthEvent.shouldCommit()) {
+			healthEvent.setVehicle(vehicle.getName());
+			healthEvent.setChange(change);
+			healthEvent.setHealth(health);
+			healthEvent.commit();
+		}
+	}
+
+	private void notifyObserversHealthChanged(Health health, int healthValue) {
+		for (RaceObserver raceObserver : raceObservers) {
+			raceObserver.healthChanged(health, healthValue);
+		}
+	}
+
+	public void addObserver(RaceObserver raceObserver) {
+		raceObservers.add(raceObserver);
+	}
+
+	public void removeObserver(RaceObserver raceObserver) {
+		raceObservers.remove(raceObserver);
+	}
+
+	/**
+	 * Measures the update of the computer vehicles with a profiler, none by default.
+	 */
+	public void setFrameProfiler(FrameProfiler frameProfiler) {
+		this.frameProfiler = frameProfiler;
+	}
+
+	public boolean isStarted() {
+		return started;
+	}
+
+	/**
+	 * Returns the game time, in seconds, since the race was created.
+	 */
+	public double getTime() {
+		return scheduler.getTime();
+	}
+
+	public Node getScene() {
+		return scene;
+	}
+
+	public KidsRoom getKidsRoom() {
+		return kidsRoom;
+	}
+
+	public Vehicle getPlayerVehicle() {
+		return playerVehicle;
+	}
+
+	public LapProgress getPlayerLapProgress() {
+		return playerLapProgress;
+	}
+
+	public GhostCar getGhostCar() {
+		return ghostCar;
+	}
+
+	public List<ComputerVehicle> getComputerVehicles() {
+		return computerVehicles;
+	}
+
+	/**
+	 * Returns the vehicles driven by other players through the network, in the order they were added.
+	 */
+	public List<Vehicle> getRemoteVehicles() {
+		return remoteVehicles;
+	}
+
+	/**
+	 * Returns all the vehicles, the player's first, then the computer vehicles and the remote vehicles, in
+	 * the order they are recorded and sent to the clients of a network race.
+	 */
+	public List<Vehicle> getVehicles() {
+		List<Vehicle> vehicles = new ArrayList<Vehicle>();
+		vehicles.add(playerVehicle);
+		vehicles.addAll(computerVehicles);
+		vehicles.addAll(remoteVehicles);
+		return vehicles;
+	}
+
+	/**
+	 * Returns the spatials moved by the physics and the rules every step, parents first: each vehicle,
+	 * its chassis and its wheels, and the ghost car.
+	 */
+	public List<Spatial> getMovingBodies() {
+		List<Spatial> bodies = new ArrayList<Spatial>();
+		for (Vehicle vehicle : getVehicles()) {
+			bodies.add(vehicle);
+			bodies.add(vehicle.getChassis());
+			for (Wheel wheel : vehicle.getWheels()) {
+				bodies.add(wheel.getBody());
+			}
+		}
+		bodies.add(ghostCar);
+		return bodies;
+	}
+
+	/**
+	 * Returns the moving spatials that have models: the chassis and the wheels of the vehicles and the
+	 * ghost car.
+	 */
+	public List<Spatial> getDrawnBodies() {
+		List<Spatial> bodies = new ArrayList<Spatial>();
+		for (Vehicle vehicle : getVehicles()) {
+			bodies.add(vehicle.getChassis());
+			for (Wheel wheel : vehicle.getWheels()) {
+				bodies.add(wheel.getBody());
+			}
+		}
+		bodies.add(ghostCar);
+		return bodies;
+	}
+
+	public LapEngine getLapEngine() {
+		return lapEngine;
+	}
+
+	public GameScheduler getScheduler() {
+		return scheduler;
+	}
+}
@@ -0,0 +1,73 @@
+package net.juniorbl.jtoyracing.core;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.juniorbl.jtoyracing.core.hud.Info;
+import net.juniorbl.jtoyracing.core.lap.LapEngine;
+import net.juniorbl.jtoyracing.core.lap.LapProgress;
+
+/**
+ * Passes the lap, the position and the lap time of the player from the physics thread to the render
+ * thread, triple buffered as the transforms of the bodies: the physics thread writes the back info and
+ * swaps it with the middle one, the render thread swaps its front info with the middle one when a newer
+ * one is there. Only the last info matters, so the render thread never falls behind, and nothing is
+ * allocated per step. The events of the race still go through their queue.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+final class RaceInfoBuffer {
+	private static final int INDEX_MASK = 3;
+	/**
+	 * Set on the middle index when its info wasn't shown yet.
+	 */
+	private static final int FRESH = 4;
+	private RaceInfo[] raceInfos = {new RaceInfo(), new RaceInfo(), new RaceInfo()};
+	private int back;
+	private int front = 1;
+	private AtomicInteger middle = new AtomicInteger(2);
+
+	/**
+	 * Reads the info of the player after a step and publishes it, only by the physics thread.
+	 */
+	void publish(Race race) {
+		raceInfos[back].read(race);
+		back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+	}
+
+	/**
+	 * Shows the last published info, only by the render thread. Nothing is shown until a newer info is
+	 * published.
+	 */
+	void show(Info info) {
+		if ((middle.get() & FRESH) != 0) {
+			front = middle.getAndSet(front) & INDEX_MASK;
+			raceInfos[front].show(info);
+		}
+	}
+
+	/**
+	 * The info of the player at a step.
+	 */
+	private static final class RaceInfo {
+		private int lap;
+		private int position;
+		private int vehicles;
+		private double lapTime;
+
+		void read(Race race) {
+			LapProgress lapProgress = race.getPlayerLapProgress();
+			LapEngine lapEngine = race.getLapEngine();
+			lap = lapProgress.getLaps() + 1;
+			position = lapEngine.getPosition(lapProgress);
+			vehicles = lapEngine.getLapProgresses().size();
+			lapTime = race.getTime() - lapProgress.getLapStartTime();
+		}
+
+		void show(Info info) {
+			info.showLap(lap);
+			info.showPosition(position, vehicles);
+			info.showLapTime(lapTime);
+		}
+	}
+}
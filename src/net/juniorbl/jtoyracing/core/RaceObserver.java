@@ -0,0 +1,25 @@
+package net.juniorbl.jtoyracing.core;
+
+import net.juniorbl.jtoyracing.core.lap.LapProgress;
+import net.juniorbl.jtoyracing.core.monitor.Health;
+
+/**
+ * Define methods to the race observers (Observer pattern), like the information on the screen.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public interface RaceObserver {
+
+	void raceCountdown(int seconds);
+
+	void raceStarted();
+
+	void healthChanged(Health health, int healthValue);
+
+	void healthWait(Health health, int seconds);
+
+	void healthWaitEnded(Health health);
+
+	void lapCompleted(LapProgress lapProgress);
+}
@@ -12,13 +12,20 @@ import com.jmex.audio.AudioTrack;
  */
 public final class AudioConfig {
 	private static final float SOUND_EFFECT_VOLUME = 0.1f;
+	private static boolean soundEffectsEnabled = true;
 	private AudioSystem audioSystem;
 
 	public AudioConfig(Camera camera) {
 		loadAudioSystem(camera);
 	}
 
+	/**
+	 * Loads a looping sound effect. Returns null when the sound effects are disabled.
+	 */
 	public static AudioTrack loadSoundEffect(String effectPath) {
+		if (!soundEffectsEnabled) {
+			return null;
+		}
 		AudioTrack soundEffect = AudioSystem.getSystem().
 			createAudioTrack(AudioConfig.class.getClassLoader().getResource(effectPath), false);
 		soundEffect.setType(AudioTrack.TrackType.ENVIRONMENT);
@@ -28,6 +35,14 @@ public final class AudioConfig {
 		return soundEffect;
 	}
 
+	/**
+	 * Disables the sound effects, used when the game runs without audio device (headless simulation).
+	 * The audio system is never initialized afterwards.
+	 */
+	public static void disableSoundEffects() {
+		soundEffectsEnabled = false;
+	}
+
 	/**
 	 * Loads the audio system of the game. A camera's position is used as a reference.
 	 */
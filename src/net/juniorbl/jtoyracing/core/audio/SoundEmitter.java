@@ -0,0 +1,27 @@
+package net.juniorbl.jtoyracing.core.audio;
+
+import com.jme.math.Vector3f;
+
+/**
+ * An entity that emits a looping sound, such as the engine of a vehicle. It doesn't own the sound,
+ * the {@link VoiceManager} gives it a voice while it's among the audible ones.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public interface SoundEmitter {
+
+	/**
+	 * Returns the world position of the sound, used to find the emitters closest to the ear.
+	 */
+	Vector3f getSoundPosition();
+
+	/**
+	 * Tells whether the sound is on, an emitter that is off never takes a voice.
+	 */
+	boolean isEmittingSound();
+
+	float getSoundVolume();
+
+	float getSoundPitch();
+}
@@ -0,0 +1,103 @@
+package net.juniorbl.jtoyracing.core.audio;
+
+import com.jmex.audio.AudioTrack;
+
+/**
+ * The state the {@link VoiceManager} keeps for an emitter: its distance to the ear, the track it plays
+ * while audible and the volume and pitch last given to the track.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+final class Voice {
+	private SoundEmitter emitter;
+	private int priority;
+	private float distance;
+	private AudioTrack track;
+	private float volume;
+	private float pitch;
+	private float timeSinceUpdate;
+	private boolean selected;
+
+	Voice(SoundEmitter emitter, int priority) {
+		this.emitter = emitter;
+		this.priority = priority;
+	}
+
+	/**
+	 * Tells whether the voice goes before another one: higher priority first, then the closest to the ear.
+	 */
+	boolean isBefore(Voice other) {
+		if (priority != other.priority) {
+			return priority > other.priority;
+		}
+		return distance < other.distance;
+	}
+
+	SoundEmitter getEmitter() {
+		return emitter;
+	}
+
+	float getDistance() {
+		return distance;
+	}
+
+	void setDistance(float distance) {
+		this.distance = distance;
+	}
+
+	/**
+	 * Tells whether the voice is among the audible ones of the current update.
+	 */
+	boolean isSelected() {
+		return selected;
+	}
+
+	void setSelected(boolean selected) {
+		this.selected = selected;
+	}
+
+	AudioTrack getTrack() {
+		return track;
+	}
+
+	/**
+	 * Gives a track to the voice, the volume and pitch are set on the next update.
+	 */
+	void setTrack(AudioTrack track) {
+		this.track = track;
+		volume = -1;
+		pitch = -1;
+		timeSinceUpdate = Float.MAX_VALUE;
+	}
+
+	float getVolume() {
+		return volume;
+	}
+
+	void setVolume(float volume) {
+		this.volume = volume;
+		track.setVolume(volume);
+	}
+
+	float getPitch() {
+		return pitch;
+	}
+
+	void setPitch(float pitch) {
+		this.pitch = pitch;
+		track.setPitch(pitch);
+	}
+
+	/**
+	 * Counts the time since the volume and pitch were checked and returns it.
+	 */
+	float addTimeSinceUpdate(float time) {
+		timeSinceUpdate += time;
+		return timeSinceUpdate;
+	}
+
+	void resetTimeSinceUpdate() {
+		timeSinceUpdate = 0;
+	}
+}
@@ -0,0 +1,196 @@
+package net.juniorbl.jtoyracing.core.audio;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.jme.math.Vector3f;
+import com.jmex.audio.AudioTrack;
+
+/**
+ * Plays the looping sounds of many emitters with a few voices. The tracks are created once and pooled,
+ * every update the emitters are ranked by priority and distance to the ear, the first ones within the
+ * audible distance take a track and the others give theirs back to the pool, stopped.
+ *
+ * The volume fades with the distance, down to silence at the audible distance, so an emitter that is
+ * culled isn't heard going off. The emitters close to the ear are updated every frame, the farther ones
+ * less often, and a track is only changed when its volume or pitch changes enough to be heard.
+ *
+ * The tracks of a sound aren't streamed, the audio system decodes its samples once and shares them.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class VoiceManager {
+	public static final String VOICES_PROPERTY = "jtoyracing.audio.voices";
+	public static final String AUDIBLE_DISTANCE_PROPERTY = "jtoyracing.audio.distance";
+	private static final int DEFAULT_VOICES = 8;
+	private static final String DEFAULT_AUDIBLE_DISTANCE = "150";
+	private static final float FULL_RATE_DISTANCE = 0.25f;
+	private static final float MAX_UPDATE_INTERVAL = 0.25f;
+	private static final float VOLUME_THRESHOLD = 0.01f;
+	private static final float PITCH_THRESHOLD = 0.01f;
+	private List<AudioTrack> freeTracks;
+	private List<Voice> voices = new ArrayList<Voice>();
+	private Voice[] ranking = new Voice[0];
+	private int maxVoices;
+	private float audibleDistance;
+	private int activeVoices;
+
+	/**
+	 * Creates the manager with the pool of tracks of a looping sound, one per voice.
+	 */
+	public VoiceManager(List<AudioTrack> tracks, float audibleDistance) {
+		this.freeTracks = new ArrayList<AudioTrack>(tracks);
+		this.maxVoices = tracks.size();
+		this.audibleDistance = audibleDistance;
+	}
+
+	/**
+	 * Creates the manager of a sound with the voices of the {@value #VOICES_PROPERTY} system property
+	 * and the distance of the {@value #AUDIBLE_DISTANCE_PROPERTY} one. No voice is created when the
+	 * sound effects are disabled.
+	 */
+	public static VoiceManager createDefault(String soundPath) {
+		int voices = Integer.getInteger(VOICES_PROPERTY, DEFAULT_VOICES);
+		List<AudioTrack> tracks = new ArrayList<AudioTrack>();
+		for (int voice = 0; voice < voices; voice++) {
+			AudioTrack track = AudioConfig.loadSoundEffect(soundPath);
+			if (track != null) {
+				tracks.add(track);
+			}
+		}
+		return new VoiceManager(tracks, Float.parseFloat(System.getProperty(AUDIBLE_DISTANCE_PROPERTY,
+				DEFAULT_AUDIBLE_DISTANCE)));
+	}
+
+	/**
+	 * Adds an emitter. The ones with a higher priority take a voice first, whatever their distance.
+	 */
+	public void addEmitter(SoundEmitter emitter, int priority) {
+		voices.add(new Voice(emitter, priority));
+		ranking = new Voice[voices.size()];
+	}
+
+	public void removeEmitter(SoundEmitter emitter) {
+		for (int voice = 0; voice < voices.size(); voice++) {
+			if (voices.get(voice).getEmitter() == emitter) {
+				releaseTrack(voices.remove(voice));
+				ranking = new Voice[voices.size()];
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Gives the voices to the emitters most audible from an ear and updates their sounds.
+	 */
+	public void update(Vector3f earPosition, float timePerFrame) {
+		int audibleVoices = rankAudibleVoices(earPosition);
+		activeVoices = Math.min(audibleVoices, maxVoices);
+		for (int voice = 0; voice < voices.size(); voice++) {
+			voices.get(voice).setSelected(false);
+		}
+		for (int voice = 0; voice < activeVoices; voice++) {
+			ranking[voice].setSelected(true);
+		}
+		for (int voice = 0; voice < voices.size(); voice++) {
+			if (!voices.get(voice).isSelected()) {
+				releaseTrack(voices.get(voice));
+			}
+		}
+		for (int voice = 0; voice < activeVoices; voice++) {
+			if (ranking[voice].getTrack() == null) {
+				takeTrack(ranking[voice]);
+			}
+			updateSound(ranking[voice], timePerFrame);
+		}
+	}
+
+	/**
+	 * Sorts the audible voices at the start of the ranking and returns how many they are. The emitters
+	 * are few, an insertion sort in the same array every update doesn't allocate.
+	 */
+	private int rankAudibleVoices(Vector3f earPosition) {
+		int audibleVoices = 0;
+		for (int index = 0; index < voices.size(); index++) {
+			Voice voice = voices.get(index);
+			voice.setDistance(voice.getEmitter().getSoundPosition().distance(earPosition));
+			if (voice.getEmitter().isEmittingSound() && voice.getDistance() < audibleDistance) {
+				int position = audibleVoices;
+				while (position > 0 && voice.isBefore(ranking[position - 1])) {
+					ranking[position] = ranking[position - 1];
+					position--;
+				}
+				ranking[position] = voice;
+				audibleVoices++;
+			}
+		}
+		return audibleVoices;
+	}
+
+	private void takeTrack(Voice voice) {
+		AudioTrack track = freeTracks.remove(freeTracks.size() - 1);
+		voice.setTrack(track);
+		track.play();
+	}
+
+	private void releaseTrack(Voice voice) {
+		AudioTrack track = voice.getTrack();
+		if (track != null) {
+			track.stop();
+			freeTracks.add(track);
+			voice.setTrack(null);
+		}
+	}
+
+	/**
+	 * Sets the volume and pitch of the emitter to its track, unless they are about the same as before.
+	 */
+	private void updateSound(Voice voice, float timePerFrame) {
+		if (voice.addTimeSinceUpdate(timePerFrame) < getUpdateInterval(voice.getDistance())) {
+			return;
+		}
+		voice.resetTimeSinceUpdate();
+		SoundEmitter emitter = voice.getEmitter();
+		float volume = emitter.getSoundVolume() * (1 - voice.getDistance() / audibleDistance);
+		if (Math.abs(volume - voice.getVolume()) >= VOLUME_THRESHOLD) {
+			voice.setVolume(volume);
+		}
+		float pitch = emitter.getSoundPitch();
+		if (Math.abs(pitch - voice.getPitch()) >= PITCH_THRESHOLD) {
+			voice.setPitch(pitch);
+		}
+	}
+
+	/**
+	 * Returns the time between two updates of an emitter: none in the first quarter of the audible
+	 * distance, growing to {@value #MAX_UPDATE_INTERVAL} seconds at the audible distance.
+	 */
+	private float getUpdateInterval(float distance) {
+		float farness = (distance / audibleDistance - FULL_RATE_DISTANCE) / (1 - FULL_RATE_DISTANCE);
+		return Math.max(0, farness) * MAX_UPDATE_INTERVAL;
+	}
+
+	/**
+	 * Tells whether an emitter was given a voice in the last update.
+	 */
+	public boolean hasVoice(SoundEmitter emitter) {
+		for (int voice = 0; voice < voices.size(); voice++) {
+			if (voices.get(voice).getEmitter() == emitter) {
+				return voices.get(voice).getTrack() != null;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the voices playing since the last update.
+	 */
+	public int getActiveVoices() {
+		return activeVoices;
+	}
+
+	public int getMaxVoices() {
+		return maxVoices;
+	}
+}
@@ -0,0 +1,64 @@
+package net.juniorbl.jtoyracing.core.hud;
+
+import net.juniorbl.jtoyracing.core.profiling.FrameProfiler;
+import net.juniorbl.jtoyracing.enums.FramePhase;
+
+import com.jme.renderer.ColorRGBA;
+import com.jme.scene.Node;
+import com.jme.scene.Text;
+
+/**
+ * Shows the frame profile on the screen, one line per phase from the top of the screen down and the
+ * triangles of the levels of detail at the bottom. It's
+ * hidden at first; while shown, the lines are refreshed twice per second, not to add the garbage of
+ * formatting them to every frame.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public class FrameProfileOverlay extends Node {
+	private static final long serialVersionUID = 4829378213098117723L;
+	private static final float REFRESH_SECONDS = 0.5f;
+	private static final int LINE_HEIGHT = 16;
+	private static final int TOP_MARGIN = 2 * LINE_HEIGHT;
+	private FrameProfiler frameProfiler;
+	private Text[] lines = new Text[FramePhase.values().length + 1];
+	private boolean shown;
+	private float timeSinceRefresh;
+
+	public FrameProfileOverlay(FrameProfiler frameProfiler, int screenHeight) {
+		super("frameProfileOverlay");
+		this.frameProfiler = frameProfiler;
+		for (int line = 0; line < lines.length; line++) {
+			lines[line] = new Text("frameProfileLine" + line, "");
+			lines[line].setTextColor(ColorRGBA.yellow);
+			lines[line].setLocalTranslation(0, screenHeight - TOP_MARGIN - line * LINE_HEIGHT, 0);
+			attachChild(lines[line]);
+		}
+		setCullMode(CULL_ALWAYS);
+	}
+
+	public final void toggle() {
+		shown = !shown;
+		setCullMode(shown ? CULL_INHERIT : CULL_ALWAYS);
+		timeSinceRefresh = REFRESH_SECONDS;
+	}
+
+	public final void update(float timePerFrame) {
+		if (shown) {
+			timeSinceRefresh += timePerFrame;
+			if (timeSinceRefresh >= REFRESH_SECONDS) {
+				timeSinceRefresh = 0;
+				FramePhase[] phases = FramePhase.values();
+				for (int phase = 0; phase < phases.length; phase++) {
+					lines[phase].print(frameProfiler.report(phases[phase]));
+				}
+				lines[phases.length].print(frameProfiler.getTriangleCounter().report());
+			}
+		}
+	}
+
+	public final boolean isShown() {
+		return shown;
+	}
+}
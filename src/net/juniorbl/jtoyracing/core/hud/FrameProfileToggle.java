@@ -0,0 +1,24 @@
+package net.juniorbl.jtoyracing.core.hud;
+
+import com.jme.input.action.InputActionEvent;
+import com.jme.input.action.InputActionInterface;
+
+/**
+ * Shows or hides the frame profile.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public class FrameProfileToggle implements InputActionInterface {
+	private FrameProfileOverlay frameProfileOverlay;
+
+	public FrameProfileToggle(FrameProfileOverlay frameProfileOverlay) {
+		this.frameProfileOverlay = frameProfileOverlay;
+	}
+
+	public final void performAction(InputActionEvent event) {
+		if (event.getTriggerPressed()) {
+			frameProfileOverlay.toggle();
+		}
+	}
+}
@@ -1,25 +1,33 @@
 package net.juniorbl.jtoyracing.core.hud;
 
 import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
 
 import net.juniorbl.jtoyracing.enums.ResourcesPath;
+import net.juniorbl.jtoyracing.util.TextureAtlas;
 
 import com.jme.image.Texture;
+import com.jme.math.Vector2f;
 import com.jme.math.Vector3f;
 import com.jme.renderer.ColorRGBA;
 import com.jme.renderer.Renderer;
 import com.jme.scene.Node;
 import com.jme.scene.Text;
-import com.jme.scene.shape.Quad;
+import com.jme.scene.TriMesh;
 import com.jme.scene.state.AlphaState;
 import com.jme.scene.state.LightState;
 import com.jme.scene.state.TextureState;
-import com.jme.util.TextureManager;
 import com.jme.util.geom.BufferUtils;
 
 /**
  * Responsible for put the information on the screen.
  *
+ * The health symbol, the bar borders and the health bar are the quads of a single mesh textured by an
+ * atlas of their images, so they are drawn at once with one texture state. A new health value rewrites
+ * the texture coordinates of the bar in the buffer of the mesh. The texts (message, lap, position and
+ * timer) are written in their own buffers and share the font state of the node they are attached to,
+ * so the HUD doesn't allocate while the race runs and more texts don't add state changes.
+ *
  * Note: part of the creation of this bar was extracted from JMonkeyEngine documentation.
  *
  * @version 1.0 Oct 16, 2007
@@ -27,36 +35,50 @@ import com.jme.util.geom.BufferUtils;
  */
 public class Info extends Node {
 	private static final long serialVersionUID = -7326797374588827635L;
-	private static final float HEALTH_SYMBOL_HEIGHT = 40f;
-	private static final float HEALTH_SYMBOL_WIDTH = 40f;
-	private static final Vector3f TEXT_INFO_LOCATION = new Vector3f(0, 85, 0);
-	private static final Vector3f HEALTH_BAR_LOCATION = new Vector3f(80, 65, 0);
-	private static final int BAR_BORDER_WIDTH = 96;
-	private static final int BAR_BORDER_HEIGHT = 13;
-	private static final int HEALTH_BAR_WIDTH = 94;
-	private static final int HEALTH_BAR_HEIGHT = 11;
+	private static final String HEALTH_SYMBOL_IMAGE = ResourcesPath.IMAGES_PATH + "healthSymbol.png";
+	private static final String HEALTH_BAR_IMAGE = ResourcesPath.IMAGES_PATH + "healthBar.png";
+	private static final Vector2f HEALTH_SYMBOL_SIZE = new Vector2f(40, 40);
 	private static final Vector3f HEALTH_SYMBOL_LOCATION = new Vector3f(25, 55, 0);
+	private static final Vector2f BAR_BORDER_SIZE = new Vector2f(96, 13);
+	private static final Vector2f HEALTH_BAR_SIZE = new Vector2f(94, 11);
+	private static final Vector3f HEALTH_BAR_LOCATION = new Vector3f(80, 65, 0);
+	private static final Vector3f TEXT_INFO_LOCATION = new Vector3f(0, 85, 0);
+	private static final Vector3f LAP_LOCATION = new Vector3f(0, 105, 0);
+	private static final Vector3f POSITION_LOCATION = new Vector3f(0, 125, 0);
+	private static final Vector3f TIMER_LOCATION = new Vector3f(0, 145, 0);
 	private static final int BAR_FIRST_PIXEL = 53;
 	private static final int BAR_LAST_PIXEL = 63;
-	private Quad healthSymbol;
-	private Quad barBorders;
-	private Quad healthBar;
+	private static final int HEALTH_SYMBOL_QUAD = 0;
+	private static final int BAR_BORDER_QUAD = 1;
+	private static final int HEALTH_BAR_QUAD = 2;
+	private static final int QUADS = 3;
+	private static final int QUAD_VERTICES = 4;
+	private static final int[] QUAD_INDICES = {0, 1, 2, 0, 2, 3};
+	private static final int SECONDS_PER_MINUTE = 60;
+	private static final int TENTHS_PER_SECOND = 10;
+	private static final int TWO_DIGITS = 10;
+	private TriMesh hudQuads;
+	private FloatBuffer textureCoordinates;
+	private TextureAtlas atlas;
+	private Vector2f topLeft = new Vector2f();
+	private Vector2f bottomRight = new Vector2f();
 	private Text textInfo;
-	private Node healthBarNode;
+	private Text lapText;
+	private Text positionText;
+	private Text timerText;
 	private int maxHealthBarValue;
-	private int healthBarTextureHeight;
+	private int healthBarValue = -1;
+	private int lap = -1;
+	private int position = -1;
+	private int timerTenths = -1;
 
 	/**
 	 * Info uses a renderer to create texture and alpha states. A vehicle's health is used in the health bar.
 	 */
 	public Info(Renderer renderer, Integer vehicleHealth) {
 		this.maxHealthBarValue = vehicleHealth;
-		TextureState healthSymbolTextureState = loadTextureState(renderer.createTextureState(),
-				ResourcesPath.IMAGES_PATH + "healthSymbol.png");
-		createHealthSymbol(healthSymbolTextureState);
-		TextureState healthTextureState = loadTextureState(renderer.createTextureState(),
-				ResourcesPath.IMAGES_PATH + "healthBar.png");
-		createHealthBar(healthTextureState);
+		atlas = new TextureAtlas(HEALTH_SYMBOL_IMAGE, HEALTH_BAR_IMAGE);
+		createHudQuads(loadTextureState(renderer.createTextureState()));
 		createTransparency(renderer.createAlphaState());
 		//FIXME the use of "10" below is because the bar doesn't fill entirely.
 		setHealthBarValue(vehicleHealth + 10);
@@ -64,55 +86,149 @@ public class Info extends Node {
 	}
 
 	private void startTextInformation() {
-		textInfo = new Text("textNode", "");
-		textInfo.setTextColor(ColorRGBA.red);
-		textInfo.setLocalTranslation(TEXT_INFO_LOCATION);
-		this.attachChild(textInfo);
+		textInfo = createText("textNode", TEXT_INFO_LOCATION);
+		lapText = createText("lapText", LAP_LOCATION);
+		positionText = createText("positionText", POSITION_LOCATION);
+		timerText = createText("timerText", TIMER_LOCATION);
+	}
+
+	/**
+	 * The texts have no texture state, they take the font of the node Info is attached to.
+	 */
+	private Text createText(String name, Vector3f location) {
+		Text text = new Text(name, "");
+		text.setTextColor(ColorRGBA.red);
+		text.setLocalTranslation(location);
+		this.attachChild(text);
+		return text;
 	}
 
+	/**
+	 * Prints a message, unless it's already the one on the screen.
+	 */
 	public final void printMessage(String message) {
-		textInfo.print(message);
+		if (!message.contentEquals(textInfo.getText())) {
+			textInfo.print(message);
+		}
 	}
 
 	/**
-	 * Creates the health bar. This bar shows the amount of health each car has available for the race
-	 * at some moment.
+	 * Prints a message with a number in the middle, such as a countdown, without building a string.
 	 */
-	private void createHealthBar(TextureState textureState) {
-		healthBarNode = new Node();
-		healthBarNode.setRenderQueueMode(Renderer.QUEUE_ORTHO);
-		healthBarNode.setLocalTranslation(HEALTH_BAR_LOCATION);
-		healthBarNode.setLightCombineMode(LightState.OFF);
-		healthBarNode.updateRenderState();
-		healthBarNode.setRenderState(textureState);
-
-		int healthBarTextureWidth = textureState.getTexture().getImage().getWidth();
-		healthBarTextureHeight = textureState.getTexture().getImage().getHeight();
-
-		barBorders = new Quad("barBorder", new Float(BAR_BORDER_WIDTH), new Float(BAR_BORDER_HEIGHT));
-		healthBar = new Quad("bar", new Float(HEALTH_BAR_WIDTH), new Float(HEALTH_BAR_HEIGHT));
-
-		healthBarNode.attachChild(barBorders);
-		healthBarNode.attachChild(healthBar);
-		barBorders.setTextureBuffer(0, createTextureCoordinates(BAR_BORDER_WIDTH, BAR_BORDER_HEIGHT,
-				healthBarTextureWidth, healthBarTextureHeight));
-	}
-
-	private TextureState loadTextureState(TextureState textureState, String imagePath) {
-		textureState.setTexture(TextureManager.loadTexture(getClass()
-				.getClassLoader().getResource(imagePath),
-				Texture.MM_LINEAR, Texture.FM_LINEAR, 1.0f, true));
-		textureState.setEnabled(true);
-		return textureState;
+	public final void printMessage(String prefix, int value, String suffix) {
+		StringBuffer text = textInfo.getText();
+		text.setLength(0);
+		text.append(prefix).append(value).append(suffix);
+	}
+
+	/**
+	 * Shows the lap the vehicle is driving, starting at 1.
+	 */
+	public final void showLap(int currentLap) {
+		if (currentLap != lap) {
+			lap = currentLap;
+			StringBuffer text = lapText.getText();
+			text.setLength(0);
+			text.append("Lap ").append(lap);
+		}
 	}
 
-	private FloatBuffer createTextureCoordinates(int imageWidth, int imageHeight, int textureWidth, int textureHeight) {
-		FloatBuffer textureCoordinates = BufferUtils.createVector2Buffer(4);
-		textureCoordinates.put((float) 0 / textureWidth).put(1f - (float) 0 / textureHeight);
-		textureCoordinates.put((float) 0 / textureWidth).put(1f - (float) imageHeight / textureHeight);
-		textureCoordinates.put((float) imageWidth / textureWidth).put(1f - (float) imageHeight / textureHeight);
-		textureCoordinates.put((float) imageWidth / textureWidth).put(1f - (float) 0 / textureHeight);
-		return textureCoordinates;
+	/**
+	 * Shows the position of the vehicle among the vehicles of the race.
+	 */
+	public final void showPosition(int currentPosition, int vehicles) {
+		if (currentPosition != position) {
+			position = currentPosition;
+			StringBuffer text = positionText.getText();
+			text.setLength(0);
+			text.append("Position ").append(position).append('/').append(vehicles);
+		}
+	}
+
+	/**
+	 * Shows the time of the current lap as minutes, seconds and tenths. The text only changes when
+	 * the tenths do.
+	 */
+	public final void showLapTime(double lapTime) {
+		int tenths = (int) (lapTime * TENTHS_PER_SECOND);
+		if (tenths != timerTenths) {
+			timerTenths = tenths;
+			int seconds = tenths / TENTHS_PER_SECOND;
+			StringBuffer text = timerText.getText();
+			text.setLength(0);
+			text.append("Time ");
+			appendTwoDigits(text, seconds / SECONDS_PER_MINUTE);
+			text.append(':');
+			appendTwoDigits(text, seconds % SECONDS_PER_MINUTE);
+			text.append('.').append(tenths % TENTHS_PER_SECOND);
+		}
+	}
+
+	private static void appendTwoDigits(StringBuffer text, int value) {
+		if (value < TWO_DIGITS) {
+			text.append('0');
+		}
+		text.append(value);
+	}
+
+	/**
+	 * Creates the health symbol and the health bar, which shows the amount of health each car has
+	 * available for the race at some moment. The three quads are a single mesh.
+	 */
+	private void createHudQuads(TextureState textureState) {
+		FloatBuffer vertices = BufferUtils.createVector3Buffer(QUADS * QUAD_VERTICES);
+		putQuad(vertices, HEALTH_SYMBOL_LOCATION, HEALTH_SYMBOL_SIZE);
+		putQuad(vertices, HEALTH_BAR_LOCATION, BAR_BORDER_SIZE);
+		putQuad(vertices, HEALTH_BAR_LOCATION, HEALTH_BAR_SIZE);
+		IntBuffer indices = BufferUtils.createIntBuffer(QUADS * QUAD_INDICES.length);
+		for (int quad = 0; quad < QUADS; quad++) {
+			for (int index : QUAD_INDICES) {
+				indices.put(quad * QUAD_VERTICES + index);
+			}
+		}
+		textureCoordinates = BufferUtils.createVector2Buffer(QUADS * QUAD_VERTICES);
+		topLeft.set(atlas.getU(HEALTH_SYMBOL_IMAGE, 0), atlas.getV(HEALTH_SYMBOL_IMAGE, 0));
+		bottomRight.set(atlas.getU(HEALTH_SYMBOL_IMAGE, HEALTH_SYMBOL_SIZE.x), atlas.getV(HEALTH_SYMBOL_IMAGE, HEALTH_SYMBOL_SIZE.y));
+		putTextureCoordinates(HEALTH_SYMBOL_QUAD);
+		topLeft.set(atlas.getU(HEALTH_BAR_IMAGE, 0), atlas.getV(HEALTH_BAR_IMAGE, 0));
+		bottomRight.set(atlas.getU(HEALTH_BAR_IMAGE, BAR_BORDER_SIZE.x), atlas.getV(HEALTH_BAR_IMAGE, BAR_BORDER_SIZE.y));
+		putTextureCoordinates(BAR_BORDER_QUAD);
+
+		hudQuads = new TriMesh("hudQuads", vertices, null, null, textureCoordinates, indices);
+		hudQuads.setRenderQueueMode(Renderer.QUEUE_ORTHO);
+		hudQuads.setLightCombineMode(LightState.OFF);
+		hudQuads.setRenderState(textureState);
+	}
+
+	/**
+	 * Puts the corners of a quad in the order of the JMonkeyEngine quads: top left, bottom left, bottom
+	 * right and top right.
+	 */
+	private void putQuad(FloatBuffer vertices, Vector3f center, Vector2f size) {
+		float halfWidth = size.x / 2;
+		float halfHeight = size.y / 2;
+		vertices.put(center.x - halfWidth).put(center.y + halfHeight).put(center.z);
+		vertices.put(center.x - halfWidth).put(center.y - halfHeight).put(center.z);
+		vertices.put(center.x + halfWidth).put(center.y - halfHeight).put(center.z);
+		vertices.put(center.x + halfWidth).put(center.y + halfHeight).put(center.z);
+	}
+
+	/**
+	 * Writes the atlas coordinates between topLeft and bottomRight to the corners of a quad.
+	 */
+	private void putTextureCoordinates(int quad) {
+		textureCoordinates.position(quad * QUAD_VERTICES * 2);
+		textureCoordinates.put(topLeft.x).put(topLeft.y);
+		textureCoordinates.put(topLeft.x).put(bottomRight.y);
+		textureCoordinates.put(bottomRight.x).put(bottomRight.y);
+		textureCoordinates.put(bottomRight.x).put(topLeft.y);
+		textureCoordinates.rewind();
+	}
+
+	private TextureState loadTextureState(TextureState textureState) {
+		textureState.setTexture(atlas.loadTexture(Texture.MM_LINEAR, Texture.FM_LINEAR));
+		textureState.setEnabled(true);
+		return textureState;
 	}
 
 	/**
@@ -125,40 +241,28 @@ public class Info extends Node {
 		alphaState.setTestEnabled(false);
 		alphaState.setEnabled(true);
 		this.setRenderState(alphaState);
-
-		healthBarNode.setRenderState(alphaState);
-		healthBarNode.updateRenderState();
-		this.attachChild(healthBarNode);
-	}
-
-	private void createHealthSymbol(TextureState textureState) {
-		healthSymbol = new Quad("hud", HEALTH_SYMBOL_WIDTH, HEALTH_SYMBOL_HEIGHT);
-		healthSymbol.setRenderQueueMode(Renderer.QUEUE_ORTHO);
-		healthSymbol.setLocalTranslation(HEALTH_SYMBOL_LOCATION);
-		healthSymbol.setLightCombineMode(LightState.OFF);
-		healthSymbol.updateRenderState();
-		healthSymbol.setRenderState(textureState);
-		int healthSymbolTextureWidth = textureState.getTexture().getImage().getWidth();
-		int healthSymbolTextureHeight = textureState.getTexture().getImage().getHeight();
-		healthSymbol.setTextureBuffer(0,
-				createTextureCoordinates((int) HEALTH_SYMBOL_WIDTH, (int) HEALTH_SYMBOL_HEIGHT,
-						healthSymbolTextureWidth, healthSymbolTextureHeight));
-		this.attachChild(healthSymbol);
+		this.attachChild(hudQuads);
+		hudQuads.updateRenderState();
 	}
 
+	/**
+	 * Moves the health bar to a value, nothing is done when the bar already shows it.
+	 */
 	public final void setHealthBarValue(int healthValue) {
 		int desiredHealth = healthValue;
 		desiredHealth %= (int) maxHealthBarValue;
-		FloatBuffer coordinates = BufferUtils.createVector2Buffer(4);
-		calculateContentLocation(desiredHealth, coordinates);
+		if (desiredHealth != healthBarValue) {
+			healthBarValue = desiredHealth;
+			calculateContentLocation(desiredHealth);
+		}
 	}
 
-	private void calculateContentLocation(int desiredHealth, FloatBuffer coordinates) {
+	private void calculateContentLocation(int desiredHealth) {
 		float relCoord = 0.5f - ((float) desiredHealth / maxHealthBarValue) * 0.5f;
-		coordinates.put(relCoord).put(1f - (float) BAR_FIRST_PIXEL / healthBarTextureHeight);
-		coordinates.put(relCoord).put(1f - (float) BAR_LAST_PIXEL / healthBarTextureHeight);
-		coordinates.put(relCoord + 0.5f).put(1f - (float) BAR_LAST_PIXEL / healthBarTextureHeight);
-		coordinates.put(relCoord + 0.5f).put(1f - (float) BAR_FIRST_PIXEL / healthBarTextureHeight);
-		healthBar.setTextureBuffer(0, coordinates);
+		int healthBarTextureWidth = atlas.getImageWidth(HEALTH_BAR_IMAGE);
+		topLeft.set(atlas.getU(HEALTH_BAR_IMAGE, relCoord * healthBarTextureWidth), atlas.getV(HEALTH_BAR_IMAGE, BAR_FIRST_PIXEL));
+		bottomRight.set(atlas.getU(HEALTH_BAR_IMAGE, (relCoord + 0.5f) * healthBarTextureWidth),
+				atlas.getV(HEALTH_BAR_IMAGE, BAR_LAST_PIXEL));
+		putTextureCoordinates(HEALTH_BAR_QUAD);
 	}
 }
@@ -0,0 +1,110 @@
+package net.juniorbl.jtoyracing.core.lap;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.jme.bounding.BoundingVolume;
+import com.jme.scene.Spatial;
+
+/**
+ * Counts the laps of the vehicles. The checkpoints of a track must be reached in order and the last
+ * one closes the lap, so each vehicle is only tested against the checkpoint it must reach next: one
+ * intersection per vehicle per tick, whatever the number of checkpoints.
+ *
+ * It runs every tick so a fast vehicle doesn't cross a checkpoint between two tests.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class LapEngine {
+	private List<? extends Spatial> checkpoints;
+	private List<LapProgress> lapProgresses = new ArrayList<LapProgress>();
+	private List<LapObserver> lapObservers = new ArrayList<LapObserver>();
+
+	/**
+	 * Creates the engine for the checkpoints of a track, in the order they must be reached.
+	 */
+	public LapEngine(List<? extends Spatial> checkpoints) {
+		this.checkpoints = checkpoints;
+	}
+
+	public LapProgress addVehicle(Spatial vehicle) {
+		LapProgress lapProgress = new LapProgress(vehicle, checkpoints.size());
+		lapProgresses.add(lapProgress);
+		return lapProgress;
+	}
+
+	/**
+	 * Starts the first lap of every vehicle.
+	 */
+	public void start(double time) {
+		for (int vehicle = 0; vehicle < lapProgresses.size(); vehicle++) {
+			lapProgresses.get(vehicle).startLap(time);
+		}
+	}
+
+	/**
+	 * Tests each vehicle against its next checkpoint, with the world bounds of the last scene update.
+	 */
+	public void update(double time) {
+		for (int vehicle = 0; vehicle < lapProgresses.size(); vehicle++) {
+			LapProgress lapProgress = lapProgresses.get(vehicle);
+			int checkpoint = lapProgress.getNextCheckpoint();
+			if (isReached(lapProgress.getVehicle(), checkpoints.get(checkpoint))) {
+				boolean lapCompleted = lapProgress.reachNextCheckpoint(time);
+				notifyObserversCheckpointReached(lapProgress, checkpoint);
+				if (lapCompleted) {
+					notifyObserversLapCompleted(lapProgress);
+				}
+			}
+		}
+	}
+
+	private boolean isReached(Spatial vehicle, Spatial checkpoint) {
+		BoundingVolume vehicleBound = vehicle.getWorldBound();
+		BoundingVolume checkpointBound = checkpoint.getWorldBound();
+		return vehicleBound != null && checkpointBound != null && vehicleBound.intersects(checkpointBound);
+	}
+
+	private void notifyObserversCheckpointReached(LapProgress lapProgress, int checkpoint) {
+		for (LapObserver lapObserver : lapObservers) {
+			lapObserver.checkpointReached(lapProgress, checkpoint);
+		}
+	}
+
+	private void notifyObserversLapCompleted(LapProgress lapProgress) {
+		for (LapObserver lapObserver : lapObservers) {
+			lapObserver.lapCompleted(lapProgress);
+		}
+	}
+
+	/**
+	 * Returns the position of a vehicle in the race, starting at 1. Vehicles tied at the same checkpoint
+	 * at the same time share the position.
+	 */
+	public int getPosition(LapProgress lapProgress) {
+		int position = 1;
+		for (int vehicle = 0; vehicle < lapProgresses.size(); vehicle++) {
+			if (lapProgresses.get(vehicle).isAheadOf(lapProgress)) {
+				position++;
+			}
+		}
+		return position;
+	}
+
+	public void addObserver(LapObserver lapObserver) {
+		lapObservers.add(lapObserver);
+	}
+
+	public void removeObserver(LapObserver lapObserver) {
+		lapObservers.remove(lapObserver);
+	}
+
+	public List<LapProgress> getLapProgresses() {
+		return lapProgresses;
+	}
+
+	public int getCheckpointCount() {
+		return checkpoints.size();
+	}
+}
@@ -0,0 +1,14 @@
+package net.juniorbl.jtoyracing.core.lap;
+
+/**
+ * Define methods to the lap observers (Observer pattern).
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public interface LapObserver {
+
+	void checkpointReached(LapProgress lapProgress, int checkpoint);
+
+	void lapCompleted(LapProgress lapProgress);
+}
@@ -0,0 +1,124 @@
+package net.juniorbl.jtoyracing.core.lap;
+
+import com.jme.scene.Spatial;
+
+/**
+ * The progress of a vehicle in the race: the next checkpoint it must reach, the completed laps and
+ * the times. The times are in seconds of game time.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class LapProgress {
+	private Spatial vehicle;
+	private int nextCheckpoint;
+	private int laps;
+	private double lapStartTime;
+	private double lastCheckpointTime;
+	private double[] splitTimes;
+	private double lastLapTime;
+	private double bestLapTime;
+
+	LapProgress(Spatial vehicle, int checkpoints) {
+		this.vehicle = vehicle;
+		this.splitTimes = new double[checkpoints];
+	}
+
+	/**
+	 * Copies the progress of a vehicle as it is now, for a thread other than the one of the race.
+	 */
+	public LapProgress(LapProgress lapProgress) {
+		vehicle = lapProgress.vehicle;
+		nextCheckpoint = lapProgress.nextCheckpoint;
+		laps = lapProgress.laps;
+		lapStartTime = lapProgress.lapStartTime;
+		lastCheckpointTime = lapProgress.lastCheckpointTime;
+		splitTimes = lapProgress.splitTimes.clone();
+		lastLapTime = lapProgress.lastLapTime;
+		bestLapTime = lapProgress.bestLapTime;
+	}
+
+	void startLap(double time) {
+		lapStartTime = time;
+		lastCheckpointTime = time;
+		nextCheckpoint = 0;
+	}
+
+	/**
+	 * Records the time of the next checkpoint. Returns true when it closes the lap, then a new lap starts.
+	 */
+	boolean reachNextCheckpoint(double time) {
+		double splitTime = time - lapStartTime;
+		splitTimes[nextCheckpoint] = splitTime;
+		lastCheckpointTime = time;
+		nextCheckpoint++;
+		if (nextCheckpoint < splitTimes.length) {
+			return false;
+		}
+		laps++;
+		lastLapTime = splitTime;
+		if (laps == 1 || lastLapTime < bestLapTime) {
+			bestLapTime = lastLapTime;
+		}
+		startLap(time);
+		return true;
+	}
+
+	/**
+	 * Tells whether the vehicle is ahead of another one: more laps, then more checkpoints of the lap,
+	 * then the last checkpoint reached earlier.
+	 */
+	boolean isAheadOf(LapProgress other) {
+		if (laps != other.laps) {
+			return laps > other.laps;
+		}
+		if (nextCheckpoint != other.nextCheckpoint) {
+			return nextCheckpoint > other.nextCheckpoint;
+		}
+		return lastCheckpointTime < other.lastCheckpointTime;
+	}
+
+	public Spatial getVehicle() {
+		return vehicle;
+	}
+
+	/**
+	 * Returns the time the current lap started.
+	 */
+	public double getLapStartTime() {
+		return lapStartTime;
+	}
+
+	/**
+	 * Returns the index of the checkpoint the vehicle must reach next, in the order of the track.
+	 */
+	public int getNextCheckpoint() {
+		return nextCheckpoint;
+	}
+
+	public int getLaps() {
+		return laps;
+	}
+
+	/**
+	 * Returns the time from the start of the lap to the last time the vehicle reached a checkpoint.
+	 * The checkpoints not reached yet in the current lap keep the time of the previous lap.
+	 */
+	public double getSplitTime(int checkpoint) {
+		return splitTimes[checkpoint];
+	}
+
+	/**
+	 * Returns the time of the last completed lap, zero before the first one.
+	 */
+	public double getLastLapTime() {
+		return lastLapTime;
+	}
+
+	/**
+	 * Returns the time of the fastest completed lap, zero before the first one.
+	 */
+	public double getBestLapTime() {
+		return bestLapTime;
+	}
+}
@@ -0,0 +1,68 @@
+package net.juniorbl.jtoyracing.core.loading;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import net.juniorbl.jtoyracing.util.ModelUtil;
+import net.juniorbl.jtoyracing.util.TextureUtil;
+
+import com.jme.renderer.Renderer;
+
+/**
+ * Loads the assets of the game in parallel before the scene is built. The CPU heavy part of the
+ * loading (conversion and import of the models, decoding of the images) runs on a fork-join pool,
+ * the render thread only creates the textures and attaches the models to the scene afterwards.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class AssetLoader {
+	private ForkJoinPool pool;
+	private List<ForkJoinTask<?>> tasks = new ArrayList<ForkJoinTask<?>>();
+
+	/**
+	 * The renderer is used to initialize its texture states on the render thread, the first texture
+	 * state created queries the capabilities of the OpenGL context, which only that thread has.
+	 */
+	public AssetLoader(Renderer renderer) {
+		renderer.createTextureState();
+		pool = new ForkJoinPool();
+	}
+
+	public void preloadModel(final String modelPath) {
+		tasks.add(pool.submit(new Runnable() {
+			public void run() {
+				ModelUtil.preloadOBJ(modelPath);
+			}
+		}));
+	}
+
+	public void preloadImage(final String imagePath) {
+		tasks.add(pool.submit(new Runnable() {
+			public void run() {
+				TextureUtil.preloadImage(imagePath);
+			}
+		}));
+	}
+
+	/**
+	 * Waits until every asset is loaded and releases the threads of the pool. An error in any of
+	 * the loads is thrown again here.
+	 */
+	public void awaitPreloading() {
+		try {
+			for (ForkJoinTask<?> task : tasks) {
+				task.join();
+			}
+		} finally {
+			tasks.clear();
+			pool.shutdown();
+		}
+	}
+
+	public int getParallelism() {
+		return pool.getParallelism();
+	}
+}
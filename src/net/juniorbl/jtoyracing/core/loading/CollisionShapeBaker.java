@@ -0,0 +1,32 @@
+package net.juniorbl.jtoyracing.core.loading;
+
+import java.util.logging.Level;
+
+import net.juniorbl.jtoyracing.entity.environment.RaceTrack;
+import net.juniorbl.jtoyracing.util.CollisionShapes;
+
+import com.jme.system.dummy.DummyDisplaySystem;
+import com.jme.util.LoggingSystem;
+
+/**
+ * Fits the collision shapes of the race track and stores them in the model cache, run by the
+ * "bake_collision" target. The game finds them there and doesn't fit them on its first launch.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class CollisionShapeBaker {
+
+	/**
+	 * Prevents this class from being instantiated.
+	 */
+	private CollisionShapeBaker() { }
+
+	public static void main(String[] args) {
+		LoggingSystem.getLogger().setLevel(Level.WARNING);
+		// the textures of the models are loaded with a renderer
+		new DummyDisplaySystem();
+		CollisionShapes trackShapes = RaceTrack.bakeCollisionShapes();
+		System.out.println("raceTrack: " + trackShapes.getBoxCount() + " boxes");
+	}
+}
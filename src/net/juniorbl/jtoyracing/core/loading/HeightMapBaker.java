@@ -0,0 +1,31 @@
+package net.juniorbl.jtoyracing.core.loading;
+
+import java.io.File;
+import java.io.IOException;
+
+import net.juniorbl.jtoyracing.util.BakedHeightMap;
+
+import com.jmex.terrain.util.MidPointHeightMap;
+
+/**
+ * Generates the height map of the floor of the room and bakes it to the file given as argument, run by
+ * the "bake_floor_height_map" target. The floor is the same on every launch afterwards.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class HeightMapBaker {
+	private static final int FLOOR_SIZE = 32;
+	private static final float FLOOR_ROUGHNESS = 5f;
+
+	/**
+	 * Prevents this class from being instantiated.
+	 */
+	private HeightMapBaker() { }
+
+	public static void main(String[] args) throws IOException {
+		File heightMapFile = new File(args[0]);
+		BakedHeightMap.bake(new MidPointHeightMap(FLOOR_SIZE, FLOOR_ROUGHNESS), heightMapFile);
+		System.out.println("floor: " + heightMapFile.length() + " bytes");
+	}
+}
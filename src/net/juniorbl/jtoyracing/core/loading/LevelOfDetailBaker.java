@@ -0,0 +1,37 @@
+package net.juniorbl.jtoyracing.core.loading;
+
+import java.util.logging.Level;
+
+import net.juniorbl.jtoyracing.entity.environment.KidsRoom;
+import net.juniorbl.jtoyracing.util.LodNode;
+
+import com.jme.system.dummy.DummyDisplaySystem;
+import com.jme.util.LoggingSystem;
+
+/**
+ * Makes the levels of detail of the room objects and stores them in the model cache, run by the
+ * "bake_lods" target. The game finds them there and doesn't simplify the models on its first launch.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class LevelOfDetailBaker {
+
+	/**
+	 * Prevents this class from being instantiated.
+	 */
+	private LevelOfDetailBaker() { }
+
+	public static void main(String[] args) {
+		LoggingSystem.getLogger().setLevel(Level.WARNING);
+		// the textures of the models are loaded with a renderer
+		new DummyDisplaySystem();
+		for (LodNode model : KidsRoom.bakeLevelsOfDetail()) {
+			StringBuilder levels = new StringBuilder(model.getName()).append(':');
+			for (int level = 0; level < model.getLevels(); level++) {
+				levels.append(' ').append(model.getTriangles(level));
+			}
+			System.out.println(levels.append(" triangles"));
+		}
+	}
+}
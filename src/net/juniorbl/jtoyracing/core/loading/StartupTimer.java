@@ -0,0 +1,57 @@
+package net.juniorbl.jtoyracing.core.loading;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Measures the wall time of each phase of the game startup.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class StartupTimer {
+	private static final double NANOS_PER_MILLI = 1000000d;
+	private Map<String, Long> phaseDurations = new LinkedHashMap<String, Long>();
+	private String currentPhase;
+	private long phaseStart;
+	private long startupStart;
+
+	public StartupTimer() {
+		startupStart = System.nanoTime();
+	}
+
+	/**
+	 * Starts a phase, finishing the current one.
+	 */
+	public void startPhase(String phase) {
+		finishPhase();
+		currentPhase = phase;
+		phaseStart = System.nanoTime();
+	}
+
+	public void finishPhase() {
+		if (currentPhase != null) {
+			phaseDurations.put(currentPhase, System.nanoTime() - phaseStart);
+			currentPhase = null;
+		}
+	}
+
+	public long getPhaseDuration(String phase) {
+		Long duration = phaseDurations.get(phase);
+		return duration == null ? 0 : duration;
+	}
+
+	public String report() {
+		finishPhase();
+		StringBuilder report = new StringBuilder("Startup time:");
+		for (Map.Entry<String, Long> phase : phaseDurations.entrySet()) {
+			report.append("\n  ").append(phase.getKey()).append(": ").append(toMillis(phase.getValue())).append(" ms");
+		}
+		report.append("\n  total: ").append(toMillis(System.nanoTime() - startupStart)).append(" ms");
+		return report.toString();
+	}
+
+	private static double toMillis(long nanos) {
+		return Math.round(nanos / NANOS_PER_MILLI * 10) / 10d;
+	}
+}
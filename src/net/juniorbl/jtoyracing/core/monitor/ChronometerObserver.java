@@ -1,14 +1,15 @@
 package net.juniorbl.jtoyracing.core.monitor;
 
 /**
- * Define methods to the chronometer observers (Observer pattern).
+ * Define methods to the chronometer observers (Observer pattern). The chronometer that notifies is
+ * informed, so one observer can follow several chronometers.
  *
- * @version 1.0 Dec 22, 2007
+ * @version 1.1 Oct 18, 2026
  * @author Carlos Luz Junior
  */
 public interface ChronometerObserver {
 
-	void updateTime(int time);
+	void updateTime(Chronometer chronometer, int time);
 
-	void timeUP();
+	void timeUP(Chronometer chronometer);
 }
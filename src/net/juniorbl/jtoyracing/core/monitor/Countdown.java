@@ -0,0 +1,94 @@
+package net.juniorbl.jtoyracing.core.monitor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.juniorbl.jtoyracing.core.scheduler.GameScheduler;
+import net.juniorbl.jtoyracing.core.scheduler.GameTask;
+import net.juniorbl.jtoyracing.core.scheduler.ScheduledTask;
+
+/**
+ * Chronometer that counts down some seconds of game time. It ticks through the game scheduler, so
+ * any number of countdowns can run at the same time without threads and the observers are always
+ * notified on the render thread. A countdown can be started again after it ends.
+ *
+ * The observers are notified of every second left, from the initial seconds to zero, and then of
+ * the end of the time.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public class Countdown implements Chronometer, GameTask {
+	private static final float ONE_SECOND = 1;
+	private GameScheduler scheduler;
+	private int seconds;
+	private int secondsLeft;
+	private ScheduledTask tick;
+	private List<ChronometerObserver> chronometerObservers = new ArrayList<ChronometerObserver>();
+
+	public Countdown(GameScheduler scheduler, int seconds) {
+		this.scheduler = scheduler;
+		this.seconds = seconds;
+	}
+
+	/**
+	 * Starts the countdown, restarting it if it is already running.
+	 */
+	public final void start() {
+		stop();
+		secondsLeft = seconds;
+		tick = scheduler.scheduleAtFixedRate(this, ONE_SECOND, ONE_SECOND);
+		notifyObserversUpdateTime(secondsLeft);
+	}
+
+	/**
+	 * Stops the countdown without notifying the end of the time.
+	 */
+	public final void stop() {
+		if (tick != null) {
+			tick.cancel();
+			tick = null;
+		}
+	}
+
+	public final void execute() {
+		--secondsLeft;
+		if (secondsLeft >= 0) {
+			notifyObserversUpdateTime(secondsLeft);
+		} else {
+			stop();
+			notifyObserversTimeUP();
+		}
+	}
+
+	public final boolean isRunning() {
+		return tick != null;
+	}
+
+	public final int getSecondsLeft() {
+		return secondsLeft;
+	}
+
+	public final void addObserver(ChronometerObserver chronometerObserver) {
+		chronometerObservers.add(chronometerObserver);
+	}
+
+	public final void removeObserver(ChronometerObserver chronometerObserver) {
+		chronometerObservers.remove(chronometerObserver);
+	}
+
+	/**
+	 * Notifies backwards by index, an observer may remove itself when notified.
+	 */
+	public final void notifyObserversUpdateTime(int time) {
+		for (int i = chronometerObservers.size() - 1; i >= 0; i--) {
+			chronometerObservers.get(i).updateTime(this, time);
+		}
+	}
+
+	public final void notifyObserversTimeUP() {
+		for (int i = chronometerObservers.size() - 1; i >= 0; i--) {
+			chronometerObservers.get(i).timeUP(this);
+		}
+	}
+}
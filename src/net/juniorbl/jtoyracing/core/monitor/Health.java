@@ -3,7 +3,7 @@ package net.juniorbl.jtoyracing.core.monitor;
 /**
  * Health of the vehicle that is being observed (Observer pattern).
  *
- * @version 1.0 Dec 23, 2007
+ * @version 1.1 Oct 18, 2026
  * @author Carlos Luz Junior
  */
 public interface Health {
@@ -13,4 +13,6 @@ public interface Health {
 	void removeObserver(HealthObserver healthObserver);
 
 	void notifyObserversHealthEnded();
+
+	int rechargeHealth(int healthAmount);
 }
@@ -1,31 +1,24 @@
 package net.juniorbl.jtoyracing.core.monitor;
 
-import net.juniorbl.jtoyracing.core.JToyRacing;
+import net.juniorbl.jtoyracing.core.Race;
+import net.juniorbl.jtoyracing.core.scheduler.GameTask;
 
 /**
- * Thread responsible for monitor the car's health.
+ * Task responsible for monitor the car's health. It's scheduled at a fixed rate in the game
+ * scheduler, so it runs on the render thread and stops while the game is paused.
  *
- * @version 1.0 Jun 18, 2008
+ * @version 1.1 Oct 18, 2026
  * @author Carlos Luz Junior
  */
-public final class HealthMonitor extends Thread {
-	private static final int ONE_SECOND = 1000;
-	private JToyRacing jToyRacing;
+public final class HealthMonitor implements GameTask {
+	public static final float MONITOR_PERIOD = 1;
+	private Race race;
 
-	public HealthMonitor(JToyRacing jToyRacing) {
-		this.jToyRacing = jToyRacing;
+	public HealthMonitor(Race race) {
+		this.race = race;
 	}
 
-	@Override
-	public void run() {
-		try {
-			while (true) {
-				sleep(ONE_SECOND);
-				jToyRacing.updateVehiclesHealth();
-			}
-		} catch (InterruptedException exception) {
-			//FIXME handle this correctly
-			throw new Error(exception);
-		}
+	public void execute() {
+		race.updateVehiclesHealth();
 	}
 }
@@ -3,10 +3,10 @@ package net.juniorbl.jtoyracing.core.monitor;
 /**
  * Define methods to the health observers (Observer pattern).
  *
- * @version 1.0 Dec 23, 2007
+ * @version 1.1 Oct 18, 2026
  * @author Carlos Luz Junior
  */
 public interface HealthObserver {
 
-	void healthEnded();
+	void healthEnded(Health health);
 }
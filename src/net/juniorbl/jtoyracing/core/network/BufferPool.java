@@ -0,0 +1,43 @@
+package net.juniorbl.jtoyracing.core.network;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Direct buffers of the size of the largest datagram, reused from packet to packet. A direct buffer is
+ * handed to the socket as it is, a heap buffer would be copied to a temporary direct one on each send and
+ * receive; but a direct buffer is slow to allocate and only freed by the garbage collector, so they are
+ * allocated once. Only one thread may use a pool.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+final class BufferPool {
+	private List<ByteBuffer> freeBuffers = new ArrayList<ByteBuffer>();
+	private int allocated;
+
+	/**
+	 * Returns an empty buffer, to be released after use.
+	 */
+	ByteBuffer acquire() {
+		if (freeBuffers.isEmpty()) {
+			allocated++;
+			return ByteBuffer.allocateDirect(NetworkProtocol.MAX_PACKET_SIZE);
+		}
+		ByteBuffer buffer = freeBuffers.remove(freeBuffers.size() - 1);
+		buffer.clear();
+		return buffer;
+	}
+
+	void release(ByteBuffer buffer) {
+		freeBuffers.add(buffer);
+	}
+
+	/**
+	 * Returns the buffers allocated since the creation.
+	 */
+	int getAllocated() {
+		return allocated;
+	}
+}
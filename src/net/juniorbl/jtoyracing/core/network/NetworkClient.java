@@ -0,0 +1,235 @@
+package net.juniorbl.jtoyracing.core.network;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.PortUnreachableException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+
+import com.jme.util.LoggingSystem;
+
+/**
+ * The network side of a client of the race server: connects to the server, sends the inputs of its
+ * vehicle and keeps the snapshots received. The socket is non-blocking, the game reads what arrived once
+ * per frame.
+ *
+ * Each input packet acknowledges the last snapshot received, the server sends the next ones against it.
+ * The snapshots that arrive after a newer one are dropped.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class NetworkClient {
+	private static final long CONNECT_RETRY_MILLIS = 100;
+	private static final int INPUTS = 4;
+	private static final int INPUT_MASK = INPUTS - 1;
+	private DatagramChannel channel;
+	private BufferPool bufferPool = new BufferPool();
+	private SnapshotHistory history;
+	private int vehicle = -1;
+	private int vehicles;
+	private int snapshotsPerSecond;
+	private int latestTick = NetworkProtocol.NO_TICK;
+	private int appliedInput;
+	private int inputSequence;
+	private short[] throttles = new short[INPUTS];
+	private short[] steerDirections = new short[INPUTS];
+	private long bytesReceived;
+	private long packetsReceived;
+
+	/**
+	 * Opens the socket to a server, nothing is sent before {@link #connect()}.
+	 */
+	public NetworkClient(InetSocketAddress server) throws IOException {
+		channel = DatagramChannel.open();
+		channel.configureBlocking(false);
+		channel.connect(server);
+	}
+
+	/**
+	 * Asks the server for a vehicle, the answer is read by {@link #receive()}.
+	 */
+	public void connect() throws IOException {
+		ByteBuffer buffer = bufferPool.acquire();
+		try {
+			NetworkProtocol.putHeader(buffer, NetworkProtocol.CONNECT);
+			buffer.flip();
+			channel.write(buffer);
+		} finally {
+			bufferPool.release(buffer);
+		}
+	}
+
+	/**
+	 * Connects to the server and waits for its welcome, asking again while it doesn't come (the server
+	 * may not be up yet). Returns false when it didn't come in time.
+	 */
+	public boolean awaitConnection(long timeoutMillis) throws IOException {
+		long deadline = System.currentTimeMillis() + timeoutMillis;
+		while (!isConnected() && System.currentTimeMillis() < deadline) {
+			try {
+				connect();
+				Thread.sleep(CONNECT_RETRY_MILLIS);
+				receive();
+			} catch (PortUnreachableException e) {
+				LoggingSystem.getLogger().info("Race server not reachable yet: " + e.getMessage());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		}
+		return isConnected();
+	}
+
+	/**
+	 * Reads the packets received since the last call: the welcome and the snapshots.
+	 */
+	public void receive() throws IOException {
+		ByteBuffer buffer = bufferPool.acquire();
+		try {
+			int read = channel.read(buffer);
+			while (read > 0) {
+				bytesReceived += read;
+				packetsReceived++;
+				buffer.flip();
+				receivePacket(buffer);
+				buffer.clear();
+				read = channel.read(buffer);
+			}
+		} finally {
+			bufferPool.release(buffer);
+		}
+	}
+
+	private void receivePacket(ByteBuffer buffer) {
+		try {
+			byte type = NetworkProtocol.getType(buffer);
+			if (type == NetworkProtocol.WELCOME) {
+				receiveWelcome(buffer);
+			} else if (type == NetworkProtocol.SNAPSHOT && isConnected()) {
+				receiveSnapshot(buffer);
+			}
+		} catch (BufferUnderflowException e) {
+			// a truncated packet is dropped, as a lost one
+			return;
+		}
+	}
+
+	private void receiveWelcome(ByteBuffer buffer) {
+		int welcomeVehicle = buffer.get();
+		int welcomeVehicles = buffer.get();
+		int welcomeSnapshotsPerSecond = buffer.getShort();
+		if (!isConnected() && welcomeVehicle >= 0 && welcomeVehicle < welcomeVehicles && welcomeSnapshotsPerSecond > 0) {
+			vehicles = welcomeVehicles;
+			snapshotsPerSecond = welcomeSnapshotsPerSecond;
+			history = new SnapshotHistory(vehicles);
+			vehicle = welcomeVehicle;
+		}
+	}
+
+	/**
+	 * Decodes a snapshot against its baseline. A snapshot whose baseline is no longer kept is dropped, the
+	 * server only sends those after a very long loss.
+	 */
+	private void receiveSnapshot(ByteBuffer buffer) {
+		int tick = buffer.getInt();
+		int baselineTick = buffer.getInt();
+		int snapshotAppliedInput = buffer.getInt();
+		if (tick <= latestTick) {
+			return;
+		}
+		Snapshot baseline = history.get(baselineTick);
+		if (baseline == null && baselineTick != NetworkProtocol.NO_TICK) {
+			return;
+		}
+		Snapshot snapshot = history.add(tick);
+		try {
+			SnapshotCodec.decode(baseline, buffer, snapshot);
+		} catch (BufferUnderflowException e) {
+			history.remove(tick);
+			throw e;
+		}
+		latestTick = tick;
+		appliedInput = snapshotAppliedInput;
+	}
+
+	/**
+	 * Sends the input of a step of the client, with the inputs before it. Returns its sequence.
+	 */
+	public int sendInput(float throttle, float steerDirection) throws IOException {
+		inputSequence++;
+		throttles[inputSequence & INPUT_MASK] = NetworkProtocol.quantizeInput(throttle);
+		steerDirections[inputSequence & INPUT_MASK] = NetworkProtocol.quantizeInput(steerDirection);
+		int inputs = Math.min(inputSequence, NetworkProtocol.INPUTS_PER_PACKET);
+		ByteBuffer buffer = bufferPool.acquire();
+		try {
+			NetworkProtocol.putHeader(buffer, NetworkProtocol.INPUT);
+			buffer.putInt(latestTick).putInt(inputSequence).put((byte) inputs);
+			for (int input = 0; input < inputs; input++) {
+				int sequence = inputSequence - input;
+				buffer.putShort(throttles[sequence & INPUT_MASK]).putShort(steerDirections[sequence & INPUT_MASK]);
+			}
+			buffer.flip();
+			channel.write(buffer);
+		} finally {
+			bufferPool.release(buffer);
+		}
+		return inputSequence;
+	}
+
+	public boolean isConnected() {
+		return vehicle >= 0;
+	}
+
+	/**
+	 * Returns the vehicle the server gave to the client, -1 before the welcome.
+	 */
+	public int getVehicle() {
+		return vehicle;
+	}
+
+	public int getVehicles() {
+		return vehicles;
+	}
+
+	public int getSnapshotsPerSecond() {
+		return snapshotsPerSecond;
+	}
+
+	/**
+	 * Returns the tick of the newest snapshot received, {@link NetworkProtocol#NO_TICK} before the first.
+	 */
+	public int getLatestTick() {
+		return latestTick;
+	}
+
+	/**
+	 * Returns a snapshot received, null when it wasn't received or is no longer kept.
+	 */
+	public Snapshot getSnapshot(int tick) {
+		if (history == null) {
+			return null;
+		}
+		return history.get(tick);
+	}
+
+	/**
+	 * Returns the sequence of the last input of the client the server had applied at the newest snapshot.
+	 */
+	public int getAppliedInput() {
+		return appliedInput;
+	}
+
+	public long getBytesReceived() {
+		return bytesReceived;
+	}
+
+	public long getPacketsReceived() {
+		return packetsReceived;
+	}
+
+	public void close() throws IOException {
+		channel.close();
+	}
+}
@@ -0,0 +1,70 @@
+package net.juniorbl.jtoyracing.core.network;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The packets between the race server and its clients, one UDP datagram each. Every packet starts with
+ * the magic and the version of the protocol and its type, the datagrams of other programs are dropped.
+ *
+ * Connect (client): nothing else, sent until the welcome arrives.
+ *
+ * Welcome (server): the vehicle of the client, the vehicles of the race and the snapshots per second.
+ *
+ * Input (client): the last snapshot received, the sequence of the newest input and up to
+ * {@value #INPUTS_PER_PACKET} inputs (throttle and steer direction), newest first, so a lost packet is
+ * covered by the next ones.
+ *
+ * Snapshot (server): its tick, the tick of its baseline ({@value #NO_TICK} for none), the last input of
+ * the client applied to its vehicle and the vehicles, see {@link SnapshotCodec}.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class NetworkProtocol {
+	public static final int MAGIC = 0x4A54524E;
+	public static final byte VERSION = 1;
+	public static final int HEADER_SIZE = 6;
+	public static final int DEFAULT_PORT = 24680;
+	/**
+	 * The largest payload of a UDP datagram.
+	 */
+	public static final int MAX_PACKET_SIZE = 65507;
+	public static final byte CONNECT = 1;
+	public static final byte WELCOME = 2;
+	public static final byte INPUT = 3;
+	public static final byte SNAPSHOT = 4;
+	public static final byte INVALID = -1;
+	public static final int NO_TICK = -1;
+	public static final int INPUTS_PER_PACKET = 3;
+
+	/**
+	 * Prevents this class from being instantiated.
+	 */
+	private NetworkProtocol() { }
+
+	/**
+	 * Starts a packet of a type.
+	 */
+	public static void putHeader(ByteBuffer buffer, byte type) {
+		buffer.putInt(MAGIC).put(VERSION).put(type);
+	}
+
+	/**
+	 * Reads the header of a packet, returns its type or {@link #INVALID} when it isn't a packet of the
+	 * protocol.
+	 */
+	public static byte getType(ByteBuffer buffer) {
+		if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC || buffer.get() != VERSION) {
+			return INVALID;
+		}
+		return buffer.get();
+	}
+
+	/**
+	 * The inputs travel as the shorts of the replays, the velocities and directions of the controllers
+	 * are whole numbers.
+	 */
+	public static short quantizeInput(float input) {
+		return (short) Math.round(input);
+	}
+}
@@ -0,0 +1,198 @@
+package net.juniorbl.jtoyracing.core.network;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import net.juniorbl.jtoyracing.core.Race;
+import net.juniorbl.jtoyracing.core.physics.FixedStepObserver;
+import net.juniorbl.jtoyracing.core.replay.ReplayFormat;
+import net.juniorbl.jtoyracing.core.replay.ReplayRecorder;
+import net.juniorbl.jtoyracing.entity.vehicle.Vehicle;
+
+import com.jme.math.Quaternion;
+import com.jme.math.Vector3f;
+import com.jme.scene.Node;
+import com.jme.scene.Spatial;
+import com.jme.util.LoggingSystem;
+import com.jmex.physics.DynamicPhysicsNode;
+
+/**
+ * A race of the game joined to a race server. The vehicle of the player is driven and stepped by the
+ * physics of the game as in a race of its own, its inputs are sent to the server after each step and it's
+ * corrected by the snapshots (see {@link VehiclePrediction}). The vehicles of the other players are out
+ * of the physics of the game, placed between the snapshots received (see {@link SnapshotInterpolator}).
+ *
+ * The vehicle the server gave to the client is the player vehicle of the race, the other vehicles of the
+ * server are its remote vehicles, in order. The rules of the race (the countdown, the health and the
+ * laps) still run on each side.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class NetworkRace implements FixedStepObserver {
+	public static final String SERVER_PROPERTY = "jtoyracing.network.server";
+	private static final long CONNECT_TIMEOUT_MILLIS = 5000;
+	private NetworkClient networkClient;
+	private Vehicle playerVehicle;
+	private List<DynamicPhysicsNode> playerBodies;
+	private Spatial[][] bodies;
+	private Set<Spatial> remoteBodies = new HashSet<Spatial>();
+	private SnapshotInterpolator snapshotInterpolator;
+	private VehiclePrediction vehiclePrediction = new VehiclePrediction();
+	private int reconciledTick = NetworkProtocol.NO_TICK;
+	private boolean failed;
+	private Vector3f position = new Vector3f();
+	private Vector3f correction = new Vector3f();
+	private Quaternion rotation = new Quaternion();
+	private Quaternion parentRotation = new Quaternion();
+
+	/**
+	 * Joins a race to a connected client, the race must have a remote vehicle for each other vehicle of
+	 * the server. The remote vehicles are taken out of the physics.
+	 */
+	public NetworkRace(NetworkClient networkClient, Race race) {
+		this.networkClient = networkClient;
+		snapshotInterpolator = new SnapshotInterpolator(networkClient);
+		playerVehicle = race.getPlayerVehicle();
+		playerBodies = playerVehicle.getDynamicNodes();
+		bodies = new Spatial[networkClient.getVehicles()][];
+		List<Vehicle> remoteVehicles = race.getRemoteVehicles();
+		int remoteVehicle = 0;
+		for (int vehicle = 0; vehicle < bodies.length; vehicle++) {
+			if (vehicle == networkClient.getVehicle()) {
+				bodies[vehicle] = ReplayRecorder.getBodies(playerVehicle);
+			} else {
+				Vehicle raceVehicle = remoteVehicles.get(remoteVehicle);
+				remoteVehicle++;
+				raceVehicle.setPhysicsActive(false);
+				bodies[vehicle] = ReplayRecorder.getBodies(raceVehicle);
+				remoteBodies.add(raceVehicle);
+				for (Spatial body : bodies[vehicle]) {
+					remoteBodies.add(body);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Connects to the server of the {@value #SERVER_PROPERTY} system property, "host" or "host:port".
+	 * Returns null when the property isn't set.
+	 */
+	public static NetworkClient connect() throws IOException {
+		String server = System.getProperty(SERVER_PROPERTY);
+		if (server == null) {
+			return null;
+		}
+		String host = server;
+		int port = NetworkProtocol.DEFAULT_PORT;
+		int portSeparator = server.lastIndexOf(':');
+		if (portSeparator >= 0) {
+			host = server.substring(0, portSeparator);
+			port = Integer.parseInt(server.substring(portSeparator + 1));
+		}
+		NetworkClient networkClient = new NetworkClient(new InetSocketAddress(host, port));
+		if (!networkClient.awaitConnection(CONNECT_TIMEOUT_MILLIS)) {
+			networkClient.close();
+			throw new IOException("No answer from the race server " + server);
+		}
+		LoggingSystem.getLogger().info("Connected to the race server " + server + ", vehicle " + networkClient.getVehicle()
+				+ " of " + networkClient.getVehicles());
+		return networkClient;
+	}
+
+	/**
+	 * After each step of the game: corrects the player vehicle by the newest snapshot, sends the input of
+	 * the step and keeps where it left the vehicle. The network is optional, a failure is only logged and
+	 * the race goes on without the server.
+	 */
+	public void physicsStepped(float timeStep) {
+		if (failed) {
+			return;
+		}
+		try {
+			networkClient.receive();
+			reconcile();
+			vehiclePrediction.correct(timeStep, correction);
+			if (correction.x != 0 || correction.y != 0 || correction.z != 0) {
+				movePlayerVehicle();
+			}
+			int input = networkClient.sendInput(playerVehicle.getThrottle(), playerVehicle.getSteerDirection());
+			Spatial chassis = playerVehicle.getChassis();
+			chassis.getParent().localToWorld(chassis.getLocalTranslation(), position);
+			vehiclePrediction.record(input, position);
+		} catch (IOException e) {
+			LoggingSystem.getLogger().warning("Race server lost, racing alone: " + e.getMessage());
+			failed = true;
+		}
+	}
+
+	private void reconcile() {
+		int latestTick = networkClient.getLatestTick();
+		if (latestTick != reconciledTick) {
+			reconciledTick = latestTick;
+			networkClient.getSnapshot(latestTick).getBody(Snapshot.getBody(networkClient.getVehicle(), 0), position, rotation);
+			vehiclePrediction.reconcile(networkClient.getAppliedInput(), position);
+		}
+	}
+
+	/**
+	 * Moves the bodies of the player vehicle by the correction, they give their new place to the physics
+	 * when their world vectors are updated.
+	 */
+	private void movePlayerVehicle() {
+		for (int body = 0; body < playerBodies.size(); body++) {
+			DynamicPhysicsNode playerBody = playerBodies.get(body);
+			Node parent = playerBody.getParent();
+			parent.localToWorld(playerBody.getLocalTranslation(), position);
+			position.addLocal(correction);
+			parent.worldToLocal(position, playerBody.getLocalTranslation());
+		}
+	}
+
+	/**
+	 * Every frame: places the vehicles of the other players between the snapshots around the time
+	 * rendered.
+	 */
+	public void update(float timePerFrame) {
+		snapshotInterpolator.update(timePerFrame);
+		for (int vehicle = 0; vehicle < bodies.length; vehicle++) {
+			if (vehicle != networkClient.getVehicle()) {
+				placeRemoteVehicle(vehicle);
+			}
+		}
+	}
+
+	private void placeRemoteVehicle(int vehicle) {
+		for (int body = 0; body < ReplayFormat.BODIES_PER_VEHICLE; body++) {
+			if (snapshotInterpolator.getBody(Snapshot.getBody(vehicle, body), position, rotation)) {
+				Spatial remoteBody = bodies[vehicle][body];
+				Node parent = remoteBody.getParent();
+				parent.worldToLocal(position, remoteBody.getLocalTranslation());
+				parentRotation.set(parent.getWorldRotation()).inverseLocal();
+				parentRotation.mult(rotation, remoteBody.getLocalRotation());
+			}
+		}
+	}
+
+	/**
+	 * Returns whether a spatial is moved by the snapshots instead of the physics of the game.
+	 */
+	public boolean isRemoteBody(Spatial spatial) {
+		return remoteBodies.contains(spatial);
+	}
+
+	public NetworkClient getNetworkClient() {
+		return networkClient;
+	}
+
+	public void close() {
+		try {
+			networkClient.close();
+		} catch (IOException e) {
+			LoggingSystem.getLogger().warning("Unable to close the connection to the race server: " + e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,191 @@
+package net.juniorbl.jtoyracing.core.network;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.jme.util.LoggingSystem;
+
+/**
+ * The network side of the race server: gives each client that connects a vehicle, takes their inputs and
+ * sends them the snapshots of the race, each one against the last snapshot the client acknowledged.
+ *
+ * The socket is non-blocking, the server loop reads what arrived and sends without waiting for the
+ * network. A snapshot that doesn't fit in the buffers of the socket is dropped, the next one carries the
+ * same state.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class NetworkServer {
+	private DatagramChannel channel;
+	private BufferPool bufferPool = new BufferPool();
+	private SnapshotHistory history;
+	private int vehicles;
+	private int snapshotsPerSecond;
+	private List<RemoteClient> clients = new ArrayList<RemoteClient>();
+	private Map<SocketAddress, RemoteClient> clientsByAddress = new HashMap<SocketAddress, RemoteClient>();
+	private int tick = NetworkProtocol.NO_TICK;
+	private boolean deltaCompression = true;
+	private short[] inputValues = new short[2 * NetworkProtocol.INPUTS_PER_PACKET];
+
+	/**
+	 * Opens the server on a port of all the interfaces, zero for any free port, for a race of some
+	 * vehicles, one per client.
+	 */
+	public NetworkServer(int port, int vehicles, int snapshotsPerSecond) throws IOException {
+		this.vehicles = vehicles;
+		this.snapshotsPerSecond = snapshotsPerSecond;
+		history = new SnapshotHistory(vehicles);
+		channel = DatagramChannel.open();
+		channel.configureBlocking(false);
+		channel.socket().bind(new InetSocketAddress(port));
+	}
+
+	/**
+	 * Reads the packets received since the last call: the connections and the inputs of the clients.
+	 */
+	public void receive() throws IOException {
+		ByteBuffer buffer = bufferPool.acquire();
+		try {
+			SocketAddress address = channel.receive(buffer);
+			while (address != null) {
+				buffer.flip();
+				receivePacket(address, buffer);
+				buffer.clear();
+				address = channel.receive(buffer);
+			}
+		} finally {
+			bufferPool.release(buffer);
+		}
+	}
+
+	private void receivePacket(SocketAddress address, ByteBuffer buffer) throws IOException {
+		try {
+			byte type = NetworkProtocol.getType(buffer);
+			if (type == NetworkProtocol.CONNECT) {
+				connect(address);
+			} else if (type == NetworkProtocol.INPUT) {
+				RemoteClient client = clientsByAddress.get(address);
+				if (client != null) {
+					receiveInputs(client, buffer);
+				}
+			}
+		} catch (BufferUnderflowException e) {
+			// a truncated packet is dropped, as a lost one
+			return;
+		}
+	}
+
+	/**
+	 * Gives the next free vehicle to a new client, a client that connects again is welcomed again (its
+	 * welcome was lost).
+	 */
+	private void connect(SocketAddress address) throws IOException {
+		RemoteClient client = clientsByAddress.get(address);
+		if (client == null) {
+			if (clients.size() == vehicles) {
+				LoggingSystem.getLogger().warning("Race full, connection of " + address + " refused");
+				return;
+			}
+			client = new RemoteClient(address, clients.size());
+			clients.add(client);
+			clientsByAddress.put(address, client);
+			LoggingSystem.getLogger().info("Client " + address + " connected, vehicle " + client.getVehicle());
+		}
+		ByteBuffer buffer = bufferPool.acquire();
+		try {
+			NetworkProtocol.putHeader(buffer, NetworkProtocol.WELCOME);
+			buffer.put((byte) client.getVehicle()).put((byte) vehicles).putShort((short) snapshotsPerSecond);
+			buffer.flip();
+			channel.send(buffer, address);
+		} finally {
+			bufferPool.release(buffer);
+		}
+	}
+
+	/**
+	 * Reads the inputs of a packet, newest first, and gives them to the client oldest first.
+	 */
+	private void receiveInputs(RemoteClient client, ByteBuffer buffer) {
+		client.acknowledge(buffer.getInt());
+		int newestInput = buffer.getInt();
+		int inputs = Math.min(buffer.get(), NetworkProtocol.INPUTS_PER_PACKET);
+		for (int value = 0; value < 2 * inputs; value++) {
+			inputValues[value] = buffer.getShort();
+		}
+		for (int input = inputs - 1; input >= 0; input--) {
+			client.receiveInput(newestInput - input, inputValues[2 * input], inputValues[2 * input + 1]);
+		}
+	}
+
+	/**
+	 * Returns the snapshot of the next tick, to be filled and sent.
+	 */
+	public Snapshot nextSnapshot() {
+		tick++;
+		return history.add(tick);
+	}
+
+	/**
+	 * Sends the snapshot of the last tick to each client, against the snapshot it acknowledged if the
+	 * server still has it, whole otherwise.
+	 */
+	public void sendSnapshot() throws IOException {
+		Snapshot snapshot = history.get(tick);
+		ByteBuffer buffer = bufferPool.acquire();
+		try {
+			for (int client = 0; client < clients.size(); client++) {
+				RemoteClient remoteClient = clients.get(client);
+				Snapshot baseline = null;
+				if (deltaCompression) {
+					baseline = history.get(remoteClient.getAcknowledgedTick());
+				}
+				buffer.clear();
+				NetworkProtocol.putHeader(buffer, NetworkProtocol.SNAPSHOT);
+				buffer.putInt(tick);
+				if (baseline == null) {
+					buffer.putInt(NetworkProtocol.NO_TICK);
+				} else {
+					buffer.putInt(baseline.getTick());
+				}
+				buffer.putInt(remoteClient.getAppliedInput());
+				SnapshotCodec.encode(baseline, snapshot, buffer);
+				buffer.flip();
+				remoteClient.addPacketSent(channel.send(buffer, remoteClient.getAddress()));
+			}
+		} finally {
+			bufferPool.release(buffer);
+		}
+	}
+
+	/**
+	 * Sends every snapshot whole when disabled, to compare the bandwidth. Enabled by default.
+	 */
+	public void setDeltaCompression(boolean deltaCompression) {
+		this.deltaCompression = deltaCompression;
+	}
+
+	public List<RemoteClient> getClients() {
+		return clients;
+	}
+
+	public int getPort() {
+		return channel.socket().getLocalPort();
+	}
+
+	public int getVehicles() {
+		return vehicles;
+	}
+
+	public void close() throws IOException {
+		channel.close();
+	}
+}
@@ -0,0 +1,199 @@
+package net.juniorbl.jtoyracing.core.network;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+import net.juniorbl.jtoyracing.core.HeadlessRace;
+import net.juniorbl.jtoyracing.core.physics.FixedStepPhysics;
+import net.juniorbl.jtoyracing.core.profiling.LatencyHistogram;
+import net.juniorbl.jtoyracing.core.replay.ReplayRecorder;
+import net.juniorbl.jtoyracing.entity.vehicle.Vehicle;
+
+import com.jme.scene.Spatial;
+
+/**
+ * Runs a race for players on the network. The server owns the physics: it steps the race without
+ * display in real time, applies the inputs of each client to its vehicle, one per step, and sends the
+ * vehicles to the clients every {@value #STEPS_PER_SNAPSHOT} steps. The clients only draw what the
+ * server says, except for their own vehicle, which they predict.
+ *
+ * Arguments: the port (default {@value NetworkProtocol#DEFAULT_PORT}), the players (default
+ * {@value #DEFAULT_PLAYERS}) and the seconds to run (default {@value #DEFAULT_SECONDS}). The cost of the
+ * steps and the bandwidth of each client are printed at the end.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class RaceServer {
+	public static final int DEFAULT_PLAYERS = 2;
+	public static final int STEPS_PER_SNAPSHOT = 3;
+	private static final int DEFAULT_SECONDS = 600;
+	private static final double NANOS_PER_SECOND = 1000000000d;
+	private static final double NANOS_PER_MICRO = 1000d;
+	private static final double MEDIAN = 50;
+	private static final double PERCENTILE = 99;
+	private HeadlessRace headlessRace;
+	private NetworkServer networkServer;
+	private List<Vehicle> vehicles;
+	private Spatial[][] bodies;
+	private long steps;
+	private LatencyHistogram tickCost = new LatencyHistogram();
+	private LatencyHistogram networkCost = new LatencyHistogram();
+
+	/**
+	 * Creates the race of the player vehicle and a remote vehicle for each other player, and opens the
+	 * server on a port, zero for any free port.
+	 */
+	public RaceServer(int port, int players) throws IOException {
+		headlessRace = new HeadlessRace(FixedStepPhysics.DEFAULT_STEPS_PER_SECOND, 0);
+		for (int player = 1; player < players; player++) {
+			headlessRace.getRace().addRemoteVehicle(player);
+		}
+		headlessRace.getRace().getScene().updateGeometricState(0, true);
+		vehicles = headlessRace.getRace().getVehicles();
+		bodies = new Spatial[vehicles.size()][];
+		for (int vehicle = 0; vehicle < bodies.length; vehicle++) {
+			bodies[vehicle] = ReplayRecorder.getBodies(vehicles.get(vehicle));
+		}
+		networkServer = new NetworkServer(port, players, FixedStepPhysics.DEFAULT_STEPS_PER_SECOND / STEPS_PER_SNAPSHOT);
+	}
+
+	public static void main(String[] args) {
+		int port = NetworkProtocol.DEFAULT_PORT;
+		if (args.length > 0) {
+			port = Integer.parseInt(args[0]);
+		}
+		int players = DEFAULT_PLAYERS;
+		if (args.length > 1) {
+			players = Integer.parseInt(args[1]);
+		}
+		float seconds = DEFAULT_SECONDS;
+		if (args.length > 2) {
+			seconds = Float.parseFloat(args[2]);
+		}
+		try {
+			RaceServer raceServer = new RaceServer(port, players);
+			System.out.println("Race server of " + players + " players on port " + raceServer.networkServer.getPort());
+			raceServer.start();
+			raceServer.run(seconds);
+			System.out.println(raceServer.report());
+			raceServer.close();
+		} catch (IOException e) {
+			//TODO throw a business checked exception
+			throw new Error(e);
+		}
+	}
+
+	public void start() {
+		headlessRace.start();
+	}
+
+	/**
+	 * Runs the race for some seconds, a step every time step of the wall clock.
+	 */
+	public void run(float seconds) throws IOException {
+		long stepNanos = Math.round(headlessRace.getTimeStep() * NANOS_PER_SECOND);
+		long runSteps = Math.round(seconds / headlessRace.getTimeStep());
+		long nextStep = System.nanoTime();
+		for (long step = 0; step < runSteps; step++) {
+			step();
+			nextStep += stepNanos;
+			long wait = nextStep - System.nanoTime();
+			if (wait > 0) {
+				LockSupport.parkNanos(wait);
+			}
+		}
+	}
+
+	/**
+	 * A step of the server: reads the packets of the clients, applies their inputs, steps the race and
+	 * sends a snapshot when it's due.
+	 */
+	public void step() throws IOException {
+		long start = System.nanoTime();
+		networkServer.receive();
+		applyInputs();
+		long physicsStart = System.nanoTime();
+		headlessRace.step();
+		long physicsEnd = System.nanoTime();
+		steps++;
+		if (steps % STEPS_PER_SNAPSHOT == 0) {
+			sendSnapshot();
+		}
+		long end = System.nanoTime();
+		tickCost.record(end - start);
+		networkCost.record(end - start - (physicsEnd - physicsStart));
+	}
+
+	/**
+	 * Drives each vehicle of a client with its next input, a vehicle is only touched when its input
+	 * changes, as the controllers of the game do.
+	 */
+	private void applyInputs() {
+		List<RemoteClient> clients = networkServer.getClients();
+		for (int client = 0; client < clients.size(); client++) {
+			RemoteClient remoteClient = clients.get(client);
+			remoteClient.nextInput();
+			Vehicle vehicle = vehicles.get(remoteClient.getVehicle());
+			if (remoteClient.getThrottle() != vehicle.getThrottle()) {
+				if (remoteClient.getThrottle() == 0) {
+					vehicle.stop();
+				} else {
+					vehicle.accelerate(remoteClient.getThrottle());
+				}
+			}
+			if (remoteClient.getSteerDirection() != vehicle.getSteerDirection()) {
+				if (remoteClient.getSteerDirection() == 0) {
+					vehicle.unsteer();
+				} else {
+					vehicle.steer(remoteClient.getSteerDirection());
+				}
+			}
+		}
+	}
+
+	private void sendSnapshot() throws IOException {
+		Snapshot snapshot = networkServer.nextSnapshot();
+		for (int vehicle = 0; vehicle < bodies.length; vehicle++) {
+			Spatial[] vehicleBodies = bodies[vehicle];
+			for (int body = 0; body < vehicleBodies.length; body++) {
+				snapshot.setBody(Snapshot.getBody(vehicle, body), vehicleBodies[body].getWorldTranslation(),
+						vehicleBodies[body].getWorldRotation());
+			}
+			Vehicle raceVehicle = vehicles.get(vehicle);
+			snapshot.setInputs(vehicle, raceVehicle.getThrottle(), raceVehicle.getSteerDirection());
+			snapshot.setHealth(vehicle, raceVehicle.getHealth());
+		}
+		networkServer.sendSnapshot();
+	}
+
+	/**
+	 * Describes the cost of the steps, with and without the physics, and the bandwidth of each client.
+	 */
+	public String report() {
+		double seconds = steps * headlessRace.getTimeStep();
+		StringBuilder report = new StringBuilder(String.format("%d steps: %.1f us p50, %.1f us p99, %.1f us max per step, "
+				+ "%.1f us p99 without the physics", steps, tickCost.getValueAtPercentile(MEDIAN) / NANOS_PER_MICRO,
+				tickCost.getValueAtPercentile(PERCENTILE) / NANOS_PER_MICRO, tickCost.getMaxValue() / NANOS_PER_MICRO,
+				networkCost.getValueAtPercentile(PERCENTILE) / NANOS_PER_MICRO));
+		for (RemoteClient client : networkServer.getClients()) {
+			report.append(String.format("%nClient %s, vehicle %d: %d snapshots, %.0f bytes per second", client.getAddress(),
+					client.getVehicle(), client.getPacketsSent(), client.getBytesSent() / seconds));
+		}
+		return report.toString();
+	}
+
+	public void close() throws IOException {
+		networkServer.close();
+		headlessRace.getPhysicsSpace().delete();
+	}
+
+	public NetworkServer getNetworkServer() {
+		return networkServer;
+	}
+
+	public HeadlessRace getHeadlessRace() {
+		return headlessRace;
+	}
+}
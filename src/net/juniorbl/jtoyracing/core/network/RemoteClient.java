@@ -0,0 +1,129 @@
+package net.juniorbl.jtoyracing.core.network;
+
+import java.net.SocketAddress;
+
+/**
+ * A client of the race server, seen from the server: the vehicle it drives, the inputs it sent and the
+ * last snapshot it acknowledged.
+ *
+ * The inputs are numbered by the client, one per step of its physics, and applied one per step of the
+ * server in the same order, so the client can tell which of its predictions a snapshot confirms. When
+ * no input arrived in time the last one is held, when too many are waiting the oldest are skipped.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class RemoteClient {
+	private static final int INPUTS = 16;
+	private static final int INPUT_MASK = INPUTS - 1;
+	/**
+	 * The inputs waiting to be applied before the oldest are skipped, about a tenth of a second of delay.
+	 */
+	private static final int MAX_PENDING_INPUTS = 6;
+	private SocketAddress address;
+	private int vehicle;
+	private int[] sequences = new int[INPUTS];
+	private short[] throttles = new short[INPUTS];
+	private short[] steerDirections = new short[INPUTS];
+	private int receivedInput;
+	private int appliedInput;
+	private float throttle;
+	private float steerDirection;
+	private int acknowledgedTick = NetworkProtocol.NO_TICK;
+	private long bytesSent;
+	private long packetsSent;
+
+	RemoteClient(SocketAddress address, int vehicle) {
+		this.address = address;
+		this.vehicle = vehicle;
+	}
+
+	/**
+	 * Keeps an input received, unless it was already applied. Each slot keeps the sequence of its input,
+	 * the inputs lost with their packets leave the slots of older inputs behind.
+	 */
+	void receiveInput(int sequence, short inputThrottle, short inputSteerDirection) {
+		if (sequence > appliedInput) {
+			sequences[sequence & INPUT_MASK] = sequence;
+			throttles[sequence & INPUT_MASK] = inputThrottle;
+			steerDirections[sequence & INPUT_MASK] = inputSteerDirection;
+			receivedInput = Math.max(receivedInput, sequence);
+		}
+	}
+
+	/**
+	 * Takes the next input of the client, for a step of the server. A lost input is replaced by the last
+	 * one applied.
+	 */
+	public void nextInput() {
+		if (receivedInput - appliedInput > MAX_PENDING_INPUTS) {
+			appliedInput = receivedInput - MAX_PENDING_INPUTS;
+		}
+		if (appliedInput < receivedInput) {
+			appliedInput++;
+			if (sequences[appliedInput & INPUT_MASK] == appliedInput) {
+				throttle = throttles[appliedInput & INPUT_MASK];
+				steerDirection = steerDirections[appliedInput & INPUT_MASK];
+			}
+		}
+	}
+
+	void acknowledge(int tick) {
+		acknowledgedTick = Math.max(acknowledgedTick, tick);
+	}
+
+	/**
+	 * Counts a packet sent to the client, none when the socket had no room for it.
+	 */
+	void addPacketSent(int bytes) {
+		if (bytes > 0) {
+			bytesSent += bytes;
+			packetsSent++;
+		}
+	}
+
+	public SocketAddress getAddress() {
+		return address;
+	}
+
+	public int getVehicle() {
+		return vehicle;
+	}
+
+	public float getThrottle() {
+		return throttle;
+	}
+
+	public float getSteerDirection() {
+		return steerDirection;
+	}
+
+	/**
+	 * Returns the sequence of the last input applied, zero before the first.
+	 */
+	public int getAppliedInput() {
+		return appliedInput;
+	}
+
+	/**
+	 * Returns the sequence of the newest input received, zero before the first.
+	 */
+	public int getReceivedInput() {
+		return receivedInput;
+	}
+
+	/**
+	 * Returns the tick of the last snapshot the client received, the baseline of the next one.
+	 */
+	public int getAcknowledgedTick() {
+		return acknowledgedTick;
+	}
+
+	public long getBytesSent() {
+		return bytesSent;
+	}
+
+	public long getPacketsSent() {
+		return packetsSent;
+	}
+}
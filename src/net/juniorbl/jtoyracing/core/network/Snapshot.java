@@ -0,0 +1,112 @@
+package net.juniorbl.jtoyracing.core.network;
+
+import net.juniorbl.jtoyracing.core.replay.ReplayFormat;
+
+import com.jme.math.Quaternion;
+import com.jme.math.Vector3f;
+
+/**
+ * The state of the vehicles of a race at a tick of the server, quantized as the replays are (see
+ * {@link ReplayFormat}): for each vehicle the chassis and the four wheels, then the throttle, the steer
+ * direction and the health. Each value is a field of its own, the rotations are split in their largest
+ * component and their three other components, so a field that changes a little between two snapshots
+ * has a small difference to send. The snapshots are created once and filled over.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class Snapshot {
+	public static final int BODY_FIELDS = 6;
+	public static final int THROTTLE = ReplayFormat.BODIES_PER_VEHICLE * BODY_FIELDS;
+	public static final int STEER_DIRECTION = THROTTLE + 1;
+	public static final int HEALTH = THROTTLE + 2;
+	public static final int VEHICLE_FIELDS = THROTTLE + 3;
+	private static final int ROTATION = 3;
+	private static final int COMPONENT_MASK = (1 << ReplayFormat.COMPONENT_BITS) - 1;
+	private int tick = NetworkProtocol.NO_TICK;
+	private int vehicles;
+	private int[] fields;
+
+	public Snapshot(int vehicles) {
+		this.vehicles = vehicles;
+		fields = new int[vehicles * VEHICLE_FIELDS];
+	}
+
+	/**
+	 * Returns the index of the first field of a body, the bodies are numbered vehicle after vehicle.
+	 */
+	private static int getBodyField(int body) {
+		return body / ReplayFormat.BODIES_PER_VEHICLE * VEHICLE_FIELDS + body % ReplayFormat.BODIES_PER_VEHICLE * BODY_FIELDS;
+	}
+
+	/**
+	 * Returns the number of a body of a vehicle: 0 is the chassis, 1 to 4 are the wheels.
+	 */
+	public static int getBody(int vehicle, int body) {
+		return vehicle * ReplayFormat.BODIES_PER_VEHICLE + body;
+	}
+
+	public void setBody(int body, Vector3f position, Quaternion rotation) {
+		int field = getBodyField(body);
+		fields[field] = ReplayFormat.quantizePosition(position.x);
+		fields[field + 1] = ReplayFormat.quantizePosition(position.y);
+		fields[field + 2] = ReplayFormat.quantizePosition(position.z);
+		int packedRotation = ReplayFormat.packRotation(rotation);
+		fields[field + ROTATION] = packedRotation >>> (2 * ReplayFormat.COMPONENT_BITS);
+		fields[field + ROTATION + 1] = (packedRotation >>> ReplayFormat.COMPONENT_BITS) & COMPONENT_MASK;
+		fields[field + ROTATION + 2] = packedRotation & COMPONENT_MASK;
+	}
+
+	public void getBody(int body, Vector3f position, Quaternion rotation) {
+		int field = getBodyField(body);
+		position.set(fields[field] / ReplayFormat.POSITION_SCALE, fields[field + 1] / ReplayFormat.POSITION_SCALE,
+				fields[field + 2] / ReplayFormat.POSITION_SCALE);
+		int packedRotation = fields[field + ROTATION] << (2 * ReplayFormat.COMPONENT_BITS)
+				| fields[field + ROTATION + 1] << ReplayFormat.COMPONENT_BITS | fields[field + ROTATION + 2];
+		ReplayFormat.unpackRotation(packedRotation, rotation);
+	}
+
+	public void setInputs(int vehicle, float throttle, float steerDirection) {
+		fields[vehicle * VEHICLE_FIELDS + THROTTLE] = NetworkProtocol.quantizeInput(throttle);
+		fields[vehicle * VEHICLE_FIELDS + STEER_DIRECTION] = NetworkProtocol.quantizeInput(steerDirection);
+	}
+
+	public void setHealth(int vehicle, int health) {
+		fields[vehicle * VEHICLE_FIELDS + HEALTH] = health;
+	}
+
+	public float getThrottle(int vehicle) {
+		return fields[vehicle * VEHICLE_FIELDS + THROTTLE];
+	}
+
+	public float getSteerDirection(int vehicle) {
+		return fields[vehicle * VEHICLE_FIELDS + STEER_DIRECTION];
+	}
+
+	public int getHealth(int vehicle) {
+		return fields[vehicle * VEHICLE_FIELDS + HEALTH];
+	}
+
+	/**
+	 * Returns the fields of the vehicles, vehicle after vehicle, to be encoded and decoded in place.
+	 */
+	int[] getFields() {
+		return fields;
+	}
+
+	/**
+	 * Returns the tick of the server the snapshot was taken at, {@link NetworkProtocol#NO_TICK} while
+	 * it's empty.
+	 */
+	public int getTick() {
+		return tick;
+	}
+
+	public void setTick(int tick) {
+		this.tick = tick;
+	}
+
+	public int getVehicles() {
+		return vehicles;
+	}
+}
@@ -0,0 +1,127 @@
+package net.juniorbl.jtoyracing.core.network;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Writes a snapshot as its differences to a baseline, a snapshot the client has acknowledged. Each
+ * vehicle starts with a mask of its fields that changed, followed by the differences of those fields;
+ * a vehicle that didn't move takes one byte. Without a baseline the snapshot is written against zeros.
+ *
+ * The mask and the differences are variable length integers, seven bits per byte, and the differences
+ * are zigzag encoded so a small negative difference is small too: a body that moved a unit since the
+ * baseline takes two bytes per coordinate instead of the four of a float.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class SnapshotCodec {
+	private static final int VARINT_BITS = 7;
+	private static final int VARINT_MASK = 0x7F;
+	private static final int VARINT_MORE = 0x80;
+	private static final long UNSIGNED_INT_MASK = 0xFFFFFFFFL;
+	/**
+	 * The bytes of the longest variable length integer: 32 bits take 5 bytes of 7, and so do the masks.
+	 */
+	private static final int MAX_VARINT_SIZE = 5;
+
+	/**
+	 * Prevents this class from being instantiated.
+	 */
+	private SnapshotCodec() { }
+
+	/**
+	 * Returns the most bytes a snapshot of some vehicles may take.
+	 */
+	public static int getMaxSize(int vehicles) {
+		return vehicles * (Snapshot.VEHICLE_FIELDS + 1) * MAX_VARINT_SIZE;
+	}
+
+	/**
+	 * Writes the differences of a snapshot to its baseline, null for none, at the position of the buffer.
+	 */
+	public static void encode(Snapshot baseline, Snapshot snapshot, ByteBuffer buffer) {
+		int[] fields = snapshot.getFields();
+		int[] baselineFields = null;
+		if (baseline != null) {
+			baselineFields = baseline.getFields();
+		}
+		for (int vehicle = 0; vehicle < snapshot.getVehicles(); vehicle++) {
+			int first = vehicle * Snapshot.VEHICLE_FIELDS;
+			long changedFields = 0;
+			for (int field = 0; field < Snapshot.VEHICLE_FIELDS; field++) {
+				if (getDifference(baselineFields, fields, first + field) != 0) {
+					changedFields |= 1L << field;
+				}
+			}
+			putVarLong(buffer, changedFields);
+			for (int field = 0; field < Snapshot.VEHICLE_FIELDS; field++) {
+				if ((changedFields & (1L << field)) != 0) {
+					putVarLong(buffer, zigzag(getDifference(baselineFields, fields, first + field)));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Reads the differences written by {@link #encode} and applies them to the baseline, null for none,
+	 * into a snapshot.
+	 */
+	public static void decode(Snapshot baseline, ByteBuffer buffer, Snapshot snapshot) {
+		int[] fields = snapshot.getFields();
+		int[] baselineFields = null;
+		if (baseline != null) {
+			baselineFields = baseline.getFields();
+		}
+		for (int vehicle = 0; vehicle < snapshot.getVehicles(); vehicle++) {
+			int first = vehicle * Snapshot.VEHICLE_FIELDS;
+			long changedFields = getVarLong(buffer);
+			for (int field = 0; field < Snapshot.VEHICLE_FIELDS; field++) {
+				int value = 0;
+				if (baselineFields != null) {
+					value = baselineFields[first + field];
+				}
+				if ((changedFields & (1L << field)) != 0) {
+					value += unzigzag(getVarLong(buffer));
+				}
+				fields[first + field] = value;
+			}
+		}
+	}
+
+	private static int getDifference(int[] baselineFields, int[] fields, int field) {
+		if (baselineFields == null) {
+			return fields[field];
+		}
+		return fields[field] - baselineFields[field];
+	}
+
+	private static long zigzag(int value) {
+		return ((value << 1) ^ (value >> (Integer.SIZE - 1))) & UNSIGNED_INT_MASK;
+	}
+
+	private static int unzigzag(long value) {
+		int encoded = (int) value;
+		return (encoded >>> 1) ^ -(encoded & 1);
+	}
+
+	private static void putVarLong(ByteBuffer buffer, long value) {
+		long remaining = value;
+		while ((remaining & ~VARINT_MASK) != 0) {
+			buffer.put((byte) ((remaining & VARINT_MASK) | VARINT_MORE));
+			remaining >>>= VARINT_BITS;
+		}
+		buffer.put((byte) remaining);
+	}
+
+	private static long getVarLong(ByteBuffer buffer) {
+		long value = 0;
+		int shift = 0;
+		byte read = buffer.get();
+		while ((read & VARINT_MORE) != 0) {
+			value |= (long) (read & VARINT_MASK) << shift;
+			shift += VARINT_BITS;
+			read = buffer.get();
+		}
+		return value | (long) read << shift;
+	}
+}
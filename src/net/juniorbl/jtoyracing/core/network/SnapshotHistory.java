@@ -0,0 +1,56 @@
+package net.juniorbl.jtoyracing.core.network;
+
+/**
+ * The last snapshots of a race by their ticks, in a ring: the server keeps the ones it sent, the baselines
+ * of the next ones, and the client the ones it received, to decode the next ones and to render between
+ * them. Both keep the same number of snapshots, so a baseline the server still has is still on the
+ * client that acknowledged it.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+final class SnapshotHistory {
+	static final int CAPACITY = 32;
+	private static final int MASK = CAPACITY - 1;
+	private Snapshot[] snapshots = new Snapshot[CAPACITY];
+
+	SnapshotHistory(int vehicles) {
+		for (int snapshot = 0; snapshot < CAPACITY; snapshot++) {
+			snapshots[snapshot] = new Snapshot(vehicles);
+		}
+	}
+
+	/**
+	 * Returns the snapshot to fill for a tick, it takes the place of the snapshot {@value #CAPACITY}
+	 * ticks older.
+	 */
+	Snapshot add(int tick) {
+		Snapshot snapshot = snapshots[tick & MASK];
+		snapshot.setTick(tick);
+		return snapshot;
+	}
+
+	/**
+	 * Returns the snapshot of a tick, null when it isn't kept.
+	 */
+	Snapshot get(int tick) {
+		if (tick == NetworkProtocol.NO_TICK) {
+			return null;
+		}
+		Snapshot snapshot = snapshots[tick & MASK];
+		if (snapshot.getTick() != tick) {
+			return null;
+		}
+		return snapshot;
+	}
+
+	/**
+	 * Forgets the snapshot of a tick, which couldn't be filled.
+	 */
+	void remove(int tick) {
+		Snapshot snapshot = get(tick);
+		if (snapshot != null) {
+			snapshot.setTick(NetworkProtocol.NO_TICK);
+		}
+	}
+}
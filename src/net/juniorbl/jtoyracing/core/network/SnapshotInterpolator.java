@@ -0,0 +1,94 @@
+package net.juniorbl.jtoyracing.core.network;
+
+import com.jme.math.Quaternion;
+import com.jme.math.Vector3f;
+
+/**
+ * Places the vehicles of the other clients between two snapshots received, a little in the past: the
+ * client renders {@value #DELAY} ticks behind the newest snapshot, so there's usually a snapshot on each
+ * side of the time rendered even when one is lost or late. The time rendered advances with the frames at
+ * the rate of the snapshots and jumps back to the delay when it drifts too far from it.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class SnapshotInterpolator {
+	public static final float DELAY = 2;
+	private static final float MAX_DRIFT = 2 * DELAY;
+	private NetworkClient client;
+	private float renderTick = NetworkProtocol.NO_TICK;
+	private Snapshot from;
+	private Snapshot to;
+	private float amount;
+	private Vector3f toPosition = new Vector3f();
+	private Quaternion fromRotation = new Quaternion();
+	private Quaternion toRotation = new Quaternion();
+
+	public SnapshotInterpolator(NetworkClient client) {
+		this.client = client;
+	}
+
+	/**
+	 * Advances the time rendered by the time of a frame and finds the snapshots around it.
+	 */
+	public void update(float seconds) {
+		int latestTick = client.getLatestTick();
+		if (latestTick == NetworkProtocol.NO_TICK) {
+			return;
+		}
+		float targetTick = latestTick - DELAY;
+		renderTick += seconds * client.getSnapshotsPerSecond();
+		if (Math.abs(renderTick - targetTick) > MAX_DRIFT) {
+			renderTick = targetTick;
+		}
+		renderTick = Math.min(renderTick, latestTick);
+		from = null;
+		int fromTick = (int) Math.floor(renderTick);
+		for (int tick = fromTick; tick > latestTick - SnapshotHistory.CAPACITY && from == null; tick--) {
+			from = client.getSnapshot(tick);
+		}
+		to = null;
+		for (int tick = fromTick + 1; tick <= latestTick && to == null; tick++) {
+			to = client.getSnapshot(tick);
+		}
+		if (from == null) {
+			from = to;
+		}
+		if (to == null) {
+			to = from;
+		}
+		if (from != null && to.getTick() > from.getTick()) {
+			amount = Math.max(0, Math.min((renderTick - from.getTick()) / (to.getTick() - from.getTick()), 1));
+		} else {
+			amount = 0;
+		}
+	}
+
+	/**
+	 * Places a body at the time rendered, returns false before the first snapshot.
+	 */
+	public boolean getBody(int body, Vector3f position, Quaternion rotation) {
+		if (from == null) {
+			return false;
+		}
+		from.getBody(body, position, fromRotation);
+		to.getBody(body, toPosition, toRotation);
+		position.interpolate(toPosition, amount);
+		rotation.slerp(fromRotation, toRotation, amount);
+		return true;
+	}
+
+	/**
+	 * Returns the newest snapshot at or before the time rendered, null before the first.
+	 */
+	public Snapshot getSnapshot() {
+		return from;
+	}
+
+	/**
+	 * Returns the tick rendered, with the fraction of the way to the next one.
+	 */
+	public float getRenderTick() {
+		return renderTick;
+	}
+}
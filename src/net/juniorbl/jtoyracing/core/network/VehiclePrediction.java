@@ -0,0 +1,95 @@
+package net.juniorbl.jtoyracing.core.network;
+
+import net.juniorbl.jtoyracing.core.replay.ReplayFormat;
+
+import com.jme.math.Vector3f;
+
+/**
+ * Predicts the vehicle of the client: the vehicle is driven and stepped at once by the physics of the
+ * client, which doesn't wait for the server, and corrected by the server. Where the chassis was after
+ * each input is kept; when a snapshot says where the server had it after the same input, the difference
+ * is the error of the prediction. The error is corrected a little each frame so the vehicle doesn't
+ * jump, unless it's too large to be hidden.
+ *
+ * The positions kept are moved with the corrections, so an error already being corrected isn't counted
+ * again by the next snapshots. Only the position is corrected, the physics of the client keeps the
+ * rotation and the velocity.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class VehiclePrediction {
+	/**
+	 * The error corrected at once, about the length of a vehicle.
+	 */
+	public static final float SNAP_DISTANCE = 3;
+	/**
+	 * The part of the error corrected per second.
+	 */
+	public static final float CORRECTION_RATE = 10;
+	/**
+	 * About two seconds of inputs at 60 steps per second, longer than the round trip to the server.
+	 */
+	private static final int PREDICTIONS = 128;
+	private static final int MASK = PREDICTIONS - 1;
+	/**
+	 * The errors under the precision of the snapshots aren't corrected.
+	 */
+	private static final float MIN_ERROR = 2 / ReplayFormat.POSITION_SCALE;
+	private int[] sequences = new int[PREDICTIONS];
+	private Vector3f[] positions = new Vector3f[PREDICTIONS];
+	private Vector3f error = new Vector3f();
+	private int reconciledSequence;
+
+	public VehiclePrediction() {
+		for (int prediction = 0; prediction < PREDICTIONS; prediction++) {
+			positions[prediction] = new Vector3f();
+		}
+	}
+
+	/**
+	 * Keeps where the chassis is after the step of an input.
+	 */
+	public void record(int sequence, Vector3f position) {
+		sequences[sequence & MASK] = sequence;
+		positions[sequence & MASK].set(position);
+	}
+
+	/**
+	 * Compares where the chassis was after an input with where the server had it, the error replaces the
+	 * one left from the last snapshot.
+	 */
+	public void reconcile(int sequence, Vector3f serverPosition) {
+		if (sequence <= reconciledSequence || sequences[sequence & MASK] != sequence) {
+			return;
+		}
+		reconciledSequence = sequence;
+		error.set(serverPosition).subtractLocal(positions[sequence & MASK]);
+		if (error.length() < MIN_ERROR) {
+			error.zero();
+		}
+	}
+
+	/**
+	 * Returns the correction to move the vehicle by in a frame, the whole error when it's too large.
+	 */
+	public Vector3f correct(float seconds, Vector3f correction) {
+		if (error.length() > SNAP_DISTANCE) {
+			correction.set(error);
+		} else {
+			correction.set(error).multLocal(Math.min(seconds * CORRECTION_RATE, 1));
+		}
+		error.subtractLocal(correction);
+		for (int prediction = 0; prediction < PREDICTIONS; prediction++) {
+			positions[prediction].addLocal(correction);
+		}
+		return correction;
+	}
+
+	/**
+	 * Returns the error left to correct.
+	 */
+	public Vector3f getError() {
+		return error;
+	}
+}
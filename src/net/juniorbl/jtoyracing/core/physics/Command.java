@@ -0,0 +1,15 @@
+package net.juniorbl.jtoyracing.core.physics;
+
+/**
+ * Something to be done on another thread, passed to it by a {@link CommandQueue}.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public interface Command {
+
+	/**
+	 * Called on the thread that drains the queue.
+	 */
+	void execute();
+}
@@ -0,0 +1,80 @@
+package net.juniorbl.jtoyracing.core.physics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.jme.util.LoggingSystem;
+
+/**
+ * Passes commands from one thread to another without locks: the input of the render thread to the
+ * physics thread, the events of the race back to the render thread. Only one thread may submit and only
+ * one may drain. The queue is a ring of a fixed capacity, a command submitted to a full queue is dropped.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class CommandQueue {
+	private Command[] commands;
+	private int mask;
+	/**
+	 * Commands drained since the creation, written by the draining thread.
+	 */
+	private AtomicLong head = new AtomicLong();
+	/**
+	 * Commands submitted since the creation, written by the submitting thread.
+	 */
+	private AtomicLong tail = new AtomicLong();
+
+	/**
+	 * Creates a queue of the power of two equal or above the capacity.
+	 */
+	public CommandQueue(int capacity) {
+		int size = Integer.highestOneBit(Math.max(capacity - 1, 1)) * 2;
+		commands = new Command[size];
+		mask = size - 1;
+	}
+
+	/**
+	 * Adds a command, returns false when the queue is full.
+	 */
+	public boolean offer(Command command) {
+		long submitted = tail.get();
+		if (submitted - head.get() == commands.length) {
+			return false;
+		}
+		commands[(int) (submitted & mask)] = command;
+		tail.lazySet(submitted + 1);
+		return true;
+	}
+
+	/**
+	 * Adds a command, a full queue drops it with a warning.
+	 */
+	public void submit(Command command) {
+		if (!offer(command)) {
+			LoggingSystem.getLogger().warning("Command queue full, command dropped: " + command);
+		}
+	}
+
+	/**
+	 * Executes the commands submitted so far, in order. Returns the number of commands executed.
+	 */
+	public int drain() {
+		long drained = head.get();
+		long submitted = tail.get();
+		int executed = 0;
+		while (drained < submitted) {
+			int slot = (int) (drained & mask);
+			Command command = commands[slot];
+			commands[slot] = null;
+			command.execute();
+			drained++;
+			executed++;
+		}
+		head.lazySet(drained);
+		return executed;
+	}
+
+	public int getCapacity() {
+		return commands.length;
+	}
+}
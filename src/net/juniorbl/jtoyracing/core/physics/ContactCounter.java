@@ -0,0 +1,37 @@
+package net.juniorbl.jtoyracing.core.physics;
+
+import com.jmex.physics.contact.ContactCallback;
+import com.jmex.physics.contact.PendingContact;
+
+/**
+ * Counts the contacts found by the collision detection. Past the maximum of a step, when there is one,
+ * the contacts are ignored, the others are left as they are.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+final class ContactCounter implements ContactCallback {
+	private int contacts;
+	private int maxContacts;
+
+	public boolean adjustContact(PendingContact contact) {
+		contacts++;
+		if (maxContacts > 0 && contacts > maxContacts) {
+			contact.setIgnored(true);
+			return true;
+		}
+		return false;
+	}
+
+	int getContacts() {
+		return contacts;
+	}
+
+	void setMaxContacts(int maxContacts) {
+		this.maxContacts = maxContacts;
+	}
+
+	void reset() {
+		contacts = 0;
+	}
+}
@@ -0,0 +1,16 @@
+package net.juniorbl.jtoyracing.core.physics;
+
+/**
+ * Define methods to the fixed step observers (Observer pattern), like the rules of the race, which must
+ * advance with the physics.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public interface FixedStepObserver {
+
+	/**
+	 * Called after each step of the physics, always with the same time step.
+	 */
+	void physicsStepped(float timeStep);
+}
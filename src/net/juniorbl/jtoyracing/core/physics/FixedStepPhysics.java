@@ -0,0 +1,235 @@
+package net.juniorbl.jtoyracing.core.physics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.juniorbl.jtoyracing.core.profiling.FrameProfiler;
+import net.juniorbl.jtoyracing.core.profiling.PhysicsStepEvent;
+import net.juniorbl.jtoyracing.enums.FramePhase;
+
+import com.jme.scene.Spatial;
+import com.jme.util.LoggingSystem;
+import com.jmex.physics.PhysicsSpace;
+import com.jmex.physics.impl.ode.OdePhysicsSpace;
+
+/**
+ * Steps the physics at a fixed rate, whatever the frame rate. Without it the physics space takes one
+ * step of 0.02 seconds per frame, so the traction, steering and springs of the vehicles behave
+ * differently on a slow machine than on a fast one.
+ *
+ * The time of the frames is accumulated and consumed in fixed steps, at most {@code maxSteps} per
+ * frame: after a very slow frame the remaining time is dropped, the game slows down instead of spending
+ * the next frame catching up (and the one after it, and so on). The observers advance with each step.
+ *
+ * The spatials moved by the steps are rendered between the state of the last two steps, by the time
+ * left in the accumulator, so the movement is smooth when the frame rate isn't a multiple of the step
+ * rate. They are put back in the state of the last step before stepping again.
+ *
+ * The work of the steps is limited by a {@link PhysicsBudget}, the contacts and the bodies awake in the
+ * last step tell how much of it was used.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class FixedStepPhysics {
+	public static final String STEPS_PER_SECOND_PROPERTY = "jtoyracing.physics.rate";
+	public static final String MAX_STEPS_PROPERTY = "jtoyracing.physics.maxSteps";
+	public static final int DEFAULT_STEPS_PER_SECOND = 60;
+	public static final int DEFAULT_MAX_STEPS = 5;
+	private PhysicsSpace physicsSpace;
+	private float timeStep;
+	private int maxSteps;
+	private float accumulatedTime;
+	private float interpolation;
+	private long steps;
+	private float droppedTime;
+	private List<InterpolatedBody> bodies = new ArrayList<InterpolatedBody>();
+	private List<FixedStepObserver> fixedStepObservers = new ArrayList<FixedStepObserver>();
+	private FrameProfiler frameProfiler;
+	private ContactCounter contactCounter = new ContactCounter();
+	private int contacts;
+	private int awakeBodies;
+
+	/**
+	 * Takes over the stepping of a physics space. The space only steps when it has accumulated a full
+	 * step, so updating it with no time, as the game does while paused or playing a replay, doesn't step.
+	 */
+	public FixedStepPhysics(PhysicsSpace physicsSpace, int stepsPerSecond, int maxSteps) {
+		this.physicsSpace = physicsSpace;
+		this.timeStep = 1f / stepsPerSecond;
+		this.maxSteps = maxSteps;
+		physicsSpace.getContactCallbacks().add(contactCounter);
+		if (physicsSpace instanceof OdePhysicsSpace) {
+			OdePhysicsSpace odePhysicsSpace = (OdePhysicsSpace) physicsSpace;
+			odePhysicsSpace.setStepSize(timeStep);
+			odePhysicsSpace.setUpdateRate(stepsPerSecond);
+		} else {
+			LoggingSystem.getLogger().warning("Unknown physics space, its step size can't be fixed: " + physicsSpace);
+		}
+	}
+
+	/**
+	 * Creates the driver with the rate and the steps per frame of the {@value #STEPS_PER_SECOND_PROPERTY}
+	 * and {@value #MAX_STEPS_PROPERTY} system properties, or the defaults, and the budget of the system
+	 * properties.
+	 */
+	public static FixedStepPhysics createDefault(PhysicsSpace physicsSpace) {
+		FixedStepPhysics fixedStepPhysics = new FixedStepPhysics(physicsSpace, Integer.getInteger(STEPS_PER_SECOND_PROPERTY,
+				DEFAULT_STEPS_PER_SECOND), Integer.getInteger(MAX_STEPS_PROPERTY, DEFAULT_MAX_STEPS));
+		fixedStepPhysics.setPhysicsBudget(PhysicsBudget.createDefault());
+		return fixedStepPhysics;
+	}
+
+	/**
+	 * Limits the work of the steps of the physics space.
+	 */
+	public void setPhysicsBudget(PhysicsBudget physicsBudget) {
+		physicsBudget.apply(physicsSpace);
+		contactCounter.setMaxContacts(physicsBudget.getMaxContacts());
+	}
+
+	/**
+	 * Adds a spatial to be rendered between the steps. The parents must be added before their children.
+	 */
+	public void addBody(Spatial spatial) {
+		bodies.add(new InterpolatedBody(spatial));
+	}
+
+	/**
+	 * Advances by the time of a frame: takes the steps it completes and places the bodies between the
+	 * last two. Returns the number of steps taken.
+	 */
+	public int update(float timePerFrame) {
+		accumulatedTime += timePerFrame;
+		int frameSteps = 0;
+		if (accumulatedTime >= timeStep) {
+			restoreBodies();
+		}
+		while (accumulatedTime >= timeStep && frameSteps < maxSteps) {
+			step();
+			accumulatedTime -= timeStep;
+			frameSteps++;
+		}
+		if (accumulatedTime >= timeStep) {
+			float remainingTime = accumulatedTime % timeStep;
+			droppedTime += accumulatedTime - remainingTime;
+			accumulatedTime = remainingTime;
+		}
+		interpolation = accumulatedTime / timeStep;
+		interpolateBodies();
+		return frameSteps;
+	}
+
+	private void step() {
+		for (int body = 0; body < bodies.size(); body++) {
+			bodies.get(body).savePreviousState();
+		}
+		if (frameProfiler != null) {
+			frameProfiler.start(FramePhase.PHYSICS);
+			updatePhysicsSpace();
+			frameProfiler.stop(FramePhase.PHYSICS);
+			frameProfiler.start(FramePhase.RACE);
+			notifyObserversPhysicsStepped();
+			frameProfiler.stop(FramePhase.RACE);
+		} else {
+			updatePhysicsSpace();
+			notifyObserversPhysicsStepped();
+		}
+		for (int body = 0; body < bodies.size(); body++) {
+			bodies.get(body).saveCurrentState();
+		}
+		steps++;
+	}
+
+	/**
+	 * Takes a step of the physics space, the step is a flight recorder event with its number of contacts
+	 * and bodies awake.
+	 */
+	private void updatePhysicsSpace() {
+		PhysicsStepEvent physicsStepEvent = new PhysicsStepEvent();
+		physicsStepEvent.begin();
+		contactCounter.reset();
+		physicsSpace.update(timeStep);
+		physicsStepEvent.end();
+		contacts = contactCounter.getContacts();
+		awakeBodies = PhysicsBudget.countAwakeBodies(physicsSpace);
+		if (physicsStepEvent.shouldCommit()) {
+			physicsStepEvent.setTimeStep(timeStep);
+			physicsStepEvent.setContacts(contacts);
+			physicsStepEvent.setAwakeBodies(awakeBodies);
+			physicsStepEvent.commit();
+		}
+	}
+
+	private void notifyObserversPhysicsStepped() {
+		for (int observer = 0; observer < fixedStepObservers.size(); observer++) {
+			fixedStepObservers.get(observer).physicsStepped(timeStep);
+		}
+	}
+
+	private void restoreBodies() {
+		for (int body = 0; body < bodies.size(); body++) {
+			bodies.get(body).restoreCurrentState();
+		}
+	}
+
+	private void interpolateBodies() {
+		for (int body = 0; body < bodies.size(); body++) {
+			bodies.get(body).interpolate(interpolation);
+		}
+	}
+
+	public void addObserver(FixedStepObserver fixedStepObserver) {
+		fixedStepObservers.add(fixedStepObserver);
+	}
+
+	public void removeObserver(FixedStepObserver fixedStepObserver) {
+		fixedStepObservers.remove(fixedStepObserver);
+	}
+
+	/**
+	 * Measures the physics steps and the observers (the race) with a profiler, none by default.
+	 */
+	public void setFrameProfiler(FrameProfiler frameProfiler) {
+		this.frameProfiler = frameProfiler;
+	}
+
+	public float getTimeStep() {
+		return timeStep;
+	}
+
+	/**
+	 * Returns where the bodies are rendered between the last two steps, from 0 (the previous one) to 1.
+	 */
+	public float getInterpolation() {
+		return interpolation;
+	}
+
+	/**
+	 * Returns the steps taken since the creation.
+	 */
+	public long getSteps() {
+		return steps;
+	}
+
+	/**
+	 * Returns the contacts found in the last step, the ignored ones included.
+	 */
+	public int getContacts() {
+		return contacts;
+	}
+
+	/**
+	 * Returns the bodies simulated in the last step, the sleeping ones aren't.
+	 */
+	public int getAwakeBodies() {
+		return awakeBodies;
+	}
+
+	/**
+	 * Returns the frame time that was dropped to keep the steps of a frame under the maximum, in seconds.
+	 */
+	public float getDroppedTime() {
+		return droppedTime;
+	}
+}
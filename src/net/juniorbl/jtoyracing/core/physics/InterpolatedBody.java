@@ -0,0 +1,57 @@
+package net.juniorbl.jtoyracing.core.physics;
+
+import com.jme.math.Quaternion;
+import com.jme.math.Vector3f;
+import com.jme.scene.Spatial;
+
+/**
+ * A spatial moved by the fixed steps, with its local transform after the last two steps.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+final class InterpolatedBody {
+	private Spatial spatial;
+	private Vector3f previousTranslation = new Vector3f();
+	private Quaternion previousRotation = new Quaternion();
+	private Vector3f currentTranslation = new Vector3f();
+	private Quaternion currentRotation = new Quaternion();
+	private Quaternion slerpRotation = new Quaternion();
+
+	InterpolatedBody(Spatial spatial) {
+		this.spatial = spatial;
+		saveCurrentState();
+		savePreviousState();
+	}
+
+	void savePreviousState() {
+		previousTranslation.set(currentTranslation);
+		previousRotation.set(currentRotation);
+	}
+
+	void saveCurrentState() {
+		currentTranslation.set(spatial.getLocalTranslation());
+		currentRotation.set(spatial.getLocalRotation());
+	}
+
+	/**
+	 * Puts the spatial back in the state of the last step. The world vectors are updated at once, a
+	 * physics node gives its transform to its body when they are, which undoes the interpolation there.
+	 */
+	void restoreCurrentState() {
+		spatial.getLocalTranslation().set(currentTranslation);
+		spatial.getLocalRotation().set(currentRotation);
+		spatial.updateWorldVectors();
+	}
+
+	void interpolate(float amount) {
+		spatial.getLocalTranslation().interpolate(previousTranslation, currentTranslation, amount);
+		// slerp may negate its second quaternion, it's given a copy
+		slerpRotation.set(currentRotation);
+		spatial.getLocalRotation().slerp(previousRotation, slerpRotation, amount);
+	}
+
+	Spatial getSpatial() {
+		return spatial;
+	}
+}
@@ -0,0 +1,188 @@
+package net.juniorbl.jtoyracing.core.physics;
+
+import java.util.List;
+
+import org.odejava.Odejava;
+import org.odejava.ode.Ode;
+import org.odejava.ode.SWIGTYPE_p_dWorldID;
+
+import com.jme.util.LoggingSystem;
+import com.jmex.physics.DynamicPhysicsNode;
+import com.jmex.physics.PhysicsNode;
+import com.jmex.physics.PhysicsSpace;
+import com.jmex.physics.impl.ode.DynamicPhysicsNodeImpl;
+import com.jmex.physics.impl.ode.OdePhysicsSpace;
+
+/**
+ * How much work a physics space does per step: the iterations of the solver, the contacts kept and
+ * when an idle body goes to sleep. A sleeping body isn't simulated until something touches it or it's
+ * woken up, so a parked vehicle (nine bodies and eight joints) costs almost nothing.
+ *
+ * JMonkeyEngine Physics leaves {@code rest()} of the ODE bodies empty, so the bodies are woken up and
+ * counted through the bodies of ODE. It also fixes the idle steps (20) and time (half a second) of its
+ * threshold, and the setters of odejava for them do nothing, so they are given to ODE directly. Other
+ * physics spaces only get the iterations and the threshold of their own API.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class PhysicsBudget {
+	public static final String ITERATIONS_PROPERTY = "jtoyracing.physics.iterations";
+	public static final String SLEEP_VELOCITY_PROPERTY = "jtoyracing.physics.sleepVelocity";
+	public static final String SLEEP_STEPS_PROPERTY = "jtoyracing.physics.sleepSteps";
+	public static final String PAIR_CONTACTS_PROPERTY = "jtoyracing.physics.pairContacts";
+	public static final String MAX_CONTACTS_PROPERTY = "jtoyracing.physics.maxContacts";
+	/**
+	 * The iterations JMonkeyEngine Physics gives to the quick step of ODE.
+	 */
+	public static final int DEFAULT_ITERATIONS = 15;
+	public static final String DEFAULT_SLEEP_VELOCITY = "0.1";
+	public static final int DEFAULT_SLEEP_STEPS = 30;
+	/**
+	 * Two boxes touch in 8 points at most, more contacts only come from triangle meshes.
+	 */
+	public static final int DEFAULT_PAIR_CONTACTS = 8;
+	private int iterations = DEFAULT_ITERATIONS;
+	private float sleepVelocity;
+	private int sleepSteps = DEFAULT_SLEEP_STEPS;
+	private int pairContacts = DEFAULT_PAIR_CONTACTS;
+	private int maxContacts;
+
+	/**
+	 * Creates the budget with the values of the system properties, or the defaults. No body sleeps
+	 * when the {@value #SLEEP_VELOCITY_PROPERTY} is zero, the contacts of a step are only limited by a
+	 * {@value #MAX_CONTACTS_PROPERTY} above zero.
+	 */
+	public static PhysicsBudget createDefault() {
+		PhysicsBudget physicsBudget = new PhysicsBudget();
+		physicsBudget.setIterations(Integer.getInteger(ITERATIONS_PROPERTY, DEFAULT_ITERATIONS));
+		physicsBudget.setSleepVelocity(Float.parseFloat(System.getProperty(SLEEP_VELOCITY_PROPERTY, DEFAULT_SLEEP_VELOCITY)));
+		physicsBudget.setSleepSteps(Integer.getInteger(SLEEP_STEPS_PROPERTY, DEFAULT_SLEEP_STEPS));
+		physicsBudget.setPairContacts(Integer.getInteger(PAIR_CONTACTS_PROPERTY, DEFAULT_PAIR_CONTACTS));
+		physicsBudget.setMaxContacts(Integer.getInteger(MAX_CONTACTS_PROPERTY, 0));
+		return physicsBudget;
+	}
+
+	/**
+	 * Configures the solver and the sleeping of a physics space. The contacts of a pair of geometries
+	 * are limited by ODE for all the spaces.
+	 */
+	public void apply(PhysicsSpace physicsSpace) {
+		if (sleepVelocity > 0) {
+			physicsSpace.setAutoDisableThreshold(sleepVelocity);
+		} else {
+			physicsSpace.setAutoDisableThreshold(Float.NaN);
+		}
+		if (physicsSpace instanceof OdePhysicsSpace) {
+			OdePhysicsSpace odePhysicsSpace = (OdePhysicsSpace) physicsSpace;
+			odePhysicsSpace.setStepInteractions(iterations);
+			if (sleepVelocity > 0) {
+				SWIGTYPE_p_dWorldID world = odePhysicsSpace.getODEJavaWorld().getId();
+				Ode.dWorldSetAutoDisableSteps(world, sleepSteps);
+				Ode.dWorldSetAutoDisableTime(world, 0);
+			}
+			applySleepToBodies(physicsSpace);
+			Odejava.setMaxContactGeomsPerNearcallback(pairContacts);
+		} else {
+			LoggingSystem.getLogger().warning("Unknown physics space, its solver can't be configured: " + physicsSpace);
+		}
+	}
+
+	/**
+	 * Gives the sleeping of the world to the bodies already in it, ODE only copies it to a body when the
+	 * body is created.
+	 */
+	private static void applySleepToBodies(PhysicsSpace physicsSpace) {
+		List<? extends PhysicsNode> nodes = physicsSpace.getNodes();
+		for (int node = 0; node < nodes.size(); node++) {
+			if (nodes.get(node) instanceof DynamicPhysicsNodeImpl) {
+				Ode.dBodySetAutoDisableDefaults(((DynamicPhysicsNodeImpl) nodes.get(node)).getBody().getId());
+			}
+		}
+	}
+
+	/**
+	 * Wakes up a sleeping body, its joints and the bodies touching it wake up with it.
+	 */
+	public static void wake(DynamicPhysicsNode body) {
+		if (body instanceof DynamicPhysicsNodeImpl) {
+			((DynamicPhysicsNodeImpl) body).getBody().setEnabled(true);
+		}
+	}
+
+	/**
+	 * Returns whether a node is simulated: a dynamic node that isn't sleeping.
+	 */
+	public static boolean isAwake(PhysicsNode node) {
+		if (node instanceof DynamicPhysicsNodeImpl) {
+			return ((DynamicPhysicsNodeImpl) node).getBody().isEnabled();
+		}
+		return !node.isStatic();
+	}
+
+	/**
+	 * Counts the nodes of a physics space that are simulated.
+	 */
+	public static int countAwakeBodies(PhysicsSpace physicsSpace) {
+		List<? extends PhysicsNode> nodes = physicsSpace.getNodes();
+		int awakeBodies = 0;
+		for (int node = 0; node < nodes.size(); node++) {
+			if (isAwake(nodes.get(node))) {
+				awakeBodies++;
+			}
+		}
+		return awakeBodies;
+	}
+
+	public int getIterations() {
+		return iterations;
+	}
+
+	public void setIterations(int iterations) {
+		this.iterations = iterations;
+	}
+
+	public float getSleepVelocity() {
+		return sleepVelocity;
+	}
+
+	/**
+	 * Sets the linear and angular velocity under which a body is idle, zero keeps every body awake.
+	 */
+	public void setSleepVelocity(float sleepVelocity) {
+		this.sleepVelocity = sleepVelocity;
+	}
+
+	public int getSleepSteps() {
+		return sleepSteps;
+	}
+
+	/**
+	 * Sets the steps a body must stay idle before sleeping, there's no idle time to wait besides them.
+	 */
+	public void setSleepSteps(int sleepSteps) {
+		this.sleepSteps = sleepSteps;
+	}
+
+	public int getPairContacts() {
+		return pairContacts;
+	}
+
+	/**
+	 * Sets the contacts kept for a pair of touching geometries.
+	 */
+	public void setPairContacts(int pairContacts) {
+		this.pairContacts = pairContacts;
+	}
+
+	public int getMaxContacts() {
+		return maxContacts;
+	}
+
+	/**
+	 * Sets the contacts applied in a step, the ones found after them are ignored. Zero doesn't limit them.
+	 */
+	public void setMaxContacts(int maxContacts) {
+		this.maxContacts = maxContacts;
+	}
+}
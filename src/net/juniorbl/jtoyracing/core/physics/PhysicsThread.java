@@ -0,0 +1,141 @@
+package net.juniorbl.jtoyracing.core.physics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+import com.jme.math.Vector3f;
+import com.jme.scene.Spatial;
+
+/**
+ * Runs the fixed steps of the physics on a thread of their own, so the frame rate and the physics rate
+ * don't limit each other on a machine with more than one core. The fixed step observers (the race) run
+ * on that thread too.
+ *
+ * JMonkeyEngine Physics writes the nodes of the bodies while it steps, so the scene of the physics
+ * thread must not be drawn or updated by the render thread. The models of the moving bodies are drawn
+ * by nodes of their own instead, placed by the transforms the physics thread publishes after each step
+ * through a triple buffer, between the last two steps as {@link FixedStepPhysics} does. The input goes the
+ * other way through a queue of commands, executed before the steps.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class PhysicsThread implements Runnable, FixedStepObserver {
+	public static final String THREAD_PROPERTY = "jtoyracing.physics.thread";
+	private static final int COMMANDS = 256;
+	private static final float NANOS_PER_SECOND = 1000000000f;
+	private FixedStepPhysics fixedStepPhysics;
+	private Spatial scene;
+	private List<Spatial> bodies = new ArrayList<Spatial>();
+	private List<RenderedBody> renderedBodies = new ArrayList<RenderedBody>();
+	private float[] lastTransforms;
+	private TransformBuffer transformBuffer;
+	private CommandQueue commands = new CommandQueue(COMMANDS);
+	private Thread thread;
+	private volatile boolean running;
+
+	/**
+	 * Takes over the fixed steps and the scene they move, updated after each step. The observers added
+	 * to the fixed steps before the creation run before the transforms are published.
+	 */
+	public PhysicsThread(FixedStepPhysics fixedStepPhysics, Spatial scene) {
+		this.fixedStepPhysics = fixedStepPhysics;
+		this.scene = scene;
+		fixedStepPhysics.addObserver(this);
+	}
+
+	/**
+	 * Returns whether the physics runs on its own thread, by the {@value #THREAD_PROPERTY} system
+	 * property. It doesn't by default.
+	 */
+	public static boolean isEnabled() {
+		return Boolean.getBoolean(THREAD_PROPERTY);
+	}
+
+	/**
+	 * Takes the models of a body of the scene, before the start. Returns what draws them, its node is to be
+	 * attached to the scene of the render thread.
+	 */
+	public RenderedBody addBody(Spatial body) {
+		RenderedBody renderedBody = new RenderedBody(body);
+		bodies.add(body);
+		renderedBodies.add(renderedBody);
+		return renderedBody;
+	}
+
+	/**
+	 * Starts stepping, from the current state of the scene.
+	 */
+	public void start() {
+		lastTransforms = new float[bodies.size() * TransformSnapshot.TRANSFORM_SIZE];
+		TransformSnapshot.read(bodies, lastTransforms, new Vector3f());
+		transformBuffer = new TransformBuffer(lastTransforms);
+		running = true;
+		thread = new Thread(this, "physics");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Stops stepping and waits for the last step.
+	 */
+	public void stop() {
+		if (thread != null) {
+			running = false;
+			LockSupport.unpark(thread);
+			try {
+				thread.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * Steps as the time passes, with the commands submitted since the last steps. Sleeps until the next
+	 * step is due.
+	 */
+	public void run() {
+		long lastTime = System.nanoTime();
+		while (running) {
+			long time = System.nanoTime();
+			commands.drain();
+			fixedStepPhysics.update((time - lastTime) / NANOS_PER_SECOND);
+			lastTime = time;
+			float timeToNextStep = (1 - fixedStepPhysics.getInterpolation()) * fixedStepPhysics.getTimeStep();
+			LockSupport.parkNanos((long) (timeToNextStep * NANOS_PER_SECOND));
+		}
+	}
+
+	/**
+	 * Updates the scene after a step and publishes the transforms of the bodies, on the physics thread.
+	 */
+	public void physicsStepped(float timeStep) {
+		scene.updateGeometricState(timeStep, true);
+		transformBuffer.getBack().write(bodies, lastTransforms);
+		transformBuffer.publish();
+	}
+
+	/**
+	 * Places the models of the bodies between the last two published steps, on the render thread.
+	 */
+	public void update() {
+		if (transformBuffer != null) {
+			TransformSnapshot snapshot = transformBuffer.getFront();
+			float sincePublished = (System.nanoTime() - snapshot.getPublishTime()) / NANOS_PER_SECOND;
+			float amount = Math.min(sincePublished / fixedStepPhysics.getTimeStep(), 1);
+			for (int body = 0; body < renderedBodies.size(); body++) {
+				renderedBodies.get(body).update(snapshot, body, amount);
+			}
+		}
+	}
+
+	/**
+	 * Returns the queue of the commands executed on the physics thread, only the render thread may
+	 * submit them.
+	 */
+	public CommandQueue getCommands() {
+		return commands;
+	}
+}
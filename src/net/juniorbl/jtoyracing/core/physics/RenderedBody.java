@@ -0,0 +1,90 @@
+package net.juniorbl.jtoyracing.core.physics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.jme.math.Quaternion;
+import com.jme.math.Vector3f;
+import com.jme.scene.Node;
+import com.jme.scene.Spatial;
+import com.jme.scene.state.RenderState;
+import com.jmex.physics.PhysicsCollisionGeometry;
+
+/**
+ * The models of a body moved by the physics thread, drawn by the render thread. The models are moved
+ * from the body to a node of their own, placed by the snapshots of the body, so the render thread never
+ * reads or writes a node the physics thread is stepping. The speed of the body comes with the snapshots
+ * too, for the sounds of the render thread.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class RenderedBody {
+	private Spatial body;
+	private Node node;
+	private Vector3f previousVector = new Vector3f();
+	private Vector3f currentVector = new Vector3f();
+	private Quaternion previousRotation = new Quaternion();
+	private Quaternion currentRotation = new Quaternion();
+	private float speed;
+
+	/**
+	 * Takes the models of a body, the children that aren't collision geometries, with its render states.
+	 */
+	RenderedBody(Spatial body) {
+		this.body = body;
+		node = new Node(body.getName() + "-rendered");
+		node.getLocalTranslation().set(body.getWorldTranslation());
+		node.getLocalRotation().set(body.getWorldRotation());
+		node.getLocalScale().set(body.getWorldScale());
+		node.setCullMode(body.getCullMode());
+		for (int type = 0; type < RenderState.RS_MAX_STATE; type++) {
+			if (body.getRenderState(type) != null) {
+				node.setRenderState(body.getRenderState(type));
+			}
+		}
+		if (body instanceof Node && ((Node) body).getChildren() != null) {
+			List<Spatial> models = new ArrayList<Spatial>();
+			for (Spatial child : ((Node) body).getChildren()) {
+				if (!(child instanceof PhysicsCollisionGeometry)) {
+					models.add(child);
+				}
+			}
+			for (Spatial model : models) {
+				node.attachChild(model);
+			}
+		}
+	}
+
+	/**
+	 * Places the node between the previous and the current transforms of its body in a snapshot.
+	 */
+	void update(TransformSnapshot snapshot, int index, float amount) {
+		TransformSnapshot.getTranslation(snapshot.getPrevious(), index, previousVector);
+		TransformSnapshot.getTranslation(snapshot.getCurrent(), index, currentVector);
+		node.getLocalTranslation().interpolate(previousVector, currentVector, amount);
+		TransformSnapshot.getScale(snapshot.getPrevious(), index, previousVector);
+		TransformSnapshot.getScale(snapshot.getCurrent(), index, currentVector);
+		node.getLocalScale().interpolate(previousVector, currentVector, amount);
+		TransformSnapshot.getRotation(snapshot.getPrevious(), index, previousRotation);
+		TransformSnapshot.getRotation(snapshot.getCurrent(), index, currentRotation);
+		node.getLocalRotation().slerp(previousRotation, currentRotation, amount);
+		float previousSpeed = TransformSnapshot.getSpeed(snapshot.getPrevious(), index);
+		speed = previousSpeed + (TransformSnapshot.getSpeed(snapshot.getCurrent(), index) - previousSpeed) * amount;
+		node.setCullMode(body.getCullMode());
+	}
+
+	/**
+	 * Returns the node that draws the models, to be attached to the scene of the render thread.
+	 */
+	public Node getNode() {
+		return node;
+	}
+
+	/**
+	 * Returns the speed of the body where the node is placed, zero for a body that isn't dynamic.
+	 */
+	public float getSpeed() {
+		return speed;
+	}
+}
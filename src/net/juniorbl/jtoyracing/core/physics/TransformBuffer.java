@@ -0,0 +1,57 @@
+package net.juniorbl.jtoyracing.core.physics;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Publishes the snapshots of the physics thread to the render thread without locks, by triple buffering:
+ * the physics thread writes the back snapshot and swaps it with the middle one, the render thread swaps
+ * its front snapshot with the middle one when a newer one is there. Neither waits for the other, the
+ * render thread always reads the last complete snapshot.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+final class TransformBuffer {
+	private static final int INDEX_MASK = 3;
+	/**
+	 * Set on the middle index when its snapshot wasn't read yet.
+	 */
+	private static final int FRESH = 4;
+	private TransformSnapshot[] snapshots;
+	private int back;
+	private int front = 1;
+	private AtomicInteger middle = new AtomicInteger(2);
+
+	/**
+	 * Creates the snapshots with the bodies standing still in the given transforms.
+	 */
+	TransformBuffer(float[] transforms) {
+		snapshots = new TransformSnapshot[] {new TransformSnapshot(transforms), new TransformSnapshot(transforms),
+				new TransformSnapshot(transforms)};
+	}
+
+	/**
+	 * Returns the snapshot to be written, only by the physics thread.
+	 */
+	TransformSnapshot getBack() {
+		return snapshots[back];
+	}
+
+	/**
+	 * Publishes the back snapshot, the physics thread gets another one to write.
+	 */
+	void publish() {
+		back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+	}
+
+	/**
+	 * Returns the last published snapshot, only to the render thread. It's kept until a newer one is
+	 * published.
+	 */
+	TransformSnapshot getFront() {
+		if ((middle.get() & FRESH) != 0) {
+			front = middle.getAndSet(front) & INDEX_MASK;
+		}
+		return snapshots[front];
+	}
+}
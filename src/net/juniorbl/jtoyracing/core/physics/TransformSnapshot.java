@@ -0,0 +1,115 @@
+package net.juniorbl.jtoyracing.core.physics;
+
+import java.util.List;
+
+import com.jme.math.Quaternion;
+import com.jme.math.Vector3f;
+import com.jme.scene.Spatial;
+import com.jmex.physics.DynamicPhysicsNode;
+
+/**
+ * The world transforms of the bodies after a step and the step before it, so the render thread can draw
+ * them between the two. Each transform is a translation, a rotation, a scale and the speed of a dynamic
+ * body (zero for the others) in a row of floats. The speed is read from the physics by the physics thread,
+ * the render thread must not query the bodies while they are stepped.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+final class TransformSnapshot {
+	static final int TRANSFORM_SIZE = 11;
+	private static final int ROTATION = 3;
+	private static final int ROTATION_W = 6;
+	private static final int SCALE = 7;
+	private static final int SPEED = 10;
+	private float[] previous;
+	private float[] current;
+	private long publishTime;
+	private Vector3f velocity = new Vector3f();
+
+	/**
+	 * Creates a snapshot with the bodies standing still in the given transforms.
+	 */
+	TransformSnapshot(float[] transforms) {
+		previous = transforms.clone();
+		current = transforms.clone();
+		publishTime = System.nanoTime();
+	}
+
+	/**
+	 * Reads the world transforms and the speeds of bodies into an array, the velocity stores the velocity
+	 * of each dynamic body on the way.
+	 */
+	static void read(List<Spatial> bodies, float[] transforms, Vector3f velocity) {
+		for (int body = 0; body < bodies.size(); body++) {
+			Spatial spatial = bodies.get(body);
+			int offset = body * TRANSFORM_SIZE;
+			Vector3f translation = spatial.getWorldTranslation();
+			transforms[offset] = translation.x;
+			transforms[offset + 1] = translation.y;
+			transforms[offset + 2] = translation.z;
+			Quaternion rotation = spatial.getWorldRotation();
+			transforms[offset + ROTATION] = rotation.x;
+			transforms[offset + ROTATION + 1] = rotation.y;
+			transforms[offset + ROTATION + 2] = rotation.z;
+			transforms[offset + ROTATION_W] = rotation.w;
+			Vector3f scale = spatial.getWorldScale();
+			transforms[offset + SCALE] = scale.x;
+			transforms[offset + SCALE + 1] = scale.y;
+			transforms[offset + SCALE + 2] = scale.z;
+			if (spatial instanceof DynamicPhysicsNode) {
+				transforms[offset + SPEED] = ((DynamicPhysicsNode) spatial).getLinearVelocity(velocity).length();
+			} else {
+				transforms[offset + SPEED] = 0;
+			}
+		}
+	}
+
+	/**
+	 * Takes the transforms of the last step as the previous ones and reads the current ones from the
+	 * bodies, which are kept in the last transforms for the next step.
+	 */
+	void write(List<Spatial> bodies, float[] lastTransforms) {
+		System.arraycopy(lastTransforms, 0, previous, 0, lastTransforms.length);
+		read(bodies, lastTransforms, velocity);
+		System.arraycopy(lastTransforms, 0, current, 0, lastTransforms.length);
+		publishTime = System.nanoTime();
+	}
+
+	static void getTranslation(float[] transforms, int body, Vector3f store) {
+		int offset = body * TRANSFORM_SIZE;
+		store.set(transforms[offset], transforms[offset + 1], transforms[offset + 2]);
+	}
+
+	static void getRotation(float[] transforms, int body, Quaternion store) {
+		int offset = body * TRANSFORM_SIZE;
+		store.x = transforms[offset + ROTATION];
+		store.y = transforms[offset + ROTATION + 1];
+		store.z = transforms[offset + ROTATION + 2];
+		store.w = transforms[offset + ROTATION_W];
+	}
+
+	static void getScale(float[] transforms, int body, Vector3f store) {
+		int offset = body * TRANSFORM_SIZE + SCALE;
+		store.set(transforms[offset], transforms[offset + 1], transforms[offset + 2]);
+	}
+
+	static float getSpeed(float[] transforms, int body) {
+		return transforms[body * TRANSFORM_SIZE + SPEED];
+	}
+
+	float[] getPrevious() {
+		return previous;
+	}
+
+	float[] getCurrent() {
+		return current;
+	}
+
+	/**
+	 * Returns when the snapshot was written, in the nanoseconds of {@link System#nanoTime()}.
+	 */
+	long getPublishTime() {
+		return publishTime;
+	}
+}
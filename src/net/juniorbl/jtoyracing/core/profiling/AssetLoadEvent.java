@@ -0,0 +1,45 @@
+package net.juniorbl.jtoyracing.core.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of the load of a model or an image.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+@Name("jtoyracing.AssetLoad")
+@Label("Asset Load")
+@Category({"JToyRacing", "Assets"})
+@Description("A model converted or read from the cache, or an image decoded")
+@StackTrace(false)
+public final class AssetLoadEvent extends jdk.jfr.Event {
+	@Label("Path")
+	private String path;
+
+	@Label("Size")
+	@Description("Bytes read: the converted model or the encoded image")
+	@DataAmount
+	private long bytes;
+
+	@Label("Cached")
+	@Description("Whether the model was read from the model cache instead of converted")
+	private boolean cached;
+
+	public void setPath(String path) {
+		this.path = path;
+	}
+
+	public void setBytes(long bytes) {
+		this.bytes = bytes;
+	}
+
+	public void setCached(boolean cached) {
+		this.cached = cached;
+	}
+}
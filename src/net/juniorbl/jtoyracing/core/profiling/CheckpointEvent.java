@@ -0,0 +1,48 @@
+package net.juniorbl.jtoyracing.core.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight recorder event of a vehicle reaching its next checkpoint.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+@Name("jtoyracing.Checkpoint")
+@Label("Checkpoint Reached")
+@Category({"JToyRacing", "Race"})
+@StackTrace(false)
+public final class CheckpointEvent extends jdk.jfr.Event {
+	@Label("Vehicle")
+	private String vehicle;
+
+	@Label("Checkpoint")
+	private int checkpoint;
+
+	@Label("Laps")
+	private int laps;
+
+	@Label("Split Time")
+	@Timespan(Timespan.NANOSECONDS)
+	private long splitTime;
+
+	public void setVehicle(String vehicle) {
+		this.vehicle = vehicle;
+	}
+
+	public void setCheckpoint(int checkpoint) {
+		this.checkpoint = checkpoint;
+	}
+
+	public void setLaps(int laps) {
+		this.laps = laps;
+	}
+
+	public void setSplitTime(double seconds) {
+		this.splitTime = FlightRecording.toNanos(seconds);
+	}
+}
@@ -0,0 +1,61 @@
+package net.juniorbl.jtoyracing.core.profiling;
+
+import java.io.File;
+import java.io.IOException;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+/**
+ * A flight recording started and stopped from the game. It uses the "profile" settings of the JDK, so
+ * the events of the game share the timeline of the garbage collections, compilations and samples of
+ * the JVM. The recording is written when stopped, in the directory of the frame profile dumps.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class FlightRecording {
+	private static final String CONFIGURATION = "profile";
+	private static final double NANOS_PER_SECOND = 1000000000d;
+	private Recording recording;
+
+	public boolean isRecording() {
+		return recording != null;
+	}
+
+	public void start() throws IOException {
+		if (recording == null) {
+			try {
+				recording = new Recording(Configuration.getConfiguration(CONFIGURATION));
+			} catch (ParseException e) {
+				throw new IOException("Invalid flight recorder configuration: " + CONFIGURATION, e);
+			}
+			recording.setName("jtoyracing");
+			recording.start();
+		}
+	}
+
+	/**
+	 * Stops the recording and writes it. Returns the file written.
+	 */
+	public File stop() throws IOException {
+		String directory = System.getProperty(FrameProfiler.DUMP_DIRECTORY_PROPERTY, System.getProperty("user.dir"));
+		String timestamp = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+		File recordingFile = new File(directory, "jtoyracing-" + timestamp + ".jfr");
+		try {
+			recording.stop();
+			recording.dump(recordingFile.toPath());
+		} finally {
+			recording.close();
+			recording = null;
+		}
+		return recordingFile;
+	}
+
+	static long toNanos(double seconds) {
+		return Math.round(seconds * NANOS_PER_SECOND);
+	}
+}
@@ -0,0 +1,36 @@
+package net.juniorbl.jtoyracing.core.profiling;
+
+import java.io.IOException;
+
+import com.jme.input.action.InputActionEvent;
+import com.jme.input.action.InputActionInterface;
+import com.jme.util.LoggingSystem;
+
+/**
+ * Starts a flight recording, or stops and writes the current one.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public class FlightRecordingToggle implements InputActionInterface {
+	private FlightRecording flightRecording;
+
+	public FlightRecordingToggle(FlightRecording flightRecording) {
+		this.flightRecording = flightRecording;
+	}
+
+	public final void performAction(InputActionEvent event) {
+		if (event.getTriggerPressed()) {
+			try {
+				if (flightRecording.isRecording()) {
+					LoggingSystem.getLogger().info("Flight recording written to " + flightRecording.stop());
+				} else {
+					flightRecording.start();
+					LoggingSystem.getLogger().info("Flight recording started");
+				}
+			} catch (IOException e) {
+				LoggingSystem.getLogger().warning("Unable to record the flight: " + e.getMessage());
+			}
+		}
+	}
+}
@@ -0,0 +1,33 @@
+package net.juniorbl.jtoyracing.core.profiling;
+
+import java.io.File;
+import java.io.IOException;
+
+import com.jme.input.action.InputActionEvent;
+import com.jme.input.action.InputActionInterface;
+import com.jme.util.LoggingSystem;
+
+/**
+ * Writes the frame profile to a file.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public class FrameProfileDump implements InputActionInterface {
+	private FrameProfiler frameProfiler;
+
+	public FrameProfileDump(FrameProfiler frameProfiler) {
+		this.frameProfiler = frameProfiler;
+	}
+
+	public final void performAction(InputActionEvent event) {
+		if (event.getTriggerPressed()) {
+			try {
+				File dumpFile = frameProfiler.dump();
+				LoggingSystem.getLogger().info("Frame profile written to " + dumpFile);
+			} catch (IOException e) {
+				LoggingSystem.getLogger().warning("Unable to write the frame profile: " + e.getMessage());
+			}
+		}
+	}
+}
@@ -0,0 +1,25 @@
+package net.juniorbl.jtoyracing.core.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of the end of the wait of a vehicle without health.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+@Name("jtoyracing.HealthChronometer")
+@Label("Health Wait Ended")
+@Category({"JToyRacing", "Race"})
+@StackTrace(false)
+public final class HealthChronometerEvent extends jdk.jfr.Event {
+	@Label("Vehicle")
+	private String vehicle;
+
+	public void setVehicle(String vehicle) {
+		this.vehicle = vehicle;
+	}
+}
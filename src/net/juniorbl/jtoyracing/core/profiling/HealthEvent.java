@@ -0,0 +1,40 @@
+package net.juniorbl.jtoyracing.core.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of a change of the health of a vehicle: a drain, or a recharge at a checkpoint
+ * or after a wait.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+@Name("jtoyracing.Health")
+@Label("Health Change")
+@Category({"JToyRacing", "Race"})
+@StackTrace(false)
+public final class HealthEvent extends jdk.jfr.Event {
+	@Label("Vehicle")
+	private String vehicle;
+
+	@Label("Change")
+	private String change;
+
+	@Label("Health")
+	private int health;
+
+	public void setVehicle(String vehicle) {
+		this.vehicle = vehicle;
+	}
+
+	public void setChange(String change) {
+		this.change = change;
+	}
+
+	public void setHealth(int health) {
+		this.health = health;
+	}
+}
@@ -0,0 +1,89 @@
+package net.juniorbl.jtoyracing.core.profiling;
+
+import java.util.Arrays;
+
+/**
+ * Histogram of durations in nanoseconds with a bounded relative error, in the manner of HdrHistogram:
+ * each power of two is split in {@value #HALF_SUB_BUCKETS} linear buckets, so a recorded value is
+ * counted within about 3% of itself, from one nanosecond up to a minute, in 8 KB. Recording is an
+ * increment, without allocation, so it can run every frame.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class LatencyHistogram {
+	private static final int SUB_BUCKET_BITS = 6;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int HALF_SUB_BUCKETS = SUB_BUCKETS / 2;
+	private static final int MAX_SHIFT = 30;
+	private static final long MAX_VALUE = ((long) SUB_BUCKETS << MAX_SHIFT) - 1;
+	private static final int LONG_BITS = 64;
+	private static final double PERCENT = 100;
+	private long[] counts = new long[getBucket(MAX_VALUE) + 1];
+	private long totalCount;
+	private long maxValue;
+
+	/**
+	 * Records a duration, the ones longer than about a minute are counted as a minute.
+	 */
+	public void record(long nanos) {
+		long value = Math.max(0, Math.min(nanos, MAX_VALUE));
+		counts[getBucket(value)]++;
+		totalCount++;
+		maxValue = Math.max(maxValue, value);
+	}
+
+	/**
+	 * The values under {@value #SUB_BUCKETS} have a bucket each. The others are shifted so only their
+	 * {@value #SUB_BUCKET_BITS} highest bits are left, which select a bucket of their power of two.
+	 */
+	private static int getBucket(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		int shift = LONG_BITS - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+		return shift * HALF_SUB_BUCKETS + (int) (value >>> shift);
+	}
+
+	/**
+	 * Returns the highest value counted in a bucket.
+	 */
+	private static long getHighestValue(int bucket) {
+		if (bucket < SUB_BUCKETS) {
+			return bucket;
+		}
+		int shift = bucket / HALF_SUB_BUCKETS - 1;
+		long subBucket = bucket - shift * HALF_SUB_BUCKETS;
+		return ((subBucket + 1) << shift) - 1;
+	}
+
+	/**
+	 * Returns the value under which a percentage of the recorded values are, zero when there are none.
+	 * The value is the highest of its bucket, never lower than the real one, but at most the maximum.
+	 */
+	public long getValueAtPercentile(double percentile) {
+		long countAtPercentile = Math.max(1, (long) Math.ceil(percentile / PERCENT * totalCount));
+		long count = 0;
+		for (int bucket = 0; bucket < counts.length; bucket++) {
+			count += counts[bucket];
+			if (count >= countAtPercentile) {
+				return Math.min(getHighestValue(bucket), maxValue);
+			}
+		}
+		return maxValue;
+	}
+
+	public long getTotalCount() {
+		return totalCount;
+	}
+
+	public long getMaxValue() {
+		return maxValue;
+	}
+
+	public void reset() {
+		Arrays.fill(counts, 0);
+		totalCount = 0;
+		maxValue = 0;
+	}
+}
@@ -0,0 +1,45 @@
+package net.juniorbl.jtoyracing.core.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight recorder event of a physics step.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+@Name("jtoyracing.PhysicsStep")
+@Label("Physics Step")
+@Category({"JToyRacing", "Physics"})
+@Description("A fixed step of the physics space")
+@StackTrace(false)
+public final class PhysicsStepEvent extends jdk.jfr.Event {
+	@Label("Time Step")
+	@Timespan(Timespan.NANOSECONDS)
+	private long timeStep;
+
+	@Label("Contacts")
+	@Description("Contacts found by the collision detection of the step")
+	private int contacts;
+
+	@Label("Awake Bodies")
+	@Description("Bodies simulated by the step, the sleeping ones aren't")
+	private int awakeBodies;
+
+	public void setTimeStep(float seconds) {
+		this.timeStep = FlightRecording.toNanos(seconds);
+	}
+
+	public void setContacts(int contacts) {
+		this.contacts = contacts;
+	}
+
+	public void setAwakeBodies(int awakeBodies) {
+		this.awakeBodies = awakeBodies;
+	}
+}
@@ -0,0 +1,68 @@
+package net.juniorbl.jtoyracing.core.profiling;
+
+/**
+ * Counts the triangles drawn by the models with levels of detail in each frame, next to the triangles
+ * they would have drawn at full detail, which shows how much the levels of detail save.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class TriangleCounter {
+	private int drawnTriangles;
+	private int fullDetailTriangles;
+	private int lastDrawnTriangles;
+	private int lastFullDetailTriangles;
+	private long totalDrawnTriangles;
+	private long totalFullDetailTriangles;
+	private int frames;
+
+	/**
+	 * Counts a model drawn in the current frame.
+	 */
+	public void add(int triangles, int fullDetailTriangles) {
+		this.drawnTriangles += triangles;
+		this.fullDetailTriangles += fullDetailTriangles;
+	}
+
+	/**
+	 * Closes the frame, called once all the models were drawn.
+	 */
+	public void endFrame() {
+		lastDrawnTriangles = drawnTriangles;
+		lastFullDetailTriangles = fullDetailTriangles;
+		totalDrawnTriangles += drawnTriangles;
+		totalFullDetailTriangles += fullDetailTriangles;
+		frames++;
+		drawnTriangles = 0;
+		fullDetailTriangles = 0;
+	}
+
+	public int getLastDrawnTriangles() {
+		return lastDrawnTriangles;
+	}
+
+	public int getLastFullDetailTriangles() {
+		return lastFullDetailTriangles;
+	}
+
+	/**
+	 * Returns the triangles of the last frame and the average of the frames since the last reset.
+	 */
+	public String report() {
+		return String.format("level of detail: %d of %d triangles, average %d of %d", lastDrawnTriangles,
+				lastFullDetailTriangles, getAverage(totalDrawnTriangles), getAverage(totalFullDetailTriangles));
+	}
+
+	private long getAverage(long total) {
+		if (frames == 0) {
+			return 0;
+		}
+		return total / frames;
+	}
+
+	public void reset() {
+		totalDrawnTriangles = 0;
+		totalFullDetailTriangles = 0;
+		frames = 0;
+	}
+}
@@ -0,0 +1,163 @@
+package net.juniorbl.jtoyracing.core.replay;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import com.jme.math.Quaternion;
+import com.jme.math.Vector3f;
+
+/**
+ * The path of a vehicle along a lap, sampled {@value #SAMPLES_PER_SECOND} times per second of lap time.
+ * The samples are kept in a byte array with the body layout of the replays (10 bytes each), so a lap of
+ * two minutes takes 36 KB, and the sample of a time is found by index, without any search.
+ *
+ * File: magic, version, lap time (seconds), samples and the samples themselves.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class GhostLap {
+	public static final int MAGIC = 0x4A544748;
+	public static final short VERSION = 1;
+	public static final int SAMPLES_PER_SECOND = 30;
+	public static final String BEST_LAP_DIRECTORY_PROPERTY = "jtoyracing.ghost.dir";
+	private static final String DEFAULT_BEST_LAP_DIRECTORY = ".jtoyracing" + File.separator + "ghosts";
+	private static final String BEST_LAP_EXTENSION = ".ghost";
+	private static final int INITIAL_CAPACITY = 120 * SAMPLES_PER_SECOND;
+	private byte[] samples;
+	private ByteBuffer buffer;
+	private int sampleCount;
+	private float lapTime;
+	private Vector3f nextPosition = new Vector3f();
+	private Quaternion nextRotation = new Quaternion();
+
+	public GhostLap() {
+		this(new byte[INITIAL_CAPACITY * ReplayFormat.BODY_SIZE], 0, 0);
+	}
+
+	private GhostLap(byte[] samples, int sampleCount, float lapTime) {
+		this.samples = samples;
+		this.buffer = ByteBuffer.wrap(samples);
+		this.sampleCount = sampleCount;
+		this.lapTime = lapTime;
+	}
+
+	/**
+	 * Samples a transform at a time of the lap. The samples missing since the last one, after a long
+	 * frame, repeat the transform, so every sample stays at its time.
+	 */
+	public void record(float time, Vector3f position, Quaternion rotation) {
+		while (sampleCount <= time * SAMPLES_PER_SECOND) {
+			ensureCapacity();
+			ReplayFormat.putBody(buffer, sampleCount * ReplayFormat.BODY_SIZE, position, rotation);
+			sampleCount++;
+		}
+	}
+
+	/**
+	 * Grows the samples only while the first laps are recorded, the array is reused by the next ones.
+	 */
+	private void ensureCapacity() {
+		if ((sampleCount + 1) * ReplayFormat.BODY_SIZE > samples.length) {
+			byte[] grownSamples = new byte[samples.length * 2];
+			System.arraycopy(samples, 0, grownSamples, 0, samples.length);
+			samples = grownSamples;
+			buffer = ByteBuffer.wrap(samples);
+		}
+	}
+
+	/**
+	 * Places a transform at a time of the lap, between the two samples around it. The last sample is
+	 * kept after the end of the lap.
+	 */
+	public void getTransform(float time, Vector3f position, Quaternion rotation) {
+		float sample = Math.max(0, Math.min(time * SAMPLES_PER_SECOND, sampleCount - 1));
+		int previous = (int) sample;
+		int next = Math.min(previous + 1, sampleCount - 1);
+		ReplayFormat.getBody(buffer, previous * ReplayFormat.BODY_SIZE, position, rotation);
+		ReplayFormat.getBody(buffer, next * ReplayFormat.BODY_SIZE, nextPosition, nextRotation);
+		float interpolation = sample - previous;
+		position.interpolate(nextPosition, interpolation);
+		rotation.slerp(rotation, nextRotation, interpolation);
+	}
+
+	/**
+	 * Discards the samples to record a new lap, the array is kept.
+	 */
+	public void clear() {
+		sampleCount = 0;
+		lapTime = 0;
+	}
+
+	public boolean isEmpty() {
+		return sampleCount == 0;
+	}
+
+	public int getSampleCount() {
+		return sampleCount;
+	}
+
+	/**
+	 * Returns the time of the lap, zero while it's being recorded.
+	 */
+	public float getLapTime() {
+		return lapTime;
+	}
+
+	public void setLapTime(float lapTime) {
+		this.lapTime = lapTime;
+	}
+
+	public void save(File ghostFile) throws IOException {
+		File directory = ghostFile.getAbsoluteFile().getParentFile();
+		if (!directory.isDirectory() && !directory.mkdirs()) {
+			throw new IOException("Unable to create the directory " + directory);
+		}
+		DataOutputStream output = new DataOutputStream(new FileOutputStream(ghostFile));
+		try {
+			output.writeInt(MAGIC);
+			output.writeShort(VERSION);
+			output.writeFloat(lapTime);
+			output.writeInt(sampleCount);
+			output.write(samples, 0, sampleCount * ReplayFormat.BODY_SIZE);
+		} finally {
+			output.close();
+		}
+	}
+
+	/**
+	 * Returns the file of the best lap of a track, in the directory given by the
+	 * {@value #BEST_LAP_DIRECTORY_PROPERTY} system property or in the user's home when it's not set.
+	 */
+	public static File getBestLapFile(String trackName) {
+		String directory = System.getProperty(BEST_LAP_DIRECTORY_PROPERTY);
+		if (directory == null) {
+			directory = System.getProperty("user.home") + File.separator + DEFAULT_BEST_LAP_DIRECTORY;
+		}
+		return new File(directory, trackName + BEST_LAP_EXTENSION);
+	}
+
+	public static GhostLap load(File ghostFile) throws IOException {
+		DataInputStream input = new DataInputStream(new FileInputStream(ghostFile));
+		try {
+			if (input.readInt() != MAGIC || input.readShort() != VERSION) {
+				throw new IOException("Not a ghost lap file: " + ghostFile);
+			}
+			float lapTime = input.readFloat();
+			int sampleCount = input.readInt();
+			if (sampleCount <= 0 || sampleCount * (long) ReplayFormat.BODY_SIZE > ghostFile.length()) {
+				throw new IOException("Corrupted ghost lap file: " + ghostFile);
+			}
+			byte[] samples = new byte[Math.max(sampleCount, INITIAL_CAPACITY) * ReplayFormat.BODY_SIZE];
+			input.readFully(samples, 0, sampleCount * ReplayFormat.BODY_SIZE);
+			return new GhostLap(samples, sampleCount, lapTime);
+		} finally {
+			input.close();
+		}
+	}
+}
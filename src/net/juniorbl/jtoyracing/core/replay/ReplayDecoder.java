@@ -0,0 +1,95 @@
+package net.juniorbl.jtoyracing.core.replay;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Decodes the frames of a replay ahead of the playback in a background thread, so reading a part of
+ * the file that isn't in memory (after a seek in a long race) doesn't stop the render thread.
+ *
+ * The decoded frames are kept in a ring. The thread decodes into a frame of its own, where it may wait
+ * for the disk, and copies it to the ring under the lock of the slot, which is only held for the copy.
+ * A frame not decoded yet is decoded by the caller, the playback never waits for this thread.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+final class ReplayDecoder implements Runnable {
+	static final int FRAMES_AHEAD = 128;
+	private static final int NO_REQUEST = -1;
+	private ReplayFile replayFile;
+	private ReplayFrame[] decodedFrames;
+	private ReplayFrame decodingFrame;
+	private volatile int requestedFrame = NO_REQUEST;
+	private volatile boolean running = true;
+	private Thread thread;
+
+	ReplayDecoder(ReplayFile replayFile) {
+		this.replayFile = replayFile;
+		decodedFrames = new ReplayFrame[FRAMES_AHEAD];
+		for (int slot = 0; slot < decodedFrames.length; slot++) {
+			decodedFrames[slot] = new ReplayFrame(replayFile.getVehicleCount());
+		}
+		decodingFrame = new ReplayFrame(replayFile.getVehicleCount());
+		thread = new Thread(this, "replay-decoder");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Asks the frames from one on to be decoded. Returns immediately.
+	 */
+	void decodeFrom(int frame) {
+		if (frame != requestedFrame) {
+			requestedFrame = frame;
+			LockSupport.unpark(thread);
+		}
+	}
+
+	/**
+	 * Copies a decoded frame. Returns false when the frame isn't decoded yet.
+	 */
+	boolean copyDecodedFrame(int frame, ReplayFrame replayFrame) {
+		ReplayFrame decodedFrame = decodedFrames[frame % decodedFrames.length];
+		synchronized (decodedFrame) {
+			if (decodedFrame.getFrame() != frame) {
+				return false;
+			}
+			replayFrame.set(decodedFrame);
+			return true;
+		}
+	}
+
+	public void run() {
+		while (running) {
+			int firstFrame = requestedFrame;
+			if (firstFrame != NO_REQUEST) {
+				decodeAhead(firstFrame);
+			}
+			if (firstFrame == requestedFrame) {
+				LockSupport.park(this);
+			}
+		}
+	}
+
+	/**
+	 * Decodes the frames ahead of a frame, the ones decoded before are kept. Stops early when another
+	 * frame is requested.
+	 */
+	private void decodeAhead(int firstFrame) {
+		int lastFrame = Math.min(firstFrame + FRAMES_AHEAD, replayFile.getFrameCount());
+		for (int frame = firstFrame; frame < lastFrame && firstFrame == requestedFrame && running; frame++) {
+			ReplayFrame decodedFrame = decodedFrames[frame % decodedFrames.length];
+			if (decodedFrame.getFrame() != frame) {
+				replayFile.decode(frame, decodingFrame);
+				synchronized (decodedFrame) {
+					decodedFrame.set(decodingFrame);
+				}
+			}
+		}
+	}
+
+	void stop() {
+		running = false;
+		LockSupport.unpark(thread);
+	}
+}
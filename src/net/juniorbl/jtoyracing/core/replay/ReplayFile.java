@@ -0,0 +1,140 @@
+package net.juniorbl.jtoyracing.core.replay;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A replay file opened for playback. The frames are numbered from zero, the oldest one still in the
+ * ring, to {@link #getFrameCount()} - 1.
+ *
+ * A sparse index keeps the time of one of each {@value #KEYFRAME_INTERVAL} frames in memory. A seek
+ * searches the index and then the frames of a single interval, both by bisection, so it's O(log n) and
+ * touches the pages of one interval of the file only. The reads are absolute, the frames may be decoded
+ * by several threads.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class ReplayFile {
+	public static final int KEYFRAME_INTERVAL = 32;
+	private RandomAccessFile file;
+	private MappedByteBuffer buffer;
+	private int vehicles;
+	private int capacity;
+	private long firstFrame;
+	private int frameCount;
+	private float[] keyframeTimes;
+	private float startTime;
+	private float endTime;
+
+	public ReplayFile(File replayFile) throws IOException {
+		file = new RandomAccessFile(replayFile, "r");
+		buffer = file.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, file.length());
+		if (file.length() < ReplayFormat.HEADER_SIZE || buffer.getInt(0) != ReplayFormat.MAGIC
+				|| buffer.getShort(ReplayFormat.VERSION_OFFSET) != ReplayFormat.VERSION) {
+			file.close();
+			throw new IOException("Not a replay file: " + replayFile);
+		}
+		vehicles = buffer.getShort(ReplayFormat.VEHICLES_OFFSET);
+		capacity = buffer.getInt(ReplayFormat.CAPACITY_OFFSET);
+		long framesWritten = buffer.getLong(ReplayFormat.FRAMES_WRITTEN_OFFSET);
+		frameCount = (int) Math.min(framesWritten, capacity);
+		firstFrame = framesWritten - frameCount;
+		if (frameCount == 0) {
+			file.close();
+			throw new IOException("Empty replay file: " + replayFile);
+		}
+		createKeyframeIndex();
+		startTime = getFrameTime(0);
+		endTime = getFrameTime(frameCount - 1);
+	}
+
+	private void createKeyframeIndex() {
+		keyframeTimes = new float[(frameCount + KEYFRAME_INTERVAL - 1) / KEYFRAME_INTERVAL];
+		for (int keyframe = 0; keyframe < keyframeTimes.length; keyframe++) {
+			keyframeTimes[keyframe] = getFrameTime(keyframe * KEYFRAME_INTERVAL);
+		}
+	}
+
+	public float getFrameTime(int frame) {
+		return buffer.getFloat(getFrameIndex(frame) + ReplayFormat.FRAME_TIME_OFFSET);
+	}
+
+	/**
+	 * Finds the last frame recorded at or before a time. The first frame is returned for the times
+	 * before it.
+	 */
+	public int findFrame(double time) {
+		int keyframe = findLastAtOrBefore(keyframeTimes, time);
+		int low = keyframe * KEYFRAME_INTERVAL;
+		int high = Math.min(low + KEYFRAME_INTERVAL, frameCount) - 1;
+		while (low < high) {
+			int middle = (low + high + 1) >>> 1;
+			if (getFrameTime(middle) <= time) {
+				low = middle;
+			} else {
+				high = middle - 1;
+			}
+		}
+		return low;
+	}
+
+	private static int findLastAtOrBefore(float[] times, double time) {
+		int low = 0;
+		int high = times.length - 1;
+		while (low < high) {
+			int middle = (low + high + 1) >>> 1;
+			if (times[middle] <= time) {
+				low = middle;
+			} else {
+				high = middle - 1;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Decodes a frame into another one, created for the same number of vehicles.
+	 */
+	public void decode(int frame, ReplayFrame replayFrame) {
+		int frameIndex = getFrameIndex(frame);
+		replayFrame.setFrame(frame, buffer.getFloat(frameIndex + ReplayFormat.FRAME_TIME_OFFSET));
+		for (int vehicle = 0; vehicle < vehicles; vehicle++) {
+			int vehicleIndex = ReplayFormat.getVehicleIndex(frameIndex, vehicle);
+			for (int body = 0; body < ReplayFormat.BODIES_PER_VEHICLE; body++) {
+				ReplayFormat.getBody(buffer, vehicleIndex + body * ReplayFormat.BODY_SIZE,
+						replayFrame.getPosition(vehicle, body), replayFrame.getRotation(vehicle, body));
+			}
+			int inputsIndex = vehicleIndex + ReplayFormat.INPUTS_OFFSET;
+			replayFrame.setInputs(vehicle, buffer.getShort(inputsIndex), buffer.getShort(inputsIndex + 2),
+					buffer.getShort(inputsIndex + 4));
+		}
+	}
+
+	private int getFrameIndex(int frame) {
+		return ReplayFormat.getFrameIndex(firstFrame + frame, vehicles, capacity);
+	}
+
+	public void close() throws IOException {
+		file.close();
+	}
+
+	public int getVehicleCount() {
+		return vehicles;
+	}
+
+	public int getFrameCount() {
+		return frameCount;
+	}
+
+	public float getStartTime() {
+		return startTime;
+	}
+
+	public float getEndTime() {
+		return endTime;
+	}
+}
@@ -0,0 +1,201 @@
+package net.juniorbl.jtoyracing.core.replay;
+
+import java.nio.ByteBuffer;
+
+import com.jme.math.FastMath;
+import com.jme.math.Quaternion;
+import com.jme.math.Vector3f;
+
+/**
+ * Layout of the replay files. A file has a header followed by a ring of fixed size frames, when the
+ * ring is full the oldest frames are overwritten.
+ *
+ * Header: magic, version, vehicles, frame size, ring capacity (frames) and frames written.
+ *
+ * Frame: frame number, game time (seconds) and, for each vehicle, the world transform of the chassis
+ * and of the four wheels followed by the throttle, the steer direction and the health. The positions
+ * are quantized to {@value #POSITION_SCALE}ths of a unit in shorts and the rotations to 32 bits
+ * ("smallest three": the largest component of the quaternion is dropped and rebuilt from the others).
+ * A vehicle takes {@value #VEHICLE_SIZE} bytes per frame: a race of two vehicles recorded at 60 frames
+ * per second takes 7.2 KB per second, about 4.3 MB in ten minutes.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class ReplayFormat {
+	public static final int MAGIC = 0x4A545250;
+	public static final short VERSION = 1;
+	public static final int HEADER_SIZE = 32;
+	public static final int VERSION_OFFSET = 4;
+	public static final int VEHICLES_OFFSET = 6;
+	public static final int FRAME_SIZE_OFFSET = 8;
+	public static final int CAPACITY_OFFSET = 12;
+	public static final int FRAMES_WRITTEN_OFFSET = 16;
+	public static final int FRAME_TIME_OFFSET = 4;
+	public static final int FRAME_HEADER_SIZE = 8;
+	public static final int BODIES_PER_VEHICLE = 5;
+	public static final int BODY_SIZE = 10;
+	public static final int INPUTS_OFFSET = BODIES_PER_VEHICLE * BODY_SIZE;
+	public static final int VEHICLE_SIZE = INPUTS_OFFSET + 6;
+	public static final float POSITION_SCALE = 100;
+	public static final int COMPONENT_BITS = 10;
+	private static final int COMPONENT_MASK = (1 << COMPONENT_BITS) - 1;
+	private static final int LARGEST_INDEX_SHIFT = 3 * COMPONENT_BITS;
+	private static final float COMPONENT_LIMIT = FastMath.sqrt(2) / 2;
+	private static final int W = 3;
+
+	private ReplayFormat() { }
+
+	public static int getFrameSize(int vehicles) {
+		return FRAME_HEADER_SIZE + vehicles * VEHICLE_SIZE;
+	}
+
+	public static long getFileSize(int vehicles, int capacity) {
+		return HEADER_SIZE + (long) getFrameSize(vehicles) * capacity;
+	}
+
+	/**
+	 * Returns the index in the file of a frame, counted from the first frame ever written.
+	 */
+	public static int getFrameIndex(long frameNumber, int vehicles, int capacity) {
+		return HEADER_SIZE + (int) (frameNumber % capacity) * getFrameSize(vehicles);
+	}
+
+	/**
+	 * Returns the index in the file of a vehicle of a frame.
+	 */
+	public static int getVehicleIndex(int frameIndex, int vehicle) {
+		return frameIndex + FRAME_HEADER_SIZE + vehicle * VEHICLE_SIZE;
+	}
+
+	public static void putHeader(ByteBuffer buffer, int vehicles, int capacity) {
+		buffer.putInt(0, MAGIC);
+		buffer.putShort(VERSION_OFFSET, VERSION);
+		buffer.putShort(VEHICLES_OFFSET, (short) vehicles);
+		buffer.putInt(FRAME_SIZE_OFFSET, getFrameSize(vehicles));
+		buffer.putInt(CAPACITY_OFFSET, capacity);
+		buffer.putLong(FRAMES_WRITTEN_OFFSET, 0);
+	}
+
+	/**
+	 * Writes the header of a frame. The frame is only counted when {@link #putFramesWritten} is called,
+	 * after its vehicles.
+	 */
+	public static void putFrameHeader(ByteBuffer buffer, int frameIndex, long frameNumber, float time) {
+		buffer.putInt(frameIndex, (int) frameNumber);
+		buffer.putFloat(frameIndex + FRAME_TIME_OFFSET, time);
+	}
+
+	public static void putInputs(ByteBuffer buffer, int vehicleIndex, float throttle, float steerDirection, int health) {
+		int index = vehicleIndex + INPUTS_OFFSET;
+		buffer.putShort(index, (short) Math.round(throttle));
+		buffer.putShort(index + 2, (short) Math.round(steerDirection));
+		buffer.putShort(index + 4, (short) health);
+	}
+
+	public static void putFramesWritten(ByteBuffer buffer, long framesWritten) {
+		buffer.putLong(FRAMES_WRITTEN_OFFSET, framesWritten);
+	}
+
+	/**
+	 * Writes a position and a rotation at an index of the buffer, the buffer position isn't changed.
+	 */
+	public static void putBody(ByteBuffer buffer, int index, Vector3f position, Quaternion rotation) {
+		buffer.putShort(index, quantizePosition(position.x));
+		buffer.putShort(index + 2, quantizePosition(position.y));
+		buffer.putShort(index + 4, quantizePosition(position.z));
+		buffer.putInt(index + 6, packRotation(rotation));
+	}
+
+	/**
+	 * Reads a position and a rotation written by {@link #putBody}.
+	 */
+	public static void getBody(ByteBuffer buffer, int index, Vector3f position, Quaternion rotation) {
+		position.set(buffer.getShort(index) / POSITION_SCALE, buffer.getShort(index + 2) / POSITION_SCALE,
+				buffer.getShort(index + 4) / POSITION_SCALE);
+		unpackRotation(buffer.getInt(index + 6), rotation);
+	}
+
+	public static short quantizePosition(float coordinate) {
+		return (short) Math.max(-Short.MAX_VALUE, Math.min(Short.MAX_VALUE, Math.round(coordinate * POSITION_SCALE)));
+	}
+
+	/**
+	 * Packs a unit quaternion in 32 bits: two for the index of the largest component and ten for each of
+	 * the others. The quaternion is negated when the largest component is negative, it's the same rotation.
+	 */
+	public static int packRotation(Quaternion rotation) {
+		int largest = 0;
+		float largestValue = Math.abs(rotation.x);
+		for (int component = 1; component <= W; component++) {
+			float value = Math.abs(getComponent(rotation, component));
+			if (value > largestValue) {
+				largest = component;
+				largestValue = value;
+			}
+		}
+		float sign = getComponent(rotation, largest) < 0 ? -1 : 1;
+		int packed = largest << LARGEST_INDEX_SHIFT;
+		int shift = 2 * COMPONENT_BITS;
+		for (int component = 0; component <= W; component++) {
+			if (component != largest) {
+				packed |= quantizeComponent(sign * getComponent(rotation, component)) << shift;
+				shift -= COMPONENT_BITS;
+			}
+		}
+		return packed;
+	}
+
+	public static void unpackRotation(int packed, Quaternion rotation) {
+		int largest = packed >>> LARGEST_INDEX_SHIFT;
+		int shift = 2 * COMPONENT_BITS;
+		float sumOfSquares = 0;
+		for (int component = 0; component <= W; component++) {
+			if (component != largest) {
+				float value = dequantizeComponent((packed >>> shift) & COMPONENT_MASK);
+				setComponent(rotation, component, value);
+				sumOfSquares += value * value;
+				shift -= COMPONENT_BITS;
+			}
+		}
+		setComponent(rotation, largest, FastMath.sqrt(Math.max(0, 1 - sumOfSquares)));
+	}
+
+	private static int quantizeComponent(float value) {
+		float normalized = (value / COMPONENT_LIMIT + 1) / 2;
+		return Math.max(0, Math.min(COMPONENT_MASK, Math.round(normalized * COMPONENT_MASK)));
+	}
+
+	private static float dequantizeComponent(int quantized) {
+		return ((float) quantized / COMPONENT_MASK * 2 - 1) * COMPONENT_LIMIT;
+	}
+
+	private static float getComponent(Quaternion rotation, int component) {
+		switch (component) {
+		case 0:
+			return rotation.x;
+		case 1:
+			return rotation.y;
+		case 2:
+			return rotation.z;
+		default:
+			return rotation.w;
+		}
+	}
+
+	private static void setComponent(Quaternion rotation, int component, float value) {
+		switch (component) {
+		case 0:
+			rotation.x = value;
+			break;
+		case 1:
+			rotation.y = value;
+			break;
+		case 2:
+			rotation.z = value;
+			break;
+		default:
+			rotation.w = value;
+		}
+	}
+}
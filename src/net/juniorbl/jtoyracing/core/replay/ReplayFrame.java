@@ -0,0 +1,90 @@
+package net.juniorbl.jtoyracing.core.replay;
+
+import com.jme.math.Quaternion;
+import com.jme.math.Vector3f;
+
+/**
+ * A decoded frame of a replay. The frames are created once and decoded over, the playback doesn't
+ * allocate.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class ReplayFrame {
+	private static final int NO_FRAME = -1;
+	private int frame = NO_FRAME;
+	private float time;
+	private Vector3f[] positions;
+	private Quaternion[] rotations;
+	private short[] throttles;
+	private short[] steerDirections;
+	private short[] healths;
+
+	public ReplayFrame(int vehicles) {
+		positions = new Vector3f[vehicles * ReplayFormat.BODIES_PER_VEHICLE];
+		rotations = new Quaternion[positions.length];
+		for (int body = 0; body < positions.length; body++) {
+			positions[body] = new Vector3f();
+			rotations[body] = new Quaternion();
+		}
+		throttles = new short[vehicles];
+		steerDirections = new short[vehicles];
+		healths = new short[vehicles];
+	}
+
+	void setFrame(int frame, float time) {
+		this.frame = frame;
+		this.time = time;
+	}
+
+	void setInputs(int vehicle, short throttle, short steerDirection, short health) {
+		throttles[vehicle] = throttle;
+		steerDirections[vehicle] = steerDirection;
+		healths[vehicle] = health;
+	}
+
+	/**
+	 * Copies another frame of the same replay.
+	 */
+	void set(ReplayFrame replayFrame) {
+		setFrame(replayFrame.frame, replayFrame.time);
+		for (int body = 0; body < positions.length; body++) {
+			positions[body].set(replayFrame.positions[body]);
+			rotations[body].set(replayFrame.rotations[body]);
+		}
+		System.arraycopy(replayFrame.throttles, 0, throttles, 0, throttles.length);
+		System.arraycopy(replayFrame.steerDirections, 0, steerDirections, 0, steerDirections.length);
+		System.arraycopy(replayFrame.healths, 0, healths, 0, healths.length);
+	}
+
+	/**
+	 * Returns the index of the frame in the replay, -1 before the frame is decoded.
+	 */
+	public int getFrame() {
+		return frame;
+	}
+
+	public float getTime() {
+		return time;
+	}
+
+	public Vector3f getPosition(int vehicle, int body) {
+		return positions[vehicle * ReplayFormat.BODIES_PER_VEHICLE + body];
+	}
+
+	public Quaternion getRotation(int vehicle, int body) {
+		return rotations[vehicle * ReplayFormat.BODIES_PER_VEHICLE + body];
+	}
+
+	public short getThrottle(int vehicle) {
+		return throttles[vehicle];
+	}
+
+	public short getSteerDirection(int vehicle) {
+		return steerDirections[vehicle];
+	}
+
+	public short getHealth(int vehicle) {
+		return healths[vehicle];
+	}
+}
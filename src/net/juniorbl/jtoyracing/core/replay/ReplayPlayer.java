@@ -0,0 +1,197 @@
+package net.juniorbl.jtoyracing.core.replay;
+
+import java.io.IOException;
+import java.util.List;
+
+import net.juniorbl.jtoyracing.entity.vehicle.Vehicle;
+
+import com.jme.math.Quaternion;
+import com.jme.math.Vector3f;
+import com.jme.scene.Node;
+import com.jme.scene.Spatial;
+
+/**
+ * Plays a replay back on the vehicles of a race: the chassis and wheels are moved by the recording
+ * instead of by the physics, which must not be stepped meanwhile.
+ *
+ * The frames are interpolated, positions linearly and rotations spherically, so the playback is smooth
+ * at any render rate and speed. The two frames around the playback time are kept decoded; moving to the
+ * next pair in a normal playback is a step forward, seeking elsewhere uses the keyframe index of the file.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class ReplayPlayer {
+	public static final String PLAYBACK_FILE_PROPERTY = "jtoyracing.replay.play";
+	private ReplayFile replayFile;
+	private ReplayDecoder replayDecoder;
+	private Spatial[][] bodies;
+	private ReplayFrame previousFrame;
+	private ReplayFrame nextFrame;
+	private double time;
+	private float speed = 1;
+	private Vector3f position = new Vector3f();
+	private Quaternion rotation = new Quaternion();
+	private Quaternion nextRotation = new Quaternion();
+	private Quaternion inverseParentRotation = new Quaternion();
+
+	/**
+	 * Creates a player for the vehicles of a race, in the order they were recorded. The frames are
+	 * decoded ahead in background when asked.
+	 */
+	public ReplayPlayer(ReplayFile replayFile, List<? extends Vehicle> vehicles, boolean decodeAhead) {
+		this(replayFile, getBodies(vehicles), decodeAhead);
+	}
+
+	ReplayPlayer(ReplayFile replayFile, Spatial[][] bodies, boolean decodeAhead) {
+		if (bodies.length != replayFile.getVehicleCount()) {
+			throw new IllegalArgumentException("The replay has " + replayFile.getVehicleCount() + " vehicles, not "
+					+ bodies.length);
+		}
+		this.replayFile = replayFile;
+		this.bodies = bodies;
+		previousFrame = new ReplayFrame(bodies.length);
+		nextFrame = new ReplayFrame(bodies.length);
+		if (decodeAhead) {
+			replayDecoder = new ReplayDecoder(replayFile);
+		}
+		seek(replayFile.getStartTime());
+	}
+
+	private static Spatial[][] getBodies(List<? extends Vehicle> vehicles) {
+		Spatial[][] bodies = new Spatial[vehicles.size()][];
+		for (int vehicle = 0; vehicle < bodies.length; vehicle++) {
+			bodies[vehicle] = ReplayRecorder.getBodies(vehicles.get(vehicle));
+		}
+		return bodies;
+	}
+
+	/**
+	 * Advances the playback by some seconds of the frame, multiplied by the speed.
+	 */
+	public void update(float timePerFrame) {
+		seek(time + timePerFrame * speed);
+	}
+
+	/**
+	 * Moves the playback to a time, limited to the recorded ones, and places the vehicles there.
+	 */
+	public void seek(double newTime) {
+		time = Math.max(replayFile.getStartTime(), Math.min(replayFile.getEndTime(), newTime));
+		int frame = findFrame();
+		if (frame != previousFrame.getFrame()) {
+			loadFrames(frame);
+		}
+		apply();
+	}
+
+	/**
+	 * Finds the frame before the playback time. In a normal playback it's the current one or the next.
+	 */
+	private int findFrame() {
+		int frame = previousFrame.getFrame();
+		if (frame != -1 && previousFrame.getTime() <= time) {
+			if (time < nextFrame.getTime() || frame == nextFrame.getFrame()) {
+				return frame;
+			}
+			if (nextFrame.getFrame() + 1 >= replayFile.getFrameCount()
+					|| time < replayFile.getFrameTime(nextFrame.getFrame() + 1)) {
+				return nextFrame.getFrame();
+			}
+		}
+		return replayFile.findFrame(time);
+	}
+
+	private void loadFrames(int frame) {
+		int next = Math.min(frame + 1, replayFile.getFrameCount() - 1);
+		if (nextFrame.getFrame() == frame) {
+			previousFrame.set(nextFrame);
+		} else {
+			loadFrame(frame, previousFrame);
+		}
+		loadFrame(next, nextFrame);
+		if (replayDecoder != null) {
+			replayDecoder.decodeFrom(next + 1);
+		}
+	}
+
+	private void loadFrame(int frame, ReplayFrame replayFrame) {
+		if (replayDecoder == null || !replayDecoder.copyDecodedFrame(frame, replayFrame)) {
+			replayFile.decode(frame, replayFrame);
+		}
+	}
+
+	private void apply() {
+		float interval = nextFrame.getTime() - previousFrame.getTime();
+		float amount = 0;
+		if (interval > 0) {
+			amount = (float) Math.min(1, (time - previousFrame.getTime()) / interval);
+		}
+		for (int vehicle = 0; vehicle < bodies.length; vehicle++) {
+			for (int body = 0; body < bodies[vehicle].length; body++) {
+				position.interpolate(previousFrame.getPosition(vehicle, body), nextFrame.getPosition(vehicle, body), amount);
+				// slerp may negate its second quaternion, it's given a copy
+				nextRotation.set(nextFrame.getRotation(vehicle, body));
+				rotation.slerp(previousFrame.getRotation(vehicle, body), nextRotation, amount);
+				placeInWorld(bodies[vehicle][body], position, rotation);
+			}
+		}
+	}
+
+	/**
+	 * Places a body at a world position and rotation, through its local ones.
+	 */
+	private void placeInWorld(Spatial body, Vector3f worldPosition, Quaternion worldRotation) {
+		Node parent = body.getParent();
+		if (parent == null) {
+			body.getLocalTranslation().set(worldPosition);
+			body.getLocalRotation().set(worldRotation);
+			return;
+		}
+		inverseParentRotation.set(parent.getWorldRotation()).inverseLocal();
+		worldPosition.subtractLocal(parent.getWorldTranslation());
+		inverseParentRotation.mult(worldPosition, body.getLocalTranslation());
+		body.getLocalTranslation().divideLocal(parent.getWorldScale());
+		inverseParentRotation.mult(worldRotation, body.getLocalRotation());
+	}
+
+	/**
+	 * Stops the background decoding and closes the file.
+	 */
+	public void close() throws IOException {
+		if (replayDecoder != null) {
+			replayDecoder.stop();
+		}
+		replayFile.close();
+	}
+
+	public double getTime() {
+		return time;
+	}
+
+	public float getSpeed() {
+		return speed;
+	}
+
+	/**
+	 * Changes the speed of the playback, 1 is the recorded one. Negative speeds play backwards.
+	 */
+	public void setSpeed(float speed) {
+		this.speed = speed;
+	}
+
+	public boolean isFinished() {
+		return time >= replayFile.getEndTime();
+	}
+
+	/**
+	 * Returns the frame before the playback time, with the inputs and health of the vehicles.
+	 */
+	public ReplayFrame getCurrentFrame() {
+		return previousFrame;
+	}
+
+	public ReplayFile getReplayFile() {
+		return replayFile;
+	}
+}
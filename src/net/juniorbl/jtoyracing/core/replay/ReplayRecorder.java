@@ -0,0 +1,152 @@
+package net.juniorbl.jtoyracing.core.replay;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.List;
+
+import net.juniorbl.jtoyracing.entity.vehicle.Vehicle;
+import net.juniorbl.jtoyracing.entity.vehicle.Wheel;
+
+import com.jme.scene.Spatial;
+import com.jme.util.LoggingSystem;
+
+/**
+ * Records the vehicles of a race in a replay file (see {@link ReplayFormat}).
+ *
+ * The file is mapped in memory and the frames are written to the mapping, the operating system writes
+ * them to the disk in background, so the frame loop never waits for I/O. The recording time of each
+ * frame is measured; when the average goes over {@value #RECORD_BUDGET_NANOS} ns the recorder records
+ * every other frame, and so on, so the replay never costs more than its budget. Each frame has its game
+ * time, the playback doesn't depend on a fixed interval.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class ReplayRecorder {
+	public static final String REPLAY_FILE_PROPERTY = "jtoyracing.replay.file";
+	/**
+	 * Ten minutes at 60 frames per second, the older frames are overwritten.
+	 */
+	public static final int DEFAULT_CAPACITY = 36000;
+	public static final long RECORD_BUDGET_NANOS = 200000;
+	private static final int MEASUREMENT_WINDOW = 60;
+	private static final int MAX_RECORD_INTERVAL = 8;
+	private static final double NANOS_PER_MICRO = 1000d;
+	private RandomAccessFile file;
+	private MappedByteBuffer buffer;
+	private Vehicle[] vehicles;
+	private Spatial[][] bodies;
+	private int capacity;
+	private long framesWritten;
+	private int recordInterval = 1;
+	private int skippedFrames;
+	private long windowNanos;
+	private int windowFrames;
+	private long totalNanos;
+	private long maxNanos;
+
+	public ReplayRecorder(File replayFile, List<? extends Vehicle> vehicles, int capacity) throws IOException {
+		this.vehicles = vehicles.toArray(new Vehicle[vehicles.size()]);
+		this.capacity = capacity;
+		bodies = new Spatial[vehicles.size()][];
+		for (int vehicle = 0; vehicle < this.vehicles.length; vehicle++) {
+			bodies[vehicle] = getBodies(this.vehicles[vehicle]);
+		}
+		file = new RandomAccessFile(replayFile, "rw");
+		buffer = file.getChannel().map(FileChannel.MapMode.READ_WRITE, 0,
+				ReplayFormat.getFileSize(vehicles.size(), capacity));
+		ReplayFormat.putHeader(buffer, vehicles.size(), capacity);
+	}
+
+	/**
+	 * Returns the recorded bodies of a vehicle: the chassis followed by the wheels.
+	 */
+	public static Spatial[] getBodies(Vehicle vehicle) {
+		Spatial[] vehicleBodies = new Spatial[ReplayFormat.BODIES_PER_VEHICLE];
+		vehicleBodies[0] = vehicle.getChassis();
+		Wheel[] wheels = vehicle.getWheels();
+		for (int wheel = 0; wheel < wheels.length; wheel++) {
+			vehicleBodies[wheel + 1] = wheels[wheel].getBody();
+		}
+		return vehicleBodies;
+	}
+
+	/**
+	 * Records the vehicles as they are now, unless the frame is skipped to keep the recorder in its budget.
+	 */
+	public void record(double time) {
+		skippedFrames++;
+		if (skippedFrames < recordInterval) {
+			return;
+		}
+		skippedFrames = 0;
+		long start = System.nanoTime();
+		writeFrame((float) time);
+		measure(System.nanoTime() - start);
+	}
+
+	private void writeFrame(float time) {
+		int frameIndex = ReplayFormat.getFrameIndex(framesWritten, vehicles.length, capacity);
+		ReplayFormat.putFrameHeader(buffer, frameIndex, framesWritten, time);
+		for (int vehicle = 0; vehicle < vehicles.length; vehicle++) {
+			int index = ReplayFormat.getVehicleIndex(frameIndex, vehicle);
+			Spatial[] vehicleBodies = bodies[vehicle];
+			for (int body = 0; body < vehicleBodies.length; body++) {
+				ReplayFormat.putBody(buffer, index + body * ReplayFormat.BODY_SIZE,
+						vehicleBodies[body].getWorldTranslation(), vehicleBodies[body].getWorldRotation());
+			}
+			ReplayFormat.putInputs(buffer, index, vehicles[vehicle].getThrottle(), vehicles[vehicle].getSteerDirection(),
+					vehicles[vehicle].getHealth());
+		}
+		framesWritten++;
+		ReplayFormat.putFramesWritten(buffer, framesWritten);
+	}
+
+	private void measure(long nanos) {
+		totalNanos += nanos;
+		maxNanos = Math.max(maxNanos, nanos);
+		windowNanos += nanos;
+		windowFrames++;
+		if (windowFrames == MEASUREMENT_WINDOW) {
+			if (windowNanos / windowFrames > RECORD_BUDGET_NANOS && recordInterval < MAX_RECORD_INTERVAL) {
+				recordInterval *= 2;
+				LoggingSystem.getLogger().warning("Replay over its budget, recording one of each " + recordInterval
+						+ " frames");
+			}
+			windowNanos = 0;
+			windowFrames = 0;
+		}
+	}
+
+	/**
+	 * Writes the pending frames to the disk and closes the file.
+	 */
+	public void close() throws IOException {
+		buffer.force();
+		file.close();
+		LoggingSystem.getLogger().info(String.format("Replay: %d frames, %.1f us average and %.1f us max per frame",
+				framesWritten, getAverageRecordNanos() / NANOS_PER_MICRO, maxNanos / NANOS_PER_MICRO));
+	}
+
+	public long getFramesWritten() {
+		return framesWritten;
+	}
+
+	public double getAverageRecordNanos() {
+		if (framesWritten == 0) {
+			return 0;
+		}
+		return (double) totalNanos / framesWritten;
+	}
+
+	public long getMaxRecordNanos() {
+		return maxNanos;
+	}
+
+	public int getRecordInterval() {
+		return recordInterval;
+	}
+}
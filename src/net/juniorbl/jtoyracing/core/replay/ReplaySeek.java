@@ -0,0 +1,26 @@
+package net.juniorbl.jtoyracing.core.replay;
+
+import com.jme.input.action.InputActionEvent;
+import com.jme.input.action.InputActionInterface;
+
+/**
+ * Moves a replay playback some seconds backward or forward.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public class ReplaySeek implements InputActionInterface {
+	private ReplayPlayer replayPlayer;
+	private float seconds;
+
+	public ReplaySeek(ReplayPlayer replayPlayer, float seconds) {
+		this.replayPlayer = replayPlayer;
+		this.seconds = seconds;
+	}
+
+	public final void performAction(InputActionEvent event) {
+		if (event.getTriggerPressed()) {
+			replayPlayer.seek(replayPlayer.getTime() + seconds);
+		}
+	}
+}
@@ -0,0 +1,139 @@
+package net.juniorbl.jtoyracing.core.scheduler;
+
+/**
+ * Scheduler driven by the game clock. It is updated by the game loop with the time per frame, so
+ * the tasks run on the render thread, in a deterministic order, and stop when the game is paused.
+ *
+ * The scheduled tasks are kept in a binary heap ordered by due time. Updating the scheduler doesn't
+ * allocate memory, only scheduling a new task does.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class GameScheduler {
+	private static final int INITIAL_CAPACITY = 16;
+	private ScheduledTask[] heap = new ScheduledTask[INITIAL_CAPACITY];
+	private int size;
+	private long sequence;
+	private double time;
+
+	/**
+	 * Schedules a task to be executed once, after some seconds of game time.
+	 */
+	public ScheduledTask schedule(GameTask task, float delay) {
+		ScheduledTask scheduledTask = new ScheduledTask(this, task, 0);
+		add(scheduledTask, time + delay);
+		return scheduledTask;
+	}
+
+	/**
+	 * Schedules a task to be executed periodically. If a frame takes longer than the period, the task
+	 * is executed once for each period elapsed, keeping the rate.
+	 */
+	public ScheduledTask scheduleAtFixedRate(GameTask task, float initialDelay, float period) {
+		if (period <= 0) {
+			throw new IllegalArgumentException("The period must be positive: " + period);
+		}
+		ScheduledTask scheduledTask = new ScheduledTask(this, task, period);
+		add(scheduledTask, time + initialDelay);
+		return scheduledTask;
+	}
+
+	/**
+	 * Advances the game clock and executes the tasks that are due.
+	 */
+	public void update(float timePerFrame) {
+		time += timePerFrame;
+		while (size > 0 && heap[0].getDueTime() <= time) {
+			ScheduledTask scheduledTask = heap[0];
+			removeAt(0);
+			if (scheduledTask.isPeriodic()) {
+				add(scheduledTask, scheduledTask.getDueTime() + scheduledTask.getPeriod());
+			}
+			scheduledTask.getTask().execute();
+		}
+	}
+
+	void cancel(ScheduledTask scheduledTask) {
+		if (scheduledTask.isScheduled()) {
+			removeAt(scheduledTask.getHeapIndex());
+		}
+	}
+
+	/**
+	 * Returns the game time, in seconds, since the scheduler was created.
+	 */
+	public double getTime() {
+		return time;
+	}
+
+	public int getScheduledTasks() {
+		return size;
+	}
+
+	private void add(ScheduledTask scheduledTask, double dueTime) {
+		if (size == heap.length) {
+			ScheduledTask[] largerHeap = new ScheduledTask[heap.length * 2];
+			System.arraycopy(heap, 0, largerHeap, 0, size);
+			heap = largerHeap;
+		}
+		scheduledTask.setDueTime(dueTime, sequence++);
+		place(scheduledTask, size++);
+		siftUp(scheduledTask.getHeapIndex());
+	}
+
+	private void removeAt(int index) {
+		ScheduledTask removed = heap[index];
+		removed.setHeapIndex(ScheduledTask.NOT_SCHEDULED);
+		ScheduledTask last = heap[--size];
+		heap[size] = null;
+		if (index < size) {
+			place(last, index);
+			siftDown(index);
+			siftUp(last.getHeapIndex());
+		}
+	}
+
+	private void siftUp(int index) {
+		int child = index;
+		while (child > 0) {
+			int parent = (child - 1) / 2;
+			if (!heap[child].isDueBefore(heap[parent])) {
+				return;
+			}
+			swap(child, parent);
+			child = parent;
+		}
+	}
+
+	private void siftDown(int index) {
+		int parent = index;
+		while (true) {
+			int first = parent;
+			int left = parent * 2 + 1;
+			int right = left + 1;
+			if (left < size && heap[left].isDueBefore(heap[first])) {
+				first = left;
+			}
+			if (right < size && heap[right].isDueBefore(heap[first])) {
+				first = right;
+			}
+			if (first == parent) {
+				return;
+			}
+			swap(parent, first);
+			parent = first;
+		}
+	}
+
+	private void swap(int first, int second) {
+		ScheduledTask firstTask = heap[first];
+		place(heap[second], first);
+		place(firstTask, second);
+	}
+
+	private void place(ScheduledTask scheduledTask, int index) {
+		heap[index] = scheduledTask;
+		scheduledTask.setHeapIndex(index);
+	}
+}
@@ -0,0 +1,12 @@
+package net.juniorbl.jtoyracing.core.scheduler;
+
+/**
+ * Work executed by the game scheduler, always on the render thread.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public interface GameTask {
+
+	void execute();
+}
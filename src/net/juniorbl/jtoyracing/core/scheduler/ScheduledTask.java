@@ -0,0 +1,74 @@
+package net.juniorbl.jtoyracing.core.scheduler;
+
+/**
+ * A task in the game scheduler. It is kept while the task is scheduled, so a fixed rate task is
+ * rescheduled without any allocation.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class ScheduledTask {
+	static final int NOT_SCHEDULED = -1;
+	private GameScheduler scheduler;
+	private GameTask task;
+	private double period;
+	private double dueTime;
+	private long sequence;
+	private int heapIndex = NOT_SCHEDULED;
+
+	ScheduledTask(GameScheduler scheduler, GameTask task, double period) {
+		this.scheduler = scheduler;
+		this.task = task;
+		this.period = period;
+	}
+
+	/**
+	 * Removes the task from the scheduler, it isn't executed anymore.
+	 */
+	public void cancel() {
+		scheduler.cancel(this);
+	}
+
+	public boolean isScheduled() {
+		return heapIndex != NOT_SCHEDULED;
+	}
+
+	public boolean isPeriodic() {
+		return period > 0;
+	}
+
+	/**
+	 * Returns the game time, in seconds, of the next execution.
+	 */
+	public double getDueTime() {
+		return dueTime;
+	}
+
+	GameTask getTask() {
+		return task;
+	}
+
+	double getPeriod() {
+		return period;
+	}
+
+	void setDueTime(double dueTime, long sequence) {
+		this.dueTime = dueTime;
+		this.sequence = sequence;
+	}
+
+	int getHeapIndex() {
+		return heapIndex;
+	}
+
+	void setHeapIndex(int heapIndex) {
+		this.heapIndex = heapIndex;
+	}
+
+	/**
+	 * Tasks due at the same time run in the order they were scheduled.
+	 */
+	boolean isDueBefore(ScheduledTask other) {
+		return dueTime < other.dueTime || (dueTime == other.dueTime && sequence < other.sequence);
+	}
+}
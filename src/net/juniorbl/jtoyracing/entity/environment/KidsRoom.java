@@ -1,25 +1,30 @@
 package net.juniorbl.jtoyracing.entity.environment;
 
-import javax.swing.ImageIcon;
+import java.util.ArrayList;
+import java.util.List;
 
+import net.juniorbl.jtoyracing.core.loading.AssetLoader;
 import net.juniorbl.jtoyracing.enums.GridPosition;
 import net.juniorbl.jtoyracing.enums.ResourcesPath;
+import net.juniorbl.jtoyracing.util.BakedHeightMap;
+import net.juniorbl.jtoyracing.util.CollisionShapes;
+import net.juniorbl.jtoyracing.util.HeightField;
+import net.juniorbl.jtoyracing.util.LodNode;
 import net.juniorbl.jtoyracing.util.ModelUtil;
+import net.juniorbl.jtoyracing.util.TextureUtil;
 
 import com.jme.bounding.BoundingBox;
-import com.jme.bounding.BoundingVolume;
 import com.jme.image.Texture;
 import com.jme.math.Vector3f;
 import com.jme.renderer.Renderer;
 import com.jme.scene.Node;
 import com.jme.scene.shape.Quad;
 import com.jme.scene.state.TextureState;
-import com.jme.util.TextureManager;
 import com.jmex.physics.PhysicsSpace;
 import com.jmex.physics.StaticPhysicsNode;
+import com.jmex.physics.geometry.PhysicsBox;
 import com.jmex.physics.material.Material;
 import com.jmex.terrain.TerrainBlock;
-import com.jmex.terrain.util.MidPointHeightMap;
 
 /**
  * A room, first level of the game.
@@ -34,8 +39,28 @@ public class KidsRoom extends Node {
 	private static final long serialVersionUID = -4018480325870153949L;
 	private static final Vector3f FLOOR_TEXTURE_SCALE = new Vector3f(2f, 2f, 2f);
 	private static final Vector3f FLOOR_SIZE = new Vector3f(9, 0, 5.2f);
+	private static final float FLOOR_THICKNESS = 2;
 	private static final Vector3f LOCATION = new Vector3f(-66, -30, 28);
+	private static final String FLOOR_HEIGHT_MAP = "floor.hmap";
+	private static final String FLOOR_TEXTURE = "room-floor";
+	private static final String FRONT_WALL_TEXTURE = "front-wall-texture";
+	private static final String BACK_WALL_TEXTURE = "back-wall-texture";
+	private static final String RIGHT_WALL_TEXTURE = "right-wall-texture";
+	private static final String LEFT_WALL_TEXTURE = "left-wall-texture";
+	private static final String BED_MODEL = "obj/bed.obj";
+	private static final String DESK_MODEL = "obj/desk.obj";
+	private static final String COMPUTER_MODEL = "obj/computer.obj";
+	private static final String CHAIR_MODEL = "obj/chair.obj";
+	private static final String LEGO_DOLL_MODEL = "obj/legoDoll.obj";
+	private static final String TV_MODEL = "obj/TV.obj";
+	private static final String TABLE_MODEL = "obj/table.obj";
+	private static final String SHELF_MODEL = "obj/shelf.obj";
+	private static final String[] TEXTURES = {FLOOR_TEXTURE, FRONT_WALL_TEXTURE, BACK_WALL_TEXTURE,
+		RIGHT_WALL_TEXTURE, LEFT_WALL_TEXTURE};
+	private static final String[] ROOM_OBJECT_MODELS = {BED_MODEL, DESK_MODEL, COMPUTER_MODEL, CHAIR_MODEL,
+		LEGO_DOLL_MODEL, TV_MODEL, TABLE_MODEL, SHELF_MODEL};
 	private TerrainBlock floorTerrainBlock;
+	private HeightField floorHeights;
 	private RaceTrack raceTrack;
 	private Renderer renderer;
 	private PhysicsSpace physicsSpace;
@@ -55,30 +80,52 @@ public class KidsRoom extends Node {
 		createFloorNode();
 	}
 
+	/**
+	 * The height map is baked (see the "bake_floor_height_map" target), the floor is the same on every
+	 * launch. Its heights are kept in a height field, sampled without the allocations and the searches of
+	 * the terrain block each time the room places something on the floor.
+	 */
 	private void createTerrainBlock() {
-		MidPointHeightMap mapHeight = new MidPointHeightMap(32, 5f);
+		BakedHeightMap mapHeight = new BakedHeightMap(KidsRoom.class.getClassLoader().getResource(
+				ResourcesPath.TERRAIN_PATH + FLOOR_HEIGHT_MAP));
 		floorTerrainBlock = new TerrainBlock("terrain", mapHeight.getSize(),
 				FLOOR_SIZE, mapHeight.getHeightMap(),
 				new Vector3f(0, 0, 0), false);
 		floorTerrainBlock.setModelBound(new BoundingBox());
 		floorTerrainBlock.updateModelBound();
+		floorHeights = new HeightField(mapHeight.getHeightMap(), mapHeight.getSize(), FLOOR_SIZE);
 	}
 
 	private void createFloorNode() {
 		StaticPhysicsNode floorNode = physicsSpace.createStaticNode();
 		floorNode.attachChild(floorTerrainBlock);
-		floorNode.generatePhysicsGeometry(true);
+		if (CollisionShapes.isEnabled()) {
+			createFloorBox(floorNode);
+		} else {
+			floorNode.generatePhysicsGeometry(true);
+		}
 		floorNode.setMaterial(Material.WOOD);
 		this.attachChild(floorNode);
 		loadFloorTexture();
 	}
 
+	/**
+	 * The height map of the floor is scaled to nothing, so a box under the terrain is exactly its shape,
+	 * no heightfield (JMonkeyEngine Physics has none) or triangles are needed.
+	 */
+	private void createFloorBox(StaticPhysicsNode floorNode) {
+		BoundingBox floorBounds = new BoundingBox();
+		floorBounds.computeFromPoints(floorTerrainBlock.getVertexBuffer(0));
+		PhysicsBox floorBox = floorNode.createBox("floorBox");
+		floorBox.getLocalTranslation().set(floorBounds.getCenter());
+		floorBox.getLocalTranslation().y += floorBounds.yExtent - FLOOR_THICKNESS / 2;
+		floorBox.getLocalScale().set(2 * floorBounds.xExtent, FLOOR_THICKNESS, 2 * floorBounds.zExtent);
+	}
+
 	private void loadFloorTexture() {
 		TextureState floorTextureState = renderer.createTextureState();
-		ImageIcon floorImage = new ImageIcon(
-				KidsRoom.class.getClassLoader().getResource(ResourcesPath.TEXTURE_PATH + "room-floor.jpg"));
-		Texture floorTexture = TextureManager.loadTexture(
-				floorImage.getImage(), Texture.MM_LINEAR_LINEAR, Texture.FM_LINEAR, true);
+		Texture floorTexture = TextureUtil.loadTexture(
+				getTexturePath(FLOOR_TEXTURE), Texture.MM_LINEAR_LINEAR, Texture.FM_LINEAR);
 		floorTexture.setWrap(Texture.WM_WRAP_S_WRAP_T);
 		floorTexture.setScale(FLOOR_TEXTURE_SCALE);
 		floorTextureState.setTexture(floorTexture);
@@ -99,49 +146,74 @@ public class KidsRoom extends Node {
 
 	private void createFrontWall() {
 		Quad frontWall = new Quad("frontWall", ROOM_WIDTH, ROOM_HEIGHT);
-		frontWall.setLocalTranslation(new Vector3f(278, getFloorHeight() + 50, 80));
+		frontWall.setLocalTranslation(onFloor(278, 50, 80));
 		frontWall.setLocalRotation(ModelUtil.calculateRotation(270));
-		String frontWallTexture = "front-wall-texture";
-		loadWallTexture(frontWall, frontWallTexture);
+		loadWallTexture(frontWall, FRONT_WALL_TEXTURE);
 		this.attachChild(frontWall);
 	}
 
 	private void createBackWall() {
 		Quad backWall = new Quad("backWall", ROOM_WIDTH, ROOM_HEIGHT);
-		backWall.setLocalTranslation(new Vector3f(0, getFloorHeight() + 50, 81));
+		backWall.setLocalTranslation(onFloor(0, 50, 81));
 		backWall.setLocalRotation(ModelUtil.calculateRotation(90));
-		String backWallTexture = "back-wall-texture";
-		loadWallTexture(backWall, backWallTexture);
+		loadWallTexture(backWall, BACK_WALL_TEXTURE);
 		this.attachChild(backWall);
 	}
 
 	private void createRightWall() {
 		Quad rightWall = new Quad("rightWall", ROOM_LENGTH, ROOM_HEIGHT);
-		rightWall.setLocalTranslation(new Vector3f(139, getFloorHeight() + 50, 161));
+		rightWall.setLocalTranslation(onFloor(139, 50, 161));
 		rightWall.setLocalRotation(ModelUtil.calculateRotation(180));
-		String rightWallTexture = "right-wall-texture";
-		loadWallTexture(rightWall, rightWallTexture);
+		loadWallTexture(rightWall, RIGHT_WALL_TEXTURE);
 		this.attachChild(rightWall);
 	}
 
 	private void createLeftWall() {
 		Quad leftWall = new Quad("leftWall", ROOM_LENGTH, ROOM_HEIGHT);
-		leftWall.setLocalTranslation(new Vector3f(139, getFloorHeight() + 50, 0));
-		String leftWallTexture = "left-wall-texture";
-		loadWallTexture(leftWall, leftWallTexture);
+		leftWall.setLocalTranslation(onFloor(139, 50, 0));
+		loadWallTexture(leftWall, LEFT_WALL_TEXTURE);
 		this.attachChild(leftWall);
 	}
 
 	private void loadWallTexture(Quad wall, String textureName) {
 		TextureState wallTextureState = renderer.createTextureState();
-		ImageIcon wallImage = new ImageIcon(
-				KidsRoom.class.getClassLoader().getResource(ResourcesPath.TEXTURE_PATH + textureName + ".jpg"));
-		Texture wallTexture = TextureManager.loadTexture(
-				wallImage.getImage(), Texture.MM_NONE, Texture.MM_NONE, true);
+		Texture wallTexture = TextureUtil.loadTexture(getTexturePath(textureName), Texture.MM_NONE, Texture.MM_NONE);
 		wallTextureState.setTexture(wallTexture);
 		wall.setRenderState(wallTextureState);
 	}
 
+	private static String getTexturePath(String textureName) {
+		return ResourcesPath.TEXTURE_PATH + textureName + ".jpg";
+	}
+
+	/**
+	 * Loads the models and decodes the textures of the room (race track included) ahead of its creation.
+	 */
+	public static void preloadAssets(AssetLoader assetLoader) {
+		for (String model : ROOM_OBJECT_MODELS) {
+			assetLoader.preloadModel(ResourcesPath.MODELS_PATH + model);
+		}
+		for (String texture : TEXTURES) {
+			assetLoader.preloadImage(getTexturePath(texture));
+		}
+		RaceTrack.preloadAssets(assetLoader);
+	}
+
+	/**
+	 * Makes the levels of detail of the room objects ahead, so the first race doesn't simplify them.
+	 * Returns the models loaded with their levels.
+	 */
+	public static List<LodNode> bakeLevelsOfDetail() {
+		List<LodNode> models = new ArrayList<LodNode>();
+		for (String model : ROOM_OBJECT_MODELS) {
+			models.add(ModelUtil.loadLodModel(ResourcesPath.MODELS_PATH + model));
+		}
+		return models;
+	}
+
+	/**
+	 * The room objects have levels of detail, they are often far from the camera.
+	 */
 	private void createRoomObjects() {
 		createBed();
 		createDesk();
@@ -153,46 +225,63 @@ public class KidsRoom extends Node {
 		createShelf();
 	}
 
-	public final boolean isVehicleReachedCheckpoint(BoundingVolume vehicleBoundingVolume) {
-		return raceTrack.isVehicleReachedCheckpoint(vehicleBoundingVolume);
+	public final RaceTrack getRaceTrack() {
+		return raceTrack;
 	}
 
+	/**
+	 * Returns the height of the floor at the origin of the room, the race track and its grid stand on it.
+	 */
 	public final float getFloorHeight() {
-		return floorTerrainBlock.getHeight(new Vector3f());
+		return getFloorHeight(0, 0);
+	}
+
+	/**
+	 * Returns the height of the floor at a point of the room.
+	 */
+	public final float getFloorHeight(float x, float z) {
+		return floorHeights.getHeight(x, z);
+	}
+
+	/**
+	 * Returns a point of the room at some height above the floor under it.
+	 */
+	private Vector3f onFloor(float x, float heightAboveFloor, float z) {
+		return new Vector3f(x, getFloorHeight(x, z) + heightAboveFloor, z);
 	}
 
 	private void createLegoDoll() {
 		final float legoDollScale = 2.5f;
 		StaticPhysicsNode legoDoll = loadObjectModel(
-				new Vector3f(200, getFloorHeight() + 3.9f, 30), "obj/legoDoll.obj", legoDollScale);
+				onFloor(200, 3.9f, 30), LEGO_DOLL_MODEL, legoDollScale);
 		this.attachChild(legoDoll);
 	}
 
 	private void createShelf() {
 		final float shelfScale = 7;
 		StaticPhysicsNode shelf = loadObjectModel(
-				new Vector3f(5, getFloorHeight() + 35, 80), "obj/shelf.obj", shelfScale);
+				onFloor(5, 35, 80), SHELF_MODEL, shelfScale);
 		this.attachChild(shelf);
 	}
 
 	private void createBed() {
 		final float bedScale = 0.4f;
 		StaticPhysicsNode bed = loadObjectModel(
-				new Vector3f(235, getFloorHeight(), 130), "obj/bed.obj", bedScale);
+				onFloor(235, 0, 130), BED_MODEL, bedScale);
 		this.attachChild(bed);
 	}
 
 	private void createDesk() {
 		final float deskScale = 19;
 		StaticPhysicsNode desk = loadObjectModel(
-				new Vector3f(80, getFloorHeight(), 20.5f), "obj/desk.obj", deskScale);
+				onFloor(80, 0, 20.5f), DESK_MODEL, deskScale);
 		this.attachChild(desk);
 	}
 
 	private void createChair() {
 		final float chairScale = 17;
 		StaticPhysicsNode chair = loadObjectModel(
-				new Vector3f(80, getFloorHeight(), 50), "obj/chair.obj", chairScale);
+				onFloor(80, 0, 50), CHAIR_MODEL, chairScale);
 		chair.setLocalRotation(ModelUtil.calculateRotation(90));
 		this.attachChild(chair);
 	}
@@ -200,21 +289,21 @@ public class KidsRoom extends Node {
 	private void createComputer() {
 		final float computerScale = 1.5f;
 		StaticPhysicsNode computer = loadObjectModel(
-				new Vector3f(80, getFloorHeight() + 24, 40), "obj/computer.obj", computerScale);
+				onFloor(80, 24, 40), COMPUTER_MODEL, computerScale);
 		this.attachChild(computer);
 	}
 
 	private void createTV() {
 		final float tvScale = 5;
 		StaticPhysicsNode tv = loadObjectModel(
-				new Vector3f(230, getFloorHeight() + 7, 10), "obj/TV.obj", tvScale);
+				onFloor(230, 7, 10), TV_MODEL, tvScale);
 		this.attachChild(tv);
 	}
 
 	private void createTable() {
 		final float tableScale = 10;
 		StaticPhysicsNode table = loadObjectModel(
-				new Vector3f(230, getFloorHeight(), 15), "obj/table.obj", tableScale);
+				onFloor(230, 0, 15), TABLE_MODEL, tableScale);
 		this.attachChild(table);
 	}
 
@@ -222,11 +311,15 @@ public class KidsRoom extends Node {
 		StaticPhysicsNode object = physicsSpace.createStaticNode();
 		object.setLocalTranslation(objectTranslation);
 		object.setLocalScale(objectScale);
-		object.attachChild(ModelUtil.convertOBJToStatial(ResourcesPath.MODELS_PATH + modelPath));
+		object.attachChild(ModelUtil.loadLodModel(ResourcesPath.MODELS_PATH + modelPath));
 		return object;
 	}
 
 	public final Vector3f getGridPosition(GridPosition position) {
 		return raceTrack.getGridPosition(position, getFloorHeight());
 	}
+
+	public final Vector3f getGridPosition(int slot) {
+		return raceTrack.getGridPosition(slot, getFloorHeight());
+	}
 }
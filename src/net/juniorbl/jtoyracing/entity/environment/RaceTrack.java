@@ -3,14 +3,17 @@ package net.juniorbl.jtoyracing.entity.environment;
 import java.util.ArrayList;
 import java.util.List;
 
+import net.juniorbl.jtoyracing.core.loading.AssetLoader;
 import net.juniorbl.jtoyracing.enums.GridPosition;
 import net.juniorbl.jtoyracing.enums.ResourcesPath;
+import net.juniorbl.jtoyracing.util.CollisionShapes;
 import net.juniorbl.jtoyracing.util.ModelUtil;
 import net.juniorbl.jtoyracing.util.StateUtil;
+import net.juniorbl.jtoyracing.util.StaticBatcher;
 
-import com.jme.bounding.BoundingVolume;
 import com.jme.math.Vector3f;
 import com.jme.scene.Node;
+import com.jme.scene.Spatial;
 import com.jmex.physics.PhysicsSpace;
 import com.jmex.physics.StaticPhysicsNode;
 import com.jmex.physics.material.Material;
@@ -23,9 +26,19 @@ import com.jmex.physics.material.Material;
  */
 public class RaceTrack extends Node {
 	public static final float VEHICLE_X_LOCATION = 28.2f;
+	/**
+	 * Identifies the track in the files kept between races, like the best laps.
+	 */
+	public static final String TRACK_NAME = "kidsRoomTrack";
 	private static final int X_LOCATION_FIRST_GRID_POSITION = -50;
-	private static final int X_LOCATION_SECOND_GRID_POSITION = -40;
+	private static final int Z_LOCATION_FIRST_GRID_ROW = 120;
+	private static final int GRID_COLUMNS = 8;
+	private static final int GRID_COLUMN_SPACING = 10;
+	private static final int GRID_ROW_SPACING = 12;
 	private static final long serialVersionUID = 8801407867521059306L;
+	private static final String TRACK_MODEL = "obj/raceTrack.obj";
+	private static final String BEND_THREE_CHECKPOINT_MODEL = "obj/bendThreeCheckpoint.obj";
+	private static final String START_CHECKPOINT_MODEL = "obj/startCheckPoint.obj";
 	private StaticPhysicsNode track;
 	private List<StaticPhysicsNode> checkPoints;
 	private Vector3f trackLocation;
@@ -38,26 +51,46 @@ public class RaceTrack extends Node {
 		createCheckPoints(trackLocation);
 	}
 
+	/**
+	 * The track collides through its baked boxes, the track is made of cuboids and a box for each one
+	 * replaces thousands of triangles, unless the baked shapes are turned off. It never moves, so its
+	 * meshes are batched by material. The checkpoints stay apart, each one is a physics node.
+	 */
 	private void createTrack(Vector3f trackLocation) {
 		track = physicsSpace.createStaticNode();
 		track.setLocalTranslation(trackLocation);
 		track.setLocalScale(1f);
-		track.attachChild(ModelUtil.convertOBJToStatial(ResourcesPath.MODELS_PATH + "obj/raceTrack.obj"));
-		track.generatePhysicsGeometry(true);
+		Spatial trackModel = ModelUtil.convertOBJToStatial(ResourcesPath.MODELS_PATH + TRACK_MODEL);
+		track.attachChild(StaticBatcher.batch(trackModel));
+		if (CollisionShapes.isEnabled()) {
+			ModelUtil.loadCollisionShapes(ResourcesPath.MODELS_PATH + TRACK_MODEL, trackModel).attachTo(track);
+		} else {
+			track.generatePhysicsGeometry(true);
+		}
 		track.setMaterial(Material.IRON);
 		this.attachChild(track);
 	}
 
+	/**
+	 * Fits the collision shapes of the track and stores them in the model cache, used by the
+	 * "bake_collision" target.
+	 */
+	public static CollisionShapes bakeCollisionShapes() {
+		String trackModel = ResourcesPath.MODELS_PATH + TRACK_MODEL;
+		return ModelUtil.loadCollisionShapes(trackModel, ModelUtil.convertOBJToStatial(trackModel));
+	}
+
 	/**
 	 * Creates the checkpoints of the track. Checkpoints are some locations around a race track
-	 * that recharge the health of the vehicles.
+	 * that recharge the health of the vehicles. They are created in the order of the lap, the vehicles
+	 * start behind the start checkpoint, which closes the lap.
 	 */
 	private void createCheckPoints(Vector3f checkPointsLocation) {
 		checkPoints = new ArrayList<StaticPhysicsNode>();
-		StaticPhysicsNode bendThreeCheckPoint = loadCheckpointModel("obj/bendThreeCheckpoint.obj");
+		StaticPhysicsNode bendThreeCheckPoint = loadCheckpointModel(BEND_THREE_CHECKPOINT_MODEL);
 		checkPoints.add(bendThreeCheckPoint);
 		this.attachChild(bendThreeCheckPoint);
-		StaticPhysicsNode startCheckPoint = loadCheckpointModel("obj/startCheckPoint.obj");
+		StaticPhysicsNode startCheckPoint = loadCheckpointModel(START_CHECKPOINT_MODEL);
 		checkPoints.add(startCheckPoint);
 		this.attachChild(startCheckPoint);
 	}
@@ -72,23 +105,33 @@ public class RaceTrack extends Node {
 		return checkPoint;
 	}
 
-	public final boolean isVehicleReachedCheckpoint(BoundingVolume vehicleBoundingVolume) {
-		for (StaticPhysicsNode checkPoint : checkPoints) {
-			if (vehicleBoundingVolume.intersects(checkPoint.getWorldBound())) {
-				return true;
-			}
-		}
-		return false;
+	/**
+	 * Loads the models of the track and its checkpoints ahead of the track creation.
+	 */
+	public static void preloadAssets(AssetLoader assetLoader) {
+		assetLoader.preloadModel(ResourcesPath.MODELS_PATH + TRACK_MODEL);
+		assetLoader.preloadModel(ResourcesPath.MODELS_PATH + BEND_THREE_CHECKPOINT_MODEL);
+		assetLoader.preloadModel(ResourcesPath.MODELS_PATH + START_CHECKPOINT_MODEL);
+	}
+
+	/**
+	 * Returns the checkpoints in the order the vehicles must reach them, the last one closes the lap.
+	 */
+	public final List<StaticPhysicsNode> getCheckpoints() {
+		return checkPoints;
 	}
 
 	public final Vector3f getGridPosition(GridPosition position, Float floorHeight) {
+		return getGridPosition(position.ordinal(), floorHeight);
+	}
+
+	/**
+	 * Returns a position of the starting grid. The grid is generated in rows of {@value #GRID_COLUMNS}
+	 * vehicles, the first two positions are the FIRST and SECOND ones and the next rows are behind them.
+	 */
+	public final Vector3f getGridPosition(int slot, float floorHeight) {
 		float yLocation = floorHeight - VEHICLE_X_LOCATION;
-		final Vector3f gridPosition = new Vector3f(0, yLocation, 120);
-		if (GridPosition.FIRST.equals(position)) {
-			gridPosition.setX(X_LOCATION_FIRST_GRID_POSITION);
-		} else if (GridPosition.SECOND.equals(position)) {
-			gridPosition.setX(X_LOCATION_SECOND_GRID_POSITION);
-		}
-		return gridPosition;
+		return new Vector3f(X_LOCATION_FIRST_GRID_POSITION + GRID_COLUMN_SPACING * (slot % GRID_COLUMNS), yLocation,
+				Z_LOCATION_FIRST_GRID_ROW + GRID_ROW_SPACING * (slot / GRID_COLUMNS));
 	}
 }
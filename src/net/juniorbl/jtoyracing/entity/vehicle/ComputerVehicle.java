@@ -11,36 +11,24 @@ import com.jmex.physics.PhysicsSpace;
  * @author Carlos Luz Junior
  */
 public class ComputerVehicle extends Vehicle {
-	private Vector2f velocity;
-	private Vector2f steerForce;
-	private Vector2f position;
+	private Steering steering;
 
 	public ComputerVehicle(PhysicsSpace physicsSpace, Vector2f initialPosition,
 			ColorRGBA color) {
 		super(physicsSpace, color);
-		velocity = new Vector2f();
-		steerForce = new Vector2f();
-		position = initialPosition;
-	}
-
-	private void seek(Vector2f targetPosition) {
-		Vector2f desiredVelocity = new Vector2f();
-		desiredVelocity = targetPosition.subtract(position);
-		desiredVelocity = desiredVelocity.normalize();
-		steerForce = desiredVelocity.subtract(velocity);
+		steering = new Steering(initialPosition, CHASSIS_MASS);
 	}
 
 	public final void goTo(Vector2f targetPosition) {
-		seek(targetPosition);
-		Vector2f acceleration = new Vector2f();
-		// Acceleration = Force / Mass
-		acceleration = steerForce.divide(CHASSIS_MASS);
-		velocity = velocity.add(acceleration);
-		position = velocity.add(position);
+		steering.goTo(targetPosition);
 		// accelerate(position.subtract(targetPosition).length());
 	}
 
 	public final Vector2f getCurrentPosition() {
-		return position;
+		return steering.getPosition();
+	}
+
+	public final Steering getSteering() {
+		return steering;
 	}
 }
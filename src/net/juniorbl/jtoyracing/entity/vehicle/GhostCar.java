@@ -0,0 +1,103 @@
+package net.juniorbl.jtoyracing.entity.vehicle;
+
+import java.io.File;
+import java.io.IOException;
+
+import net.juniorbl.jtoyracing.core.replay.GhostLap;
+import net.juniorbl.jtoyracing.enums.ResourcesPath;
+import net.juniorbl.jtoyracing.util.ModelRegistry;
+import net.juniorbl.jtoyracing.util.StateUtil;
+
+import com.jme.scene.Node;
+import com.jme.scene.Spatial;
+import com.jme.util.LoggingSystem;
+
+/**
+ * A translucent truck that drives the best lap of the player alongside the race. It isn't physical:
+ * no dynamic nodes, joints or engine sound, only the truck model shared with the player, moved by the
+ * samples of the best lap. It must be attached to the scene of the race, which isn't transformed,
+ * because the samples are world transforms.
+ *
+ * The laps of the player are recorded as they are driven, a lap faster than the best one replaces it
+ * and is saved, so the ghost is back in the next race on the same track.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class GhostCar extends Node {
+	private static final long serialVersionUID = -3640723104559016232L;
+	private Spatial chassis;
+	private File bestLapFile;
+	private GhostLap currentLap = new GhostLap();
+	private GhostLap bestLap;
+
+	/**
+	 * Creates the ghost of the vehicle whose chassis is given, with the best lap saved in a file if it exists.
+	 */
+	public GhostCar(Spatial chassis, File bestLapFile) {
+		super("ghostCar");
+		this.chassis = chassis;
+		this.bestLapFile = bestLapFile;
+		attachChild(ModelRegistry.createSharedModel(ResourcesPath.MODELS_PATH + Vehicle.RED_TRUCK_MODEL));
+		StateUtil.makeTransparent(this);
+		loadBestLap();
+	}
+
+	/**
+	 * A missing or unreadable best lap only means there is no ghost yet.
+	 */
+	private void loadBestLap() {
+		bestLap = new GhostLap();
+		if (bestLapFile.isFile()) {
+			try {
+				bestLap = GhostLap.load(bestLapFile);
+			} catch (IOException e) {
+				LoggingSystem.getLogger().warning("Unable to load the best lap " + bestLapFile + ": " + e.getMessage());
+			}
+		}
+		updateVisibility();
+	}
+
+	/**
+	 * Records the vehicle and moves the ghost to the same time of the best lap. The time is counted from
+	 * the start of the current lap of the vehicle.
+	 */
+	public void update(float lapTime) {
+		currentLap.record(lapTime, chassis.getWorldTranslation(), chassis.getWorldRotation());
+		if (!bestLap.isEmpty()) {
+			bestLap.getTransform(lapTime, getLocalTranslation(), getLocalRotation());
+		}
+	}
+
+	/**
+	 * Closes the lap being recorded. When it's the fastest one it becomes the best lap, which is saved.
+	 * The recordings are swapped, so the arrays of the samples are reused.
+	 */
+	public void lapCompleted(float lapTime) {
+		if (bestLap.isEmpty() || lapTime < bestLap.getLapTime()) {
+			GhostLap previousBestLap = bestLap;
+			bestLap = currentLap;
+			bestLap.setLapTime(lapTime);
+			currentLap = previousBestLap;
+			saveBestLap();
+			updateVisibility();
+		}
+		currentLap.clear();
+	}
+
+	private void saveBestLap() {
+		try {
+			bestLap.save(bestLapFile);
+		} catch (IOException e) {
+			LoggingSystem.getLogger().warning("Unable to save the best lap " + bestLapFile + ": " + e.getMessage());
+		}
+	}
+
+	private void updateVisibility() {
+		setCullMode(bestLap.isEmpty() ? CULL_ALWAYS : CULL_INHERIT);
+	}
+
+	public GhostLap getBestLap() {
+		return bestLap;
+	}
+}
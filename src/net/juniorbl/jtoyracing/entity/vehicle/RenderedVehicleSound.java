@@ -0,0 +1,51 @@
+package net.juniorbl.jtoyracing.entity.vehicle;
+
+import net.juniorbl.jtoyracing.core.audio.SoundEmitter;
+import net.juniorbl.jtoyracing.core.physics.RenderedBody;
+
+import com.jme.math.Vector3f;
+
+/**
+ * The engine of a vehicle stepped by the physics thread, heard on the render thread. The vehicle itself
+ * can't be asked: its chassis is moved and its velocity is read from the physics during the steps. The
+ * sound follows the rendered chassis instead, with the speed published with its transforms, and the
+ * health given by the events of the race.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class RenderedVehicleSound implements SoundEmitter {
+	private RenderedBody renderedChassis;
+	private boolean engineOn;
+
+	/**
+	 * Creates the sound of a vehicle from its rendered chassis, before the physics thread starts.
+	 */
+	public RenderedVehicleSound(Vehicle vehicle, RenderedBody renderedChassis) {
+		this.renderedChassis = renderedChassis;
+		engineOn = vehicle.isEmittingSound();
+	}
+
+	/**
+	 * Turns the engine on or off by the health of the vehicle, from an event of the race.
+	 */
+	public void healthChanged(int healthValue) {
+		engineOn = Vehicle.hasHealth(healthValue);
+	}
+
+	public Vector3f getSoundPosition() {
+		return renderedChassis.getNode().getWorldTranslation();
+	}
+
+	public boolean isEmittingSound() {
+		return engineOn;
+	}
+
+	public float getSoundVolume() {
+		return Vehicle.getEngineVolume(renderedChassis.getSpeed());
+	}
+
+	public float getSoundPitch() {
+		return Vehicle.getEnginePitch(renderedChassis.getSpeed());
+	}
+}
@@ -1,5 +1,8 @@
 package net.juniorbl.jtoyracing.entity.vehicle;
 
+import net.juniorbl.jtoyracing.core.physics.Command;
+import net.juniorbl.jtoyracing.core.physics.CommandQueue;
+
 import com.jme.input.action.InputActionEvent;
 import com.jme.input.action.InputActionInterface;
 
@@ -16,10 +19,30 @@ public class Steer implements InputActionInterface {
 	 * The direction of the steer, right or left.
 	 */
 	private float direction;
+	private CommandQueue physicsCommands;
+	private Command steerCommand = new Command() {
+		public void execute() {
+			vehicle.steer(direction);
+		}
+	};
+	private Command unsteerCommand = new Command() {
+		public void execute() {
+			vehicle.unsteer();
+		}
+	};
 
 	public Steer(Vehicle vehicle, float direction) {
+		this(vehicle, direction, null);
+	}
+
+	/**
+	 * Creates the steering of a vehicle stepped by the physics thread, the vehicle is steered on that
+	 * thread through its queue of commands.
+	 */
+	public Steer(Vehicle vehicle, float direction, CommandQueue physicsCommands) {
 		this.vehicle = vehicle;
 		this.direction = direction;
+		this.physicsCommands = physicsCommands;
 	}
 
 	/**
@@ -27,9 +50,17 @@ public class Steer implements InputActionInterface {
 	 */
 	public final void performAction(InputActionEvent event) {
 		if (event.getTriggerPressed()) {
-			vehicle.steer(direction);
+			perform(steerCommand);
 		} else {
-			vehicle.unsteer();
+			perform(unsteerCommand);
+		}
+	}
+
+	private void perform(Command command) {
+		if (physicsCommands == null) {
+			command.execute();
+		} else {
+			physicsCommands.submit(command);
 		}
 	}
 }
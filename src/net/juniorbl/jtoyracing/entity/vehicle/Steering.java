@@ -0,0 +1,68 @@
+package net.juniorbl.jtoyracing.entity.vehicle;
+
+import com.jme.math.Vector2f;
+
+/**
+ * Steering of a vehicle on the ground plane, based on the Steering Behaviors algorithms
+ * (http://www.red3d.com/cwr/steer/gdc99/).
+ *
+ * It runs every frame for each computer vehicle, so the vectors are updated in place instead of
+ * creating new ones: a step allocates nothing.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class Steering {
+	private float mass;
+	private Vector2f position;
+	private Vector2f velocity = new Vector2f();
+	private Vector2f steerForce = new Vector2f();
+
+	/**
+	 * Creates the steering of a vehicle of some mass, stopped at a position. The position is copied.
+	 */
+	public Steering(Vector2f initialPosition, float mass) {
+		this.position = new Vector2f(initialPosition);
+		this.mass = mass;
+	}
+
+	/**
+	 * Calculates the force that turns the current velocity to the direction of the target.
+	 */
+	private void seek(Vector2f targetPosition) {
+		// desired velocity = normalize(target - position), steer force = desired velocity - velocity
+		steerForce.set(targetPosition).subtractLocal(position).normalizeLocal().subtractLocal(velocity);
+	}
+
+	/**
+	 * Moves one step in the direction of a target.
+	 */
+	public void goTo(Vector2f targetPosition) {
+		seek(targetPosition);
+		move();
+	}
+
+	/**
+	 * Moves one step in the direction of a target, deviated by a force that keeps the vehicle away from
+	 * the others.
+	 */
+	public void goTo(Vector2f targetPosition, Vector2f separationForce) {
+		seek(targetPosition);
+		steerForce.addLocal(separationForce);
+		move();
+	}
+
+	private void move() {
+		// Acceleration = Force / Mass
+		velocity.addLocal(steerForce.divideLocal(mass));
+		position.addLocal(velocity);
+	}
+
+	public Vector2f getPosition() {
+		return position;
+	}
+
+	public Vector2f getVelocity() {
+		return velocity;
+	}
+}
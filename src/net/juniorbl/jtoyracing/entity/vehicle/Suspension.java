@@ -1,5 +1,7 @@
 package net.juniorbl.jtoyracing.entity.vehicle;
 
+import net.juniorbl.jtoyracing.core.physics.PhysicsBudget;
+
 import com.jme.math.Vector3f;
 import com.jme.scene.Node;
 import com.jmex.physics.DynamicPhysicsNode;
@@ -27,12 +29,14 @@ public class Suspension extends Node {
 	private static final Vector3f RIGHT_WHEEL_BASE_LOCATION = new Vector3f(0, -.9f, -1.3f);
 	private Wheel leftWheel;
 	private Wheel rightWheel;
+	private DynamicPhysicsNode leftWheelBase;
+	private DynamicPhysicsNode rightWheelBase;
 	private PhysicsSpace physicsSpace;
 
 	public Suspension(PhysicsSpace physicsSpace, DynamicPhysicsNode chassis, Vector3f location) {
 		this.physicsSpace = physicsSpace;
-		DynamicPhysicsNode leftWheelBase = createWheelBase(chassis, location.add(LEFT_WHEEL_BASE_LOCATION));
-		DynamicPhysicsNode rightWheelBase = createWheelBase(chassis, location.subtract(RIGHT_WHEEL_BASE_LOCATION));
+		leftWheelBase = createWheelBase(chassis, location.add(LEFT_WHEEL_BASE_LOCATION));
+		rightWheelBase = createWheelBase(chassis, location.subtract(RIGHT_WHEEL_BASE_LOCATION));
 		leftWheel = new Wheel(leftWheelBase, LEFT_WHEEL_LOCATION);
 		this.attachChild(leftWheel);
 		rightWheel = new Wheel(rightWheelBase, RIGHT_WHEEL_LOCATION);
@@ -94,4 +98,30 @@ public class Suspension extends Node {
 		leftWheel.unsteer();
 		rightWheel.unsteer();
 	}
+
+	/**
+	 * Wakes up the bodies of the suspension, a sleeping body doesn't feel its joints.
+	 */
+	public final void wake() {
+		PhysicsBudget.wake(leftWheelBase);
+		PhysicsBudget.wake(rightWheelBase);
+		PhysicsBudget.wake(leftWheel.getBody());
+		PhysicsBudget.wake(rightWheel.getBody());
+	}
+
+	public final Wheel getLeftWheel() {
+		return leftWheel;
+	}
+
+	public final Wheel getRightWheel() {
+		return rightWheel;
+	}
+
+	public final DynamicPhysicsNode getLeftWheelBase() {
+		return leftWheelBase;
+	}
+
+	public final DynamicPhysicsNode getRightWheelBase() {
+		return rightWheelBase;
+	}
 }
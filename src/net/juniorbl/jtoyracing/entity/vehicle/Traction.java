@@ -1,5 +1,8 @@
 package net.juniorbl.jtoyracing.entity.vehicle;
 
+import net.juniorbl.jtoyracing.core.physics.Command;
+import net.juniorbl.jtoyracing.core.physics.CommandQueue;
+
 import com.jme.input.action.InputActionEvent;
 import com.jme.input.action.InputActionInterface;
 
@@ -12,10 +15,30 @@ import com.jme.input.action.InputActionInterface;
 public class Traction implements InputActionInterface {
 	private Vehicle vehicle;
 	private float velocity;
+	private CommandQueue physicsCommands;
+	private Command accelerateCommand = new Command() {
+		public void execute() {
+			vehicle.accelerate(velocity);
+		}
+	};
+	private Command stopCommand = new Command() {
+		public void execute() {
+			vehicle.stop();
+		}
+	};
 
 	public Traction(Vehicle vehicle, float velocity) {
+		this(vehicle, velocity, null);
+	}
+
+	/**
+	 * Creates the traction of a vehicle stepped by the physics thread, the vehicle is driven on that
+	 * thread through its queue of commands.
+	 */
+	public Traction(Vehicle vehicle, float velocity, CommandQueue physicsCommands) {
 		this.vehicle = vehicle;
 		this.velocity = velocity;
+		this.physicsCommands = physicsCommands;
 	}
 
 	/**
@@ -23,9 +46,17 @@ public class Traction implements InputActionInterface {
 	 */
 	public final void performAction(InputActionEvent evt) {
 		if (evt.getTriggerPressed()) {
-			vehicle.accelerate(velocity);
+			perform(accelerateCommand);
 		} else {
-			vehicle.stop();
+			perform(stopCommand);
+		}
+	}
+
+	private void perform(Command command) {
+		if (physicsCommands == null) {
+			command.execute();
+		} else {
+			physicsCommands.submit(command);
 		}
 	}
 }
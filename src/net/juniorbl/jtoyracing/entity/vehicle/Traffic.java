@@ -0,0 +1,91 @@
+package net.juniorbl.jtoyracing.entity.vehicle;
+
+import net.juniorbl.jtoyracing.util.SpatialHash;
+
+import com.jme.math.Vector2f;
+
+/**
+ * The computer vehicles of a race, steered together. Each one seeks its target and is pushed away
+ * from the ones nearby (the separation behavior of the Steering Behaviors algorithms), which are
+ * found through a spatial hash instead of testing every pair.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class Traffic {
+	/**
+	 * Distance under which the vehicles push each other away, about two truck lengths.
+	 */
+	public static final float SEPARATION_RADIUS = 8;
+	private static final float SEPARATION_WEIGHT = 1;
+	private static final int MAX_NEIGHBOURS = 16;
+	private Steering[] steerings;
+	private Vector2f[] targets;
+	private Vector2f[] separationForces;
+	private int size;
+	private SpatialHash spatialHash;
+	private int[] neighbours = new int[MAX_NEIGHBOURS];
+
+	public Traffic(int capacity) {
+		steerings = new Steering[capacity];
+		targets = new Vector2f[capacity];
+		separationForces = new Vector2f[capacity];
+		for (int vehicle = 0; vehicle < capacity; vehicle++) {
+			separationForces[vehicle] = new Vector2f();
+		}
+		spatialHash = new SpatialHash(SEPARATION_RADIUS, capacity);
+	}
+
+	/**
+	 * Adds a vehicle that drives to a target. The target is kept, changes to it are followed.
+	 */
+	public void add(Steering steering, Vector2f target) {
+		steerings[size] = steering;
+		targets[size] = target;
+		spatialHash.update(size, steering.getPosition().x, steering.getPosition().y);
+		size++;
+	}
+
+	/**
+	 * Moves every vehicle one step. The separation forces are calculated from the positions of the
+	 * previous step before any vehicle moves, so the order of the vehicles doesn't matter.
+	 */
+	public void update() {
+		for (int vehicle = 0; vehicle < size; vehicle++) {
+			calculateSeparationForce(vehicle);
+		}
+		for (int vehicle = 0; vehicle < size; vehicle++) {
+			Steering steering = steerings[vehicle];
+			steering.goTo(targets[vehicle], separationForces[vehicle]);
+			spatialHash.update(vehicle, steering.getPosition().x, steering.getPosition().y);
+		}
+	}
+
+	/**
+	 * Sums the pushes of the neighbours, each one inversely proportional to its distance: one at the
+	 * separation radius, growing as they get closer.
+	 */
+	private void calculateSeparationForce(int vehicle) {
+		Vector2f separationForce = separationForces[vehicle].set(0, 0);
+		Vector2f position = steerings[vehicle].getPosition();
+		int neighbourCount = spatialHash.findNeighbours(vehicle, SEPARATION_RADIUS, neighbours);
+		for (int neighbour = 0; neighbour < neighbourCount; neighbour++) {
+			Vector2f neighbourPosition = steerings[neighbours[neighbour]].getPosition();
+			float offsetX = position.x - neighbourPosition.x;
+			float offsetZ = position.y - neighbourPosition.y;
+			float distanceSquared = offsetX * offsetX + offsetZ * offsetZ;
+			if (distanceSquared > 0) {
+				float push = SEPARATION_WEIGHT * SEPARATION_RADIUS / distanceSquared;
+				separationForce.addLocal(offsetX * push, offsetZ * push);
+			}
+		}
+	}
+
+	public Steering getSteering(int vehicle) {
+		return steerings[vehicle];
+	}
+
+	public int size() {
+		return size;
+	}
+}
@@ -3,11 +3,13 @@ package net.juniorbl.jtoyracing.entity.vehicle;
 import java.util.ArrayList;
 import java.util.List;
 
-import net.juniorbl.jtoyracing.core.audio.AudioConfig;
+import net.juniorbl.jtoyracing.core.audio.SoundEmitter;
+import net.juniorbl.jtoyracing.core.loading.AssetLoader;
 import net.juniorbl.jtoyracing.core.monitor.Health;
 import net.juniorbl.jtoyracing.core.monitor.HealthObserver;
+import net.juniorbl.jtoyracing.core.physics.PhysicsBudget;
 import net.juniorbl.jtoyracing.enums.ResourcesPath;
-import net.juniorbl.jtoyracing.util.ModelUtil;
+import net.juniorbl.jtoyracing.util.ModelRegistry;
 import net.juniorbl.jtoyracing.util.StateUtil;
 
 import com.jme.math.Quaternion;
@@ -15,7 +17,6 @@ import com.jme.math.Vector3f;
 import com.jme.renderer.ColorRGBA;
 import com.jme.scene.Node;
 import com.jme.scene.shape.Box;
-import com.jmex.audio.AudioTrack;
 import com.jmex.physics.DynamicPhysicsNode;
 import com.jmex.physics.PhysicsSpace;
 import com.jmex.physics.material.Material;
@@ -26,9 +27,14 @@ import com.jmex.physics.material.Material;
  * @version 1.0 Aug 11, 2007
  * @author Carlos Luz Junior
  */
-public class Vehicle extends Node implements Health {
+public class Vehicle extends Node implements Health, SoundEmitter {
 	public static final float CHASSIS_MASS = 40;
 	public static final int MAX_HEALTH_VALUE = 500;
+	static final String RED_TRUCK_MODEL = "obj/redTruck.obj";
+	/**
+	 * The sound of the engines, played by a voice manager for all the vehicles.
+	 */
+	public static final String ENGINE_SOUND = ResourcesPath.AUDIO_PATH + "engine.ogg";
 	private static final float CHASSIS_COLLISION_BOX_SCALE = 0.5f;
 	private static final int MIN_HEALTH_VALUE = 0;
 	private static final long serialVersionUID = 2049305191562715341L;
@@ -36,21 +42,26 @@ public class Vehicle extends Node implements Health {
 	private static final float CHASSIS_SCALE = 1f;
 	private static final Vector3f FRONT_SUSPENSION_LOCATION = new Vector3f(-.2f, -1.7f, 0);
 	private static final Vector3f REAR_SUSPENSION_LOCATION = new Vector3f(3.2f, -1.6f, 0);
+	private static final String BLUE_TRUCK_MODEL = "obj/blueTruck.obj";
+	private static final float ENGINE_VOLUME_SPEED = 40;
+	private static final float IDLE_ENGINE_VOLUME = .5f;
+	private static final float ENGINE_PITCH_SPEED = 80;
+	private static final float MAX_ENGINE_PITCH = 2;
 	private DynamicPhysicsNode chassis;
 	private List <HealthObserver> healthObservers = new ArrayList<HealthObserver>();
 	private int health;
 	private Suspension rearSuspension;
 	private Suspension frontSuspension;
-	private AudioTrack engineSound;
 	private Quaternion rotationQuaternion = new Quaternion();
 	private PhysicsSpace physicsSpace;
+	private float throttle;
+	private float steerDirection;
 
 	public Vehicle(PhysicsSpace physicsSpace, ColorRGBA color) {
 		this.physicsSpace = physicsSpace;
 		health = MAX_HEALTH_VALUE;
 		createChassis(color);
 		createSuspension();
-		loadEngineSound();
 	}
 
 	private void createChassis(ColorRGBA color) {
@@ -73,13 +84,22 @@ public class Vehicle extends Node implements Health {
 	private void applyColor(ColorRGBA color) {
 		if (ColorRGBA.red.equals(color)) {
 			chassis.attachChild(
-					ModelUtil.convertOBJToStatial(ResourcesPath.MODELS_PATH + "obj/redTruck.obj"));
+					ModelRegistry.createSharedModel(ResourcesPath.MODELS_PATH + RED_TRUCK_MODEL));
 		} else if (ColorRGBA.blue.equals(color)) {
 			chassis.attachChild(
-					ModelUtil.convertOBJToStatial(ResourcesPath.MODELS_PATH + "obj/blueTruck.obj"));
+					ModelRegistry.createSharedModel(ResourcesPath.MODELS_PATH + BLUE_TRUCK_MODEL));
 		}
 	}
 
+	/**
+	 * Loads the models of the vehicles ahead of their creation.
+	 */
+	public static void preloadAssets(AssetLoader assetLoader) {
+		assetLoader.preloadModel(ResourcesPath.MODELS_PATH + RED_TRUCK_MODEL);
+		assetLoader.preloadModel(ResourcesPath.MODELS_PATH + BLUE_TRUCK_MODEL);
+		assetLoader.preloadModel(ResourcesPath.MODELS_PATH + Wheel.MODEL);
+	}
+
 	/**
 	 * Creates the collision box that is used to simulate the chassis collision.
 	 */
@@ -107,8 +127,14 @@ public class Vehicle extends Node implements Health {
 	    this.getLocalRotation().multLocal(rotationQuaternion);
 	}
 
+	/**
+	 * A parked vehicle sleeps, the physics doesn't simulate it. It's woken up when the driver changes the
+	 * throttle or the steering, and at each step while the throttle is held (see {@link #keepAwake()}).
+	 */
 	public final void accelerate(float desiredVelocity) {
 		if (hasHealth()) {
+			wakeOnChange(throttle, desiredVelocity);
+			throttle = desiredVelocity;
 			rearSuspension.accelerate(desiredVelocity);
 			frontSuspension.accelerate(desiredVelocity);
 		}
@@ -116,20 +142,83 @@ public class Vehicle extends Node implements Health {
 
 	public final void stop() {
 		if (hasHealth()) {
+			wakeOnChange(throttle, 0);
+			throttle = 0;
 			rearSuspension.stop();
 			frontSuspension.stop();
 		}
 	}
 
+	private void wakeOnChange(float currentInput, float newInput) {
+		if (currentInput != newInput) {
+			wake();
+		}
+	}
+
+	/**
+	 * Wakes the vehicle up while its throttle is held, called after each step. ODE doesn't drive the
+	 * motors of a sleeping body, so a vehicle held against a wall would sleep until its input changed.
+	 */
+	public final void keepAwake() {
+		if (throttle != 0) {
+			wake();
+		}
+	}
+
+	private void wake() {
+		PhysicsBudget.wake(chassis);
+		frontSuspension.wake();
+		rearSuspension.wake();
+	}
+
 	private boolean hasHealth() {
-		return health > MIN_HEALTH_VALUE;
+		return hasHealth(health);
+	}
+
+	/**
+	 * Tells whether a vehicle with some health runs, its engine is off without health.
+	 */
+	public static boolean hasHealth(int healthValue) {
+		return healthValue > MIN_HEALTH_VALUE;
+	}
+
+	public final Vector3f getSoundPosition() {
+		return chassis.getWorldTranslation();
+	}
+
+	/**
+	 * The engine is off while the vehicle has no health.
+	 */
+	public final boolean isEmittingSound() {
+		return hasHealth();
 	}
 
 	/**
 	 * FIXME turn up the volume is not correct
 	 */
-	public final void updateEngineSound() {
-		engineSound.setVolume((getSpeed() / 40) + .5f);
+	public final float getSoundVolume() {
+		return getEngineVolume(getSpeed());
+	}
+
+	/**
+	 * Returns the volume of the engine of a vehicle going at some speed.
+	 */
+	public static float getEngineVolume(float speed) {
+		return (speed / ENGINE_VOLUME_SPEED) + IDLE_ENGINE_VOLUME;
+	}
+
+	/**
+	 * The engine sounds higher as the vehicle goes faster.
+	 */
+	public final float getSoundPitch() {
+		return getEnginePitch(getSpeed());
+	}
+
+	/**
+	 * Returns the pitch of the engine of a vehicle going at some speed.
+	 */
+	public static float getEnginePitch(float speed) {
+		return Math.min(1 + speed / ENGINE_PITCH_SPEED, MAX_ENGINE_PITCH);
 	}
 
 	private float getSpeed() {
@@ -137,10 +226,14 @@ public class Vehicle extends Node implements Health {
 	}
 
 	public final void steer(float direction) {
+		wakeOnChange(steerDirection, direction);
+		steerDirection = direction;
 		frontSuspension.steer(direction);
 	}
 
 	public final void unsteer() {
+		wakeOnChange(steerDirection, 0);
+		steerDirection = 0;
 		frontSuspension.unsteer();
 	}
 
@@ -148,6 +241,53 @@ public class Vehicle extends Node implements Health {
 		return this.chassis;
 	}
 
+	/**
+	 * Returns the bodies of the vehicle: the chassis, the bases of the wheels and the wheels.
+	 */
+	public final List<DynamicPhysicsNode> getDynamicNodes() {
+		List<DynamicPhysicsNode> dynamicNodes = new ArrayList<DynamicPhysicsNode>();
+		dynamicNodes.add(chassis);
+		for (Suspension suspension : new Suspension[] {frontSuspension, rearSuspension}) {
+			dynamicNodes.add(suspension.getLeftWheelBase());
+			dynamicNodes.add(suspension.getRightWheelBase());
+			dynamicNodes.add(suspension.getLeftWheel().getBody());
+			dynamicNodes.add(suspension.getRightWheel().getBody());
+		}
+		return dynamicNodes;
+	}
+
+	/**
+	 * Takes the bodies of the vehicle out of the physics, or puts them back. A vehicle out of the physics
+	 * is placed by the game, as the vehicles of the other players of a network race.
+	 */
+	public final void setPhysicsActive(boolean active) {
+		for (DynamicPhysicsNode dynamicNode : getDynamicNodes()) {
+			dynamicNode.setActive(active);
+		}
+	}
+
+	/**
+	 * Returns the wheels: front left, front right, rear left and rear right.
+	 */
+	public final Wheel[] getWheels() {
+		return new Wheel[] {frontSuspension.getLeftWheel(), frontSuspension.getRightWheel(),
+				rearSuspension.getLeftWheel(), rearSuspension.getRightWheel()};
+	}
+
+	/**
+	 * Returns the velocity the driver asked to the wheels, zero when stopped.
+	 */
+	public final float getThrottle() {
+		return throttle;
+	}
+
+	/**
+	 * Returns the direction the driver is steering to, zero when not steering.
+	 */
+	public final float getSteerDirection() {
+		return steerDirection;
+	}
+
 //	/**
 //	 * Changes the location of the vehicle.
 //	 *
@@ -164,9 +304,9 @@ public class Vehicle extends Node implements Health {
 	public final int decreaseHealth() {
 		health -= DECREASE_HEALTH_VALUE;
 		if (!hasHealth()) {
+			throttle = 0;
 			rearSuspension.stop();
 			frontSuspension.stop();
-			engineSound.stop();
 			notifyObserversHealthEnded();
 		}
 		return health;
@@ -174,17 +314,9 @@ public class Vehicle extends Node implements Health {
 
 	public final int rechargeHealth(int healthAmount) {
 		health = healthAmount;
-		if (!engineSound.isPlaying()) {
-			engineSound.play();
-		}
 		return health;
 	}
 
-	private void loadEngineSound() {
-		engineSound = AudioConfig.loadSoundEffect(ResourcesPath.AUDIO_PATH + "engine.ogg");
-		engineSound.play();
-	}
-
 	public final void addObserver(final HealthObserver observadorEnergia) {
 		this.healthObservers.add(observadorEnergia);
 	}
@@ -195,7 +327,7 @@ public class Vehicle extends Node implements Health {
 
 	public final void notifyObserversHealthEnded() {
 		for (HealthObserver healthObserver : this.healthObservers) {
-			healthObserver.healthEnded();
+			healthObserver.healthEnded(this);
 		}
 	}
 }
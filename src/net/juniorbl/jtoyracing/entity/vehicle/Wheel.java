@@ -1,7 +1,7 @@
 package net.juniorbl.jtoyracing.entity.vehicle;
 
 import net.juniorbl.jtoyracing.enums.ResourcesPath;
-import net.juniorbl.jtoyracing.util.ModelUtil;
+import net.juniorbl.jtoyracing.util.ModelRegistry;
 
 import com.jme.math.Vector3f;
 import com.jme.scene.Node;
@@ -20,6 +20,7 @@ import com.jmex.physics.material.Material;
  * @author Carlos Luz Junior
  */
 public class Wheel extends Node {
+	static final String MODEL = "obj/whell.obj";
 	private static final long serialVersionUID = 8702035354026675358L;
 	private static final float TIRE_SCALE = 1.5f;
 	private static final float WHEEL_SCALE = .4f;
@@ -46,7 +47,7 @@ public class Wheel extends Node {
 		PhysicsSphere tire = wheel.createSphere("tire");
 		tire.setLocalScale(TIRE_SCALE);
 		wheel.generatePhysicsGeometry();
-		wheel.attachChild(ModelUtil.convertOBJToStatial(ResourcesPath.MODELS_PATH + "obj/whell.obj"));
+		wheel.attachChild(ModelRegistry.createSharedModel(ResourcesPath.MODELS_PATH + MODEL));
 		wheel.setMass(MASS);
 		wheel.setMaterial(Material.RUBBER);
 		wheel.setLocalScale(WHEEL_SCALE);
@@ -107,4 +108,11 @@ public class Wheel extends Node {
 		steerAxis.setPositionMaximum(0);
 		steerAxis.setPositionMinimum(0);
 	}
+
+	/**
+	 * Returns the body of the wheel, the node moved by the physics.
+	 */
+	public final DynamicPhysicsNode getBody() {
+		return wheel;
+	}
 }
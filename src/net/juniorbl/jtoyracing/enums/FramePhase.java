@@ -0,0 +1,23 @@
+package net.juniorbl.jtoyracing.enums;
+
+/**
+ * The phases of a frame measured by the frame profiler. The physics, race and computer vehicles phases
+ * are measured per physics step, a frame may have none or several of them.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public enum FramePhase {
+	FRAME("frame update"), PHYSICS("physics step"), RACE("race step"), COMPUTER_VEHICLES("computer vehicles"),
+	CAMERA("camera"), AUDIO("audio"), ENGINE_SOUNDS("engine sounds");
+
+	private String description;
+
+	private FramePhase(String description) {
+		this.description = description;
+	}
+
+	public String getDescription() {
+		return description;
+	}
+}
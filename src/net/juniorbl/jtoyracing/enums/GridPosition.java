@@ -1,6 +1,8 @@
 package net.juniorbl.jtoyracing.enums;
 
 /**
+ * The named positions of the starting grid, the positions behind them are generated by the race track.
+ *
  * @version 1.0 Mar 26, 2011
  * @author Carlos Luz Junior
  */
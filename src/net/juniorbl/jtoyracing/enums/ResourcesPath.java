@@ -32,5 +32,12 @@ public enum ResourcesPath {
 		public String toString() {
 			return "resources/textures/";
 		}
+	},
+
+	TERRAIN_PATH {
+		@Override
+		public String toString() {
+			return "resources/terrain/";
+		}
 	}
 }
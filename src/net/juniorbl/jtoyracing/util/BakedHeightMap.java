@@ -0,0 +1,117 @@
+package net.juniorbl.jtoyracing.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import com.jmex.terrain.util.AbstractHeightMap;
+
+/**
+ * A height map baked to a file, so a terrain is the same on every launch and isn't generated at
+ * startup. The file is mapped in memory when it's a file of the disk, it's only read when it's
+ * packaged in a jar.
+ *
+ * File: magic, version, size and the heights, size * size ints row by row.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class BakedHeightMap extends AbstractHeightMap {
+	public static final int MAGIC = 0x4A54484D;
+	public static final short VERSION = 1;
+	private static final int HEADER_SIZE = 10;
+	private static final int HEIGHT_SIZE = 4;
+	private static final int BUFFER_SIZE = 8192;
+	private URL heightMapFile;
+
+	/**
+	 * Loads a baked height map.
+	 */
+	public BakedHeightMap(URL heightMapFile) {
+		this.heightMapFile = heightMapFile;
+		load();
+	}
+
+	/**
+	 * Reads the heights, a height map that can't be read is an error of the package of the game.
+	 */
+	@Override
+	public boolean load() {
+		unloadHeightMap();
+		try {
+			ByteBuffer content = readContent();
+			if (content.getInt() != MAGIC || content.getShort() != VERSION) {
+				throw new IOException("Not a height map file: " + heightMapFile);
+			}
+			size = content.getInt();
+			if (size <= 0 || content.remaining() < size * size * HEIGHT_SIZE) {
+				throw new IOException("Corrupted height map file: " + heightMapFile);
+			}
+			heightData = new int[size * size];
+			content.asIntBuffer().get(heightData);
+		} catch (IOException e) {
+			//TODO throw a business checked exception
+			throw new Error(e);
+		}
+		return true;
+	}
+
+	private ByteBuffer readContent() throws IOException {
+		if ("file".equals(heightMapFile.getProtocol())) {
+			FileInputStream input = new FileInputStream(toFile(heightMapFile));
+			try {
+				FileChannel channel = input.getChannel();
+				return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			} finally {
+				input.close();
+			}
+		}
+		ByteArrayOutputStream content = new ByteArrayOutputStream();
+		InputStream input = heightMapFile.openStream();
+		try {
+			byte[] buffer = new byte[BUFFER_SIZE];
+			int read = input.read(buffer);
+			while (read != -1) {
+				content.write(buffer, 0, read);
+				read = input.read(buffer);
+			}
+		} finally {
+			input.close();
+		}
+		return ByteBuffer.wrap(content.toByteArray());
+	}
+
+	private static File toFile(URL fileUrl) throws IOException {
+		try {
+			return new File(fileUrl.toURI());
+		} catch (URISyntaxException e) {
+			throw new IOException("Invalid height map location: " + fileUrl);
+		}
+	}
+
+	/**
+	 * Writes the heights of a height map to a file, read back by a baked height map.
+	 */
+	public static void bake(AbstractHeightMap heightMap, File heightMapFile) throws IOException {
+		File directory = heightMapFile.getAbsoluteFile().getParentFile();
+		if (!directory.isDirectory() && !directory.mkdirs()) {
+			throw new IOException("Unable to create the directory " + directory);
+		}
+		ByteBuffer content = ByteBuffer.allocate(HEADER_SIZE + heightMap.getHeightMap().length * HEIGHT_SIZE);
+		content.putInt(MAGIC).putShort(VERSION).putInt(heightMap.getSize());
+		content.asIntBuffer().put(heightMap.getHeightMap());
+		FileOutputStream output = new FileOutputStream(heightMapFile);
+		try {
+			output.write(content.array());
+		} finally {
+			output.close();
+		}
+	}
+}
@@ -0,0 +1,180 @@
+package net.juniorbl.jtoyracing.util;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.jme.math.Quaternion;
+import com.jme.math.Vector3f;
+import com.jme.scene.Spatial;
+import com.jme.scene.TriMesh;
+import com.jme.util.geom.BufferUtils;
+
+/**
+ * Fits the collision boxes of a model: the triangles of each mesh are grouped in connected parts, by
+ * the positions of their corners (the OBJ converter repeats the vertices of every face), and each part
+ * gets the box oriented by its largest face. The race track is made of cuboids, so its boxes are exact,
+ * other parts get a box around them.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class BoxFitter {
+	private static final int CORNERS = 3;
+	/**
+	 * Half of the thickness given to flat parts, a box without volume never touches anything.
+	 */
+	private static final float MIN_EXTENT = 0.01f;
+
+	/**
+	 * Prevents this class from being instantiated.
+	 */
+	private BoxFitter() { }
+
+	/**
+	 * Fits the boxes of the meshes of a model, in the coordinates of the model.
+	 */
+	public static CollisionShapes fit(Spatial model) {
+		CollisionShapes shapes = new CollisionShapes();
+		for (TriMesh mesh : MeshSimplifier.getMeshes(model)) {
+			Vector3f[] positions = getModelPositions(mesh);
+			IntBuffer indices = mesh.getIndexBuffer(0);
+			for (List<Integer> part : findParts(positions, indices, mesh.getTriangleCount())) {
+				fitBox(positions, indices, part, shapes);
+			}
+		}
+		return shapes;
+	}
+
+	/**
+	 * Returns the positions of the vertices of a mesh moved by its transform, the meshes of the
+	 * converted models are children of the model.
+	 */
+	private static Vector3f[] getModelPositions(TriMesh mesh) {
+		FloatBuffer vertices = mesh.getVertexBuffer(0);
+		Vector3f[] positions = new Vector3f[mesh.getVertexCount()];
+		for (int index = 0; index < positions.length; index++) {
+			positions[index] = new Vector3f();
+			BufferUtils.populateFromBuffer(positions[index], vertices, index);
+			positions[index].multLocal(mesh.getLocalScale());
+			mesh.getLocalRotation().multLocal(positions[index]);
+			positions[index].addLocal(mesh.getLocalTranslation());
+		}
+		return positions;
+	}
+
+	/**
+	 * Groups the triangles that share a corner position, each group is a list of triangles.
+	 */
+	private static List<List<Integer>> findParts(Vector3f[] positions, IntBuffer indices, int triangles) {
+		int[] parents = new int[triangles];
+		Map<Vector3f, Integer> triangleOfCorner = new HashMap<Vector3f, Integer>();
+		for (int triangle = 0; triangle < triangles; triangle++) {
+			parents[triangle] = triangle;
+			for (int corner = 0; corner < CORNERS; corner++) {
+				Vector3f position = positions[indices.get(triangle * CORNERS + corner)];
+				Integer neighbour = triangleOfCorner.get(position);
+				if (neighbour == null) {
+					triangleOfCorner.put(position, triangle);
+				} else {
+					join(parents, triangle, neighbour);
+				}
+			}
+		}
+		Map<Integer, List<Integer>> parts = new HashMap<Integer, List<Integer>>();
+		List<List<Integer>> orderedParts = new ArrayList<List<Integer>>();
+		for (int triangle = 0; triangle < triangles; triangle++) {
+			int root = findRoot(parents, triangle);
+			List<Integer> part = parts.get(root);
+			if (part == null) {
+				part = new ArrayList<Integer>();
+				parts.put(root, part);
+				orderedParts.add(part);
+			}
+			part.add(triangle);
+		}
+		return orderedParts;
+	}
+
+	private static void join(int[] parents, int triangle, int otherTriangle) {
+		parents[findRoot(parents, triangle)] = findRoot(parents, otherTriangle);
+	}
+
+	private static int findRoot(int[] parents, int triangle) {
+		int root = triangle;
+		while (parents[root] != root) {
+			parents[root] = parents[parents[root]];
+			root = parents[root];
+		}
+		return root;
+	}
+
+	/**
+	 * Fits a box to a part. The normal of the largest triangle and its shortest edge give two axes, for a
+	 * cuboid they are the normal and a side of its largest face, whatever the rotation of the part is.
+	 */
+	private static void fitBox(Vector3f[] positions, IntBuffer indices, List<Integer> part, CollisionShapes shapes) {
+		Vector3f normal = new Vector3f();
+		Vector3f side = new Vector3f();
+		float largestArea = -1;
+		Vector3f edge = new Vector3f();
+		Vector3f otherEdge = new Vector3f();
+		for (int triangle : part) {
+			Vector3f first = positions[indices.get(triangle * CORNERS)];
+			Vector3f second = positions[indices.get(triangle * CORNERS + 1)];
+			Vector3f third = positions[indices.get(triangle * CORNERS + 2)];
+			second.subtract(first, edge);
+			third.subtract(first, otherEdge);
+			Vector3f cross = edge.cross(otherEdge);
+			float area = cross.length();
+			if (area > largestArea) {
+				largestArea = area;
+				normal.set(cross);
+				side.set(getShortestEdge(first, second, third));
+			}
+		}
+		if (largestArea <= 0) {
+			return;
+		}
+		normal.normalizeLocal();
+		side.normalizeLocal();
+		Vector3f[] axes = {side, normal, side.cross(normal)};
+		Vector3f min = new Vector3f(Float.MAX_VALUE, Float.MAX_VALUE, Float.MAX_VALUE);
+		Vector3f max = new Vector3f(-Float.MAX_VALUE, -Float.MAX_VALUE, -Float.MAX_VALUE);
+		for (int triangle : part) {
+			for (int corner = 0; corner < CORNERS; corner++) {
+				Vector3f position = positions[indices.get(triangle * CORNERS + corner)];
+				for (int axis = 0; axis < axes.length; axis++) {
+					float distance = axes[axis].dot(position);
+					min.set(axis, Math.min(min.get(axis), distance));
+					max.set(axis, Math.max(max.get(axis), distance));
+				}
+			}
+		}
+		Vector3f center = new Vector3f();
+		Vector3f extents = new Vector3f();
+		for (int axis = 0; axis < axes.length; axis++) {
+			center.scaleAdd((min.get(axis) + max.get(axis)) / 2, axes[axis], center);
+			extents.set(axis, Math.max((max.get(axis) - min.get(axis)) / 2, MIN_EXTENT));
+		}
+		Quaternion rotation = new Quaternion();
+		rotation.fromAxes(axes);
+		shapes.addBox(center, extents, rotation);
+	}
+
+	private static Vector3f getShortestEdge(Vector3f first, Vector3f second, Vector3f third) {
+		Vector3f shortestEdge = second.subtract(first);
+		Vector3f edge = third.subtract(second);
+		if (edge.lengthSquared() < shortestEdge.lengthSquared()) {
+			shortestEdge = edge;
+		}
+		edge = first.subtract(third);
+		if (edge.lengthSquared() < shortestEdge.lengthSquared()) {
+			shortestEdge = edge;
+		}
+		return shortestEdge;
+	}
+}
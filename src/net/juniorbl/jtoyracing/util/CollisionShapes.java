@@ -0,0 +1,127 @@
+package net.juniorbl.jtoyracing.util;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import com.jme.math.Quaternion;
+import com.jme.math.Vector3f;
+import com.jmex.physics.PhysicsNode;
+import com.jmex.physics.geometry.PhysicsBox;
+
+/**
+ * The baked collision shapes of a model: oriented boxes, kept in a float array of
+ * {@value #BOX_SIZE} floats per box (center, half extents and rotation). Boxes are the cheapest shape
+ * for ODE after spheres, a triangle mesh is tested triangle by triangle.
+ *
+ * File: magic, version, boxes and the floats of the boxes.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class CollisionShapes {
+	public static final int MAGIC = 0x4A544353;
+	public static final short VERSION = 1;
+	/**
+	 * System property that turns the baked shapes off, "false" brings back the triangle meshes made from
+	 * the models at every start.
+	 */
+	public static final String BAKED_SHAPES_PROPERTY = "jtoyracing.physics.bakedShapes";
+	private static final int BOX_SIZE = 10;
+	private static final int EXTENTS = 3;
+	private static final int ROTATION = 6;
+	private static final int INITIAL_CAPACITY = 16;
+	private float[] boxes = new float[INITIAL_CAPACITY * BOX_SIZE];
+	private int boxCount;
+
+	/**
+	 * Tells whether the baked shapes are used, see {@value #BAKED_SHAPES_PROPERTY}.
+	 */
+	public static boolean isEnabled() {
+		return Boolean.parseBoolean(System.getProperty(BAKED_SHAPES_PROPERTY, "true"));
+	}
+
+	public void addBox(Vector3f center, Vector3f extents, Quaternion rotation) {
+		if ((boxCount + 1) * BOX_SIZE > boxes.length) {
+			float[] grownBoxes = new float[boxes.length * 2];
+			System.arraycopy(boxes, 0, grownBoxes, 0, boxes.length);
+			boxes = grownBoxes;
+		}
+		int offset = boxCount * BOX_SIZE;
+		boxes[offset] = center.x;
+		boxes[offset + 1] = center.y;
+		boxes[offset + 2] = center.z;
+		boxes[offset + EXTENTS] = extents.x;
+		boxes[offset + EXTENTS + 1] = extents.y;
+		boxes[offset + EXTENTS + 2] = extents.z;
+		boxes[offset + ROTATION] = rotation.x;
+		boxes[offset + ROTATION + 1] = rotation.y;
+		boxes[offset + ROTATION + 2] = rotation.z;
+		boxes[offset + ROTATION + 3] = rotation.w;
+		boxCount++;
+	}
+
+	public int getBoxCount() {
+		return boxCount;
+	}
+
+	public Vector3f getCenter(int box, Vector3f center) {
+		int offset = box * BOX_SIZE;
+		return center.set(boxes[offset], boxes[offset + 1], boxes[offset + 2]);
+	}
+
+	public Vector3f getExtents(int box, Vector3f extents) {
+		int offset = box * BOX_SIZE + EXTENTS;
+		return extents.set(boxes[offset], boxes[offset + 1], boxes[offset + 2]);
+	}
+
+	public Quaternion getRotation(int box, Quaternion rotation) {
+		int offset = box * BOX_SIZE + ROTATION;
+		rotation.set(boxes[offset], boxes[offset + 1], boxes[offset + 2], boxes[offset + 3]);
+		return rotation;
+	}
+
+	/**
+	 * Creates the boxes as collision geometries of a physics node. The boxes of JMonkeyEngine Physics
+	 * have the size of their scale.
+	 */
+	public void attachTo(PhysicsNode node) {
+		for (int box = 0; box < boxCount; box++) {
+			PhysicsBox physicsBox = node.createBox(node.getName() + "-box-" + box);
+			getCenter(box, physicsBox.getLocalTranslation());
+			getRotation(box, physicsBox.getLocalRotation());
+			getExtents(box, physicsBox.getLocalScale()).multLocal(2);
+		}
+	}
+
+	public void save(OutputStream output) throws IOException {
+		DataOutputStream dataOutput = new DataOutputStream(output);
+		dataOutput.writeInt(MAGIC);
+		dataOutput.writeShort(VERSION);
+		dataOutput.writeInt(boxCount);
+		for (int index = 0; index < boxCount * BOX_SIZE; index++) {
+			dataOutput.writeFloat(boxes[index]);
+		}
+		dataOutput.flush();
+	}
+
+	public static CollisionShapes load(InputStream input) throws IOException {
+		DataInputStream dataInput = new DataInputStream(input);
+		if (dataInput.readInt() != MAGIC || dataInput.readShort() != VERSION) {
+			throw new IOException("Not a collision shapes file");
+		}
+		int boxCount = dataInput.readInt();
+		if (boxCount < 0) {
+			throw new IOException("Corrupted collision shapes file");
+		}
+		CollisionShapes shapes = new CollisionShapes();
+		shapes.boxes = new float[Math.max(boxCount, 1) * BOX_SIZE];
+		for (int index = 0; index < boxCount * BOX_SIZE; index++) {
+			shapes.boxes[index] = dataInput.readFloat();
+		}
+		shapes.boxCount = boxCount;
+		return shapes;
+	}
+}
@@ -0,0 +1,39 @@
+package net.juniorbl.jtoyracing.util;
+
+import com.jme.scene.Node;
+
+/**
+ * A node whose children never move once it's frozen: their world transforms are computed a last time
+ * and no longer updated, they are only drawn. The static physics nodes of the room give their transforms
+ * to the physics on every update, which must not happen while another thread steps it.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class FrozenNode extends Node {
+	private static final long serialVersionUID = -6405281374869913254L;
+	private boolean frozen;
+
+	public FrozenNode(String name) {
+		super(name);
+	}
+
+	/**
+	 * Updates the children a last time.
+	 */
+	public void freeze() {
+		updateGeometricState(0, true);
+		frozen = true;
+	}
+
+	@Override
+	public void updateWorldData(float time) {
+		if (!frozen) {
+			super.updateWorldData(time);
+		}
+	}
+
+	public boolean isFrozen() {
+		return frozen;
+	}
+}
@@ -0,0 +1,50 @@
+package net.juniorbl.jtoyracing.util;
+
+import com.jme.math.Vector3f;
+
+/**
+ * The heights of a terrain block scaled in a float array, sampled between the points of the grid by
+ * bilinear interpolation. A sample only reads the array, it's cheap enough for every frame.
+ *
+ * The coordinates are the ones of the terrain block: the first point of the grid is at the origin, the
+ * columns go along x and the rows along z. Points out of the grid take the height of its nearest edge.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class HeightField {
+	private float[] heights;
+	private int size;
+	private float columnWidth;
+	private float rowWidth;
+
+	/**
+	 * Scales the heights of a height map by the step scale of the terrain block made from it.
+	 */
+	public HeightField(int[] heightMap, int size, Vector3f stepScale) {
+		this.size = size;
+		this.columnWidth = stepScale.x;
+		this.rowWidth = stepScale.z;
+		heights = new float[size * size];
+		for (int point = 0; point < heights.length; point++) {
+			heights[point] = heightMap[point] * stepScale.y;
+		}
+	}
+
+	public float getHeight(float x, float z) {
+		float column = clamp(x / columnWidth);
+		float row = clamp(z / rowWidth);
+		int leftColumn = Math.min((int) column, size - 2);
+		int topRow = Math.min((int) row, size - 2);
+		float columnFraction = column - leftColumn;
+		float rowFraction = row - topRow;
+		int topLeft = topRow * size + leftColumn;
+		float top = heights[topLeft] + (heights[topLeft + 1] - heights[topLeft]) * columnFraction;
+		float bottom = heights[topLeft + size] + (heights[topLeft + size + 1] - heights[topLeft + size]) * columnFraction;
+		return top + (bottom - top) * rowFraction;
+	}
+
+	private float clamp(float gridCoordinate) {
+		return Math.max(0, Math.min(gridCoordinate, size - 1));
+	}
+}
@@ -0,0 +1,123 @@
+package net.juniorbl.jtoyracing.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.juniorbl.jtoyracing.core.profiling.TriangleCounter;
+
+import com.jme.bounding.BoundingBox;
+import com.jme.bounding.BoundingSphere;
+import com.jme.bounding.BoundingVolume;
+import com.jme.renderer.Camera;
+import com.jme.renderer.Renderer;
+import com.jme.scene.Spatial;
+import com.jme.scene.SwitchNode;
+
+/**
+ * A model with up to three levels of detail, the full model first and then simpler ones. The level is
+ * chosen when the node is drawn, by the size of the model on the screen: the share of the height of the
+ * view taken by its bounds. A level is only left once the size is 10% past its limit, so a model at
+ * the limit doesn't switch back and forth every frame.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class LodNode extends SwitchNode {
+	private static final long serialVersionUID = -6297113504318475310L;
+	private static final float[] MIN_SCREEN_SIZES = {0.3f, 0.1f};
+	private static final float HYSTERESIS = 0.1f;
+	private static TriangleCounter triangleCounter;
+	private List<Integer> levelTriangles = new ArrayList<Integer>();
+
+	public LodNode(String name) {
+		super(name);
+	}
+
+	/**
+	 * Sets the counter of the triangles drawn by all the models with levels of detail, none by default.
+	 */
+	public static void setTriangleCounter(TriangleCounter counter) {
+		triangleCounter = counter;
+	}
+
+	/**
+	 * Adds the next level of detail, from the full model to the simplest one.
+	 */
+	public void addLevel(Spatial level) {
+		if (levelTriangles.size() > MIN_SCREEN_SIZES.length) {
+			throw new IllegalStateException("A model has up to " + (MIN_SCREEN_SIZES.length + 1) + " levels of detail");
+		}
+		attachChild(level);
+		levelTriangles.add(MeshSimplifier.countTriangles(level));
+		if (getActiveChild() == SN_INVALID_CHILD) {
+			setActiveChild(0);
+		}
+	}
+
+	@Override
+	public void draw(Renderer renderer) {
+		int level = selectLevel(renderer.getCamera());
+		if (triangleCounter != null) {
+			triangleCounter.add(levelTriangles.get(level), levelTriangles.get(0));
+		}
+		super.draw(renderer);
+	}
+
+	/**
+	 * Switches to the level of the size of the model seen by a camera and returns it.
+	 */
+	int selectLevel(Camera camera) {
+		float screenSize = getScreenSize(camera);
+		int level = getActiveChild();
+		while (level > 0 && screenSize > MIN_SCREEN_SIZES[level - 1] * (1 + HYSTERESIS)) {
+			level--;
+		}
+		while (level < levelTriangles.size() - 1 && screenSize < MIN_SCREEN_SIZES[level] * (1 - HYSTERESIS)) {
+			level++;
+		}
+		if (level != getActiveChild()) {
+			setActiveChild(level);
+		}
+		return level;
+	}
+
+	/**
+	 * Returns the share of the height of the view taken by the bounds of the model, more than one when
+	 * the camera is inside them.
+	 */
+	private float getScreenSize(Camera camera) {
+		BoundingVolume bound = getWorldBound();
+		if (bound == null) {
+			return Float.MAX_VALUE;
+		}
+		float radius = getRadius(bound);
+		float distance = camera.getLocation().distance(bound.getCenter());
+		if (distance <= radius) {
+			return Float.MAX_VALUE;
+		}
+		float halfFieldOfViewTangent = camera.getFrustumTop() / camera.getFrustumNear();
+		return radius / (distance * halfFieldOfViewTangent);
+	}
+
+	private static float getRadius(BoundingVolume bound) {
+		if (bound instanceof BoundingBox) {
+			BoundingBox box = (BoundingBox) bound;
+			return (float) Math.sqrt(box.xExtent * box.xExtent + box.yExtent * box.yExtent + box.zExtent * box.zExtent);
+		}
+		if (bound instanceof BoundingSphere) {
+			return ((BoundingSphere) bound).getRadius();
+		}
+		return Float.MAX_VALUE;
+	}
+
+	/**
+	 * Returns the triangles of a level of detail.
+	 */
+	public int getTriangles(int level) {
+		return levelTriangles.get(level);
+	}
+
+	public int getLevels() {
+		return levelTriangles.size();
+	}
+}
@@ -0,0 +1,292 @@
+package net.juniorbl.jtoyracing.util;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.jme.bounding.BoundingBox;
+import com.jme.math.Vector3f;
+import com.jme.scene.Node;
+import com.jme.scene.Spatial;
+import com.jme.scene.TriMesh;
+import com.jme.scene.state.RenderState;
+import com.jme.util.geom.BufferUtils;
+
+/**
+ * Simplifies models by vertex clustering: the bounds of a model are divided in a grid, the vertices of
+ * a cell are merged in their average and the triangles left with two corners in the same cell are
+ * dropped. It doesn't need connected meshes, the OBJ converter repeats the vertices of every face, and
+ * a coarser grid gives fewer triangles.
+ *
+ * The simplified meshes have no render states, so they can be cached on their own, the states of the
+ * model are copied to them afterwards.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class MeshSimplifier {
+	private static final int CELL_BITS = 21;
+	private static final int MAX_CELL = (1 << CELL_BITS) - 1;
+	private static final int TEXTURE_UNIT = 0;
+
+	/**
+	 * Prevents this class from being instantiated.
+	 */
+	private MeshSimplifier() { }
+
+	/**
+	 * Simplifies the meshes of a model with cells of the size of the longest side of its largest mesh
+	 * divided by a number of cells. The size comes from the meshes, not from the bounds of the model,
+	 * because a part lost far away (the computer has one) would make the cells as large as the room.
+	 * The meshes of the returned node are in the order of {@link #getMeshes(Spatial)}.
+	 */
+	public static Node simplify(Spatial model, int cells) {
+		List<TriMesh> meshes = getMeshes(model);
+		float longestSide = 0;
+		for (TriMesh mesh : meshes) {
+			BoundingBox bounds = getBounds(mesh);
+			longestSide = Math.max(longestSide, 2 * Math.max(bounds.xExtent, Math.max(bounds.yExtent, bounds.zExtent)));
+		}
+		Node simplifiedModel = new Node(model.getName() + "-" + cells);
+		for (TriMesh mesh : meshes) {
+			BoundingBox bounds = getBounds(mesh);
+			Grid grid = new Grid(bounds.getCenter().subtract(bounds.xExtent, bounds.yExtent, bounds.zExtent), longestSide / cells);
+			TriMesh simplifiedMesh = simplify(mesh, grid);
+			simplifiedMesh.setLocalTranslation(mesh.getLocalTranslation());
+			simplifiedMesh.setLocalRotation(mesh.getLocalRotation());
+			simplifiedMesh.setLocalScale(mesh.getLocalScale());
+			simplifiedModel.attachChild(simplifiedMesh);
+		}
+		return simplifiedModel;
+	}
+
+	private static BoundingBox getBounds(TriMesh mesh) {
+		BoundingBox bounds = new BoundingBox();
+		bounds.computeFromPoints(mesh.getVertexBuffer(0));
+		return bounds;
+	}
+
+	private static TriMesh simplify(TriMesh mesh, Grid grid) {
+		FloatBuffer vertices = mesh.getVertexBuffer(0);
+		FloatBuffer normals = mesh.getNormalBuffer(0);
+		FloatBuffer textureCoordinates = mesh.getTextureBuffer(0, TEXTURE_UNIT);
+		int vertexCount = mesh.getVertexCount();
+		int[] clusters = new int[vertexCount];
+		Map<Long, Integer> clusterOfCell = new HashMap<Long, Integer>();
+		List<float[]> sums = new ArrayList<float[]>();
+		List<Integer> firstVertices = new ArrayList<Integer>();
+		Vector3f vertex = new Vector3f();
+		for (int index = 0; index < vertexCount; index++) {
+			BufferUtils.populateFromBuffer(vertex, vertices, index);
+			Long cell = grid.getCell(vertex);
+			Integer cluster = clusterOfCell.get(cell);
+			if (cluster == null) {
+				cluster = sums.size();
+				clusterOfCell.put(cell, cluster);
+				sums.add(new float[Cluster.SIZE]);
+				firstVertices.add(index);
+			}
+			clusters[index] = cluster;
+			Cluster.add(sums.get(cluster), vertex, normals, index);
+		}
+		IntBuffer indices = mesh.getIndexBuffer(0);
+		List<Integer> simplifiedIndices = new ArrayList<Integer>();
+		Set<Triangle> triangles = new HashSet<Triangle>();
+		for (int triangle = 0; triangle < mesh.getTriangleCount(); triangle++) {
+			Triangle simplifiedTriangle = new Triangle(clusters[indices.get(triangle * Triangle.CORNERS)],
+					clusters[indices.get(triangle * Triangle.CORNERS + 1)], clusters[indices.get(triangle * Triangle.CORNERS + 2)]);
+			if (!simplifiedTriangle.isDegenerate() && triangles.add(simplifiedTriangle)) {
+				simplifiedTriangle.addTo(simplifiedIndices);
+			}
+		}
+		return createMesh(mesh.getName(), sums, createTextureCoordinates(textureCoordinates, firstVertices), simplifiedIndices);
+	}
+
+	private static TriMesh createMesh(String name, List<float[]> sums, FloatBuffer textureCoordinates, List<Integer> indices) {
+		FloatBuffer vertices = BufferUtils.createVector3Buffer(sums.size());
+		FloatBuffer normals = BufferUtils.createVector3Buffer(sums.size());
+		for (float[] sum : sums) {
+			Cluster.put(sum, vertices, normals);
+		}
+		IntBuffer indexBuffer = BufferUtils.createIntBuffer(indices.size());
+		for (int index : indices) {
+			indexBuffer.put(index);
+		}
+		TriMesh simplifiedMesh = new TriMesh(name, vertices, normals, null, textureCoordinates, indexBuffer);
+		simplifiedMesh.setModelBound(new BoundingBox());
+		simplifiedMesh.updateModelBound();
+		return simplifiedMesh;
+	}
+
+	/**
+	 * The texture coordinates of a cluster are the ones of its first vertex, averaging them across the
+	 * seams of a texture would smear it.
+	 */
+	private static FloatBuffer createTextureCoordinates(FloatBuffer textureCoordinates, List<Integer> firstVertices) {
+		if (textureCoordinates == null) {
+			return null;
+		}
+		FloatBuffer clusterCoordinates = BufferUtils.createVector2Buffer(firstVertices.size());
+		for (int vertex : firstVertices) {
+			clusterCoordinates.put(textureCoordinates.get(vertex * 2)).put(textureCoordinates.get(vertex * 2 + 1));
+		}
+		return clusterCoordinates;
+	}
+
+	/**
+	 * Returns the meshes of a model, depth first. The OBJ converter creates one mesh per material, all
+	 * of them children of the model.
+	 */
+	public static List<TriMesh> getMeshes(Spatial model) {
+		List<TriMesh> meshes = new ArrayList<TriMesh>();
+		addMeshes(model, meshes);
+		return meshes;
+	}
+
+	private static void addMeshes(Spatial spatial, List<TriMesh> meshes) {
+		if (spatial instanceof TriMesh) {
+			meshes.add((TriMesh) spatial);
+		} else if (spatial instanceof Node && ((Node) spatial).getChildren() != null) {
+			for (Spatial child : ((Node) spatial).getChildren()) {
+				addMeshes(child, meshes);
+			}
+		}
+	}
+
+	/**
+	 * Gives the meshes of a simplified model the render states of the meshes of the model they came from.
+	 */
+	public static void copyRenderStates(Spatial model, Spatial simplifiedModel) {
+		List<TriMesh> meshes = getMeshes(model);
+		List<TriMesh> simplifiedMeshes = getMeshes(simplifiedModel);
+		for (int mesh = 0; mesh < meshes.size(); mesh++) {
+			for (int state = 0; state < RenderState.RS_MAX_STATE; state++) {
+				if (meshes.get(mesh).getRenderState(state) != null) {
+					simplifiedMeshes.get(mesh).setRenderState(meshes.get(mesh).getRenderState(state));
+				}
+			}
+		}
+		simplifiedModel.updateRenderState();
+	}
+
+	/**
+	 * Counts the triangles of the meshes of a model.
+	 */
+	public static int countTriangles(Spatial model) {
+		int triangles = 0;
+		for (TriMesh mesh : getMeshes(model)) {
+			triangles += mesh.getTriangleCount();
+		}
+		return triangles;
+	}
+
+	/**
+	 * The grid of the cells, from the lowest corner of a mesh.
+	 */
+	private static final class Grid {
+		private Vector3f origin;
+		private float cellSize;
+
+		private Grid(Vector3f origin, float cellSize) {
+			this.origin = origin;
+			this.cellSize = cellSize;
+		}
+
+		private Long getCell(Vector3f vertex) {
+			long x = getCoordinate(vertex.x - origin.x);
+			long y = getCoordinate(vertex.y - origin.y);
+			long z = getCoordinate(vertex.z - origin.z);
+			return (x << (2 * CELL_BITS)) | (y << CELL_BITS) | z;
+		}
+
+		private long getCoordinate(float distance) {
+			return Math.max(0, Math.min((int) (distance / cellSize), MAX_CELL));
+		}
+	}
+
+	/**
+	 * The sums of the positions and normals of the vertices of a cluster and their count, kept in an array.
+	 */
+	private static final class Cluster {
+		private static final int SIZE = 7;
+		private static final int NORMAL = 3;
+		private static final int COUNT = 6;
+
+		private Cluster() { }
+
+		private static void add(float[] sum, Vector3f vertex, FloatBuffer normals, int index) {
+			sum[0] += vertex.x;
+			sum[1] += vertex.y;
+			sum[2] += vertex.z;
+			if (normals != null) {
+				for (int axis = 0; axis < NORMAL; axis++) {
+					sum[NORMAL + axis] += normals.get(index * NORMAL + axis);
+				}
+			}
+			sum[COUNT]++;
+		}
+
+		private static void put(float[] sum, FloatBuffer vertices, FloatBuffer normals) {
+			vertices.put(sum[0] / sum[COUNT]).put(sum[1] / sum[COUNT]).put(sum[2] / sum[COUNT]);
+			Vector3f normal = new Vector3f(sum[NORMAL], sum[NORMAL + 1], sum[NORMAL + 2]).normalizeLocal();
+			normals.put(normal.x).put(normal.y).put(normal.z);
+		}
+	}
+
+	/**
+	 * A triangle of clusters. Its corners are kept in their order, for the winding, starting at the lowest
+	 * one so the same triangle is found twice whatever corner it started from.
+	 */
+	private static final class Triangle {
+		private static final int CORNERS = 3;
+		private static final int HASH_MULTIPLIER = 31;
+		private int first;
+		private int second;
+		private int third;
+
+		private Triangle(int first, int second, int third) {
+			if (first <= second && first <= third) {
+				set(first, second, third);
+			} else if (second <= first && second <= third) {
+				set(second, third, first);
+			} else {
+				set(third, first, second);
+			}
+		}
+
+		private void set(int lowest, int next, int last) {
+			this.first = lowest;
+			this.second = next;
+			this.third = last;
+		}
+
+		private boolean isDegenerate() {
+			return first == second || second == third || third == first;
+		}
+
+		private void addTo(List<Integer> indices) {
+			indices.add(first);
+			indices.add(second);
+			indices.add(third);
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if (!(object instanceof Triangle)) {
+				return false;
+			}
+			Triangle triangle = (Triangle) object;
+			return first == triangle.first && second == triangle.second && third == triangle.third;
+		}
+
+		@Override
+		public int hashCode() {
+			return (first * HASH_MULTIPLIER + second) * HASH_MULTIPLIER + third;
+		}
+	}
+}
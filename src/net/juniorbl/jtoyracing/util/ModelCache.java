@@ -0,0 +1,180 @@
+package net.juniorbl.jtoyracing.util;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import com.jme.util.LoggingSystem;
+
+/**
+ * Content-addressed cache of OBJ models already converted to the JMonkeyEngine binary format, and of
+ * the collision shapes baked from them.
+ *
+ * The key of an entry is a hash of the OBJ file, its material libraries and the location the textures
+ * are loaded from (the converted binary references them by URL), so a change in any of them produces
+ * a new entry and a stale one is never read.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class ModelCache {
+	public static final String CACHE_DIRECTORY_PROPERTY = "jtoyracing.cache.dir";
+	private static final String DEFAULT_CACHE_DIRECTORY = ".jtoyracing" + File.separator + "cache";
+	private static final String MODELS_DIRECTORY = "models";
+	private static final String CACHE_FORMAT_VERSION = "jme-binary-1";
+	private static final String CACHED_MODEL_EXTENSION = ".jme";
+	private static final String CACHED_SHAPES_EXTENSION = ".shapes";
+	private static final String MATERIAL_LIBRARY_PREFIX = "mtllib ";
+	private static final String HASH_ALGORITHM = "SHA-1";
+	private static final String HEXADECIMAL_DIGITS = "0123456789abcdef";
+	private static final int NIBBLE_BITS = 4;
+	private static final int NIBBLE_MASK = 0xF;
+	private static final int BUFFER_SIZE = 8192;
+	private File modelsDirectory;
+
+	public ModelCache(File cacheDirectory) {
+		this.modelsDirectory = new File(cacheDirectory, MODELS_DIRECTORY);
+	}
+
+	/**
+	 * Creates a cache in the directory given by the {@value #CACHE_DIRECTORY_PROPERTY} system property,
+	 * or in the user's home when the property is not set.
+	 */
+	public static ModelCache createDefault() {
+		String cacheDirectory = System.getProperty(CACHE_DIRECTORY_PROPERTY);
+		if (cacheDirectory == null) {
+			cacheDirectory = System.getProperty("user.home") + File.separator + DEFAULT_CACHE_DIRECTORY;
+		}
+		return new ModelCache(new File(cacheDirectory));
+	}
+
+	/**
+	 * Calculates the key of an OBJ model. The material libraries are found through the "mtllib"
+	 * statements of the model and are resolved relative to it, as the converter does.
+	 */
+	public String createKey(URL objFile) throws IOException {
+		MessageDigest digest = createDigest();
+		digest.update(CACHE_FORMAT_VERSION.getBytes("UTF-8"));
+		digest.update(objFile.toExternalForm().getBytes("UTF-8"));
+		BufferedReader objReader = new BufferedReader(new InputStreamReader(objFile.openStream(), "UTF-8"));
+		try {
+			String line = objReader.readLine();
+			while (line != null) {
+				digest.update(line.getBytes("UTF-8"));
+				if (line.startsWith(MATERIAL_LIBRARY_PREFIX)) {
+					updateDigest(digest, new URL(objFile, line.substring(MATERIAL_LIBRARY_PREFIX.length()).trim()));
+				}
+				line = objReader.readLine();
+			}
+		} finally {
+			objReader.close();
+		}
+		return toHexadecimal(digest.digest());
+	}
+
+	/**
+	 * Returns the file of a cached model. The file may not exist yet.
+	 */
+	public File getCachedModel(String key) {
+		return new File(modelsDirectory, key + CACHED_MODEL_EXTENSION);
+	}
+
+	/**
+	 * Returns the file of the collision shapes of a model. The file may not exist yet.
+	 */
+	public File getCachedShapes(String key) {
+		return new File(modelsDirectory, key + CACHED_SHAPES_EXTENSION);
+	}
+
+	/**
+	 * Stores a converted model. Failures are only logged because the cache is an optimization, the
+	 * model was already converted.
+	 */
+	public void store(String key, ByteArrayOutputStream convertedModel) {
+		store(getCachedModel(key), convertedModel);
+	}
+
+	/**
+	 * Stores the collision shapes of a model, failures are only logged as well.
+	 */
+	public void storeShapes(String key, ByteArrayOutputStream shapes) {
+		store(getCachedShapes(key), shapes);
+	}
+
+	/**
+	 * Writes an entry to a temporary file that is renamed at the end, so an interrupted write never
+	 * leaves a truncated entry behind.
+	 */
+	private void store(File cachedEntry, ByteArrayOutputStream content) {
+		if (!modelsDirectory.isDirectory() && !modelsDirectory.mkdirs()) {
+			LoggingSystem.getLogger().warning("Unable to create the model cache directory " + modelsDirectory);
+			return;
+		}
+		File temporaryEntry = new File(modelsDirectory, cachedEntry.getName() + ".tmp");
+		try {
+			FileOutputStream output = new FileOutputStream(temporaryEntry);
+			try {
+				content.writeTo(output);
+			} finally {
+				output.close();
+			}
+			if (!temporaryEntry.renameTo(cachedEntry)) {
+				temporaryEntry.delete();
+			}
+		} catch (IOException e) {
+			temporaryEntry.delete();
+			LoggingSystem.getLogger().warning("Unable to cache " + cachedEntry + ": " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Removes the entries of a key, used when a cached model or its shapes can't be read anymore.
+	 */
+	public void evict(String key) {
+		getCachedModel(key).delete();
+		getCachedShapes(key).delete();
+	}
+
+	private void updateDigest(MessageDigest digest, URL file) {
+		try {
+			InputStream input = file.openStream();
+			try {
+				byte[] buffer = new byte[BUFFER_SIZE];
+				int read = input.read(buffer);
+				while (read != -1) {
+					digest.update(buffer, 0, read);
+					read = input.read(buffer);
+				}
+			} finally {
+				input.close();
+			}
+		} catch (IOException e) {
+			// The converter ignores missing material libraries as well, the model is keyed without it.
+			LoggingSystem.getLogger().warning("Material library not found: " + file);
+		}
+	}
+
+	private static MessageDigest createDigest() {
+		try {
+			return MessageDigest.getInstance(HASH_ALGORITHM);
+		} catch (NoSuchAlgorithmException e) {
+			throw new Error(e);
+		}
+	}
+
+	private static String toHexadecimal(byte[] bytes) {
+		StringBuilder hexadecimal = new StringBuilder(bytes.length * 2);
+		for (byte value : bytes) {
+			hexadecimal.append(HEXADECIMAL_DIGITS.charAt((value >> NIBBLE_BITS) & NIBBLE_MASK));
+			hexadecimal.append(HEXADECIMAL_DIGITS.charAt(value & NIBBLE_MASK));
+		}
+		return hexadecimal.toString();
+	}
+}
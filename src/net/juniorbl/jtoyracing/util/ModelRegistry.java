@@ -0,0 +1,65 @@
+package net.juniorbl.jtoyracing.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.jme.bounding.BoundingBox;
+import com.jme.scene.Node;
+import com.jme.scene.SharedMesh;
+import com.jme.scene.SharedNode;
+import com.jme.scene.Spatial;
+import com.jme.scene.TriMesh;
+
+/**
+ * Registry of models that are used more than once, like the wheels and the trucks. Each model is
+ * converted only once, every user receives an instance that shares its geometry (vertex, normal,
+ * texture and index buffers) and has its own transformation.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class ModelRegistry {
+	private static final Map<String, Spatial> MODELS = new HashMap<String, Spatial>();
+	private static int instances;
+
+	/**
+	 * Prevents this class from being instantiated.
+	 */
+	private ModelRegistry() { }
+
+	/**
+	 * Creates an instance of a model, converting the model only the first time it is requested.
+	 */
+	public static synchronized Spatial createSharedModel(String path) {
+		Spatial model = MODELS.get(path);
+		if (model == null) {
+			model = ModelUtil.convertOBJToStatial(path);
+			MODELS.put(path, model);
+		}
+		Spatial sharedModel = share(model, path + "#" + ++instances);
+		sharedModel.setModelBound(new BoundingBox());
+		sharedModel.updateModelBound();
+		return sharedModel;
+	}
+
+	private static Spatial share(Spatial model, String instanceName) {
+		if (model instanceof Node) {
+			return new SharedNode(instanceName, (Node) model);
+		} else if (model instanceof TriMesh) {
+			return new SharedMesh(instanceName, (TriMesh) model);
+		}
+		throw new IllegalArgumentException("The model " + model.getName() + " has no geometry to share");
+	}
+
+	/**
+	 * Releases the registered models. Instances already created keep working, but new requests will
+	 * convert the models again.
+	 */
+	public static synchronized void clear() {
+		MODELS.clear();
+	}
+
+	public static synchronized int getRegisteredModels() {
+		return MODELS.size();
+	}
+}
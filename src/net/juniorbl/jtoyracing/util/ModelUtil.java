@@ -1,15 +1,25 @@
 package net.juniorbl.jtoyracing.util;
 
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import net.juniorbl.jtoyracing.core.profiling.AssetLoadEvent;
 
 import com.jme.bounding.BoundingBox;
 import com.jme.math.FastMath;
 import com.jme.math.Quaternion;
 import com.jme.math.Vector3f;
 import com.jme.scene.Spatial;
+import com.jme.util.export.binary.BinaryClassLoader;
+import com.jme.util.export.binary.BinaryExporter;
 import com.jme.util.export.binary.BinaryImporter;
 import com.jmex.model.XMLparser.Converters.ObjToJme;
 
@@ -20,18 +30,28 @@ import com.jmex.model.XMLparser.Converters.ObjToJme;
  * @author Carlos Luz Junior
  */
 public final class ModelUtil {
+	private static final ModelCache MODEL_CACHE = ModelCache.createDefault();
+	private static final Map<String, Spatial> PRELOADED_MODELS = new ConcurrentHashMap<String, Spatial>();
+	/**
+	 * The cells of the grids of the simplified levels of detail, see {@link MeshSimplifier}.
+	 */
+	private static final int[] LEVEL_OF_DETAIL_CELLS = {64, 16};
+	private static final String LEVEL_OF_DETAIL_KEY = "-lod-vertex-clustering-1-";
+	private static final String COLLISION_SHAPES_KEY = "-collision-boxes-1";
+
+	static {
+		BinaryClassLoader.registerModule(new TextureImportModule());
+	}
 
 	/**
 	 * Prevents this class from being instantiated.
 	 */
 	private ModelUtil() { }
 
-	private static ByteArrayOutputStream convertOBJModelToJME(String path) {
+	private static ByteArrayOutputStream convertOBJModelToJME(URL objFile) {
 		ObjToJme converter = new ObjToJme();
 		ByteArrayOutputStream byteArrayOS = new ByteArrayOutputStream();
 		try {
-			URL objFile = ModelUtil.class.getClassLoader()
-					.getResource(path);
 			converter.setProperty("mtllib", objFile);
 			converter.setProperty("texdir", objFile);
 			converter.convert(objFile.openStream(), byteArrayOS);
@@ -42,14 +62,58 @@ public final class ModelUtil {
 		return byteArrayOS;
 	}
 
+	/**
+	 * Converts an OBJ model. A converted model is kept in the model cache, later calls (even on other
+	 * launches) load the cached binary instead of converting the OBJ file again. A model loaded by
+	 * {@link #preloadOBJ(String)} is handed over without any conversion.
+	 */
 	public static Spatial convertOBJToStatial(String path) {
+		Spatial model = PRELOADED_MODELS.remove(path);
+		if (model == null) {
+			model = loadOBJ(path);
+		}
+		return model;
+	}
+
+	/**
+	 * Loads an OBJ model ahead of its use, the next call to {@link #convertOBJToStatial(String)} with
+	 * the same path returns it. Safe to be called from any thread.
+	 */
+	public static void preloadOBJ(String path) {
+		PRELOADED_MODELS.put(path, loadOBJ(path));
+	}
+
+	/**
+	 * Loads a model, the load is a flight recorder event.
+	 */
+	private static Spatial loadOBJ(String path) {
 		Spatial model = null;
+		AssetLoadEvent assetLoadEvent = new AssetLoadEvent();
+		assetLoadEvent.begin();
 		try {
-			ByteArrayOutputStream byteArrayOS = convertOBJModelToJME(path);
-			model = (Spatial) BinaryImporter.getInstance().load(
-					new ByteArrayInputStream(byteArrayOS.toByteArray()));
+			URL objFile = ModelUtil.class.getClassLoader().getResource(path);
+			String cacheKey = MODEL_CACHE.createKey(objFile);
+			model = loadCachedModel(cacheKey);
+			boolean cached = model != null;
+			long bytes = 0;
+			if (!cached) {
+				ByteArrayOutputStream byteArrayOS = convertOBJModelToJME(objFile);
+				MODEL_CACHE.store(cacheKey, byteArrayOS);
+				model = importModel(new ByteArrayInputStream(byteArrayOS.toByteArray()));
+				bytes = byteArrayOS.size();
+			}
 			model.setModelBound(new BoundingBox());
 			model.updateModelBound();
+			assetLoadEvent.end();
+			if (assetLoadEvent.shouldCommit()) {
+				if (cached) {
+					bytes = MODEL_CACHE.getCachedModel(cacheKey).length();
+				}
+				assetLoadEvent.setPath(path);
+				assetLoadEvent.setCached(cached);
+				assetLoadEvent.setBytes(bytes);
+				assetLoadEvent.commit();
+			}
 		} catch (IOException e) {
 			//TODO throw a business checked exception
 			throw new Error(e);
@@ -57,6 +121,120 @@ public final class ModelUtil {
 		return model;
 	}
 
+	/**
+	 * Imports a converted model. Each import uses its own importer, the shared one keeps the state of
+	 * the file being read. The textures of the model are loaded by the TextureManager, whose cache
+	 * isn't synchronized, so only their reads are serialized (see {@link TextureImportModule}).
+	 */
+	private static Spatial importModel(InputStream convertedModel) throws IOException {
+		return (Spatial) new BinaryImporter().load(convertedModel);
+	}
+
+	/**
+	 * Loads a model from the cache, returns null when it isn't cached or the cached file is unreadable.
+	 */
+	private static Spatial loadCachedModel(String cacheKey) {
+		File cachedModel = MODEL_CACHE.getCachedModel(cacheKey);
+		if (!cachedModel.isFile()) {
+			return null;
+		}
+		try {
+			InputStream convertedModel = new BufferedInputStream(new FileInputStream(cachedModel));
+			try {
+				return importModel(convertedModel);
+			} finally {
+				convertedModel.close();
+			}
+		} catch (IOException e) {
+			MODEL_CACHE.evict(cacheKey);
+			return null;
+		}
+	}
+
+	/**
+	 * Loads an OBJ model with its levels of detail. The simplified levels are kept in the model cache
+	 * with the converted model, so they are only made on the first load of a model (or when baked ahead
+	 * by the "bake_lods" target), the next loads read them. The models with levels of detail don't
+	 * move, the meshes of each level are batched by material.
+	 */
+	public static LodNode loadLodModel(String path) {
+		Spatial model = convertOBJToStatial(path);
+		LodNode lodNode = new LodNode(path);
+		lodNode.addLevel(StaticBatcher.batch(model));
+		try {
+			String cacheKey = MODEL_CACHE.createKey(ModelUtil.class.getClassLoader().getResource(path));
+			for (int cells : LEVEL_OF_DETAIL_CELLS) {
+				lodNode.addLevel(StaticBatcher.batch(loadSimplifiedModel(model, cacheKey + LEVEL_OF_DETAIL_KEY + cells, cells)));
+			}
+		} catch (IOException e) {
+			//TODO throw a business checked exception
+			throw new Error(e);
+		}
+		return lodNode;
+	}
+
+	/**
+	 * Loads a level of detail from the cache, or simplifies the model and caches it. The cached meshes
+	 * have no render states, they take the ones of the model.
+	 */
+	private static Spatial loadSimplifiedModel(Spatial model, String cacheKey, int cells) throws IOException {
+		Spatial simplifiedModel = loadCachedModel(cacheKey);
+		if (simplifiedModel == null) {
+			simplifiedModel = MeshSimplifier.simplify(model, cells);
+			ByteArrayOutputStream byteArrayOS = new ByteArrayOutputStream();
+			BinaryExporter.getInstance().save(simplifiedModel, byteArrayOS);
+			MODEL_CACHE.store(cacheKey, byteArrayOS);
+		}
+		simplifiedModel.setModelBound(new BoundingBox());
+		simplifiedModel.updateModelBound();
+		MeshSimplifier.copyRenderStates(model, simplifiedModel);
+		return simplifiedModel;
+	}
+
+	/**
+	 * Loads the collision shapes of an OBJ model from the model cache, or fits them to the model (see
+	 * {@link BoxFitter}) and caches them, so they are only fitted on the first load of a model or when
+	 * baked ahead by the "bake_collision" target.
+	 */
+	public static CollisionShapes loadCollisionShapes(String path, Spatial model) {
+		try {
+			String cacheKey = MODEL_CACHE.createKey(ModelUtil.class.getClassLoader().getResource(path)) + COLLISION_SHAPES_KEY;
+			CollisionShapes shapes = loadCachedShapes(cacheKey);
+			if (shapes == null) {
+				shapes = BoxFitter.fit(model);
+				ByteArrayOutputStream byteArrayOS = new ByteArrayOutputStream();
+				shapes.save(byteArrayOS);
+				MODEL_CACHE.storeShapes(cacheKey, byteArrayOS);
+			}
+			return shapes;
+		} catch (IOException e) {
+			//TODO throw a business checked exception
+			throw new Error(e);
+		}
+	}
+
+	/**
+	 * Loads collision shapes from the cache, returns null when they aren't cached or the cached file is
+	 * unreadable.
+	 */
+	private static CollisionShapes loadCachedShapes(String cacheKey) {
+		File cachedShapes = MODEL_CACHE.getCachedShapes(cacheKey);
+		if (!cachedShapes.isFile()) {
+			return null;
+		}
+		try {
+			InputStream input = new BufferedInputStream(new FileInputStream(cachedShapes));
+			try {
+				return CollisionShapes.load(input);
+			} finally {
+				input.close();
+			}
+		} catch (IOException e) {
+			MODEL_CACHE.evict(cacheKey);
+			return null;
+		}
+	}
+
 	public static Quaternion calculateRotation(int degrees) {
 		Quaternion quaternion = new Quaternion();
 		float radians = degrees * FastMath.DEG_TO_RAD;
@@ -0,0 +1,156 @@
+package net.juniorbl.jtoyracing.util;
+
+import java.util.Arrays;
+
+/**
+ * Uniform grid over the ground plane (X/Z) used to find the objects near another one without testing
+ * every pair. The cells are hashed to a fixed table of buckets, so the grid has no bounds.
+ *
+ * The objects are identified by an index, from zero to the capacity, and kept in intrusive linked
+ * lists. Updating an object that stays in its cell costs two array writes and moving it to another
+ * cell is constant time, so the hash is updated incrementally every tick instead of rebuilt, and
+ * nothing is allocated after construction.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class SpatialHash {
+	private static final int NONE = -1;
+	private static final int X_PRIME = 73856093;
+	private static final int Z_PRIME = 19349663;
+	private float cellSize;
+	private int[] buckets;
+	private int bucketMask;
+	private int[] next;
+	private int[] previous;
+	private int[] cellX;
+	private int[] cellZ;
+	private float[] x;
+	private float[] z;
+	private boolean[] present;
+	private int size;
+
+	/**
+	 * Creates a hash for objects identified from zero to capacity - 1. The queries are cheaper when
+	 * the cell size is close to the usual query radius.
+	 */
+	public SpatialHash(float cellSize, int capacity) {
+		this.cellSize = cellSize;
+		int bucketCount = Integer.highestOneBit(Math.max(1, capacity * 2 - 1)) << 1;
+		buckets = new int[bucketCount];
+		Arrays.fill(buckets, NONE);
+		bucketMask = bucketCount - 1;
+		next = new int[capacity];
+		previous = new int[capacity];
+		cellX = new int[capacity];
+		cellZ = new int[capacity];
+		x = new float[capacity];
+		z = new float[capacity];
+		present = new boolean[capacity];
+	}
+
+	/**
+	 * Inserts an object or updates its position. It's only moved to another bucket when it
+	 * changes cell.
+	 */
+	public void update(int id, float newX, float newZ) {
+		int newCellX = toCell(newX);
+		int newCellZ = toCell(newZ);
+		x[id] = newX;
+		z[id] = newZ;
+		if (present[id]) {
+			if (cellX[id] == newCellX && cellZ[id] == newCellZ) {
+				return;
+			}
+			unlink(id);
+		} else {
+			present[id] = true;
+			size++;
+		}
+		cellX[id] = newCellX;
+		cellZ[id] = newCellZ;
+		link(id);
+	}
+
+	public void remove(int id) {
+		if (present[id]) {
+			unlink(id);
+			present[id] = false;
+			size--;
+		}
+	}
+
+	public boolean contains(int id) {
+		return present[id];
+	}
+
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Finds the objects closer than a radius to another one, not including itself. The indexes are
+	 * written to the given array, up to its length, and the number found is returned.
+	 */
+	public int findNeighbours(int id, float radius, int[] neighbours) {
+		float radiusSquared = radius * radius;
+		int found = 0;
+		int minCellX = toCell(x[id] - radius);
+		int maxCellX = toCell(x[id] + radius);
+		int minCellZ = toCell(z[id] - radius);
+		int maxCellZ = toCell(z[id] + radius);
+		for (int queryCellX = minCellX; queryCellX <= maxCellX; queryCellX++) {
+			for (int queryCellZ = minCellZ; queryCellZ <= maxCellZ; queryCellZ++) {
+				int candidate = buckets[bucketOf(queryCellX, queryCellZ)];
+				while (candidate != NONE) {
+					// different cells may share a bucket, the cell is checked so an object is found only once
+					if (candidate != id && cellX[candidate] == queryCellX && cellZ[candidate] == queryCellZ
+							&& distanceSquared(id, candidate) <= radiusSquared) {
+						if (found == neighbours.length) {
+							return found;
+						}
+						neighbours[found++] = candidate;
+					}
+					candidate = next[candidate];
+				}
+			}
+		}
+		return found;
+	}
+
+	private float distanceSquared(int first, int second) {
+		float deltaX = x[first] - x[second];
+		float deltaZ = z[first] - z[second];
+		return deltaX * deltaX + deltaZ * deltaZ;
+	}
+
+	private int toCell(float coordinate) {
+		return (int) Math.floor(coordinate / cellSize);
+	}
+
+	private int bucketOf(int hashCellX, int hashCellZ) {
+		return ((hashCellX * X_PRIME) ^ (hashCellZ * Z_PRIME)) & bucketMask;
+	}
+
+	private void link(int id) {
+		int bucket = bucketOf(cellX[id], cellZ[id]);
+		int head = buckets[bucket];
+		next[id] = head;
+		previous[id] = NONE;
+		if (head != NONE) {
+			previous[head] = id;
+		}
+		buckets[bucket] = id;
+	}
+
+	private void unlink(int id) {
+		if (previous[id] == NONE) {
+			buckets[bucketOf(cellX[id], cellZ[id])] = next[id];
+		} else {
+			next[previous[id]] = next[id];
+		}
+		if (next[id] != NONE) {
+			previous[next[id]] = previous[id];
+		}
+	}
+}
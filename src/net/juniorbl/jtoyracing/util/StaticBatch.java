@@ -0,0 +1,67 @@
+package net.juniorbl.jtoyracing.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.jme.bounding.BoundingBox;
+import com.jme.math.Ray;
+import com.jme.scene.Node;
+
+/**
+ * The meshes of a model that never moves merged by render states, see {@link StaticBatcher}. The
+ * objects the meshes came from no longer exist in the scene, their names and bounds are kept to pick
+ * them.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class StaticBatch extends Node {
+	private static final long serialVersionUID = 2470964613357587018L;
+	private List<String> objectNames = new ArrayList<String>();
+	private List<BoundingBox> objectBounds = new ArrayList<BoundingBox>();
+	private BoundingBox worldBounds = new BoundingBox();
+	private int meshes;
+
+	public StaticBatch(String name, int meshes) {
+		super(name);
+		this.meshes = meshes;
+	}
+
+	/**
+	 * Keeps the bounds of an object of the model, in the coordinates of the model.
+	 */
+	void addObject(String objectName, BoundingBox bounds) {
+		objectNames.add(objectName);
+		objectBounds.add(bounds);
+	}
+
+	/**
+	 * Adds the names of the objects whose bounds are crossed by a ray, in world coordinates, to a list.
+	 */
+	public void findObjects(Ray ray, List<String> objects) {
+		for (int object = 0; object < objectBounds.size(); object++) {
+			objectBounds.get(object).transform(getWorldRotation(), getWorldTranslation(), getWorldScale(), worldBounds);
+			if (worldBounds.intersects(ray)) {
+				objects.add(objectNames.get(object));
+			}
+		}
+	}
+
+	public int getObjectCount() {
+		return objectNames.size();
+	}
+
+	/**
+	 * Returns the draw calls of the model before the batching, one per mesh.
+	 */
+	public int getDrawCallsBefore() {
+		return meshes;
+	}
+
+	/**
+	 * Returns the draw calls of the batched model, one per merged mesh.
+	 */
+	public int getDrawCalls() {
+		return getQuantity();
+	}
+}
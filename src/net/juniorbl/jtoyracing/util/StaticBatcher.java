@@ -0,0 +1,199 @@
+package net.juniorbl.jtoyracing.util;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.jme.bounding.BoundingBox;
+import com.jme.image.Texture;
+import com.jme.math.Vector3f;
+import com.jme.scene.Spatial;
+import com.jme.scene.TriMesh;
+import com.jme.scene.state.MaterialState;
+import com.jme.scene.state.RenderState;
+import com.jme.scene.state.TextureState;
+import com.jme.util.LoggingSystem;
+import com.jme.util.geom.BufferUtils;
+
+/**
+ * Merges the meshes of a model that never moves into one mesh per set of render states, so the model
+ * takes one draw call per material instead of one per mesh. The OBJ converter gives every material of
+ * a file its own states, even when two of them are the same, so the states are compared by their
+ * values: the colors of the materials and the images of the textures.
+ *
+ * The meshes must not be moved or picked one by one afterwards, they are gone. The physics nodes keep
+ * their own geometries, made before the batching or baked.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class StaticBatcher {
+	private static final int TEXTURE_UNIT = 0;
+	private static final int VECTOR_SIZE = 3;
+	private static final int COLOR_SIZE = 4;
+	private static final int CORNERS = 3;
+
+	/**
+	 * Prevents this class from being instantiated.
+	 */
+	private StaticBatcher() { }
+
+	/**
+	 * Merges the meshes of a model in the coordinates of the model. The draw calls before and after
+	 * are logged.
+	 */
+	public static StaticBatch batch(Spatial model) {
+		List<TriMesh> meshes = MeshSimplifier.getMeshes(model);
+		Map<String, List<TriMesh>> batches = new LinkedHashMap<String, List<TriMesh>>();
+		for (TriMesh mesh : meshes) {
+			String key = createKey(mesh);
+			List<TriMesh> batch = batches.get(key);
+			if (batch == null) {
+				batch = new ArrayList<TriMesh>();
+				batches.put(key, batch);
+			}
+			batch.add(mesh);
+		}
+		StaticBatch staticBatch = new StaticBatch(model.getName(), meshes.size());
+		for (List<TriMesh> batch : batches.values()) {
+			staticBatch.attachChild(merge(model, batch, staticBatch));
+		}
+		staticBatch.setModelBound(new BoundingBox());
+		staticBatch.updateModelBound();
+		staticBatch.updateRenderState();
+		LoggingSystem.getLogger().info(model.getName() + ": " + staticBatch.getDrawCallsBefore() + " draw calls batched into "
+				+ staticBatch.getDrawCalls());
+		return staticBatch;
+	}
+
+	/**
+	 * Describes the render states of a mesh and the buffers it has, the meshes with the same key are
+	 * drawn the same way.
+	 */
+	private static String createKey(TriMesh mesh) {
+		StringBuilder key = new StringBuilder();
+		key.append(mesh.getRenderQueueMode()).append(mesh.getNormalBuffer(0) != null).append(mesh.getColorBuffer(0) != null)
+				.append(mesh.getTextureBuffer(0, TEXTURE_UNIT) != null);
+		for (int type = 0; type < RenderState.RS_MAX_STATE; type++) {
+			RenderState state = mesh.getRenderState(type);
+			if (state instanceof MaterialState) {
+				appendMaterial(key, (MaterialState) state);
+			} else if (state instanceof TextureState) {
+				appendTextures(key, (TextureState) state);
+			} else if (state != null) {
+				key.append('|').append(System.identityHashCode(state));
+			}
+		}
+		return key.toString();
+	}
+
+	private static void appendMaterial(StringBuilder key, MaterialState material) {
+		key.append("|material ").append(material.getAmbient()).append(material.getDiffuse()).append(material.getSpecular())
+				.append(material.getEmissive()).append(material.getShininess()).append(material.getColorMaterial())
+				.append(material.getMaterialFace()).append(material.isEnabled());
+	}
+
+	private static void appendTextures(StringBuilder key, TextureState textures) {
+		key.append("|textures ").append(textures.isEnabled());
+		for (int unit = 0; unit < textures.getNumberOfSetTextures(); unit++) {
+			Texture texture = textures.getTexture(unit);
+			if (texture != null) {
+				key.append(' ').append(unit).append(texture.getImageLocation()).append(texture.getApply()).append(texture.getWrap())
+						.append(texture.getFilter()).append(texture.getMipmap());
+			}
+		}
+	}
+
+	/**
+	 * Merges meshes with the same render states, their vertices are moved to the coordinates of the model.
+	 * The bounds of each mesh are kept by the batch.
+	 */
+	private static TriMesh merge(Spatial model, List<TriMesh> meshes, StaticBatch staticBatch) {
+		TriMesh first = meshes.get(0);
+		int vertices = 0;
+		int indices = 0;
+		for (TriMesh mesh : meshes) {
+			vertices += mesh.getVertexCount();
+			indices += mesh.getTriangleCount() * CORNERS;
+		}
+		FloatBuffer vertexBuffer = BufferUtils.createVector3Buffer(vertices);
+		FloatBuffer normalBuffer = first.getNormalBuffer(0) == null ? null : BufferUtils.createVector3Buffer(vertices);
+		FloatBuffer colorBuffer = first.getColorBuffer(0) == null ? null : BufferUtils.createColorBuffer(vertices);
+		FloatBuffer textureBuffer = first.getTextureBuffer(0, TEXTURE_UNIT) == null ? null : BufferUtils.createVector2Buffer(vertices);
+		IntBuffer indexBuffer = BufferUtils.createIntBuffer(indices);
+		Vector3f vertex = new Vector3f();
+		for (TriMesh mesh : meshes) {
+			int firstVertex = vertexBuffer.position() / VECTOR_SIZE;
+			Vector3f min = new Vector3f(Float.MAX_VALUE, Float.MAX_VALUE, Float.MAX_VALUE);
+			Vector3f max = new Vector3f(-Float.MAX_VALUE, -Float.MAX_VALUE, -Float.MAX_VALUE);
+			for (int index = 0; index < mesh.getVertexCount(); index++) {
+				BufferUtils.populateFromBuffer(vertex, mesh.getVertexBuffer(0), index);
+				moveToModel(model, mesh, vertex);
+				vertexBuffer.put(vertex.x).put(vertex.y).put(vertex.z);
+				min.set(Math.min(min.x, vertex.x), Math.min(min.y, vertex.y), Math.min(min.z, vertex.z));
+				max.set(Math.max(max.x, vertex.x), Math.max(max.y, vertex.y), Math.max(max.z, vertex.z));
+				if (normalBuffer != null) {
+					BufferUtils.populateFromBuffer(vertex, mesh.getNormalBuffer(0), index);
+					turnToModel(model, mesh, vertex);
+					vertex.normalizeLocal();
+					normalBuffer.put(vertex.x).put(vertex.y).put(vertex.z);
+				}
+			}
+			copy(mesh.getColorBuffer(0), colorBuffer, mesh.getVertexCount() * COLOR_SIZE);
+			copy(mesh.getTextureBuffer(0, TEXTURE_UNIT), textureBuffer, mesh.getVertexCount() * 2);
+			IntBuffer meshIndices = mesh.getIndexBuffer(0);
+			for (int index = 0; index < mesh.getTriangleCount() * CORNERS; index++) {
+				indexBuffer.put(firstVertex + meshIndices.get(index));
+			}
+			staticBatch.addObject(mesh.getName(), createBounds(min, max));
+		}
+		TriMesh batch = new TriMesh(model.getName() + "-batch-" + staticBatch.getQuantity(), vertexBuffer, normalBuffer, colorBuffer,
+				textureBuffer, indexBuffer);
+		batch.setRenderQueueMode(first.getRenderQueueMode());
+		for (int type = 0; type < RenderState.RS_MAX_STATE; type++) {
+			if (first.getRenderState(type) != null) {
+				batch.setRenderState(first.getRenderState(type));
+			}
+		}
+		batch.setModelBound(new BoundingBox());
+		batch.updateModelBound();
+		return batch;
+	}
+
+	/**
+	 * Moves a vertex from a mesh to the coordinates of the model it belongs to.
+	 */
+	private static void moveToModel(Spatial model, Spatial mesh, Vector3f vertex) {
+		for (Spatial spatial = mesh; spatial != model && spatial != null; spatial = spatial.getParent()) {
+			vertex.multLocal(spatial.getLocalScale());
+			spatial.getLocalRotation().multLocal(vertex);
+			vertex.addLocal(spatial.getLocalTranslation());
+		}
+	}
+
+	/**
+	 * Turns a normal from a mesh to the coordinates of the model it belongs to.
+	 */
+	private static void turnToModel(Spatial model, Spatial mesh, Vector3f normal) {
+		for (Spatial spatial = mesh; spatial != model && spatial != null; spatial = spatial.getParent()) {
+			spatial.getLocalRotation().multLocal(normal);
+		}
+	}
+
+	private static void copy(FloatBuffer source, FloatBuffer destination, int floats) {
+		if (destination != null) {
+			source.rewind();
+			for (int index = 0; index < floats; index++) {
+				destination.put(source.get());
+			}
+		}
+	}
+
+	private static BoundingBox createBounds(Vector3f min, Vector3f max) {
+		Vector3f extents = max.subtract(min).divideLocal(2);
+		return new BoundingBox(min.add(extents), extents.x, extents.y, extents.z);
+	}
+}
@@ -0,0 +1,90 @@
+package net.juniorbl.jtoyracing.util;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.jme.image.Texture;
+
+/**
+ * Images of the classpath packed side by side in a single image, so the geometries textured by any of
+ * them share one texture state. The atlas is a power of two in both sides and the images are apart by
+ * a few transparent pixels, which keeps the linear filter from blending one image into its neighbour.
+ *
+ * The texture coordinates follow the images: pixels are counted from the top left corner of an image
+ * and turned into coordinates of the atlas.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class TextureAtlas {
+	private static final int PADDING = 2;
+	private Map<String, Rectangle> regions = new HashMap<String, Rectangle>();
+	private BufferedImage atlasImage;
+
+	public TextureAtlas(String... imagePaths) {
+		BufferedImage[] images = new BufferedImage[imagePaths.length];
+		int width = 0;
+		int height = 0;
+		for (int image = 0; image < imagePaths.length; image++) {
+			images[image] = TextureUtil.loadImage(imagePaths[image]);
+			regions.put(imagePaths[image], new Rectangle(width, 0, images[image].getWidth(), images[image].getHeight()));
+			width += images[image].getWidth() + PADDING;
+			height = Math.max(height, images[image].getHeight());
+		}
+		atlasImage = new BufferedImage(toPowerOfTwo(width), toPowerOfTwo(height), BufferedImage.TYPE_INT_ARGB);
+		Graphics2D graphics = atlasImage.createGraphics();
+		try {
+			for (int image = 0; image < imagePaths.length; image++) {
+				graphics.drawImage(images[image], regions.get(imagePaths[image]).x, 0, null);
+			}
+		} finally {
+			graphics.dispose();
+		}
+	}
+
+	private static int toPowerOfTwo(int size) {
+		int powerOfTwo = 1;
+		while (powerOfTwo < size) {
+			powerOfTwo *= 2;
+		}
+		return powerOfTwo;
+	}
+
+	public Texture loadTexture(int minFilter, int magFilter) {
+		return TextureUtil.loadTexture(atlasImage, minFilter, magFilter);
+	}
+
+	/**
+	 * Returns the horizontal texture coordinate of a pixel column of an image.
+	 */
+	public float getU(String imagePath, float pixelX) {
+		return (regions.get(imagePath).x + pixelX) / atlasImage.getWidth();
+	}
+
+	/**
+	 * Returns the vertical texture coordinate of a pixel row of an image. The texture is flipped when
+	 * loaded, so the rows go downwards from one.
+	 */
+	public float getV(String imagePath, float pixelY) {
+		return 1f - (regions.get(imagePath).y + pixelY) / atlasImage.getHeight();
+	}
+
+	public int getImageWidth(String imagePath) {
+		return regions.get(imagePath).width;
+	}
+
+	public int getImageHeight(String imagePath) {
+		return regions.get(imagePath).height;
+	}
+
+	public int getWidth() {
+		return atlasImage.getWidth();
+	}
+
+	public int getHeight() {
+		return atlasImage.getHeight();
+	}
+}
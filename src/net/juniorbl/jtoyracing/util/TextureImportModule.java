@@ -0,0 +1,46 @@
+package net.juniorbl.jtoyracing.util;
+
+import java.io.IOException;
+
+import com.jme.image.Texture;
+import com.jme.util.export.InputCapsule;
+import com.jme.util.export.JMEImporter;
+import com.jme.util.export.Savable;
+import com.jme.util.export.binary.BinaryLoaderModule;
+
+/**
+ * Creates the textures of the imported models. A texture read by the importer looks its image up in the
+ * TextureManager, so only that read is serialized, the rest of the model is decoded in parallel.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+final class TextureImportModule implements BinaryLoaderModule {
+
+	public String getKey() {
+		return Texture.class.getName();
+	}
+
+	public Savable load(InputCapsule inputCapsule) {
+		return new ImportedTexture();
+	}
+
+	/**
+	 * A texture whose read holds the lock of the TextureManager. It's exported as a plain texture.
+	 */
+	private static final class ImportedTexture extends Texture {
+		private static final long serialVersionUID = 3108524461627530947L;
+
+		@Override
+		public void read(JMEImporter importer) throws IOException {
+			synchronized (TextureUtil.TEXTURE_MANAGER_LOCK) {
+				super.read(importer);
+			}
+		}
+
+		@Override
+		public Class<Texture> getClassTag() {
+			return Texture.class;
+		}
+	}
+}
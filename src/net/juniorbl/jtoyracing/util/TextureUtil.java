@@ -0,0 +1,91 @@
+package net.juniorbl.jtoyracing.util;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.imageio.ImageIO;
+
+import net.juniorbl.jtoyracing.core.profiling.AssetLoadEvent;
+
+import com.jme.image.Texture;
+import com.jme.util.TextureManager;
+
+/**
+ * Utility operations with textures.
+ *
+ * @version 1.0 Oct 18, 2026
+ * @author Carlos Luz Junior
+ */
+public final class TextureUtil {
+
+	/**
+	 * Guards the TextureManager, its texture cache isn't synchronized.
+	 */
+	static final Object TEXTURE_MANAGER_LOCK = new Object();
+	private static final Map<String, BufferedImage> PRELOADED_IMAGES = new ConcurrentHashMap<String, BufferedImage>();
+
+	/**
+	 * Prevents this class from being instantiated.
+	 */
+	private TextureUtil() { }
+
+	/**
+	 * Loads a texture from an image of the classpath. An image decoded by {@link #preloadImage(String)}
+	 * is used without being decoded again.
+	 */
+	public static Texture loadTexture(String imagePath, int minFilter, int magFilter) {
+		return loadTexture(loadImage(imagePath), minFilter, magFilter);
+	}
+
+	/**
+	 * Loads a texture from an image already in memory, such as a {@link TextureAtlas}.
+	 */
+	public static Texture loadTexture(BufferedImage image, int minFilter, int magFilter) {
+		synchronized (TEXTURE_MANAGER_LOCK) {
+			return TextureManager.loadTexture(image, minFilter, magFilter, true);
+		}
+	}
+
+	/**
+	 * Returns an image of the classpath, the preloaded one if {@link #preloadImage(String)} decoded it.
+	 */
+	public static BufferedImage loadImage(String imagePath) {
+		BufferedImage image = PRELOADED_IMAGES.remove(imagePath);
+		if (image == null) {
+			image = readImage(imagePath);
+		}
+		return image;
+	}
+
+	/**
+	 * Decodes an image ahead of its use. Safe to be called from any thread.
+	 */
+	public static void preloadImage(String imagePath) {
+		PRELOADED_IMAGES.put(imagePath, readImage(imagePath));
+	}
+
+	/**
+	 * Decodes an image, the decoding is a flight recorder event.
+	 */
+	private static BufferedImage readImage(String imagePath) {
+		URL imageFile = TextureUtil.class.getClassLoader().getResource(imagePath);
+		AssetLoadEvent assetLoadEvent = new AssetLoadEvent();
+		assetLoadEvent.begin();
+		try {
+			BufferedImage image = ImageIO.read(imageFile);
+			assetLoadEvent.end();
+			if (assetLoadEvent.shouldCommit()) {
+				assetLoadEvent.setPath(imagePath);
+				assetLoadEvent.setBytes(imageFile.openConnection().getContentLength());
+				assetLoadEvent.commit();
+			}
+			return image;
+		} catch (IOException e) {
+			//TODO throw a business checked exception
+			throw new Error(e);
+		}
+	}
+}
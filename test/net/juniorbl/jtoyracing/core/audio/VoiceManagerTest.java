@@ -0,0 +1,201 @@
+package net.juniorbl.jtoyracing.core.audio;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.jme.math.Vector3f;
+import com.jmex.audio.AudioTrack;
+
+/**
+ * @author Carlos Luz Junior
+ */
+public class VoiceManagerTest {
+
+	private static final int VOICES = 2;
+
+	private static final float AUDIBLE_DISTANCE = 100;
+
+	private static final float FRAME_TIME = 1f / 60;
+
+	private static final Vector3f EAR = new Vector3f();
+
+	private List<AudioTrack> tracks;
+
+	private VoiceManager voiceManager;
+
+	@Before
+	public void setUp() {
+		tracks = new ArrayList<AudioTrack>();
+		for (int track = 0; track < VOICES; track++) {
+			tracks.add(new SilentTrack());
+		}
+		voiceManager = new VoiceManager(tracks, AUDIBLE_DISTANCE);
+	}
+
+	@Test
+	public void testClosestEmittersTakeTheVoices() {
+		Emitter near = addEmitter(10, 0);
+		Emitter middle = addEmitter(20, 0);
+		Emitter far = addEmitter(30, 0);
+		voiceManager.update(EAR, FRAME_TIME);
+		assertEquals(VOICES, voiceManager.getActiveVoices());
+		assertTrue(isPlaying(near) && isPlaying(middle));
+		assertFalse(isPlaying(far));
+		near.position.x = 50;
+		voiceManager.update(EAR, FRAME_TIME);
+		assertTrue(isPlaying(middle) && isPlaying(far));
+		assertFalse(isPlaying(near));
+		assertEquals(VOICES, countPlayingTracks());
+	}
+
+	@Test
+	public void testPriorityComesBeforeDistance() {
+		Emitter player = addEmitter(90, 1);
+		addEmitter(10, 0);
+		Emitter middle = addEmitter(20, 0);
+		voiceManager.update(EAR, FRAME_TIME);
+		assertTrue(isPlaying(player));
+		assertFalse(isPlaying(middle));
+	}
+
+	@Test
+	public void testSilentAndDistantEmittersAreCulled() {
+		Emitter silent = addEmitter(10, 0);
+		silent.emitting = false;
+		Emitter distant = addEmitter(AUDIBLE_DISTANCE + 1, 0);
+		voiceManager.update(EAR, FRAME_TIME);
+		assertEquals(0, voiceManager.getActiveVoices());
+		assertEquals(0, countPlayingTracks());
+		silent.emitting = true;
+		voiceManager.update(EAR, FRAME_TIME);
+		assertTrue(isPlaying(silent));
+		assertFalse(isPlaying(distant));
+	}
+
+	@Test
+	public void testVolumeFadesWithDistanceAndIsOnlySetWhenChanged() {
+		Emitter emitter = addEmitter(50, 0);
+		voiceManager.update(EAR, FRAME_TIME);
+		SilentTrack track = getPlayingTrack();
+		assertEquals(0.5f, track.getVolume(), 0.0001f);
+		for (int frame = 0; frame < 60; frame++) {
+			voiceManager.update(EAR, FRAME_TIME);
+		}
+		assertEquals(1, track.volumeChanges);
+		emitter.volume = 0.5f;
+		voiceManager.update(EAR, 1);
+		assertEquals(0.25f, track.getVolume(), 0.0001f);
+		assertEquals(2, track.volumeChanges);
+	}
+
+	private Emitter addEmitter(float distance, int priority) {
+		Emitter emitter = new Emitter(distance);
+		voiceManager.addEmitter(emitter, priority);
+		return emitter;
+	}
+
+	private boolean isPlaying(Emitter emitter) {
+		return voiceManager.hasVoice(emitter);
+	}
+
+	private SilentTrack getPlayingTrack() {
+		for (AudioTrack track : tracks) {
+			if (track.isPlaying()) {
+				return (SilentTrack) track;
+			}
+		}
+		return null;
+	}
+
+	private int countPlayingTracks() {
+		int playingTracks = 0;
+		for (AudioTrack track : tracks) {
+			if (track.isPlaying()) {
+				playingTracks++;
+			}
+		}
+		return playingTracks;
+	}
+
+	private static class Emitter implements SoundEmitter {
+
+		private Vector3f position;
+
+		private boolean emitting = true;
+
+		private float volume = 1;
+
+		public Emitter(float distance) {
+			position = new Vector3f(distance, 0, 0);
+		}
+
+		public Vector3f getSoundPosition() {
+			return position;
+		}
+
+		public boolean isEmittingSound() {
+			return emitting;
+		}
+
+		public float getSoundVolume() {
+			return volume;
+		}
+
+		public float getSoundPitch() {
+			return 1;
+		}
+	}
+
+	/**
+	 * A track without audio player.
+	 */
+	private static class SilentTrack extends AudioTrack {
+
+		private boolean playing;
+
+		private float volume;
+
+		private int volumeChanges;
+
+		public SilentTrack() {
+			super(null, false);
+		}
+
+		@Override
+		public void play() {
+			playing = true;
+		}
+
+		@Override
+		public void stop() {
+			playing = false;
+		}
+
+		@Override
+		public boolean isPlaying() {
+			return playing;
+		}
+
+		@Override
+		public float getVolume() {
+			return volume;
+		}
+
+		@Override
+		public void setVolume(float volume) {
+			this.volume = volume;
+			volumeChanges++;
+		}
+
+		@Override
+		public void setPitch(float pitch) {
+		}
+	}
+}
@@ -0,0 +1,126 @@
+package net.juniorbl.jtoyracing.core.lap;
+
+import static junit.framework.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.jme.bounding.BoundingBox;
+import com.jme.math.Vector3f;
+import com.jme.scene.shape.Box;
+
+/**
+ * @author Carlos Luz Junior
+ */
+public class LapEngineTest {
+
+	private static final Vector3f FIRST_CHECKPOINT = new Vector3f(100, 0, 0);
+
+	private static final Vector3f SECOND_CHECKPOINT = new Vector3f(0, 0, 100);
+
+	private static final Vector3f OUTSIDE_CHECKPOINTS = new Vector3f(-100, 0, -100);
+
+	private LapEngine lapEngine;
+
+	private Box vehicle;
+
+	private LapProgress lapProgress;
+
+	private List<String> events;
+
+	@Before
+	public void setUp() {
+		List<Box> checkpoints = new ArrayList<Box>();
+		checkpoints.add(createBox("first", FIRST_CHECKPOINT));
+		checkpoints.add(createBox("second", SECOND_CHECKPOINT));
+		lapEngine = new LapEngine(checkpoints);
+		vehicle = createBox("vehicle", OUTSIDE_CHECKPOINTS);
+		lapProgress = lapEngine.addVehicle(vehicle);
+		events = new ArrayList<String>();
+		lapEngine.addObserver(new LapObserver() {
+			public void checkpointReached(LapProgress progress, int checkpoint) {
+				events.add("checkpoint " + checkpoint);
+			}
+
+			public void lapCompleted(LapProgress progress) {
+				events.add("lap " + progress.getLaps());
+			}
+		});
+		lapEngine.start(10);
+	}
+
+	@Test
+	public void testCheckpointsOutOfOrderAreIgnored() {
+		driveTo(SECOND_CHECKPOINT, 12);
+		assertEquals(0, lapProgress.getNextCheckpoint());
+		assertEquals(0, events.size());
+	}
+
+	@Test
+	public void testLapIsCompletedAtTheLastCheckpoint() {
+		driveTo(FIRST_CHECKPOINT, 12);
+		// staying in the checkpoint doesn't count it again
+		driveTo(FIRST_CHECKPOINT, 13);
+		assertEquals(1, lapProgress.getNextCheckpoint());
+		assertEquals(2d, lapProgress.getSplitTime(0), 0.0001);
+		driveTo(SECOND_CHECKPOINT, 15);
+		assertEquals(1, lapProgress.getLaps());
+		assertEquals(0, lapProgress.getNextCheckpoint());
+		assertEquals(5d, lapProgress.getLastLapTime(), 0.0001);
+		assertEquals("[checkpoint 0, checkpoint 1, lap 1]", events.toString());
+	}
+
+	@Test
+	public void testBestLapIsTheFastest() {
+		driveTo(FIRST_CHECKPOINT, 12);
+		driveTo(SECOND_CHECKPOINT, 15);
+		driveTo(FIRST_CHECKPOINT, 16);
+		driveTo(SECOND_CHECKPOINT, 19);
+		driveTo(FIRST_CHECKPOINT, 25);
+		driveTo(SECOND_CHECKPOINT, 30);
+		assertEquals(3, lapProgress.getLaps());
+		assertEquals(11d, lapProgress.getLastLapTime(), 0.0001);
+		assertEquals(4d, lapProgress.getBestLapTime(), 0.0001);
+	}
+
+	@Test
+	public void testPositionFollowsTheProgress() {
+		Box opponent = createBox("opponent", OUTSIDE_CHECKPOINTS);
+		LapProgress opponentProgress = lapEngine.addVehicle(opponent);
+		lapEngine.start(10);
+		assertEquals(1, lapEngine.getPosition(lapProgress));
+		assertEquals(1, lapEngine.getPosition(opponentProgress));
+		driveTo(FIRST_CHECKPOINT, 12);
+		assertEquals(1, lapEngine.getPosition(lapProgress));
+		assertEquals(2, lapEngine.getPosition(opponentProgress));
+		opponent.setLocalTranslation(FIRST_CHECKPOINT);
+		opponent.updateGeometricState(0, true);
+		driveTo(OUTSIDE_CHECKPOINTS, 13);
+		// both reached the first checkpoint, the earlier one is ahead
+		assertEquals(1, lapEngine.getPosition(lapProgress));
+		assertEquals(2, lapEngine.getPosition(opponentProgress));
+		opponent.setLocalTranslation(SECOND_CHECKPOINT);
+		opponent.updateGeometricState(0, true);
+		driveTo(OUTSIDE_CHECKPOINTS, 14);
+		assertEquals(2, lapEngine.getPosition(lapProgress));
+		assertEquals(1, lapEngine.getPosition(opponentProgress));
+	}
+
+	private void driveTo(Vector3f location, double time) {
+		vehicle.setLocalTranslation(location);
+		vehicle.updateGeometricState(0, true);
+		lapEngine.update(time);
+	}
+
+	private Box createBox(String name, Vector3f location) {
+		Box box = new Box(name, Vector3f.ZERO, 1, 1, 1);
+		box.setModelBound(new BoundingBox());
+		box.updateModelBound();
+		box.setLocalTranslation(location);
+		box.updateGeometricState(0, true);
+		return box;
+	}
+}
@@ -0,0 +1,67 @@
+package net.juniorbl.jtoyracing.core.monitor;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import net.juniorbl.jtoyracing.core.scheduler.GameScheduler;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Carlos Luz Junior
+ */
+public class CountdownTest implements ChronometerObserver {
+
+	private GameScheduler scheduler;
+
+	private StringBuilder notifications;
+
+	@Before
+	public void setUp() {
+		scheduler = new GameScheduler();
+		notifications = new StringBuilder();
+	}
+
+	@Test
+	public void testCountsDownInGameTime() {
+		Countdown countdown = new Countdown(scheduler, 2);
+		countdown.addObserver(this);
+		countdown.start();
+		scheduler.update(0.9f);
+		assertEquals("2 ", notifications.toString());
+		scheduler.update(2.2f);
+		assertEquals("2 1 0 up ", notifications.toString());
+		assertFalse(countdown.isRunning());
+		assertEquals(0, scheduler.getScheduledTasks());
+	}
+
+	@Test
+	public void testConcurrentCountdownsAreIndependent() {
+		Countdown shortCountdown = new Countdown(scheduler, 0);
+		Countdown longCountdown = new Countdown(scheduler, 5);
+		shortCountdown.addObserver(this);
+		shortCountdown.start();
+		longCountdown.start();
+		scheduler.update(1);
+		assertEquals("0 up ", notifications.toString());
+		assertEquals(4, longCountdown.getSecondsLeft());
+	}
+
+	@Test
+	public void testRestartBeginsAgain() {
+		Countdown countdown = new Countdown(scheduler, 3);
+		countdown.start();
+		scheduler.update(2);
+		countdown.start();
+		assertEquals(3, countdown.getSecondsLeft());
+		assertEquals(1, scheduler.getScheduledTasks());
+	}
+
+	public void updateTime(Chronometer chronometer, int time) {
+		notifications.append(time).append(' ');
+	}
+
+	public void timeUP(Chronometer chronometer) {
+		notifications.append("up ");
+	}
+}
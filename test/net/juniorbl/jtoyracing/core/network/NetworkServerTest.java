@@ -0,0 +1,213 @@
+package net.juniorbl.jtoyracing.core.network;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.jme.math.Quaternion;
+import com.jme.math.Vector3f;
+
+/**
+ * @author Carlos Luz Junior
+ */
+public class NetworkServerTest {
+
+	private static final int VEHICLES = 3;
+
+	private static final int SNAPSHOTS_PER_SECOND = 20;
+
+	private static final long TIMEOUT_MILLIS = 2000;
+
+	private static final int SENT_INPUTS = 20;
+
+	private static final int LOST_PACKETS = 4;
+
+	private NetworkServer server;
+
+	private NetworkClient firstClient;
+
+	private NetworkClient secondClient;
+
+	@Before
+	public void setUp() throws IOException {
+		server = new NetworkServer(0, VEHICLES, SNAPSHOTS_PER_SECOND);
+		firstClient = connect();
+		secondClient = connect();
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		firstClient.close();
+		secondClient.close();
+		server.close();
+	}
+
+	@Test
+	public void testClientsGetAVehicleEach() {
+		assertEquals(0, firstClient.getVehicle());
+		assertEquals(1, secondClient.getVehicle());
+		assertEquals(VEHICLES, firstClient.getVehicles());
+		assertEquals(SNAPSHOTS_PER_SECOND, firstClient.getSnapshotsPerSecond());
+	}
+
+	@Test
+	public void testSnapshotReachesTheClient() throws IOException {
+		int tick = sendSnapshot(new Vector3f(10, 0.5f, -3));
+		awaitSnapshot(firstClient, tick);
+		Vector3f position = new Vector3f();
+		firstClient.getSnapshot(tick).getBody(Snapshot.getBody(1, 0), position, new Quaternion());
+		assertEquals(new Vector3f(10, 0.5f, -3), position);
+	}
+
+	@Test
+	public void testAcknowledgedSnapshotIsTheBaselineOfTheNext() throws IOException {
+		int tick = sendSnapshot(new Vector3f(10, 0.5f, -3));
+		awaitSnapshot(firstClient, tick);
+		long wholeSize = firstClient.getBytesReceived();
+		firstClient.sendInput(0, 0);
+		awaitAcknowledged(tick);
+		tick = sendSnapshot(new Vector3f(11, 0.5f, -3));
+		awaitSnapshot(firstClient, tick);
+		assertTrue(firstClient.getBytesReceived() - wholeSize < wholeSize);
+		Vector3f position = new Vector3f();
+		firstClient.getSnapshot(tick).getBody(Snapshot.getBody(1, 0), position, new Quaternion());
+		assertEquals(new Vector3f(11, 0.5f, -3), position);
+	}
+
+	@Test
+	public void testInputsAreAppliedInOrder() throws IOException {
+		firstClient.sendInput(50, 0);
+		firstClient.sendInput(50, -100);
+		firstClient.sendInput(-50, 100);
+		RemoteClient remoteClient = awaitInputs(3);
+		remoteClient.nextInput();
+		assertEquals(50f, remoteClient.getThrottle(), 0.01f);
+		assertEquals(0f, remoteClient.getSteerDirection(), 0.01f);
+		remoteClient.nextInput();
+		assertEquals(-100f, remoteClient.getSteerDirection(), 0.01f);
+		remoteClient.nextInput();
+		assertEquals(-50f, remoteClient.getThrottle(), 0.01f);
+		assertEquals(3, remoteClient.getAppliedInput());
+		// without a new input the last one is kept
+		remoteClient.nextInput();
+		assertEquals(-50f, remoteClient.getThrottle(), 0.01f);
+		assertEquals(3, remoteClient.getAppliedInput());
+	}
+
+	@Test
+	public void testInputsLostInABurstAreNotTakenFromOlderOnes() throws IOException {
+		DatagramChannel rawClient = DatagramChannel.open();
+		rawClient.connect(new InetSocketAddress("127.0.0.1", server.getPort()));
+		try {
+			ByteBuffer buffer = ByteBuffer.allocate(NetworkProtocol.MAX_PACKET_SIZE);
+			NetworkProtocol.putHeader(buffer, NetworkProtocol.CONNECT);
+			buffer.flip();
+			rawClient.write(buffer);
+			long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+			while (server.getClients().size() < VEHICLES && System.currentTimeMillis() < deadline) {
+				server.receive();
+			}
+			RemoteClient remoteClient = server.getClients().get(VEHICLES - 1);
+			// every input has its sequence as throttle, they fill the inputs kept by the server
+			for (int input = 1; input <= SENT_INPUTS; input++) {
+				sendInputs(rawClient, buffer, input);
+				awaitInput(remoteClient, input);
+				remoteClient.nextInput();
+			}
+			int newestInput = SENT_INPUTS + LOST_PACKETS + 1;
+			sendInputs(rawClient, buffer, newestInput);
+			awaitInput(remoteClient, newestInput);
+			// the inputs of the lost packets the next one doesn't repeat hold the last applied
+			for (int input = SENT_INPUTS + 1; input <= newestInput; input++) {
+				remoteClient.nextInput();
+				assertEquals(input, remoteClient.getAppliedInput());
+				if (input > newestInput - NetworkProtocol.INPUTS_PER_PACKET) {
+					assertEquals((float) input, remoteClient.getThrottle(), 0.01f);
+				} else {
+					assertEquals((float) SENT_INPUTS, remoteClient.getThrottle(), 0.01f);
+				}
+			}
+		} finally {
+			rawClient.close();
+		}
+	}
+
+	/**
+	 * Sends the packet of an input as a client does, with the inputs before it.
+	 */
+	private static void sendInputs(DatagramChannel rawClient, ByteBuffer buffer, int newestInput) throws IOException {
+		int inputs = Math.min(newestInput, NetworkProtocol.INPUTS_PER_PACKET);
+		buffer.clear();
+		NetworkProtocol.putHeader(buffer, NetworkProtocol.INPUT);
+		buffer.putInt(NetworkProtocol.NO_TICK).putInt(newestInput).put((byte) inputs);
+		for (int input = 0; input < inputs; input++) {
+			buffer.putShort((short) (newestInput - input)).putShort((short) 0);
+		}
+		buffer.flip();
+		rawClient.write(buffer);
+	}
+
+	private void awaitInput(RemoteClient remoteClient, int sequence) throws IOException {
+		long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+		while (remoteClient.getReceivedInput() < sequence && System.currentTimeMillis() < deadline) {
+			server.receive();
+		}
+		assertEquals(sequence, remoteClient.getReceivedInput());
+	}
+
+	private NetworkClient connect() throws IOException {
+		NetworkClient client = new NetworkClient(new InetSocketAddress("127.0.0.1", server.getPort()));
+		client.connect();
+		long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+		while (!client.isConnected() && System.currentTimeMillis() < deadline) {
+			server.receive();
+			client.receive();
+		}
+		assertTrue(client.isConnected());
+		return client;
+	}
+
+	private int sendSnapshot(Vector3f position) throws IOException {
+		Snapshot snapshot = server.nextSnapshot();
+		for (int vehicle = 0; vehicle < VEHICLES; vehicle++) {
+			for (int body = 0; body < 5; body++) {
+				snapshot.setBody(Snapshot.getBody(vehicle, body), position, new Quaternion());
+			}
+		}
+		server.sendSnapshot();
+		return snapshot.getTick();
+	}
+
+	private static void awaitSnapshot(NetworkClient client, int tick) throws IOException {
+		long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+		while (client.getLatestTick() < tick && System.currentTimeMillis() < deadline) {
+			client.receive();
+		}
+		assertEquals(tick, client.getLatestTick());
+	}
+
+	private void awaitAcknowledged(int tick) throws IOException {
+		long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+		while (server.getClients().get(0).getAcknowledgedTick() < tick && System.currentTimeMillis() < deadline) {
+			server.receive();
+		}
+		assertEquals(tick, server.getClients().get(0).getAcknowledgedTick());
+	}
+
+	private RemoteClient awaitInputs(int sequence) throws IOException {
+		RemoteClient remoteClient = server.getClients().get(0);
+		long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+		while (remoteClient.getReceivedInput() < sequence && System.currentTimeMillis() < deadline) {
+			server.receive();
+		}
+		return remoteClient;
+	}
+}
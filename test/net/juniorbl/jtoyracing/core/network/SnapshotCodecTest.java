@@ -0,0 +1,113 @@
+package net.juniorbl.jtoyracing.core.network;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.jme.math.FastMath;
+import com.jme.math.Quaternion;
+import com.jme.math.Vector3f;
+
+/**
+ * @author Carlos Luz Junior
+ */
+public class SnapshotCodecTest {
+
+	private static final int VEHICLES = 3;
+
+	private Snapshot baseline;
+
+	private Snapshot snapshot;
+
+	private ByteBuffer buffer;
+
+	@Before
+	public void setUp() {
+		baseline = createSnapshot(0);
+		snapshot = createSnapshot(1);
+		buffer = ByteBuffer.allocate(SnapshotCodec.getMaxSize(VEHICLES));
+	}
+
+	@Test
+	public void testSnapshotWithoutBaselineIsDecodedAsItWasEncoded() {
+		assertDecodedAsEncoded(null);
+	}
+
+	@Test
+	public void testSnapshotIsDecodedAgainstItsBaseline() {
+		assertDecodedAsEncoded(baseline);
+	}
+
+	@Test
+	public void testVehicleThatDidntChangeTakesOneByte() {
+		Snapshot same = createSnapshot(0);
+		SnapshotCodec.encode(baseline, same, buffer);
+		assertEquals(VEHICLES, buffer.position());
+	}
+
+	@Test
+	public void testDeltaIsSmallerThanTheWholeSnapshot() {
+		SnapshotCodec.encode(null, snapshot, buffer);
+		int wholeSize = buffer.position();
+		buffer.clear();
+		SnapshotCodec.encode(baseline, snapshot, buffer);
+		assertTrue(buffer.position() < wholeSize);
+	}
+
+	@Test
+	public void testVehicleGoingBackwardIsDecoded() {
+		snapshot = createSnapshot(-1);
+		assertDecodedAsEncoded(baseline);
+		assertEquals(-5f, getPosition(snapshot).x, 0.01f);
+	}
+
+	private void assertDecodedAsEncoded(Snapshot encodedBaseline) {
+		SnapshotCodec.encode(encodedBaseline, snapshot, buffer);
+		buffer.flip();
+		Snapshot decoded = new Snapshot(VEHICLES);
+		SnapshotCodec.decode(encodedBaseline, buffer, decoded);
+		assertEquals(0, buffer.remaining());
+		for (int vehicle = 0; vehicle < VEHICLES; vehicle++) {
+			assertEquals(snapshot.getThrottle(vehicle), decoded.getThrottle(vehicle), 0.01f);
+			assertEquals(snapshot.getSteerDirection(vehicle), decoded.getSteerDirection(vehicle), 0.01f);
+			assertEquals(snapshot.getHealth(vehicle), decoded.getHealth(vehicle));
+		}
+		Vector3f position = new Vector3f();
+		Quaternion rotation = new Quaternion();
+		Vector3f expectedPosition = new Vector3f();
+		Quaternion expectedRotation = new Quaternion();
+		for (int body = 0; body < Snapshot.getBody(VEHICLES, 0); body++) {
+			snapshot.getBody(body, expectedPosition, expectedRotation);
+			decoded.getBody(body, position, rotation);
+			assertEquals(expectedPosition, position);
+			assertEquals(expectedRotation, rotation);
+		}
+	}
+
+	private static Vector3f getPosition(Snapshot source) {
+		Vector3f position = new Vector3f();
+		source.getBody(0, position, new Quaternion());
+		return position;
+	}
+
+	/**
+	 * Creates a snapshot of the vehicles after they moved some units along x and turned.
+	 */
+	private static Snapshot createSnapshot(float moved) {
+		Snapshot created = new Snapshot(VEHICLES);
+		Quaternion rotation = new Quaternion();
+		for (int vehicle = 0; vehicle < VEHICLES; vehicle++) {
+			rotation.fromAngleAxis(moved * FastMath.PI / 8, Vector3f.UNIT_Y);
+			for (int body = 0; body < 5; body++) {
+				created.setBody(Snapshot.getBody(vehicle, body), new Vector3f(moved * 5 + body, 0.5f, -20 * vehicle), rotation);
+			}
+			created.setInputs(vehicle, 50 * moved, -100);
+			created.setHealth(vehicle, 100 - vehicle);
+		}
+		return created;
+	}
+}
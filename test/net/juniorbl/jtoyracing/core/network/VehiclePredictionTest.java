@@ -0,0 +1,71 @@
+package net.juniorbl.jtoyracing.core.network;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.jme.math.Vector3f;
+
+/**
+ * @author Carlos Luz Junior
+ */
+public class VehiclePredictionTest {
+
+	private static final float FRAME = 1 / 60f;
+
+	private VehiclePrediction vehiclePrediction;
+
+	private Vector3f correction = new Vector3f();
+
+	@Before
+	public void setUp() {
+		vehiclePrediction = new VehiclePrediction();
+		for (int sequence = 1; sequence <= 10; sequence++) {
+			vehiclePrediction.record(sequence, new Vector3f(sequence, 0, 0));
+		}
+	}
+
+	@Test
+	public void testRightPredictionIsNotCorrected() {
+		vehiclePrediction.reconcile(5, new Vector3f(5, 0, 0));
+		vehiclePrediction.correct(FRAME, correction);
+		assertEquals(0f, correction.length());
+	}
+
+	@Test
+	public void testSmallErrorIsCorrectedGradually() {
+		vehiclePrediction.reconcile(5, new Vector3f(5, 0, 1));
+		vehiclePrediction.correct(FRAME, correction);
+		assertTrue(correction.z > 0 && correction.z < 1);
+		assertEquals(1f, correction.z + vehiclePrediction.getError().z, 0.0001f);
+	}
+
+	@Test
+	public void testLargeErrorIsCorrectedAtOnce() {
+		vehiclePrediction.reconcile(5, new Vector3f(5, 0, 10));
+		vehiclePrediction.correct(FRAME, correction);
+		assertEquals(10f, correction.z, 0.0001f);
+		assertEquals(0f, vehiclePrediction.getError().length(), 0.0001f);
+	}
+
+	@Test
+	public void testErrorBeingCorrectedIsNotCountedAgain() {
+		vehiclePrediction.reconcile(5, new Vector3f(5, 0, 1));
+		float corrected = 0;
+		for (int frame = 0; frame < 3; frame++) {
+			corrected += vehiclePrediction.correct(FRAME, correction).z;
+		}
+		// the next snapshot still has the same error on the server, the corrected part is already done
+		vehiclePrediction.reconcile(6, new Vector3f(6, 0, 1));
+		assertEquals(1 - corrected, vehiclePrediction.getError().z, 0.0001f);
+	}
+
+	@Test
+	public void testOlderSnapshotIsIgnored() {
+		vehiclePrediction.reconcile(6, new Vector3f(6, 0, 0));
+		vehiclePrediction.reconcile(5, new Vector3f(5, 0, 2));
+		assertEquals(0f, vehiclePrediction.getError().length());
+	}
+}
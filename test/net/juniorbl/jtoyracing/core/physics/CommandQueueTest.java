@@ -0,0 +1,93 @@
+package net.juniorbl.jtoyracing.core.physics;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * @author Carlos Luz Junior
+ */
+public class CommandQueueTest {
+
+	private static final int CAPACITY = 4;
+
+	private static final int THREADED_CAPACITY = 64;
+
+	private static final int COMMANDS = 5000;
+
+	private static final long TIMEOUT_MILLIS = 10000;
+
+	@Test
+	public void testCommandsAreExecutedInOrder() {
+		CommandQueue commandQueue = new CommandQueue(CAPACITY);
+		List<Integer> executed = new ArrayList<Integer>();
+		for (int command = 0; command < CAPACITY; command++) {
+			assertTrue(commandQueue.offer(new RecordingCommand(command, executed)));
+		}
+		assertEquals(CAPACITY, commandQueue.drain());
+		for (int command = 0; command < CAPACITY; command++) {
+			assertEquals(command, executed.get(command).intValue());
+		}
+		assertEquals(0, commandQueue.drain());
+	}
+
+	@Test
+	public void testFullQueueRefusesCommands() {
+		CommandQueue commandQueue = new CommandQueue(CAPACITY);
+		List<Integer> executed = new ArrayList<Integer>();
+		for (int command = 0; command < CAPACITY; command++) {
+			commandQueue.offer(new RecordingCommand(command, executed));
+		}
+		assertFalse(commandQueue.offer(new RecordingCommand(CAPACITY, executed)));
+		commandQueue.drain();
+		assertTrue(commandQueue.offer(new RecordingCommand(CAPACITY, executed)));
+	}
+
+	@Test(timeout = TIMEOUT_MILLIS)
+	public void testCommandsOfAnotherThreadArriveInOrder() throws InterruptedException {
+		final CommandQueue commandQueue = new CommandQueue(THREADED_CAPACITY);
+		final List<Integer> executed = new ArrayList<Integer>();
+		Thread producer = new Thread() {
+			@Override
+			public void run() {
+				for (int command = 0; command < COMMANDS; command++) {
+					while (!commandQueue.offer(new RecordingCommand(command, executed))) {
+						Thread.yield();
+					}
+				}
+			}
+		};
+		producer.start();
+		while (executed.size() < COMMANDS) {
+			if (commandQueue.drain() == 0) {
+				Thread.yield();
+			}
+		}
+		producer.join();
+		for (int command = 0; command < COMMANDS; command++) {
+			assertEquals(command, executed.get(command).intValue());
+		}
+	}
+
+	/**
+	 * Adds its number to a list when executed.
+	 */
+	private static class RecordingCommand implements Command {
+		private int number;
+		private List<Integer> executed;
+
+		RecordingCommand(int number, List<Integer> executed) {
+			this.number = number;
+			this.executed = executed;
+		}
+
+		public void execute() {
+			executed.add(number);
+		}
+	}
+}
@@ -0,0 +1,104 @@
+package net.juniorbl.jtoyracing.core.physics;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.jme.math.Vector3f;
+import com.jmex.physics.PhysicsCollisionGeometry;
+import com.jmex.physics.PhysicsNode;
+import com.jmex.physics.contact.PendingContact;
+
+/**
+ * @author Carlos Luz Junior
+ */
+public class ContactCounterTest {
+
+	private static final int MAX_CONTACTS = 2;
+
+	@Test
+	public void testContactsAreCountedAndLeftAsTheyAre() {
+		ContactCounter contactCounter = new ContactCounter();
+		PendingContact contact = new StubContact();
+		for (int found = 0; found < MAX_CONTACTS + 1; found++) {
+			assertFalse(contactCounter.adjustContact(contact));
+		}
+		assertEquals(MAX_CONTACTS + 1, contactCounter.getContacts());
+		assertFalse(contact.isIgnored());
+	}
+
+	@Test
+	public void testContactsPastTheMaximumOfAStepAreIgnored() {
+		ContactCounter contactCounter = new ContactCounter();
+		contactCounter.setMaxContacts(MAX_CONTACTS);
+		for (int found = 0; found < MAX_CONTACTS; found++) {
+			StubContact contact = new StubContact();
+			assertFalse(contactCounter.adjustContact(contact));
+			assertFalse(contact.isIgnored());
+		}
+		StubContact extraContact = new StubContact();
+		assertTrue(contactCounter.adjustContact(extraContact));
+		assertTrue(extraContact.isIgnored());
+		contactCounter.reset();
+		StubContact nextStepContact = new StubContact();
+		assertFalse(contactCounter.adjustContact(nextStepContact));
+		assertFalse(nextStepContact.isIgnored());
+	}
+
+	/**
+	 * A contact without geometries, only its handling is used.
+	 */
+	private static class StubContact extends PendingContact {
+
+		@Override
+		public float getTime() {
+			return 0;
+		}
+
+		@Override
+		public PhysicsCollisionGeometry getGeometry1() {
+			return null;
+		}
+
+		@Override
+		public PhysicsCollisionGeometry getGeometry2() {
+			return null;
+		}
+
+		@Override
+		public PhysicsNode getNode1() {
+			return null;
+		}
+
+		@Override
+		public PhysicsNode getNode2() {
+			return null;
+		}
+
+		@Override
+		public Vector3f getContactVelocity(Vector3f store) {
+			return store;
+		}
+
+		@Override
+		public Vector3f getContactPosition(Vector3f store) {
+			return store;
+		}
+
+		@Override
+		public Vector3f getContactNormal(Vector3f store) {
+			return store;
+		}
+
+		@Override
+		public float getPenetrationDepth() {
+			return 0;
+		}
+
+		@Override
+		public void getDefaultFrictionDirections(Vector3f primaryDirection, Vector3f secondaryDirection) {
+		}
+	}
+}
@@ -0,0 +1,154 @@
+package net.juniorbl.jtoyracing.core.physics;
+
+import static junit.framework.Assert.assertEquals;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.jme.math.Vector3f;
+import com.jme.scene.Node;
+import com.jmex.physics.DynamicPhysicsNode;
+import com.jmex.physics.Joint;
+import com.jmex.physics.PhysicsCollisionGeometry;
+import com.jmex.physics.PhysicsNode;
+import com.jmex.physics.PhysicsSpace;
+import com.jmex.physics.StaticPhysicsNode;
+
+/**
+ * @author Carlos Luz Junior
+ */
+public class FixedStepPhysicsTest {
+
+	private static final int STEPS_PER_SECOND = 60;
+
+	private static final int MAX_STEPS = 5;
+
+	private Node body;
+
+	private MovingPhysicsSpace physicsSpace;
+
+	private FixedStepPhysics fixedStepPhysics;
+
+	@Before
+	public void setUp() {
+		body = new Node("body");
+		physicsSpace = new MovingPhysicsSpace(body);
+		fixedStepPhysics = new FixedStepPhysics(physicsSpace, STEPS_PER_SECOND, MAX_STEPS);
+		fixedStepPhysics.addBody(body);
+	}
+
+	@Test
+	public void testStepsDontDependOnTheFrameRate() {
+		simulateSecond(144);
+		assertEquals(STEPS_PER_SECOND, physicsSpace.steps, 1);
+		simulateSecond(25);
+		assertEquals(2 * STEPS_PER_SECOND, physicsSpace.steps, 1);
+		assertEquals(0f, fixedStepPhysics.getDroppedTime());
+	}
+
+	@Test
+	public void testStepsOfASlowFrameAreLimited() {
+		assertEquals(MAX_STEPS, fixedStepPhysics.update(1));
+		assertEquals(MAX_STEPS, physicsSpace.steps);
+		assertEquals(1 - (float) MAX_STEPS / STEPS_PER_SECOND, fixedStepPhysics.getDroppedTime(), 0.02f);
+		assertEquals(1, fixedStepPhysics.update(fixedStepPhysics.getTimeStep()));
+	}
+
+	@Test
+	public void testBodiesAreRenderedBetweenTheSteps() {
+		float timeStep = fixedStepPhysics.getTimeStep();
+		fixedStepPhysics.update(timeStep * 1.5f);
+		assertEquals(0.5f, body.getLocalTranslation().x, 0.001f);
+		fixedStepPhysics.update(timeStep * 0.25f);
+		assertEquals(0.75f, body.getLocalTranslation().x, 0.001f);
+		// the step starts from the state of the last step, not from the rendered one
+		fixedStepPhysics.update(timeStep * 0.25f);
+		assertEquals(1f, body.getLocalTranslation().x, 0.001f);
+		assertEquals(2, physicsSpace.steps);
+	}
+
+	@Test
+	public void testObserversAdvanceWithTheSteps() {
+		final float[] observedTime = new float[1];
+		fixedStepPhysics.addObserver(new FixedStepObserver() {
+			public void physicsStepped(float timeStep) {
+				observedTime[0] += timeStep;
+			}
+		});
+		simulateSecond(37);
+		assertEquals(physicsSpace.steps * fixedStepPhysics.getTimeStep(), observedTime[0], 0.0001f);
+	}
+
+	private void simulateSecond(int framesPerSecond) {
+		for (int frame = 0; frame < framesPerSecond; frame++) {
+			fixedStepPhysics.update(1f / framesPerSecond);
+		}
+	}
+
+	/**
+	 * Moves a body one unit in X per step.
+	 */
+	private static class MovingPhysicsSpace extends PhysicsSpace {
+		private Node body;
+		private int steps;
+
+		MovingPhysicsSpace(Node body) {
+			this.body = body;
+		}
+
+		@Override
+		public void update(float time) {
+			body.getLocalTranslation().x++;
+			steps++;
+		}
+
+		@Override
+		public List<? extends PhysicsNode> getNodes() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public List<? extends Joint> getJoints() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public void delete() {
+		}
+
+		@Override
+		public void pick(PhysicsCollisionGeometry geometry) {
+		}
+
+		@Override
+		public void setAutoDisableThreshold(float threshold) {
+		}
+
+		@Override
+		public DynamicPhysicsNode createDynamicNode() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public StaticPhysicsNode createStaticNode() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Joint createJoint() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void setDirectionalGravity(Vector3f gravity) {
+		}
+
+		@Override
+		public Vector3f getDirectionalGravity(Vector3f store) {
+			return store;
+		}
+	}
+}
@@ -0,0 +1,59 @@
+package net.juniorbl.jtoyracing.core.physics;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNotSame;
+import static junit.framework.Assert.assertSame;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.jme.math.Vector3f;
+import com.jme.scene.Node;
+import com.jme.scene.Spatial;
+
+/**
+ * @author Carlos Luz Junior
+ */
+public class TransformBufferTest {
+
+	private static final float TOLERANCE = 0.001f;
+
+	@Test
+	public void testReaderGetsTheLastPublishedSnapshot() {
+		Node body = new Node("body");
+		List<Spatial> bodies = Collections.<Spatial>singletonList(body);
+		float[] lastTransforms = new float[TransformSnapshot.TRANSFORM_SIZE];
+		body.updateGeometricState(0, true);
+		TransformSnapshot.read(bodies, lastTransforms, new Vector3f());
+		TransformBuffer transformBuffer = new TransformBuffer(lastTransforms);
+		for (int step = 1; step <= 2; step++) {
+			body.getLocalTranslation().x = step;
+			body.updateGeometricState(0, true);
+			transformBuffer.getBack().write(bodies, lastTransforms);
+			transformBuffer.publish();
+		}
+		TransformSnapshot snapshot = transformBuffer.getFront();
+		Vector3f translation = new Vector3f();
+		TransformSnapshot.getTranslation(snapshot.getPrevious(), 0, translation);
+		assertEquals(1, translation.x, TOLERANCE);
+		TransformSnapshot.getTranslation(snapshot.getCurrent(), 0, translation);
+		assertEquals(2, translation.x, TOLERANCE);
+		// a body out of the physics has no speed
+		assertEquals(0, TransformSnapshot.getSpeed(snapshot.getCurrent(), 0), TOLERANCE);
+		// nothing newer was published, the reader keeps its snapshot
+		assertSame(snapshot, transformBuffer.getFront());
+	}
+
+	@Test
+	public void testWriterNeverWritesTheSnapshotBeingRead() {
+		TransformBuffer transformBuffer = new TransformBuffer(new float[TransformSnapshot.TRANSFORM_SIZE]);
+		for (int step = 0; step < 10; step++) {
+			TransformSnapshot front = transformBuffer.getFront();
+			assertNotSame(front, transformBuffer.getBack());
+			transformBuffer.publish();
+			assertNotSame(front, transformBuffer.getBack());
+		}
+	}
+}
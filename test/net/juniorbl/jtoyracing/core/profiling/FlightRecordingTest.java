@@ -0,0 +1,64 @@
+package net.juniorbl.jtoyracing.core.profiling;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+
+import java.io.File;
+import java.io.IOException;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Carlos Luz Junior
+ */
+public class FlightRecordingTest {
+
+	private File directory;
+
+	@Before
+	public void setUp() throws IOException {
+		directory = File.createTempFile("recordings", "");
+		directory.delete();
+		directory.mkdir();
+		System.setProperty(FrameProfiler.DUMP_DIRECTORY_PROPERTY, directory.getPath());
+	}
+
+	@After
+	public void tearDown() {
+		System.clearProperty(FrameProfiler.DUMP_DIRECTORY_PROPERTY);
+		for (File file : directory.listFiles()) {
+			file.delete();
+		}
+		directory.delete();
+	}
+
+	@Test
+	public void testGameEventsAreRecorded() throws IOException {
+		FlightRecording flightRecording = new FlightRecording();
+		flightRecording.start();
+		for (int checkpoint = 0; checkpoint < 3; checkpoint++) {
+			CheckpointEvent checkpointEvent = new CheckpointEvent();
+			checkpointEvent.setVehicle("playerVehicle");
+			checkpointEvent.setCheckpoint(checkpoint);
+			checkpointEvent.setSplitTime(1.5);
+			checkpointEvent.commit();
+		}
+		File recordingFile = flightRecording.stop();
+		assertFalse(flightRecording.isRecording());
+		assertEquals(directory, recordingFile.getParentFile());
+		int checkpointEvents = 0;
+		for (RecordedEvent event : RecordingFile.readAllEvents(recordingFile.toPath())) {
+			if (event.getEventType().getName().equals("jtoyracing.Checkpoint")) {
+				assertEquals("playerVehicle", event.getString("vehicle"));
+				assertEquals(1500000000L, event.getLong("splitTime"));
+				checkpointEvents++;
+			}
+		}
+		assertEquals(3, checkpointEvents);
+	}
+}
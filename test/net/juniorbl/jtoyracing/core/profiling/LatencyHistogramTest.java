@@ -0,0 +1,62 @@
+package net.juniorbl.jtoyracing.core.profiling;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Carlos Luz Junior
+ */
+public class LatencyHistogramTest {
+
+	private static final long MICRO = 1000;
+
+	private LatencyHistogram histogram;
+
+	@Before
+	public void setUp() {
+		histogram = new LatencyHistogram();
+		for (long micros = 1; micros <= 10000; micros++) {
+			histogram.record(micros * MICRO);
+		}
+	}
+
+	@Test
+	public void testPercentilesAreWithinTheBucketPrecision() {
+		assertPercentile(5000 * MICRO, 50);
+		assertPercentile(9900 * MICRO, 99);
+		assertPercentile(10000 * MICRO, 100);
+		assertEquals(10000 * MICRO, histogram.getMaxValue());
+		assertEquals(10000, histogram.getTotalCount());
+	}
+
+	@Test
+	public void testSmallValuesAreExact() {
+		histogram.reset();
+		for (long nanos = 0; nanos < 64; nanos++) {
+			histogram.record(nanos);
+		}
+		assertEquals(31, histogram.getValueAtPercentile(50));
+		assertEquals(63, histogram.getValueAtPercentile(100));
+	}
+
+	@Test
+	public void testLongValuesAreCapped() {
+		histogram.reset();
+		histogram.record(Long.MAX_VALUE);
+		histogram.record(-1);
+		assertTrue(histogram.getMaxValue() > 60 * 1000 * 1000 * MICRO);
+		assertEquals(0, histogram.getValueAtPercentile(50));
+	}
+
+	/**
+	 * The percentile is the highest value of its bucket, never lower than the real one.
+	 */
+	private void assertPercentile(long expected, double percentile) {
+		long value = histogram.getValueAtPercentile(percentile);
+		assertTrue(value + " < " + expected, value >= expected);
+		assertTrue(value + " too far from " + expected, value <= expected * 1.032);
+	}
+}
@@ -0,0 +1,93 @@
+package net.juniorbl.jtoyracing.core.replay;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.jme.math.FastMath;
+import com.jme.math.Quaternion;
+import com.jme.math.Vector3f;
+
+/**
+ * @author Carlos Luz Junior
+ */
+public class GhostLapTest {
+
+	private static final float LAP_TIME = 150;
+
+	private GhostLap ghostLap;
+
+	private Vector3f position = new Vector3f();
+
+	private Quaternion rotation = new Quaternion();
+
+	@Before
+	public void setUp() {
+		ghostLap = new GhostLap();
+		// longer than the initial capacity, at irregular frame times
+		float time = 0;
+		while (time < LAP_TIME) {
+			record(time);
+			time += (int) (time * 10) % 2 == 0 ? 0.016f : 0.05f;
+		}
+		record(LAP_TIME);
+		ghostLap.setLapTime(LAP_TIME);
+	}
+
+	@Test
+	public void testEverySampleIsRecordedAtItsTime() {
+		assertEquals((int) (LAP_TIME * GhostLap.SAMPLES_PER_SECOND) + 1, ghostLap.getSampleCount());
+	}
+
+	@Test
+	public void testTransformIsInterpolatedBetweenTheSamples() {
+		float time = 100 + 0.5f / GhostLap.SAMPLES_PER_SECOND;
+		ghostLap.getTransform(time, position, rotation);
+		assertEquals(getX(time), position.x, 0.1f);
+		assertEquals(getAngle(time), rotation.toAngleAxis(new Vector3f()), 0.01f);
+	}
+
+	@Test
+	public void testLastSampleIsKeptAfterTheLap() {
+		ghostLap.getTransform(LAP_TIME + 10, position, rotation);
+		assertEquals(getX(LAP_TIME), position.x, 0.1f);
+	}
+
+	@Test
+	public void testBestLapIsSavedAndLoaded() throws IOException {
+		File ghostFile = File.createTempFile("ghost", ".ghost");
+		try {
+			ghostLap.save(ghostFile);
+			assertTrue(ghostFile.length() < ghostLap.getSampleCount() * ReplayFormat.BODY_SIZE + 16);
+			GhostLap loadedLap = GhostLap.load(ghostFile);
+			assertEquals(LAP_TIME, loadedLap.getLapTime());
+			assertEquals(ghostLap.getSampleCount(), loadedLap.getSampleCount());
+			loadedLap.getTransform(42, position, rotation);
+			assertEquals(getX(42), position.x, 0.1f);
+		} finally {
+			ghostFile.delete();
+		}
+	}
+
+	private void record(float time) {
+		Quaternion recordedRotation = new Quaternion();
+		recordedRotation.fromAngleNormalAxis(getAngle(time), Vector3f.UNIT_Y);
+		ghostLap.record(time, new Vector3f(getX(time), 0, 0), recordedRotation);
+	}
+
+	/**
+	 * The vehicle moves 1 unit per second in X, going back to the start each 200 units.
+	 */
+	private float getX(float time) {
+		return time % 200;
+	}
+
+	private float getAngle(float time) {
+		return FastMath.HALF_PI + FastMath.sin(time) / 2;
+	}
+}
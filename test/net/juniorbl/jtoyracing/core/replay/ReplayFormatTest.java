@@ -0,0 +1,50 @@
+package net.juniorbl.jtoyracing.core.replay;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.jme.math.Quaternion;
+import com.jme.math.Vector3f;
+
+/**
+ * @author Carlos Luz Junior
+ */
+public class ReplayFormatTest {
+
+	@Test
+	public void testBodyIsQuantized() {
+		ByteBuffer buffer = ByteBuffer.allocate(ReplayFormat.BODY_SIZE * 2);
+		Random random = new Random(7);
+		for (int sample = 0; sample < 1000; sample++) {
+			Vector3f position = new Vector3f(random.nextFloat() * 500 - 250, random.nextFloat() * 100 - 50,
+					random.nextFloat() * 500 - 250);
+			Quaternion rotation = new Quaternion(random.nextFloat() * 2 - 1, random.nextFloat() * 2 - 1,
+					random.nextFloat() * 2 - 1, random.nextFloat() * 2 - 1);
+			rotation.normalize();
+			ReplayFormat.putBody(buffer, ReplayFormat.BODY_SIZE, position, rotation);
+			Vector3f readPosition = new Vector3f();
+			Quaternion readRotation = new Quaternion();
+			ReplayFormat.getBody(buffer, ReplayFormat.BODY_SIZE, readPosition, readRotation);
+			assertTrue(readPosition.distance(position) < 0.01f);
+			// q and -q are the same rotation
+			assertTrue(Math.abs(readRotation.dot(rotation)) > 0.9999f);
+		}
+	}
+
+	@Test
+	public void testPositionOutOfRangeIsClamped() {
+		assertEquals(Short.MAX_VALUE, ReplayFormat.quantizePosition(1000));
+		assertEquals(-Short.MAX_VALUE, ReplayFormat.quantizePosition(-1000));
+	}
+
+	@Test
+	public void testTenMinutesOfTwoVehiclesTakeLessThanFiveMegabytes() {
+		long size = ReplayFormat.HEADER_SIZE + (long) ReplayFormat.getFrameSize(2) * ReplayRecorder.DEFAULT_CAPACITY;
+		assertTrue(size < 5 * 1024 * 1024);
+	}
+}
@@ -0,0 +1,149 @@
+package net.juniorbl.jtoyracing.core.replay;
+
+import static junit.framework.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.jme.math.Quaternion;
+import com.jme.math.Vector3f;
+import com.jme.scene.Node;
+import com.jme.scene.Spatial;
+
+/**
+ * @author Carlos Luz Junior
+ */
+public class ReplayPlayerTest {
+
+	private static final int CAPACITY = 1000;
+
+	/**
+	 * More frames than the ring holds, the first ones are overwritten.
+	 */
+	private static final int FRAMES_WRITTEN = 1300;
+
+	private File replayFile;
+
+	private ReplayFile replay;
+
+	@Before
+	public void setUp() throws IOException {
+		replayFile = File.createTempFile("replay", ".jtr");
+		writeReplay();
+		replay = new ReplayFile(replayFile);
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		replay.close();
+		replayFile.delete();
+	}
+
+	@Test
+	public void testOnlyTheFramesInTheRingArePlayed() {
+		assertEquals(CAPACITY, replay.getFrameCount());
+		assertEquals(getTime(FRAMES_WRITTEN - CAPACITY), replay.getStartTime(), 0.0001f);
+		assertEquals(getTime(FRAMES_WRITTEN - 1), replay.getEndTime(), 0.0001f);
+	}
+
+	@Test
+	public void testFindFrameReturnsTheLastFrameBeforeTheTime() {
+		for (int frame = 0; frame < replay.getFrameCount(); frame++) {
+			float frameTime = getTime(FRAMES_WRITTEN - CAPACITY + frame);
+			assertEquals(frame, replay.findFrame(frameTime));
+			assertEquals(frame, replay.findFrame(frameTime + 0.001));
+		}
+		assertEquals(0, replay.findFrame(0));
+	}
+
+	@Test
+	public void testVehiclesArePlacedBetweenTheFrames() {
+		Node vehicle = new Node("chassis");
+		ReplayPlayer replayPlayer = createPlayer(vehicle, false);
+		int frame = 1200;
+		replayPlayer.seek((getTime(frame) + getTime(frame + 1)) / 2);
+		assertEquals((getX(frame) + getX(frame + 1)) / 2, vehicle.getLocalTranslation().x, 0.01f);
+	}
+
+	@Test
+	public void testBodiesArePlacedInTheWorld() {
+		Node parent = new Node("vehicle");
+		parent.setLocalTranslation(new Vector3f(10, 0, 0));
+		Node vehicle = new Node("chassis");
+		parent.attachChild(vehicle);
+		parent.updateGeometricState(0, true);
+		ReplayPlayer replayPlayer = createPlayer(vehicle, false);
+		replayPlayer.seek(getTime(1100));
+		parent.updateGeometricState(0, true);
+		assertEquals(getX(1100), vehicle.getWorldTranslation().x, 0.01f);
+	}
+
+	@Test
+	public void testDecodingAheadPlaysTheSameFrames() throws InterruptedException {
+		Node vehicle = new Node("chassis");
+		Node decodedAheadVehicle = new Node("chassis");
+		ReplayPlayer replayPlayer = createPlayer(vehicle, false);
+		ReplayPlayer decodingAheadPlayer = createPlayer(decodedAheadVehicle, true);
+		for (int frame = 0; frame < 600; frame++) {
+			replayPlayer.update(0.016f);
+			decodingAheadPlayer.update(0.016f);
+			assertEquals(vehicle.getLocalTranslation(), decodedAheadVehicle.getLocalTranslation());
+			if (frame % 100 == 0) {
+				// gives the decoder some time, so part of the frames come from it
+				Thread.sleep(5);
+			}
+		}
+	}
+
+	private ReplayPlayer createPlayer(Spatial chassis, boolean decodeAhead) {
+		Spatial[] bodies = new Spatial[ReplayFormat.BODIES_PER_VEHICLE];
+		bodies[0] = chassis;
+		for (int body = 1; body < bodies.length; body++) {
+			bodies[body] = new Node("wheel");
+		}
+		return new ReplayPlayer(replay, new Spatial[][] {bodies}, decodeAhead);
+	}
+
+	/**
+	 * The frames are recorded at irregular times.
+	 */
+	private float getTime(int frame) {
+		return frame * 0.05f + (frame % 3) * 0.01f;
+	}
+
+	/**
+	 * The chassis moves one unit in X per frame, going back to the origin before leaving the range of the format.
+	 */
+	private float getX(int frame) {
+		return frame % 300;
+	}
+
+	private void writeReplay() throws IOException {
+		RandomAccessFile file = new RandomAccessFile(replayFile, "rw");
+		try {
+			MappedByteBuffer buffer = file.getChannel().map(FileChannel.MapMode.READ_WRITE, 0,
+					ReplayFormat.getFileSize(1, CAPACITY));
+			ReplayFormat.putHeader(buffer, 1, CAPACITY);
+			Quaternion rotation = new Quaternion();
+			for (int frame = 0; frame < FRAMES_WRITTEN; frame++) {
+				int frameIndex = ReplayFormat.getFrameIndex(frame, 1, CAPACITY);
+				ReplayFormat.putFrameHeader(buffer, frameIndex, frame, getTime(frame));
+				int vehicleIndex = ReplayFormat.getVehicleIndex(frameIndex, 0);
+				for (int body = 0; body < ReplayFormat.BODIES_PER_VEHICLE; body++) {
+					ReplayFormat.putBody(buffer, vehicleIndex + body * ReplayFormat.BODY_SIZE, new Vector3f(getX(frame), 0, 0), rotation);
+				}
+				ReplayFormat.putInputs(buffer, vehicleIndex, 0, 0, 0);
+				ReplayFormat.putFramesWritten(buffer, frame + 1);
+			}
+		} finally {
+			file.close();
+		}
+	}
+}
@@ -0,0 +1,78 @@
+package net.juniorbl.jtoyracing.core.scheduler;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Carlos Luz Junior
+ */
+public class GameSchedulerTest {
+
+	private GameScheduler scheduler;
+
+	private List<String> executions;
+
+	@Before
+	public void setUp() {
+		scheduler = new GameScheduler();
+		executions = new ArrayList<String>();
+	}
+
+	@Test
+	public void testScheduleRunsOnceWhenDue() {
+		ScheduledTask task = scheduler.schedule(new RecordingTask("once"), 1);
+		scheduler.update(0.5f);
+		assertEquals(0, executions.size());
+		scheduler.update(0.5f);
+		scheduler.update(5);
+		assertEquals(1, executions.size());
+		assertFalse(task.isScheduled());
+	}
+
+	@Test
+	public void testFixedRateCatchesUpWithLongFrames() {
+		scheduler.scheduleAtFixedRate(new RecordingTask("health"), 1, 1);
+		scheduler.update(3.5f);
+		assertEquals(3, executions.size());
+		scheduler.update(0.5f);
+		assertEquals(4, executions.size());
+	}
+
+	@Test
+	public void testTasksDueTogetherRunInSchedulingOrder() {
+		scheduler.schedule(new RecordingTask("late"), 2);
+		scheduler.schedule(new RecordingTask("first"), 1);
+		scheduler.schedule(new RecordingTask("second"), 1);
+		scheduler.update(2);
+		assertEquals("[first, second, late]", executions.toString());
+	}
+
+	@Test
+	public void testCancelledTaskIsNotExecuted() {
+		ScheduledTask task = scheduler.scheduleAtFixedRate(new RecordingTask("cancelled"), 1, 1);
+		scheduler.schedule(new RecordingTask("kept"), 1);
+		scheduler.update(1);
+		task.cancel();
+		scheduler.update(3);
+		assertEquals("[cancelled, kept]", executions.toString());
+		assertEquals(0, scheduler.getScheduledTasks());
+	}
+
+	private class RecordingTask implements GameTask {
+		private String name;
+
+		RecordingTask(String name) {
+			this.name = name;
+		}
+
+		public void execute() {
+			executions.add(name);
+		}
+	}
+}
@@ -0,0 +1,59 @@
+package net.juniorbl.jtoyracing.entity.vehicle;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.jme.math.Vector2f;
+
+/**
+ * @author Carlos Luz Junior
+ */
+public class SteeringTest {
+
+	private static final int FRAMES = 100000;
+
+	private static final Vector2f TARGET = new Vector2f(-40, 70);
+
+	private Steering steering;
+
+	@Before
+	public void setUp() {
+		steering = new Steering(new Vector2f(-40, 120), Vehicle.CHASSIS_MASS);
+	}
+
+	@Test
+	public void testGoToMovesTowardsTheTarget() {
+		float initialDistance = steering.getPosition().subtract(TARGET).length();
+		for (int frame = 0; frame < 10; frame++) {
+			steering.goTo(TARGET);
+		}
+		assertTrue(steering.getPosition().subtract(TARGET).length() < initialDistance);
+		assertEquals(-40f, steering.getPosition().x, 0.0001f);
+	}
+
+	@Test
+	public void testGoToDoesNotAllocate() {
+		com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		if (!threadBean.isThreadAllocatedMemorySupported()) {
+			return;
+		}
+		threadBean.setThreadAllocatedMemoryEnabled(true);
+		long threadId = Thread.currentThread().getId();
+		// warms up first, the compilation of the loop allocates a few bytes once
+		for (int frame = 0; frame < FRAMES; frame++) {
+			steering.goTo(TARGET);
+		}
+		long start = threadBean.getThreadAllocatedBytes(threadId);
+		for (int frame = 0; frame < FRAMES; frame++) {
+			steering.goTo(TARGET);
+		}
+		long allocated = threadBean.getThreadAllocatedBytes(threadId) - start;
+		// a single vector per frame would be at least 16 bytes per frame
+		assertTrue("allocated " + allocated + " bytes in " + FRAMES + " frames", allocated < FRAMES);
+	}
+}
@@ -0,0 +1,55 @@
+package net.juniorbl.jtoyracing.entity.vehicle;
+
+import static junit.framework.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.jme.math.Vector2f;
+
+/**
+ * @author Carlos Luz Junior
+ */
+public class TrafficTest {
+
+	private static final int VEHICLES = 48;
+
+	private static final int COLUMNS = 8;
+
+	private static final int FRAMES = 600;
+
+	@Test
+	public void testSeparationKeepsAFullGridApart() {
+		Traffic traffic = new Traffic(VEHICLES);
+		Steering[] withoutSeparation = new Steering[VEHICLES];
+		// every vehicle drives to the same point, so without separation they pile up on it
+		Vector2f target = new Vector2f(0, -100);
+		for (int vehicle = 0; vehicle < VEHICLES; vehicle++) {
+			Vector2f gridPosition = new Vector2f(10 * (vehicle % COLUMNS), 12 * (vehicle / COLUMNS));
+			traffic.add(new Steering(gridPosition, Vehicle.CHASSIS_MASS), target);
+			withoutSeparation[vehicle] = new Steering(gridPosition, Vehicle.CHASSIS_MASS);
+		}
+		for (int frame = 0; frame < FRAMES; frame++) {
+			traffic.update();
+			for (Steering steering : withoutSeparation) {
+				steering.goTo(target);
+			}
+		}
+		Steering[] withSeparation = new Steering[VEHICLES];
+		for (int vehicle = 0; vehicle < VEHICLES; vehicle++) {
+			withSeparation[vehicle] = traffic.getSteering(vehicle);
+		}
+		float closestWithSeparation = findClosestDistance(withSeparation);
+		float closestWithoutSeparation = findClosestDistance(withoutSeparation);
+		assertTrue(closestWithSeparation + " <= " + closestWithoutSeparation, closestWithSeparation > closestWithoutSeparation);
+	}
+
+	private float findClosestDistance(Steering[] steerings) {
+		float closest = Float.MAX_VALUE;
+		for (int first = 0; first < steerings.length; first++) {
+			for (int second = first + 1; second < steerings.length; second++) {
+				closest = Math.min(closest, steerings[first].getPosition().subtract(steerings[second].getPosition()).length());
+			}
+		}
+		return closest;
+	}
+}
@@ -4,7 +4,7 @@ import static junit.framework.Assert.assertEquals;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import net.juniorbl.jtoyracing.core.audio.AudioConfig;
-import net.juniorbl.jtoyracing.util.ModelUtil;
+import net.juniorbl.jtoyracing.util.ModelRegistry;
 import net.juniorbl.jtoyracing.util.StateUtil;
 
 import org.junit.Before;
@@ -28,7 +28,7 @@ import com.jmex.physics.geometry.PhysicsSphere;
  * @author Carlos Luz Junior
  */
 @RunWith(org.powermock.modules.junit4.legacy.PowerMockRunner.class)
-@PrepareForTest({ ModelUtil.class, AudioConfig.class, StateUtil.class })
+@PrepareForTest({ ModelRegistry.class, AudioConfig.class, StateUtil.class })
 public class VehicleTest {
 
 	private PhysicsSpace physicsSpace;
@@ -74,7 +74,7 @@ public class VehicleTest {
 		mockedTranslationalAxis = mock(TranslationalJointAxis.class);
 		mockedRotationalAxis = mock(RotationalJointAxis.class);
 		mockedAudio = mock(AudioTrack.class);
-		PowerMockito.mockStatic(ModelUtil.class);
+		PowerMockito.mockStatic(ModelRegistry.class);
 		PowerMockito.mockStatic(AudioConfig.class);
 		PowerMockito.mockStatic(StateUtil.class);
 	}
@@ -0,0 +1,65 @@
+package net.juniorbl.jtoyracing.util;
+
+import static junit.framework.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.junit.Test;
+
+import com.jme.math.FastMath;
+import com.jme.math.Quaternion;
+import com.jme.math.Vector3f;
+import com.jme.scene.Node;
+import com.jme.scene.shape.Box;
+
+/**
+ * @author Carlos Luz Junior
+ */
+public class BoxFitterTest {
+
+	private static final float TOLERANCE = 0.001f;
+
+	@Test
+	public void testRotatedCuboidGetsItsOwnBox() {
+		Node model = new Node("model");
+		Box cuboid = new Box("cuboid", new Vector3f(), 1, 0.5f, 4);
+		cuboid.setLocalTranslation(new Vector3f(10, 2, -3));
+		cuboid.setLocalRotation(new Quaternion().fromAngleAxis(FastMath.PI / 4, Vector3f.UNIT_Y));
+		model.attachChild(cuboid);
+		CollisionShapes shapes = BoxFitter.fit(model);
+		assertEquals(1, shapes.getBoxCount());
+		assertEquals(0, new Vector3f(10, 2, -3).distance(shapes.getCenter(0, new Vector3f())), TOLERANCE);
+		Vector3f extents = shapes.getExtents(0, new Vector3f());
+		assertEquals(1 * 0.5f * 4, extents.x * extents.y * extents.z, TOLERANCE);
+		// the largest face is the one facing up, its normal is the second axis of the box
+		assertEquals(0.5f, extents.y, TOLERANCE);
+		Vector3f up = shapes.getRotation(0, new Quaternion()).mult(Vector3f.UNIT_Y);
+		assertEquals(1, Math.abs(up.y), TOLERANCE);
+	}
+
+	@Test
+	public void testEveryPartGetsABox() {
+		Node model = new Node("model");
+		model.attachChild(new Box("first", new Vector3f(), 1, 1, 1));
+		Box second = new Box("second", new Vector3f(), 1, 1, 1);
+		second.setLocalTranslation(new Vector3f(5, 0, 0));
+		model.attachChild(second);
+		assertEquals(2, BoxFitter.fit(model).getBoxCount());
+	}
+
+	@Test
+	public void testShapesAreReadBackFromTheirFile() throws IOException {
+		Node model = new Node("model");
+		model.attachChild(new Box("box", new Vector3f(1, 2, 3), 1, 2, 3));
+		CollisionShapes shapes = BoxFitter.fit(model);
+		ByteArrayOutputStream file = new ByteArrayOutputStream();
+		shapes.save(file);
+		CollisionShapes loadedShapes = CollisionShapes.load(new ByteArrayInputStream(file.toByteArray()));
+		assertEquals(shapes.getBoxCount(), loadedShapes.getBoxCount());
+		assertEquals(shapes.getCenter(0, new Vector3f()), loadedShapes.getCenter(0, new Vector3f()));
+		assertEquals(shapes.getExtents(0, new Vector3f()), loadedShapes.getExtents(0, new Vector3f()));
+		assertEquals(shapes.getRotation(0, new Quaternion()), loadedShapes.getRotation(0, new Quaternion()));
+	}
+}
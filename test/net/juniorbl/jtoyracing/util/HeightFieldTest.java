@@ -0,0 +1,61 @@
+package net.juniorbl.jtoyracing.util;
+
+import static junit.framework.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.Test;
+
+import com.jme.math.Vector3f;
+import com.jmex.terrain.util.AbstractHeightMap;
+
+/**
+ * @author Carlos Luz Junior
+ */
+public class HeightFieldTest {
+
+	private static final float TOLERANCE = 0.001f;
+
+	private static final int[] HEIGHTS = {0, 10, 20, 30};
+
+	@Test
+	public void testHeightIsInterpolatedBetweenPoints() {
+		HeightField heightField = new HeightField(HEIGHTS, 2, new Vector3f(2, 0.5f, 4));
+		assertEquals(0, heightField.getHeight(0, 0), TOLERANCE);
+		assertEquals(5, heightField.getHeight(2, 0), TOLERANCE);
+		assertEquals(10, heightField.getHeight(0, 4), TOLERANCE);
+		assertEquals(7.5f, heightField.getHeight(1, 2), TOLERANCE);
+	}
+
+	@Test
+	public void testHeightOutOfTheGridIsTheNearestEdge() {
+		HeightField heightField = new HeightField(HEIGHTS, 2, new Vector3f(2, 0.5f, 4));
+		assertEquals(0, heightField.getHeight(-5, -5), TOLERANCE);
+		assertEquals(15, heightField.getHeight(50, 50), TOLERANCE);
+		assertEquals(2.5f, heightField.getHeight(1, -5), TOLERANCE);
+	}
+
+	@Test
+	public void testBakedHeightMapReadsTheBakedHeights() throws IOException {
+		AbstractHeightMap heightMap = new AbstractHeightMap() {
+			public boolean load() {
+				size = 2;
+				heightData = HEIGHTS.clone();
+				return true;
+			}
+		};
+		heightMap.load();
+		File heightMapFile = File.createTempFile("heightMap", ".hmap");
+		try {
+			BakedHeightMap.bake(heightMap, heightMapFile);
+			BakedHeightMap bakedHeightMap = new BakedHeightMap(heightMapFile.toURI().toURL());
+			assertEquals(2, bakedHeightMap.getSize());
+			for (int point = 0; point < HEIGHTS.length; point++) {
+				assertEquals(HEIGHTS[point], bakedHeightMap.getHeightMap()[point]);
+			}
+		} finally {
+			heightMapFile.delete();
+		}
+	}
+}
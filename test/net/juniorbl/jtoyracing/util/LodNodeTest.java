@@ -0,0 +1,111 @@
+package net.juniorbl.jtoyracing.util;
+
+import static junit.framework.Assert.assertEquals;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.jme.bounding.BoundingBox;
+import com.jme.math.Matrix4f;
+import com.jme.math.Vector3f;
+import com.jme.renderer.AbstractCamera;
+import com.jme.scene.shape.Sphere;
+
+/**
+ * @author Carlos Luz Junior
+ */
+public class LodNodeTest {
+
+	private static final float BOUND_RADIUS = (float) Math.sqrt(3);
+
+	private LodNode lodNode;
+
+	private TestCamera camera;
+
+	@Before
+	public void setUp() {
+		lodNode = new LodNode("model");
+		lodNode.addLevel(createSphere(32));
+		lodNode.addLevel(createSphere(16));
+		lodNode.addLevel(createSphere(8));
+		lodNode.updateGeometricState(0, true);
+		camera = new TestCamera();
+	}
+
+	@Test
+	public void testLevelFollowsTheScreenSize() {
+		assertEquals(0, selectLevelAtScreenSize(0.8f));
+		assertEquals(1, selectLevelAtScreenSize(0.25f));
+		assertEquals(2, selectLevelAtScreenSize(0.05f));
+		assertEquals(0, selectLevelAtScreenSize(0.5f));
+	}
+
+	@Test
+	public void testLevelIsKeptAroundItsLimit() {
+		assertEquals(0, selectLevelAtScreenSize(0.29f));
+		assertEquals(1, selectLevelAtScreenSize(0.26f));
+		assertEquals(1, selectLevelAtScreenSize(0.31f));
+		assertEquals(0, selectLevelAtScreenSize(0.34f));
+	}
+
+	@Test
+	public void testTrianglesOfTheLevels() {
+		assertEquals(3, lodNode.getLevels());
+		assertEquals(new Sphere("sphere", 32, 32, 1).getTriangleCount(), lodNode.getTriangles(0));
+		assertEquals(new Sphere("sphere", 8, 8, 1).getTriangleCount(), lodNode.getTriangles(2));
+	}
+
+	/**
+	 * The field of view is 90 degrees, the screen size is the radius of the bounds over the distance.
+	 */
+	private int selectLevelAtScreenSize(float screenSize) {
+		camera.getLocation().set(0, 0, BOUND_RADIUS / screenSize);
+		return lodNode.selectLevel(camera);
+	}
+
+	private Sphere createSphere(int samples) {
+		Sphere sphere = new Sphere("sphere", samples, samples, 1);
+		sphere.setModelBound(new BoundingBox());
+		sphere.updateModelBound();
+		return sphere;
+	}
+
+	private static class TestCamera extends AbstractCamera {
+
+		private static final long serialVersionUID = 1L;
+
+		public TestCamera() {
+			setLocation(new Vector3f());
+			setFrustum(1, 1000, -1, 1, 1, -1);
+		}
+
+		@Override
+		public Matrix4f getProjectionMatrix() {
+			return null;
+		}
+
+		@Override
+		public Matrix4f getModelViewMatrix() {
+			return null;
+		}
+
+		@Override
+		public int getHeight() {
+			return 0;
+		}
+
+		@Override
+		public int getWidth() {
+			return 0;
+		}
+
+		public void onViewPortChange() {
+		}
+
+		public void resize(int width, int height) {
+		}
+
+		public void apply() {
+		}
+	}
+}
@@ -0,0 +1,61 @@
+package net.juniorbl.jtoyracing.util;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+import java.nio.IntBuffer;
+
+import org.junit.Test;
+
+import com.jme.math.Vector3f;
+import com.jme.scene.Node;
+import com.jme.scene.TriMesh;
+import com.jme.scene.shape.Box;
+import com.jme.scene.shape.Sphere;
+
+/**
+ * @author Carlos Luz Junior
+ */
+public class MeshSimplifierTest {
+
+	@Test
+	public void testCoarserGridsGiveFewerTriangles() {
+		Node model = new Node("model");
+		model.attachChild(new Sphere("sphere", 32, 32, 1));
+		int fineTriangles = MeshSimplifier.countTriangles(MeshSimplifier.simplify(model, 16));
+		int coarseTriangles = MeshSimplifier.countTriangles(MeshSimplifier.simplify(model, 4));
+		assertTrue(fineTriangles < MeshSimplifier.countTriangles(model));
+		assertTrue(coarseTriangles < fineTriangles);
+		assertTrue(coarseTriangles > 0);
+	}
+
+	@Test
+	public void testSimplifiedTrianglesAreValid() {
+		Node model = new Node("model");
+		model.attachChild(new Sphere("sphere", 32, 32, 1));
+		TriMesh mesh = MeshSimplifier.getMeshes(MeshSimplifier.simplify(model, 8)).get(0);
+		IntBuffer indices = mesh.getIndexBuffer(0);
+		for (int triangle = 0; triangle < mesh.getTriangleCount(); triangle++) {
+			int first = indices.get(triangle * 3);
+			int second = indices.get(triangle * 3 + 1);
+			int third = indices.get(triangle * 3 + 2);
+			assertTrue(first != second && second != third && third != first);
+			assertTrue(Math.max(first, Math.max(second, third)) < mesh.getVertexCount());
+		}
+	}
+
+	@Test
+	public void testMeshesKeepTheirOrderAndPlace() {
+		Node model = new Node("model");
+		model.attachChild(new Sphere("sphere", 16, 16, 1));
+		Box box = new Box("box", new Vector3f(), 1, 1, 1);
+		box.setLocalTranslation(new Vector3f(10000, 0, 0));
+		model.attachChild(box);
+		Node simplifiedModel = MeshSimplifier.simplify(model, 8);
+		assertEquals(2, MeshSimplifier.getMeshes(simplifiedModel).size());
+		assertEquals("box", MeshSimplifier.getMeshes(simplifiedModel).get(1).getName());
+		assertEquals(10000f, MeshSimplifier.getMeshes(simplifiedModel).get(1).getLocalTranslation().x);
+		// the box far away doesn't make the cells of the sphere larger
+		assertTrue(MeshSimplifier.getMeshes(simplifiedModel).get(0).getTriangleCount() > 0);
+	}
+}
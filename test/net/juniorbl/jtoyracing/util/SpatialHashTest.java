@@ -0,0 +1,84 @@
+package net.juniorbl.jtoyracing.util;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Carlos Luz Junior
+ */
+public class SpatialHashTest {
+
+	private static final int OBJECTS = 64;
+
+	private static final float RADIUS = 8;
+
+	private SpatialHash spatialHash;
+
+	private float[] x = new float[OBJECTS];
+
+	private float[] z = new float[OBJECTS];
+
+	@Before
+	public void setUp() {
+		spatialHash = new SpatialHash(RADIUS, OBJECTS);
+	}
+
+	@Test
+	public void testFindsTheSameNeighboursAsTestingEveryPair() {
+		Random random = new Random(42);
+		for (int id = 0; id < OBJECTS; id++) {
+			move(id, random.nextFloat() * 100 - 50, random.nextFloat() * 100 - 50);
+		}
+		for (int tick = 0; tick < 50; tick++) {
+			for (int id = 0; id < OBJECTS; id++) {
+				move(id, x[id] + random.nextFloat() * 6 - 3, z[id] + random.nextFloat() * 6 - 3);
+			}
+			for (int id = 0; id < OBJECTS; id++) {
+				assertEquals(Arrays.toString(findNeighboursTestingEveryPair(id)), Arrays.toString(findNeighbours(id)));
+			}
+		}
+	}
+
+	@Test
+	public void testRemovedObjectIsNotFound() {
+		move(0, 0, 0);
+		move(1, 1, 1);
+		spatialHash.remove(1);
+		assertEquals(0, spatialHash.findNeighbours(0, RADIUS, new int[OBJECTS]));
+		assertFalse(spatialHash.contains(1));
+		assertEquals(1, spatialHash.size());
+	}
+
+	private void move(int id, float newX, float newZ) {
+		x[id] = newX;
+		z[id] = newZ;
+		spatialHash.update(id, newX, newZ);
+	}
+
+	private int[] findNeighbours(int id) {
+		int[] neighbours = new int[OBJECTS];
+		int found = spatialHash.findNeighbours(id, RADIUS, neighbours);
+		int[] sorted = Arrays.copyOf(neighbours, found);
+		Arrays.sort(sorted);
+		return sorted;
+	}
+
+	private int[] findNeighboursTestingEveryPair(int id) {
+		int[] neighbours = new int[OBJECTS];
+		int found = 0;
+		for (int other = 0; other < OBJECTS; other++) {
+			float deltaX = x[id] - x[other];
+			float deltaZ = z[id] - z[other];
+			if (other != id && deltaX * deltaX + deltaZ * deltaZ <= RADIUS * RADIUS) {
+				neighbours[found++] = other;
+			}
+		}
+		return Arrays.copyOf(neighbours, found);
+	}
+}
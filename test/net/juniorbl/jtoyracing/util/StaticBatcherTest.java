@@ -0,0 +1,77 @@
+package net.juniorbl.jtoyracing.util;
+
+import static junit.framework.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.jme.bounding.BoundingBox;
+import com.jme.math.Ray;
+import com.jme.math.Vector3f;
+import com.jme.renderer.ColorRGBA;
+import com.jme.renderer.Renderer;
+import com.jme.scene.Node;
+import com.jme.scene.TriMesh;
+import com.jme.scene.shape.Box;
+import com.jme.scene.state.MaterialState;
+import com.jme.system.dummy.DummyDisplaySystem;
+
+/**
+ * @author Carlos Luz Junior
+ */
+public class StaticBatcherTest {
+
+	private static final float TOLERANCE = 0.001f;
+
+	private Renderer renderer = new DummyDisplaySystem().getRenderer();
+
+	@Test
+	public void testMeshesWithTheSameMaterialAreMerged() {
+		Node model = new Node("model");
+		model.attachChild(createBox("first", new Vector3f(), ColorRGBA.red));
+		model.attachChild(createBox("second", new Vector3f(5, 0, 0), ColorRGBA.red));
+		model.attachChild(createBox("third", new Vector3f(10, 0, 0), ColorRGBA.blue));
+		StaticBatch batch = StaticBatcher.batch(model);
+		assertEquals(3, batch.getDrawCallsBefore());
+		assertEquals(2, batch.getDrawCalls());
+		assertEquals(3, batch.getObjectCount());
+		assertEquals(MeshSimplifier.countTriangles(model), MeshSimplifier.countTriangles(batch));
+	}
+
+	@Test
+	public void testMergedVerticesKeepTheirPlace() {
+		Node model = new Node("model");
+		model.attachChild(createBox("first", new Vector3f(), ColorRGBA.red));
+		model.attachChild(createBox("second", new Vector3f(5, 0, 0), ColorRGBA.red));
+		BoundingBox bounds = new BoundingBox();
+		bounds.computeFromPoints(MeshSimplifier.getMeshes(StaticBatcher.batch(model)).get(0).getVertexBuffer(0));
+		// from the first box, -1 to 1, to the second one, 4 to 6
+		assertEquals(2.5f, bounds.getCenter().x, TOLERANCE);
+		assertEquals(3.5f, bounds.xExtent, TOLERANCE);
+	}
+
+	@Test
+	public void testObjectsArePickedByTheirBounds() {
+		Node model = new Node("model");
+		model.attachChild(createBox("first", new Vector3f(), ColorRGBA.red));
+		model.attachChild(createBox("second", new Vector3f(5, 0, 0), ColorRGBA.red));
+		StaticBatch batch = StaticBatcher.batch(model);
+		batch.setLocalTranslation(new Vector3f(0, 0, 100));
+		batch.updateGeometricState(0, true);
+		List<String> objects = new ArrayList<String>();
+		batch.findObjects(new Ray(new Vector3f(5, 10, 100), new Vector3f(0, -1, 0)), objects);
+		assertEquals(1, objects.size());
+		assertEquals("second", objects.get(0));
+	}
+
+	private TriMesh createBox(String name, Vector3f location, ColorRGBA color) {
+		Box box = new Box(name, new Vector3f(), 1, 1, 1);
+		box.setLocalTranslation(location);
+		MaterialState material = renderer.createMaterialState();
+		material.setDiffuse(color);
+		box.setRenderState(material);
+		return box;
+	}
+}